@@ -0,0 +1,153 @@
+package eu.dgs_development.code.ejg.controllers;
+
+import javafx.animation.AnimationTimer;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.stage.Window;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Pre-warms cached {@link Scene}-instances across multiple idle pulses. A pulse is idle, if the previous pulse didn't
+ * overrun (e.g. because of a screen switch or a heavy animation frame) and no shown {@link Scene} waits for a layout.
+ * The pre-warming only starts after multiple consecutive idle pulses, which defers it until the startup settled. Each
+ * idle pulse processes cached {@link GuiController}-classes until the time-budget per frame is exhausted (at least one
+ * class per pulse). The pre-warming applies the CSS, performs the layout and optionally renders a snapshot of the
+ * {@link Scene}, to avoid a visible hitch when the {@link Scene} is shown for the first time.
+ * <br><br>
+ * The budget is only checked between two classes: A {@link GuiController}, which isn't initialized yet, gets
+ * initialized during its pulse, so the time of {@link GuiController#onInitialized()} isn't bounded by the budget.
+ */
+final class CachedScenePrewarmer extends AnimationTimer {
+    private static final int REQUIRED_IDLE_PULSES = 10;
+
+    private static final long MAX_IDLE_PULSE_INTERVAL_NANOS = Duration.ofMillis(40).toNanos();
+
+    private final GuiControllerManager guiControllerManager;
+
+    private final Queue<Class<? extends GuiController>> controllerClassQueue;
+
+    private final long frameTimeBudgetNanos;
+
+    private final boolean snapshotScenes;
+
+    private final CompletableFuture<Integer> completionFuture = new CompletableFuture<>();
+
+    private int prewarmedSceneCount = 0;
+
+    private int idlePulseCount = 0;
+
+    private long lastPulseNanos = -1;
+
+    private long lastPrewarmNanos = 0;
+
+    CachedScenePrewarmer(GuiControllerManager guiControllerManager,
+                         Collection<Class<? extends GuiController>> controllerClasses, Duration frameTimeBudget,
+                         boolean snapshotScenes) {
+        this.guiControllerManager = guiControllerManager;
+        this.controllerClassQueue = new ArrayDeque<>(controllerClasses);
+        this.frameTimeBudgetNanos = frameTimeBudget.toNanos();
+        this.snapshotScenes = snapshotScenes;
+    }
+
+    /**
+     * Returns the {@link CompletableFuture}, which is completed with the amount of pre-warmed {@link Scene}-instances.
+     * @return The {@link CompletableFuture} of the pre-warming.
+     */
+    CompletableFuture<Integer> getCompletionFuture() {
+        return completionFuture;
+    }
+
+    @Override
+    public void handle(long now) {
+        //The own pre-warming of the previous pulse doesn't make a pulse busy.
+        boolean idlePulse = lastPulseNanos >= 0 && now - lastPulseNanos - lastPrewarmNanos <=
+                MAX_IDLE_PULSE_INTERVAL_NANOS && !isLayoutPending();
+
+        lastPulseNanos = now;
+        lastPrewarmNanos = 0;
+
+        idlePulseCount = idlePulse ? idlePulseCount + 1 : 0;
+
+        if(idlePulseCount < REQUIRED_IDLE_PULSES)
+            return;
+
+        long frameStartNanos = System.nanoTime();
+
+        try {
+            do {
+                Class<? extends GuiController> tmpControllerClass = controllerClassQueue.poll();
+
+                if(tmpControllerClass == null)
+                    break;
+
+                prewarmScene(tmpControllerClass);
+            }
+            while (System.nanoTime() - frameStartNanos < frameTimeBudgetNanos);
+        }
+        catch (Exception exception) {
+            stop();
+
+            completionFuture.completeExceptionally(exception);
+
+            return;
+        }
+
+        lastPrewarmNanos = System.nanoTime() - frameStartNanos;
+
+        if(controllerClassQueue.isEmpty()) {
+            stop();
+
+            completionFuture.complete(prewarmedSceneCount);
+        }
+    }
+
+    private static boolean isLayoutPending() {
+        for(Window tmpWindow : Window.getWindows()) {
+            Scene tmpScene = tmpWindow.getScene();
+
+            if(tmpWindow.isShowing() && tmpScene != null && tmpScene.getRoot() != null &&
+                    tmpScene.getRoot().isNeedsLayout())
+                return true;
+        }
+
+        return false;
+    }
+
+    private void prewarmScene(Class<? extends GuiController> controllerClass) throws ControllerInitializationException {
+        Optional<GuiController> optionalGuiController = guiControllerManager.getCachedGuiControllerOptional(
+                controllerClass);
+
+        //The controller may have been disposed in the meantime.
+        if(optionalGuiController.isEmpty())
+            return;
+
+        Parent rootNode = optionalGuiController.get().getRootNode();
+
+        Scene scene = rootNode.getScene();
+
+        //A root-node shown by a SceneNavigator already belongs to a scene, which is pre-warmed instead.
+        if(scene == null) {
+            Optional<Scene> optionalScene = guiControllerManager.getCachedSceneOptional(controllerClass);
+
+            if(optionalScene.isEmpty())
+                return;
+
+            scene = optionalScene.get();
+        }
+
+        rootNode.applyCss();
+
+        rootNode.layout();
+
+        if(snapshotScenes)
+            scene.snapshot(null);
+
+        prewarmedSceneCount++;
+    }
+}
@@ -0,0 +1,111 @@
+package eu.dgs_development.code.ejg.controllers;
+
+import java.util.Locale;
+
+/**
+ * Data object class containing the approximate memory footprint of a cached {@link GuiController}-instance and its
+ * cached {@link javafx.scene.Scene} (see {@link MemoryFootprintReport}). The byte-values are estimations.
+ */
+public final class ControllerFootprint {
+    //Approximate size of a node including its properties, style-classes and pseudo-classes.
+    static final long NODE_BYTES = 512;
+
+    private final String controllerClassName;
+
+    private final Locale locale;
+
+    private final boolean sceneCached;
+
+    private final int nodeCount;
+
+    private final int imageCount;
+
+    private final long imageBytes;
+
+    private final long stylesheetBytes;
+
+    ControllerFootprint(String controllerClassName, Locale locale, boolean sceneCached, int nodeCount, int imageCount,
+                        long imageBytes, long stylesheetBytes) {
+        this.controllerClassName = controllerClassName;
+        this.locale = locale;
+        this.sceneCached = sceneCached;
+        this.nodeCount = nodeCount;
+        this.imageCount = imageCount;
+        this.imageBytes = imageBytes;
+        this.stylesheetBytes = stylesheetBytes;
+    }
+
+    /**
+     * Returns the class-name of the {@link GuiController}.
+     * @return The class-name of the {@link GuiController}.
+     */
+    public String getControllerClassName() {
+        return controllerClassName;
+    }
+
+    /**
+     * Returns the locale of the cached {@link GuiController}-instance.
+     * @return The locale of the instance.
+     */
+    public Locale getLocale() {
+        return locale;
+    }
+
+    /**
+     * Returns true if a {@link javafx.scene.Scene} is cached for the {@link GuiController}-instance.
+     * @return True if a {@link javafx.scene.Scene} is cached.
+     */
+    public boolean isSceneCached() {
+        return sceneCached;
+    }
+
+    /**
+     * Returns the amount of nodes retained by the node-graph of the {@link GuiController}-instance.
+     * @return The amount of retained nodes.
+     */
+    public int getNodeCount() {
+        return nodeCount;
+    }
+
+    /**
+     * Returns the amount of images shown by the node-graph. Images shared with another {@link GuiController}-instance
+     * of the same report are only counted once.
+     * @return The amount of images.
+     */
+    public int getImageCount() {
+        return imageCount;
+    }
+
+    /**
+     * Returns the decoded size of all images in bytes (4 bytes per pixel).
+     * @return The size of all images in bytes.
+     */
+    public long getImageBytes() {
+        return imageBytes;
+    }
+
+    /**
+     * Returns the size of all stylesheet-strings (e.g. data-URLs) of the node-graph and the cached
+     * {@link javafx.scene.Scene} in bytes. Stylesheets already counted for another instance of the report are
+     * excluded.
+     * @return The size of all stylesheet-strings in bytes.
+     */
+    public long getStylesheetBytes() {
+        return stylesheetBytes;
+    }
+
+    /**
+     * Returns the approximate size of the nodes, images and stylesheet-strings in bytes.
+     * @return The estimated size in bytes.
+     */
+    public long getEstimatedBytes() {
+        return nodeCount * NODE_BYTES + imageBytes + stylesheetBytes;
+    }
+
+    @Override
+    public String toString() {
+        return controllerClassName + " [" + locale + "]" + (sceneCached ? " (scene cached)" : "") + ": " +
+                nodeCount + " nodes, " + imageCount + " images (" + imageBytes + " bytes), " + stylesheetBytes +
+                " stylesheet-bytes (~" + getEstimatedBytes() + " bytes)";
+    }
+}
@@ -2,7 +2,8 @@ package eu.dgs_development.code.ejg.controllers;
 
 import javafx.stage.Stage;
 
-import java.util.ResourceBundle;
+import java.util.*;
+import java.util.function.Function;
 
 /**
  * Helper class to configure a {@link GuiControllerManager}-instance.
@@ -12,7 +13,25 @@ public class GuiConfiguration {
 
     private ResourceBundle resourceBundle = null;
 
-    private String packageScanPath = null;
+    private Function<Locale, ResourceBundle> resourceBundleProvider = null;
+
+    private Locale locale = null;
+
+    private int maxCachedLocales = 2;
+
+    private final List<String> packageScanPaths = new ArrayList<>();
+
+    private final List<String> rejectedPackageScanPaths = new ArrayList<>();
+
+    private final List<String> rejectedJars = new ArrayList<>();
+
+    private final List<String> acceptedModules = new ArrayList<>();
+
+    private boolean moduleScanningEnabled = true;
+
+    private boolean instanceProviderScanEnabled = true;
+
+    private GuiControllerCreationListener guiControllerCreationListener = null;
 
     /**
      * Creates a new {@link GuiConfiguration}-instance.
@@ -47,19 +66,203 @@ public class GuiConfiguration {
     }
 
     /**
-     * Returns the package-path of the root-package to scan or null if no path was set. A scan also includes all
-     * sub-packages.
-     * @return The package-path of the root-package to scan, including all sub-packages.
+     * Returns the configured provider of locale-specific {@link ResourceBundle}-instances or null.
+     * @return The set provider or null.
+     */
+    public Function<Locale, ResourceBundle> getResourceBundleProvider() {
+        return resourceBundleProvider;
+    }
+
+    /**
+     * Sets a provider of locale-specific {@link ResourceBundle}-instances (e.g.
+     * "locale -> ResourceBundle.getBundle("i18n.messages", locale)"). If a provider is set, the
+     * {@link GuiControllerManager} caches the {@link GuiController}-instances per locale and the locale can be changed
+     * with {@link GuiControllerManager#setLocale(Locale)}. The provider replaces the bundle set by
+     * {@link #setResourceBundle(ResourceBundle)}.
+     * @param resourceBundleProvider The provider to use or null.
+     */
+    public void setResourceBundleProvider(Function<Locale, ResourceBundle> resourceBundleProvider) {
+        this.resourceBundleProvider = resourceBundleProvider;
+    }
+
+    /**
+     * Returns the initial locale or null, if the default locale is used.
+     * @return The initial locale or null.
+     */
+    public Locale getLocale() {
+        return locale;
+    }
+
+    /**
+     * Sets the initial locale, which is passed to the resource-bundle provider (see
+     * {@link #setResourceBundleProvider(Function)}). By default {@link Locale#getDefault()} is used.
+     * @param locale The initial locale or null.
+     */
+    public void setLocale(Locale locale) {
+        this.locale = locale;
+    }
+
+    /**
+     * Returns the maximum amount of locales, whose {@link GuiController}-instances are cached.
+     * @return The maximum amount of cached locales.
+     */
+    public int getMaxCachedLocales() {
+        return maxCachedLocales;
+    }
+
+    /**
+     * Sets the maximum amount of locales, whose {@link GuiController}-instances are cached (default 2). If the
+     * locale is changed and the maximum is exceeded, the cached instances of the least recently used locale are
+     * disposed.
+     * @param maxCachedLocales The maximum amount of cached locales (at least 1).
+     */
+    public void setMaxCachedLocales(int maxCachedLocales) {
+        if(maxCachedLocales < 1)
+            throw new IllegalArgumentException("At least one locale must be cached.");
+
+        this.maxCachedLocales = maxCachedLocales;
+    }
+
+    /**
+     * Returns the package-path of the first root-package to scan or null if no path was set. A scan also includes all
+     * sub-packages. Use {@link #getPackageScanPaths()} to get all configured root-packages.
+     * @return The package-path of the first root-package to scan, including all sub-packages.
      */
     public String getPackageScanPath() {
-        return packageScanPath;
+        return packageScanPaths.isEmpty() ? null : packageScanPaths.get(0);
     }
 
     /**
-     * Sets the package-path of the root-package to scan. A scan also includes all sub-packages.
-     * @param packageScanPath The package-path of the root-package to scan.
+     * Sets the package-path of the root-package to scan. A scan also includes all sub-packages. All previously added
+     * package-paths are replaced.
+     * @param packageScanPath The package-path of the root-package to scan or null to scan all packages.
      */
     public void setPackageScanPath(String packageScanPath) {
-        this.packageScanPath = packageScanPath;
+        packageScanPaths.clear();
+
+        if(packageScanPath != null)
+            packageScanPaths.add(packageScanPath);
+    }
+
+    /**
+     * Adds package-paths of additional root-packages to scan (e.g. plugin-packages). A scan also includes all
+     * sub-packages.
+     * @param packageScanPaths The package-paths of the root-packages to scan.
+     */
+    public void addPackageScanPaths(String... packageScanPaths) {
+        Collections.addAll(this.packageScanPaths, packageScanPaths);
+    }
+
+    /**
+     * Returns an unmodifiable {@link List} of all package-paths of the root-packages to scan. The list is empty if
+     * all packages should be scanned.
+     * @return All package-paths of the root-packages to scan.
+     */
+    public List<String> getPackageScanPaths() {
+        return Collections.unmodifiableList(packageScanPaths);
+    }
+
+    /**
+     * Adds package-paths of packages, which must not be scanned. A rejected package also excludes all sub-packages,
+     * even if the sub-package is located in an accepted package.
+     * @param rejectedPackageScanPaths The package-paths of the packages to exclude.
+     */
+    public void addRejectedPackageScanPaths(String... rejectedPackageScanPaths) {
+        Collections.addAll(this.rejectedPackageScanPaths, rejectedPackageScanPaths);
+    }
+
+    /**
+     * Returns an unmodifiable {@link List} of all package-paths, which must not be scanned.
+     * @return All package-paths of the packages to exclude.
+     */
+    public List<String> getRejectedPackageScanPaths() {
+        return Collections.unmodifiableList(rejectedPackageScanPaths);
+    }
+
+    /**
+     * Adds names of jar-files, which must not be opened during a scan (e.g. "javafx-*.jar"). The names may contain
+     * the wildcard "*".
+     * @param rejectedJars The names of the jar-files to exclude.
+     */
+    public void addRejectedJars(String... rejectedJars) {
+        Collections.addAll(this.rejectedJars, rejectedJars);
+    }
+
+    /**
+     * Returns an unmodifiable {@link List} of all jar-file-names, which must not be opened during a scan.
+     * @return All names of the jar-files to exclude.
+     */
+    public List<String> getRejectedJars() {
+        return Collections.unmodifiableList(rejectedJars);
+    }
+
+    /**
+     * Restricts the scan of the module-path to the modules with the given names. If no module was added, all modules
+     * of the module-path get scanned.
+     * @param acceptedModules The names of the modules to scan.
+     */
+    public void addAcceptedModules(String... acceptedModules) {
+        Collections.addAll(this.acceptedModules, acceptedModules);
+    }
+
+    /**
+     * Returns an unmodifiable {@link List} of all module-names, which restrict the scan of the module-path.
+     * @return All names of the modules to scan.
+     */
+    public List<String> getAcceptedModules() {
+        return Collections.unmodifiableList(acceptedModules);
+    }
+
+    /**
+     * Returns true if the module-path gets scanned. This is the default.
+     * @return True if the module-path gets scanned.
+     */
+    public boolean isModuleScanningEnabled() {
+        return moduleScanningEnabled;
+    }
+
+    /**
+     * Enables or disables the scan of the module-path. Disabling the scan is useful if all {@link GuiController}-
+     * classes are located on the classpath.
+     * @param moduleScanningEnabled True if the module-path should be scanned.
+     */
+    public void setModuleScanningEnabled(boolean moduleScanningEnabled) {
+        this.moduleScanningEnabled = moduleScanningEnabled;
+    }
+
+    /**
+     * Returns true if the scan looks for functions using the {@link InstanceProvider}-annotation. This is the
+     * default.
+     * @return True if functions providing dependency-injection-instances get scanned.
+     */
+    public boolean isInstanceProviderScanEnabled() {
+        return instanceProviderScanEnabled;
+    }
+
+    /**
+     * Enables or disables the scan for functions using the {@link InstanceProvider}-annotation. If no
+     * dependency-injection is used, disabling the scan avoids the expensive collection of method- and
+     * annotation-information.
+     * @param instanceProviderScanEnabled True if functions providing dependency-injection-instances should be scanned.
+     */
+    public void setInstanceProviderScanEnabled(boolean instanceProviderScanEnabled) {
+        this.instanceProviderScanEnabled = instanceProviderScanEnabled;
+    }
+
+    /**
+     * Returns the configured {@link GuiControllerCreationListener} or null.
+     * @return The set {@link GuiControllerCreationListener} or null.
+     */
+    public GuiControllerCreationListener getGuiControllerCreationListener() {
+        return guiControllerCreationListener;
+    }
+
+    /**
+     * Sets a {@link GuiControllerCreationListener} to observe the creation-costs of all {@link GuiController}-instances
+     * (e.g. to profile the startup).
+     * @param guiControllerCreationListener The {@link GuiControllerCreationListener} to use or null.
+     */
+    public void setGuiControllerCreationListener(GuiControllerCreationListener guiControllerCreationListener) {
+        this.guiControllerCreationListener = guiControllerCreationListener;
     }
 }
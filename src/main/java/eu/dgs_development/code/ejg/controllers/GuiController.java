@@ -3,20 +3,42 @@ package eu.dgs_development.code.ejg.controllers;
 import javafx.fxml.FXML;
 import javafx.scene.Parent;
 
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
 /**
  * The base-class of all {@link GuiController}-classes. These classes can be accessed with a
  * {@link GuiControllerManager}.
+ * <br><br>
+ * All initialization-flags are guarded by the instance-monitor, to allow a creation of {@link GuiController}-instances
+ * from background-threads. {@link #onInitialized()} and the initialization-listeners are executed after leaving the
+ * monitor. The initialization-flags, the root-node and the {@link GuiControllerManager} are safely published to all
+ * threads, after {@link #onInitialized()} was executed: {@link #isInitialized()} returns true only after
+ * {@link #onInitialized()} returned.
  */
 public abstract class GuiController {
-    private boolean initialized = false;
+    private volatile boolean initialized = false;
+
+    private boolean initializationStarted = false;
 
     private boolean fxmlInitialized = false;
 
     private boolean dependenciesInitialized = false;
 
-    private Parent rootNode;
+    private Thread initializingThread;
+
+    private volatile Parent rootNode;
+
+    private volatile GuiControllerManager guiControllerManager;
+
+    private volatile GuiControllerTaskExecutor taskExecutor;
+
+    private volatile boolean disposed = false;
 
-    private GuiControllerManager guiControllerManager;
+    private final List<Runnable> disposeActions = new CopyOnWriteArrayList<>();
 
     protected GuiController() {
         //Ignore...
@@ -28,7 +50,7 @@ public abstract class GuiController {
      * @return True if the initial {@link GuiControllerManager} was set, false if a {@link GuiControllerManager} was
      * already set.
      */
-    final boolean tryToSetGuiControllerManager(GuiControllerManager guiControllerManager) {
+    final synchronized boolean tryToSetGuiControllerManager(GuiControllerManager guiControllerManager) {
         if(this.guiControllerManager != null)
             return false;
 
@@ -46,9 +68,16 @@ public abstract class GuiController {
         if(rootNode == null)
             return false;
 
-        this.rootNode = rootNode;
+        boolean initializationClaimed;
 
-        tryToInitialize();
+        synchronized (this) {
+            this.rootNode = rootNode;
+
+            initializationClaimed = tryToClaimInitialization();
+        }
+
+        if(initializationClaimed)
+            performInitialization();
 
         return true;
     }
@@ -58,37 +87,165 @@ public abstract class GuiController {
      * @return True if the {@link GuiController} was notified.
      */
     final boolean tryToInitializeAfterDependencies() {
-        if(dependenciesInitialized)
-            return false;
+        boolean initializationClaimed;
+
+        synchronized (this) {
+            if(dependenciesInitialized)
+                return false;
 
-        dependenciesInitialized = true;
+            dependenciesInitialized = true;
 
-        tryToInitialize();
+            initializationClaimed = tryToClaimInitialization();
+        }
+
+        if(initializationClaimed)
+            performInitialization();
 
         return true;
     }
 
+    /**
+     * Notifies the {@link GuiController} that all dependencies were initialized, if not already done. If another
+     * thread currently executes {@link #onInitialized()}, this function blocks until the initialization is completed.
+     * A reentrant call of the thread, which currently executes {@link #onInitialized()} (e.g. a cached
+     * {@link GuiController} requesting itself or a dependency cycle of cached {@link GuiController}-instances),
+     * doesn't block and accepts the started initialization.
+     * @return True if the {@link GuiController} is initialized or gets initialized by the calling thread.
+     */
+    final boolean initializeAfterDependencies() {
+        boolean initializationClaimed;
+
+        synchronized (this) {
+            dependenciesInitialized = true;
+
+            initializationClaimed = tryToClaimInitialization();
+
+            if(!initializationClaimed) {
+                if(initializingThread == Thread.currentThread())
+                    return true;
+
+                //Wait until another thread completed onInitialized().
+                while (initializingThread != null) {
+                    try {
+                        wait();
+                    }
+                    catch (InterruptedException exception) {
+                        Thread.currentThread().interrupt();
+
+                        return false;
+                    }
+                }
+
+                return initialized;
+            }
+        }
+
+        performInitialization();
+
+        return initialized;
+    }
+
     /**
      * Gets notified by JavaFX when the FXML-loading was completed.
      */
     @FXML
     public final void initialize() {
-        if(!fxmlInitialized) {
+        boolean initializationClaimed;
+
+        synchronized (this) {
+            if(fxmlInitialized)
+                return;
+
             fxmlInitialized = true;
 
             //Try to initialize.
-            tryToInitialize();
+            initializationClaimed = tryToClaimInitialization();
         }
+
+        if(initializationClaimed)
+            performInitialization();
     }
 
-    private void tryToInitialize() {
+    private boolean tryToClaimInitialization() {
         //This function checks if all conditions are met, which cause an initialization.
         //We check these conditions with this function, because we don't know the order of events.
-        if(!initialized && fxmlInitialized && dependenciesInitialized && rootNode != null) {
-            initialized = true;
+        //The function must be called while holding the instance-monitor. The initialization itself is performed
+        //after leaving the monitor, because onInitialized() and the listeners execute foreign code.
+        if(!initializationStarted && fxmlInitialized && dependenciesInitialized && rootNode != null) {
+            //The started-flag prevents a second initialization by a reentrant call from onInitialized().
+            initializationStarted = true;
+
+            initializingThread = Thread.currentThread();
+
+            return true;
+        }
 
+        return false;
+    }
+
+    private void performInitialization() {
+        long initializationStartNanos = System.nanoTime();
+
+        boolean initializationCompleted = false;
+
+        try {
             onInitialized();
+
+            initializationCompleted = true;
+        }
+        finally {
+            synchronized (this) {
+                //The volatile initialized-flag is only set after onInitialized() returned, to publish the state.
+                initialized = initializationCompleted;
+
+                initializingThread = null;
+
+                notifyAll();
+            }
+        }
+
+        if(guiControllerManager != null) {
+            guiControllerManager.notifyGuiControllerInitialized(this,
+                    System.nanoTime() - initializationStartNanos);
+        }
+    }
+
+    /**
+     * Adds an action, which gets executed after {@link #onDisposed()}, if the {@link GuiController} gets disposed.
+     * @param disposeAction The action to execute.
+     */
+    final void addDisposeAction(Runnable disposeAction) {
+        disposeActions.add(disposeAction);
+    }
+
+    /**
+     * Tries to dispose the {@link GuiController}. All background-tasks are cancelled, {@link #onDisposed()} is
+     * executed and all registered dispose-actions are executed afterwards.
+     * @return True if the {@link GuiController} was disposed, false if it was already disposed.
+     */
+    final boolean tryToDispose() {
+        synchronized (this) {
+            if(disposed)
+                return false;
+
+            disposed = true;
+        }
+
+        GuiControllerTaskExecutor currentTaskExecutor = taskExecutor;
+
+        if(currentTaskExecutor != null)
+            currentTaskExecutor.shutdown();
+
+        try {
+            onDisposed();
+        }
+        finally {
+            disposeActions.forEach(Runnable::run);
+
+            disposeActions.clear();
         }
+
+        return true;
     }
 
     /**
@@ -107,6 +264,14 @@ public abstract class GuiController {
         return initialized;
     }
 
+    /**
+     * Returns true if the {@link GuiController} was disposed.
+     * @return True if the {@link GuiController} must not be used anymore.
+     */
+    public boolean isDisposed() {
+        return disposed;
+    }
+
     /**
      * Returns the set {@link GuiControllerManager}.
      * @return The set {@link GuiControllerManager}.
@@ -115,6 +280,59 @@ public abstract class GuiController {
         return guiControllerManager;
     }
 
+    /**
+     * Returns the {@link GuiControllerTaskExecutor} of this {@link GuiController}, which executes all
+     * background-tasks. The executor is created when it is accessed for the first time.
+     * @return The {@link GuiControllerTaskExecutor} of this {@link GuiController}.
+     */
+    public final GuiControllerTaskExecutor getTaskExecutor() {
+        GuiControllerTaskExecutor currentTaskExecutor = taskExecutor;
+
+        if(currentTaskExecutor == null) {
+            synchronized (this) {
+                currentTaskExecutor = taskExecutor;
+
+                if(currentTaskExecutor == null) {
+                    currentTaskExecutor = new GuiControllerTaskExecutor("ejg-task-" + getClass().getSimpleName());
+
+                    //A disposed GuiController must not execute any further background-tasks.
+                    if(disposed)
+                        currentTaskExecutor.shutdown();
+
+                    taskExecutor = currentTaskExecutor;
+                }
+            }
+        }
+
+        return currentTaskExecutor;
+    }
+
+    /**
+     * Executes a task in the background and passes the result to the result-consumer on the JavaFX application
+     * thread. Exceptions thrown by the task are logged. See {@link GuiControllerTaskExecutor} for more information.
+     * @param backgroundTask The task to execute in the background (e.g. a search or a database-query).
+     * @param resultConsumer The consumer of the result (executed on the JavaFX application thread) or null.
+     * @param <R> The result-type.
+     * @return The {@link Future} of the submitted task, which can be used to cancel the task.
+     */
+    protected final <R> Future<R> runInBackground(Callable<R> backgroundTask, Consumer<? super R> resultConsumer) {
+        return getTaskExecutor().submit(backgroundTask, resultConsumer, null);
+    }
+
+    /**
+     * Executes a task in the background and passes the result to the result-consumer or the thrown exception to the
+     * error-consumer on the JavaFX application thread. See {@link GuiControllerTaskExecutor} for more information.
+     * @param backgroundTask The task to execute in the background (e.g. a search or a database-query).
+     * @param resultConsumer The consumer of the result (executed on the JavaFX application thread) or null.
+     * @param errorConsumer The consumer of a thrown exception (executed on the JavaFX application thread) or null.
+     * @param <R> The result-type.
+     * @return The {@link Future} of the submitted task, which can be used to cancel the task.
+     */
+    protected final <R> Future<R> runInBackground(Callable<R> backgroundTask, Consumer<? super R> resultConsumer,
+                                                  Consumer<Throwable> errorConsumer) {
+        return getTaskExecutor().submit(backgroundTask, resultConsumer, errorConsumer);
+    }
+
     /**
      * Returns the FXML-path linked to the {@link GuiController}-class.
      * @return The path of the FXML-resource to load.
@@ -141,4 +359,16 @@ public abstract class GuiController {
      * mechanism before this function was called. See the {@link InstanceConsumer}-class for more information.
      */
     public abstract void onInitialized();
+
+    /**
+     * Gets executed once, if the {@link GuiController} gets disposed (see
+     * {@link GuiControllerManager#dispose(GuiController)}). This function is the counterpart of
+     * {@link #onInitialized()} and should release all resources, which would keep the {@link GuiController} alive
+     * (e.g. timers, bindings or listeners attached to objects outside the {@link GuiController}). All
+     * background-tasks are already cancelled when this function gets executed. The default implementation does
+     * nothing.
+     */
+    public void onDisposed() {
+        //Ignore...
+    }
 }
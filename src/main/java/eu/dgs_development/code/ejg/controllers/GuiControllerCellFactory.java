@@ -0,0 +1,225 @@
+package eu.dgs_development.code.ejg.controllers;
+
+import javafx.scene.control.*;
+import javafx.util.Callback;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Creates cells for a {@link ListView}, {@link TableView} or {@link TreeView}, which display their items with an
+ * {@link ItemGuiController}. The virtual flow of these controls recycles cells while scrolling. Each cell borrows an
+ * {@link ItemGuiController}-instance from a small pool while it displays an item and returns the instance, if the
+ * cell becomes empty. Therefore, scrolling only updates the displayed items and never loads FXML-content or injects
+ * dependencies. A cell, which leaves the scene (e.g. because the virtual flow discarded it), also returns its
+ * instance and borrows another one, if it is shown again. All functions must be executed on the JavaFX application
+ * thread.
+ * @param <T> The type of the displayed items.
+ * @param <C> The {@link ItemGuiController}-type.
+ */
+public final class GuiControllerCellFactory<T, C extends ItemGuiController<T>> {
+    private static final int DEFAULT_MAX_POOL_SIZE = 32;
+
+    private final GuiControllerManager guiControllerManager;
+
+    private final Class<? extends C> controllerClass;
+
+    private final int maxPoolSize;
+
+    private final Deque<C> guiControllerPool = new ArrayDeque<>();
+
+    private int createdGuiControllerCount = 0;
+
+    /**
+     * Creates a new {@link GuiControllerCellFactory} with a maximum pool-size of 32 unused instances.
+     * @param guiControllerManager The {@link GuiControllerManager} to create the {@link ItemGuiController}-instances.
+     * @param controllerClass The class of the {@link ItemGuiController}-instances to create.
+     */
+    public GuiControllerCellFactory(GuiControllerManager guiControllerManager, Class<? extends C> controllerClass) {
+        this(guiControllerManager, controllerClass, DEFAULT_MAX_POOL_SIZE);
+    }
+
+    /**
+     * Creates a new {@link GuiControllerCellFactory}.
+     * @param guiControllerManager The {@link GuiControllerManager} to create the {@link ItemGuiController}-instances.
+     * @param controllerClass The class of the {@link ItemGuiController}-instances to create.
+     * @param maxPoolSize The maximum amount of unused instances to keep. Returned instances exceeding this amount get
+     *                    disposed.
+     */
+    public GuiControllerCellFactory(GuiControllerManager guiControllerManager, Class<? extends C> controllerClass,
+                                    int maxPoolSize) {
+        this.guiControllerManager = guiControllerManager;
+        this.controllerClass = controllerClass;
+        this.maxPoolSize = maxPoolSize;
+    }
+
+    /**
+     * Creates {@link ItemGuiController}-instances in advance (e.g. for the amount of visible rows), to avoid any
+     * FXML-loading when a control is shown for the first time.
+     * @param count The amount of instances to add to the pool.
+     * @throws ControllerInitializationException An unexpected {@link ControllerInitializationException}.
+     */
+    public void preload(int count) throws ControllerInitializationException {
+        for(int i = 0; i < count; i++) {
+            guiControllerPool.push(createGuiController());
+        }
+    }
+
+    /**
+     * Returns a cell-factory for a {@link ListView}.
+     * @return The cell-factory to set with {@link ListView#setCellFactory(Callback)}.
+     */
+    public Callback<ListView<T>, ListCell<T>> forListView() {
+        return tmpListView -> new ListCell<>() {
+            private final CellGuiControllerHolder guiControllerHolder = new CellGuiControllerHolder(this);
+
+            @Override
+            protected void updateItem(T item, boolean empty) {
+                super.updateItem(item, empty);
+
+                guiControllerHolder.updateCell(item, empty);
+            }
+        };
+    }
+
+    /**
+     * Returns a cell-factory for a {@link TableColumn}.
+     * @param <S> The type of the {@link TableView}-items.
+     * @return The cell-factory to set with {@link TableColumn#setCellFactory(Callback)}.
+     */
+    public <S> Callback<TableColumn<S, T>, TableCell<S, T>> forTableColumn() {
+        return tmpTableColumn -> new TableCell<>() {
+            private final CellGuiControllerHolder guiControllerHolder = new CellGuiControllerHolder(this);
+
+            @Override
+            protected void updateItem(T item, boolean empty) {
+                super.updateItem(item, empty);
+
+                guiControllerHolder.updateCell(item, empty);
+            }
+        };
+    }
+
+    /**
+     * Returns a cell-factory for a {@link TreeView}.
+     * @return The cell-factory to set with {@link TreeView#setCellFactory(Callback)}.
+     */
+    public Callback<TreeView<T>, TreeCell<T>> forTreeView() {
+        return tmpTreeView -> new TreeCell<>() {
+            private final CellGuiControllerHolder guiControllerHolder = new CellGuiControllerHolder(this);
+
+            @Override
+            protected void updateItem(T item, boolean empty) {
+                super.updateItem(item, empty);
+
+                guiControllerHolder.updateCell(item, empty);
+            }
+        };
+    }
+
+    /**
+     * Returns the amount of unused {@link ItemGuiController}-instances inside the pool.
+     * @return The current pool-size.
+     */
+    public int getPoolSize() {
+        return guiControllerPool.size();
+    }
+
+    /**
+     * Returns the amount of {@link ItemGuiController}-instances, which were created by this factory.
+     * @return The amount of created instances.
+     */
+    public int getCreatedGuiControllerCount() {
+        return createdGuiControllerCount;
+    }
+
+    private C createGuiController() throws ControllerInitializationException {
+        C guiController = guiControllerManager.createGuiControllerInstance(controllerClass);
+
+        createdGuiControllerCount++;
+
+        return guiController;
+    }
+
+    private C acquireGuiController() {
+        C guiController = guiControllerPool.poll();
+
+        if(guiController != null)
+            return guiController;
+
+        try {
+            return createGuiController();
+        }
+        catch (ControllerInitializationException exception) {
+            throw new IllegalStateException("Unable to create cell GUI controller of class \"" +
+                    controllerClass.getName() + "\".", exception);
+        }
+    }
+
+    private void releaseGuiController(C guiController) {
+        guiController.onReleaseItem();
+
+        if(guiControllerPool.size() < maxPoolSize) {
+            guiControllerPool.push(guiController);
+        }
+        else {
+            guiControllerManager.dispose(guiController);
+        }
+    }
+
+    /**
+     * Holds the {@link ItemGuiController}-instance borrowed by a single cell.
+     */
+    private final class CellGuiControllerHolder {
+        private final IndexedCell<T> cell;
+
+        private C guiController;
+
+        private CellGuiControllerHolder(IndexedCell<T> cell) {
+            this.cell = cell;
+
+            //Cells discarded by the virtual flow are removed from the scene without becoming empty.
+            cell.sceneProperty().addListener((tmpObservable, tmpOldScene, tmpNewScene) -> {
+                if(tmpNewScene == null) {
+                    releaseCellGuiController();
+                }
+                else if(guiController == null && !cell.isEmpty()) {
+                    updateCell(cell.getItem(), false);
+                }
+            });
+        }
+
+        private void updateCell(T item, boolean empty) {
+            //A non-empty cell may display a null-item, which is still passed to the controller.
+            if(empty || cell.getScene() == null) {
+                releaseCellGuiController();
+
+                cell.setText(null);
+
+                return;
+            }
+
+            if(guiController == null) {
+                guiController = acquireGuiController();
+
+                cell.setContentDisplay(ContentDisplay.GRAPHIC_ONLY);
+                cell.setGraphic(guiController.getRootNode());
+            }
+
+            cell.setText(null);
+
+            guiController.onUpdateItem(item);
+        }
+
+        private void releaseCellGuiController() {
+            if(guiController == null)
+                return;
+
+            cell.setGraphic(null);
+
+            releaseGuiController(guiController);
+
+            guiController = null;
+        }
+    }
+}
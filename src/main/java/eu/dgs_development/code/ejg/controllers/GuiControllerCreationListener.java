@@ -0,0 +1,44 @@
+package eu.dgs_development.code.ejg.controllers;
+
+import java.time.Duration;
+
+/**
+ * Listener to observe the creation-costs of {@link GuiController}-instances. The listener is set with
+ * {@link GuiConfiguration#setGuiControllerCreationListener(GuiControllerCreationListener)}, which also includes all
+ * instances created while the {@link GuiControllerManager} is set up. The functions get executed on the thread
+ * creating or initializing the {@link GuiController}-instance.
+ */
+public interface GuiControllerCreationListener {
+    /**
+     * Gets executed when a {@link GuiController}-instance was created, after its FXML-content was loaded and all
+     * dependencies were injected.
+     * @param guiController The created {@link GuiController}-instance.
+     * @param fxmlLoadDuration The time spent to load the FXML-content.
+     * @param injectionDuration The time spent to inject all dependencies.
+     */
+    void onGuiControllerCreated(GuiController guiController, Duration fxmlLoadDuration, Duration injectionDuration);
+
+    /**
+     * Gets executed when a {@link GuiController}-instance was initialized (see {@link GuiController#onInitialized()}).
+     * The default implementation does nothing.
+     * @param guiController The initialized {@link GuiController}-instance.
+     * @param initializationDuration The time spent to execute {@link GuiController#onInitialized()}.
+     */
+    default void onGuiControllerInitialized(GuiController guiController, Duration initializationDuration) {
+        //Ignore...
+    }
+
+    /**
+     * Gets executed when the node-graph of a {@link GuiController}-instance was registered automatically by all
+     * {@link eu.dgs_development.code.ejg.theme.ThemeManager}-instances (see
+     * {@link GuiControllerManager#addThemeManager(eu.dgs_development.code.ejg.theme.ThemeManager, boolean)}). The
+     * default implementation does nothing.
+     * @param guiController The registered {@link GuiController}-instance.
+     * @param registrationDuration The time spent to traverse and register the node-graph.
+     * @param registeredNodes The amount of registered nodes (summed up for all theme-managers).
+     */
+    default void onGuiControllerNodeGraphRegistered(GuiController guiController, Duration registrationDuration,
+                                                    int registeredNodes) {
+        //Ignore...
+    }
+}
@@ -0,0 +1,94 @@
+package eu.dgs_development.code.ejg.controllers;
+
+import java.util.Locale;
+
+/**
+ * Data object class describing a lifecycle-transition of a {@link GuiController}-instance (see
+ * {@link GuiControllerManager#getLifecycleEventPublisher()}).
+ */
+public final class GuiControllerLifecycleEvent {
+    /**
+     * All lifecycle-transitions of a {@link GuiController}-instance.
+     */
+    public enum Type {
+        /**
+         * The instance was created: The FXML-content was loaded and all dependencies were injected.
+         */
+        CREATED,
+
+        /**
+         * The instance was initialized (see {@link GuiController#onInitialized()}).
+         */
+        INITIALIZED,
+
+        /**
+         * The cacheable instance was added to the cache of a locale.
+         */
+        CACHED,
+
+        /**
+         * The cached locale of the instance was evicted (see {@link GuiConfiguration#setMaxCachedLocales(int)}).
+         * Instances, which are not shown, are disposed afterwards.
+         */
+        EVICTED,
+
+        /**
+         * The instance was disposed (see {@link GuiControllerManager#dispose(GuiController)}).
+         */
+        DISPOSED
+    }
+
+    private final Type type;
+
+    private final GuiController guiController;
+
+    private final Locale locale;
+
+    private final long timestampMillis;
+
+    GuiControllerLifecycleEvent(Type type, GuiController guiController, Locale locale) {
+        this.type = type;
+        this.guiController = guiController;
+        this.locale = locale;
+        this.timestampMillis = System.currentTimeMillis();
+    }
+
+    /**
+     * Returns the type of the lifecycle-transition.
+     * @return The type of the transition.
+     */
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Returns the affected {@link GuiController}-instance. Subscribers are notified on another thread and must not
+     * access the node-graph of the instance outside of the JavaFX application thread.
+     * @return The affected instance.
+     */
+    public GuiController getGuiController() {
+        return guiController;
+    }
+
+    /**
+     * Returns the locale of the cache, which was affected by a {@link Type#CACHED} or {@link Type#EVICTED}
+     * transition. Returns null for all other transitions.
+     * @return The affected locale or null.
+     */
+    public Locale getLocale() {
+        return locale;
+    }
+
+    /**
+     * Returns the time of the transition in milliseconds since the epoch.
+     * @return The time of the transition.
+     */
+    public long getTimestampMillis() {
+        return timestampMillis;
+    }
+
+    @Override
+    public String toString() {
+        return type + " " + guiController.getClass().getName() + (locale == null ? "" : " (" + locale + ")");
+    }
+}
@@ -1,37 +1,117 @@
 package eu.dgs_development.code.ejg.controllers;
 
+import eu.dgs_development.code.ejg.theme.ThemeManager;
+import eu.dgs_development.code.ejg.theme.ThemeRegistrationFootprint;
+import eu.dgs_development.code.ejg.util.ConflatingPublisher;
+import eu.dgs_development.code.ejg.util.NodeGraphWalker;
+import eu.dgs_development.code.ejg.util.StringSizeUtil;
 import io.github.classgraph.ClassGraph;
 import io.github.classgraph.ClassInfo;
 import io.github.classgraph.ClassInfoList;
 import io.github.classgraph.ScanResult;
+import javafx.application.Platform;
+import javafx.beans.value.ChangeListener;
+import javafx.event.EventHandler;
 import javafx.fxml.FXMLLoader;
+import javafx.scene.Group;
 import javafx.scene.Parent;
 import javafx.scene.Scene;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
 import javafx.stage.Stage;
+import javafx.stage.Window;
+import javafx.stage.WindowEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.net.URL;
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
 
 /**
  * The {@link GuiControllerManager} instantiates all {@link GuiController}-classes, found in the scanned packages for
- * the given package-scan-path. The package-scan-path is provided by the set {@link GuiConfiguration}. If no path was
- * set the path "*" is used.
+ * the given package-scan-paths. The package-scan-paths (and all excluded packages, jar-files and modules) are provided
+ * by the set {@link GuiConfiguration}. If no path was set the path "*" is used.
+ * <br><br>
+ * Threading-contract: The {@link GuiControllerManager} is safe to use from multiple threads. The creation of
+ * {@link GuiController}-instances (loading of the FXML-content and the dependency-injection) may run on any thread,
+ * because the created nodes are not attached to a showing window yet. The execution of
+ * {@link GuiController#onInitialized()} and all functions returning or creating {@link Scene}-instances must run on
+ * the JavaFX application thread. Because {@link #createGuiControllerInstance(Class)},
+ * {@link #getCachedGuiControllerOptional(Class)} and {@link #getCachedGuiControllerOrNull(Class)} initialize the
+ * returned instance on the calling thread (including the registration of its node-graph at the added
+ * {@link ThemeManager}-instances), these functions must be called on the JavaFX application thread as well. Use
+ * {@link #createGuiControllerInstanceAsync(Class, Executor)} to create {@link GuiController}-instances on a
+ * background-thread, while the initialization is completed on the JavaFX application thread.
  */
 public final class GuiControllerManager {
     private static final Logger LOGGER = LoggerFactory.getLogger(GuiControllerManager.class);
 
-    private final Map<Class<? extends GuiController>, GuiController> classGuiControllerCacheMap = new HashMap<>();
+    /**
+     * The cached {@link GuiController}- and {@link Scene}-instances of a locale.
+     */
+    private static final class LocaleCache {
+        private final Locale locale;
+
+        private final ResourceBundle resourceBundle;
+
+        private final Map<Class<? extends GuiController>, GuiController> classGuiControllerCacheMap =
+                new ConcurrentHashMap<>();
+
+        private final Map<Class<? extends GuiController>, Scene> classSceneCacheMap = new ConcurrentHashMap<>();
+
+        private LocaleCache(Locale locale, ResourceBundle resourceBundle) {
+            this.locale = locale;
+            this.resourceBundle = resourceBundle;
+        }
+    }
+
+    private final Set<Class<? extends GuiController>> cacheableGuiControllerClasses = ConcurrentHashMap.newKeySet();
+
+    //The locale-caches are ordered by their last access (guarded by the map itself).
+    private final Map<Locale, LocaleCache> localeCacheMap = new LinkedHashMap<>(16, 0.75f, true);
 
-    private final Map<Class<? extends GuiController>, Scene> classSceneCacheMap = new HashMap<>();
+    private volatile LocaleCache currentLocaleCache;
+
+    private final Map<String, byte[]> fxmlUrlTemplateMap = new ConcurrentHashMap<>();
 
     private final GuiConfiguration guiConfiguration;
 
     private final Map<Class<?>, Object> diClassInstanceObjectMap;
 
+    private final PackageScanReport packageScanReport;
+
+    private final CopyOnWriteArrayList<ThemeManager<?>> themeManagers = new CopyOnWriteArrayList<>();
+
+    private final CopyOnWriteArrayList<ThemeManager<?>> nodeGraphThemeManagers = new CopyOnWriteArrayList<>();
+
+    //The scene-navigators are stored inside the properties of their stages, so they don't retain the stages.
+    private final Object sceneNavigatorPropertyKey = new Object();
+
+    //Lifecycle-events are conflated per class and type, which bounds the buffer of a slow subscriber. Keying by
+    //instance would let the buffer grow with every created instance and retain disposed instances.
+    private final ConflatingPublisher<Map.Entry<Class<? extends GuiController>, GuiControllerLifecycleEvent.Type>,
+            GuiControllerLifecycleEvent> lifecycleEventPublisher = new ConflatingPublisher<>(tmpEvent ->
+            Map.entry(tmpEvent.getGuiController().getClass(), tmpEvent.getType()));
+
     /**
      * Creates a new {@link GuiControllerManager}.
      * @param guiConfiguration The {@link GuiConfiguration} to use.
@@ -41,29 +121,39 @@ public final class GuiControllerManager {
             DependencyInjectionException {
         this.guiConfiguration = guiConfiguration;
 
+        Locale initialLocale = guiConfiguration.getLocale() == null ? Locale.getDefault() :
+                guiConfiguration.getLocale();
+
+        currentLocaleCache = new LocaleCache(initialLocale, resolveResourceBundle(initialLocale));
+
+        localeCacheMap.put(initialLocale, currentLocaleCache);
+
         //Setup reflection scan-result.
 
-        String packageScanPath = getPackageScanPathOrDefault(guiConfiguration, "*");
+        ClassGraph classGraph = createClassGraph(guiConfiguration);
+
+        long scanStartNanos = System.nanoTime();
+
+        try(ScanResult packageScanResult = classGraph.scan()) {
+            Duration scanDuration = Duration.ofNanos(System.nanoTime() - scanStartNanos);
 
-        try(ScanResult packageScanResult = new ClassGraph()
-                .enableClassInfo()
-                .enableMethodInfo()
-                .enableAnnotationInfo()
-                .acceptPackages(packageScanPath)
-                .scan()) {
             //Find all methods providing dependencies for dependency-injection.
 
-            ClassInfoList instanceProviderClassesList = packageScanResult
-                    .getClassesWithMethodAnnotation(InstanceProvider.class);
+            long instanceProviderStartNanos = System.nanoTime();
 
             List<Method> instanceProviderMethodList = new ArrayList<>();
 
-            for(ClassInfo tmpClassInfo : instanceProviderClassesList) {
-                Class<?> tmpClass = tmpClassInfo.loadClass();
+            if(guiConfiguration.isInstanceProviderScanEnabled()) {
+                ClassInfoList instanceProviderClassesList = packageScanResult
+                        .getClassesWithMethodAnnotation(InstanceProvider.class);
+
+                for(ClassInfo tmpClassInfo : instanceProviderClassesList) {
+                    Class<?> tmpClass = tmpClassInfo.loadClass();
 
-                for(Method tmpMethod : tmpClass.getMethods()) {
-                    if(tmpMethod.getAnnotation(InstanceProvider.class) != null)
-                        instanceProviderMethodList.add(tmpMethod);
+                    for(Method tmpMethod : tmpClass.getMethods()) {
+                        if(tmpMethod.getAnnotation(InstanceProvider.class) != null)
+                            instanceProviderMethodList.add(tmpMethod);
+                    }
                 }
             }
 
@@ -74,9 +164,13 @@ public final class GuiControllerManager {
                 diClassInstanceObjectMap = getAvailableInstanceDependencies(instanceProviderMethodList);
             }
 
+            Duration instanceProviderDuration = Duration.ofNanos(System.nanoTime() - instanceProviderStartNanos);
+
             //Find and instantiate all GuiController classes (we always create instances to check ensure that an
             //instantiation is possible).
 
+            long guiControllerSetupStartNanos = System.nanoTime();
+
             ClassInfoList guiControllerClassesList = packageScanResult.getSubclasses(GuiController.class);
 
             List<Class<? extends GuiController>> guiControllerClasses = new ArrayList<>();
@@ -86,7 +180,71 @@ public final class GuiControllerManager {
             }
 
             setupGuiControllers(guiControllerClasses);
+
+            Duration guiControllerSetupDuration = Duration.ofNanos(System.nanoTime() - guiControllerSetupStartNanos);
+
+            //Collect the scan statistics.
+
+            List<File> classpathFiles = packageScanResult.getClasspathFiles();
+
+            int openedJarCount = 0;
+
+            for(File tmpClasspathFile : classpathFiles) {
+                if(tmpClasspathFile.isFile())
+                    openedJarCount++;
+            }
+
+            packageScanReport = new PackageScanReport(packageScanResult.getAllClasses().size(),
+                    classpathFiles.size(), openedJarCount, instanceProviderMethodList.size(),
+                    guiControllerClassesList.size(), scanDuration, instanceProviderDuration,
+                    guiControllerSetupDuration);
+
+            LOGGER.debug("Finished package scan: {}", packageScanReport);
+        }
+    }
+
+    private ClassGraph createClassGraph(GuiConfiguration guiConfiguration) {
+        ClassGraph classGraph = new ClassGraph().enableClassInfo();
+
+        //Method- and annotation-information is only required to find instance-provider-functions.
+
+        if(guiConfiguration.isInstanceProviderScanEnabled())
+            classGraph.enableMethodInfo().enableAnnotationInfo();
+
+        //Try to determine the configured package paths or the root package.
+
+        List<String> packageScanPaths = guiConfiguration.getPackageScanPaths();
+
+        if(packageScanPaths.isEmpty()) {
+            classGraph.acceptPackages("*");
+        }
+        else {
+            classGraph.acceptPackages(packageScanPaths.toArray(new String[0]));
+        }
+
+        List<String> rejectedPackageScanPaths = guiConfiguration.getRejectedPackageScanPaths();
+
+        if(!rejectedPackageScanPaths.isEmpty())
+            classGraph.rejectPackages(rejectedPackageScanPaths.toArray(new String[0]));
+
+        List<String> rejectedJars = guiConfiguration.getRejectedJars();
+
+        if(!rejectedJars.isEmpty())
+            classGraph.rejectJars(rejectedJars.toArray(new String[0]));
+
+        //Restrict or disable the scan of the module-path.
+
+        if(!guiConfiguration.isModuleScanningEnabled()) {
+            classGraph.disableModuleScanning();
         }
+        else {
+            List<String> acceptedModules = guiConfiguration.getAcceptedModules();
+
+            if(!acceptedModules.isEmpty())
+                classGraph.acceptModules(acceptedModules.toArray(new String[0]));
+        }
+
+        return classGraph;
     }
 
     private void setupGuiControllers(List<Class<? extends GuiController>> guiControllerClasses) throws ControllerInitializationException {
@@ -99,23 +257,19 @@ public final class GuiControllerManager {
 
             //Try to create a new GUI controller instance.
 
-            GuiController guiController = createGuiControllerInstance(tmpGuiControllerClass, diClassInstanceObjectMap);
+            GuiController guiController = createGuiControllerInstance(tmpGuiControllerClass, diClassInstanceObjectMap,
+                    currentLocaleCache.resourceBundle);
 
             //We only keep cacheable GUI controller instances! All other instances should be created just-in-time.
 
-            if(guiController.isCacheableGuiController())
-                classGuiControllerCacheMap.put(tmpGuiControllerClass, guiController);
-        }
-    }
+            if(guiController.isCacheableGuiController()) {
+                cacheableGuiControllerClasses.add(tmpGuiControllerClass);
 
-    private String getPackageScanPathOrDefault(GuiConfiguration guiConfiguration, String defaultValue) {
-        //Try to determine the configured package path or the root package.
+                currentLocaleCache.classGuiControllerCacheMap.put(tmpGuiControllerClass, guiController);
 
-        if(guiConfiguration.getPackageScanPath() != null) {
-            return guiConfiguration.getPackageScanPath();
-        }
-        else {
-            return defaultValue;
+                publishLifecycleEvent(GuiControllerLifecycleEvent.Type.CACHED, guiController,
+                        currentLocaleCache.locale);
+            }
         }
     }
 
@@ -186,14 +340,25 @@ public final class GuiControllerManager {
     }
 
     /**
-     * Creates a new {@link GuiController}-instance for a specific controller-class.
+     * Returns the statistics of the package-scan, performed when the {@link GuiControllerManager} was created.
+     * @return The {@link PackageScanReport} of the initial package-scan.
+     */
+    public PackageScanReport getPackageScanReport() {
+        return packageScanReport;
+    }
+
+    /**
+     * Creates a new {@link GuiController}-instance for a specific controller-class. The instance is initialized on
+     * the calling thread, which is why this function must be called on the JavaFX application thread (see
+     * {@link #createGuiControllerInstanceAsync(Class, Executor)} to create an instance in the background).
      * @param controllerClass The class of the {@link GuiController}-instance to create.
      * @param <T> The {@link GuiController}-type.
      * @return The created {@link GuiController}-instance.
      * @throws ControllerInitializationException An unexpected {@link ControllerInitializationException}.
      */
     public <T extends GuiController> T createGuiControllerInstance(Class<? extends T> controllerClass) throws ControllerInitializationException {
-        T createdGuiController = createGuiControllerInstance(controllerClass, diClassInstanceObjectMap);
+        T createdGuiController = createGuiControllerInstance(controllerClass, diClassInstanceObjectMap,
+                currentLocaleCache.resourceBundle);
 
         boolean dependenciesInitialized = createdGuiController.tryToInitializeAfterDependencies();
 
@@ -205,6 +370,39 @@ public final class GuiControllerManager {
         return createdGuiController;
     }
 
+    /**
+     * Creates a new {@link GuiController}-instance for a specific controller-class on a background-thread. The
+     * FXML-content is loaded and all dependencies are injected by the given {@link Executor}. After that, the
+     * initialization (see {@link GuiController#onInitialized()}) is completed on the JavaFX application thread.
+     * @param controllerClass The class of the {@link GuiController}-instance to create.
+     * @param executor The {@link Executor} used to load the FXML-content and to inject the dependencies.
+     * @param <T> The {@link GuiController}-type.
+     * @return A {@link CompletableFuture}, which is completed with the initialized {@link GuiController}-instance or
+     * completed exceptionally with a {@link ControllerInitializationException}.
+     */
+    public <T extends GuiController> CompletableFuture<T> createGuiControllerInstanceAsync(
+            Class<? extends T> controllerClass, Executor executor) {
+        ResourceBundle resourceBundle = currentLocaleCache.resourceBundle;
+
+        return CompletableFuture.<T>supplyAsync(() -> {
+            try {
+                return createGuiControllerInstance(controllerClass, diClassInstanceObjectMap, resourceBundle);
+            }
+            catch (ControllerInitializationException exception) {
+                throw new CompletionException(exception);
+            }
+        }, executor).thenApplyAsync(tmpGuiController -> {
+            boolean dependenciesInitialized = tmpGuiController.tryToInitializeAfterDependencies();
+
+            if(!dependenciesInitialized) {
+                throw new CompletionException(new ControllerInitializationException("Unable to initialize " +
+                        "dependencies for GUI controller class \"" + controllerClass.getName() + "\"."));
+            }
+
+            return tmpGuiController;
+        }, Platform::runLater);
+    }
+
     /**
      * Convenience function to create a new {@link Scene}-instance for an existing {@link GuiController}-instance.
      * @param guiController The existing {@link GuiController}-instance.
@@ -217,7 +415,9 @@ public final class GuiControllerManager {
     /**
      * Returns an existing (cacheable) {@link GuiController}-instance or returns null if no instance is
      * present. There is no cached instance if the requested {@link GuiController}-class is in a package which wasn't
-     * scanned. This happens if the wrong scan-path was set inside the {@link GuiConfiguration}.
+     * scanned. This happens if the wrong scan-path was set inside the {@link GuiConfiguration}. A cached instance is
+     * initialized on the calling thread, when it is requested the first time. This function must be called on the
+     * JavaFX application thread.
      * @param controllerClass The class of the {@link GuiController} containing the corresponding FXML-resource.
      * @param <T> The {@link GuiController}-type.
      * @return The cached {@link GuiController}-instance.
@@ -228,23 +428,53 @@ public final class GuiControllerManager {
     }
 
     /**
-     * Returns an existing (cacheable) {@link GuiController}-instance (if present) or an empty {@link Optional}.
+     * Returns an existing (cacheable) {@link GuiController}-instance (if present) or an empty {@link Optional}. A
+     * cached instance is initialized on the calling thread, when it is requested the first time. This function must
+     * be called on the JavaFX application thread.
      * @param controllerClass The class of the {@link GuiController} containing the corresponding FXML-resource.
      * @param <T> The {@link GuiController}-type.
      * @return The optional {@link GuiController}-instance.
      * @throws ControllerInitializationException An unexpected {@link ControllerInitializationException}.
      */
-    @SuppressWarnings("unchecked")
     public <T extends GuiController> Optional<T> getCachedGuiControllerOptional(Class<? extends T> controllerClass) throws ControllerInitializationException {
-        if(!classGuiControllerCacheMap.containsKey(controllerClass))
-            return Optional.empty();
+        return getCachedGuiControllerOptional(currentLocaleCache, controllerClass);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T extends GuiController> Optional<T> getCachedGuiControllerOptional(LocaleCache localeCache,
+                                                                                 Class<? extends T> controllerClass) throws ControllerInitializationException {
+        T guiController = (T) localeCache.classGuiControllerCacheMap.get(controllerClass);
+
+        if(guiController == null) {
+            if(!cacheableGuiControllerClasses.contains(controllerClass))
+                return Optional.empty();
+
+            //The instances of another locale are created, when they are requested the first time.
+
+            T createdGuiController = createGuiControllerInstance(controllerClass, diClassInstanceObjectMap,
+                    localeCache.resourceBundle);
+
+            GuiController cachedGuiController = localeCache.classGuiControllerCacheMap.putIfAbsent(controllerClass,
+                    createdGuiController);
+
+            if(cachedGuiController == null) {
+                guiController = createdGuiController;
+
+                publishLifecycleEvent(GuiControllerLifecycleEvent.Type.CACHED, guiController, localeCache.locale);
+            }
+            else {
+                guiController = (T) cachedGuiController;
+            }
+        }
 
-        T guiController = (T) classGuiControllerCacheMap.get(controllerClass);
+        //The initialization is performed exactly once. Concurrent callers wait until the initialization is completed.
+        //A reentrant lookup from onInitialized() (e.g. a self-lookup or a dependency cycle) gets the instance, whose
+        //initialization was started by the calling thread.
 
         if(!guiController.isInitialized()) {
-            boolean dependenciesInitialized = guiController.tryToInitializeAfterDependencies();
+            boolean initialized = guiController.initializeAfterDependencies();
 
-            if(!dependenciesInitialized) {
+            if(!initialized) {
                 throw new ControllerInitializationException("Unable to initialize dependencies for GUI controller " +
                         "class \"" + controllerClass.getName() + "\".");
             }
@@ -276,26 +506,541 @@ public final class GuiControllerManager {
      * @param <T> The {@link GuiController}-type.
      * @return The optional {@link Scene}-instance.
      * @throws ControllerInitializationException An unexpected {@link ControllerInitializationException}.
+     * @throws IllegalStateException If the root-node of the instance is part of another {@link Scene}, e.g. because
+     * it is shown by a {@link SceneNavigator}.
      */
     public <T extends GuiController> Optional<Scene> getCachedSceneOptional(Class<? extends T> controllerClass) throws ControllerInitializationException {
-        Optional<GuiController> guiController = getCachedGuiControllerOptional(controllerClass);
+        LocaleCache localeCache = currentLocaleCache;
+
+        Optional<GuiController> guiController = getCachedGuiControllerOptional(localeCache, controllerClass);
 
         if(guiController.isEmpty())
             return Optional.empty();
 
-        Scene scene = classSceneCacheMap.get(controllerClass);
+        Parent rootNode = guiController.get().getRootNode();
 
-        if(scene == null) {
-            scene = new Scene(guiController.get().getRootNode());
+        Scene scene = localeCache.classSceneCacheMap.computeIfAbsent(controllerClass, tmpClass -> {
+            //A root-node can only belong to one scene. We don't take the root-node away from another scene.
+            if(rootNode.getScene() != null || rootNode.getParent() != null) {
+                throw new IllegalStateException("The root-node of " + controllerClass.getName() +
+                        " is part of another scene (e.g. the shared scene of a SceneNavigator).");
+            }
 
-            classSceneCacheMap.put(controllerClass, scene);
-        }
+            return new Scene(rootNode);
+        });
 
         return Optional.of(scene);
     }
 
+    /**
+     * Returns the {@link SceneNavigator} of a {@link Stage}, which shows {@link GuiController}-instances by swapping
+     * their root-nodes into a single shared {@link Scene}. The {@link SceneNavigator} is created on the first call and
+     * kept inside the properties of the {@link Stage} until {@link #removeSceneNavigator(Stage)} is called. Therefore
+     * the {@link GuiControllerManager} doesn't retain the {@link Stage}. This function must be executed on the JavaFX
+     * application thread.
+     * @param stage The {@link Stage} to show the {@link GuiController}-instances on.
+     * @return The {@link SceneNavigator} of the {@link Stage}.
+     */
+    public SceneNavigator getSceneNavigator(Stage stage) {
+        return (SceneNavigator) stage.getProperties().computeIfAbsent(sceneNavigatorPropertyKey, tmpKey ->
+                new SceneNavigator(this, stage));
+    }
+
+    /**
+     * Removes the {@link SceneNavigator} of a {@link Stage}, e.g. if the {@link Stage} isn't used anymore. This
+     * function must be executed on the JavaFX application thread.
+     * @param stage The {@link Stage} of the {@link SceneNavigator} to remove.
+     * @return The removed {@link SceneNavigator} or null, if no {@link SceneNavigator} was removed.
+     */
+    public SceneNavigator removeSceneNavigator(Stage stage) {
+        return (SceneNavigator) stage.getProperties().remove(sceneNavigatorPropertyKey);
+    }
+
+    /**
+     * Removes the cached {@link Scene} of a {@link GuiController}-class, if the given root-node is the root of the
+     * cached {@link Scene}. The root-node of the removed {@link Scene} gets replaced by an empty placeholder, which
+     * allows to use the root-node inside another {@link Scene}.
+     * @param controllerClass The {@link GuiController}-class of the cached {@link Scene}.
+     * @param rootNode The root-node to release.
+     */
+    void releaseCachedScene(Class<? extends GuiController> controllerClass, Parent rootNode) {
+        for(LocaleCache tmpLocaleCache : getLocaleCaches()) {
+            Scene tmpCachedScene = tmpLocaleCache.classSceneCacheMap.get(controllerClass);
+
+            if(tmpCachedScene != null && tmpCachedScene.getRoot() == rootNode &&
+                    tmpLocaleCache.classSceneCacheMap.remove(controllerClass, tmpCachedScene))
+                tmpCachedScene.setRoot(new Group());
+        }
+    }
+
+    private List<LocaleCache> getLocaleCaches() {
+        synchronized (localeCacheMap) {
+            return new ArrayList<>(localeCacheMap.values());
+        }
+    }
+
+    /**
+     * Returns the current locale, which is used to create {@link GuiController}-instances.
+     * @return The current locale.
+     */
+    public Locale getLocale() {
+        return currentLocaleCache.locale;
+    }
+
+    /**
+     * Returns all locales with cached {@link GuiController}-instances, ordered from the least to the most recently
+     * used locale.
+     * @return All cached locales.
+     */
+    public List<Locale> getCachedLocales() {
+        synchronized (localeCacheMap) {
+            return new ArrayList<>(localeCacheMap.keySet());
+        }
+    }
+
+    /**
+     * Changes the locale, which is used to create {@link GuiController}-instances (see
+     * {@link GuiConfiguration#setResourceBundleProvider(java.util.function.Function)}). Already cached instances of
+     * the locale are reused. Otherwise, the cached instances of the locale are created, when they are requested the
+     * first time (e.g. by a {@link SceneNavigator}). If more locales are cached than allowed (see
+     * {@link GuiConfiguration#setMaxCachedLocales(int)}), the cached instances of the least recently used locale are
+     * disposed. Instances, which are still shown, are disposed as soon as they aren't shown anymore (e.g. their window
+     * gets hidden or a {@link SceneNavigator} navigates away). This function must be executed on the JavaFX
+     * application thread.
+     * @param locale The locale to use.
+     * @throws IllegalStateException If no resource-bundle provider was configured.
+     */
+    public void setLocale(Locale locale) {
+        if(guiConfiguration.getResourceBundleProvider() == null) {
+            throw new IllegalStateException("Unable to change the locale: No resource bundle provider was set in " +
+                    "the GUI configuration.");
+        }
+
+        List<LocaleCache> evictedLocaleCaches = new ArrayList<>();
+
+        synchronized (localeCacheMap) {
+            LocaleCache localeCache = localeCacheMap.get(locale);
+
+            if(localeCache == null) {
+                localeCache = new LocaleCache(locale, resolveResourceBundle(locale));
+
+                localeCacheMap.put(locale, localeCache);
+            }
+
+            currentLocaleCache = localeCache;
+
+            Iterator<LocaleCache> localeCacheIterator = localeCacheMap.values().iterator();
+
+            while (localeCacheMap.size() > guiConfiguration.getMaxCachedLocales() && localeCacheIterator.hasNext()) {
+                LocaleCache tmpLocaleCache = localeCacheIterator.next();
+
+                if(tmpLocaleCache != localeCache) {
+                    evictedLocaleCaches.add(tmpLocaleCache);
+
+                    localeCacheIterator.remove();
+                }
+            }
+        }
+
+        //Dispose the evicted instances outside of the lock.
+
+        for(LocaleCache tmpLocaleCache : evictedLocaleCaches) {
+            for(GuiController tmpGuiController : tmpLocaleCache.classGuiControllerCacheMap.values()) {
+                publishLifecycleEvent(GuiControllerLifecycleEvent.Type.EVICTED, tmpGuiController,
+                        tmpLocaleCache.locale);
+
+                if(isShowing(tmpGuiController.getRootNode())) {
+                    disposeWhenNotShown(tmpGuiController);
+                }
+                else {
+                    dispose(tmpGuiController);
+                }
+            }
+
+            LOGGER.debug("Evicted cached GUI controllers of locale \"{}\".", tmpLocaleCache.locale);
+        }
+    }
+
+    private static boolean isShowing(Parent rootNode) {
+        return rootNode != null && rootNode.getScene() != null && rootNode.getScene().getWindow() != null &&
+                rootNode.getScene().getWindow().isShowing();
+    }
+
+    private ResourceBundle resolveResourceBundle(Locale locale) {
+        if(guiConfiguration.getResourceBundleProvider() == null)
+            return guiConfiguration.getResourceBundle();
+
+        return guiConfiguration.getResourceBundleProvider().apply(locale);
+    }
+
+    /**
+     * Returns a backpressure-aware {@link Flow.Publisher} of all lifecycle-transitions of the {@link GuiController}
+     * instances (created, initialized, cached, evicted and disposed). Subscribers are notified by the common
+     * fork-join-pool and never block the thread performing the transition (e.g. the JavaFX application thread). If a
+     * subscriber didn't request more events, bursty transitions of the same type are conflated per
+     * {@link GuiController}-class to the latest transition (e.g. of many created instances of a non-cacheable class
+     * only the latest one is reported as created). This bounds the pending events of a subscriber to the amount of
+     * classes and types. The creation of the instances in the constructor isn't reported, because no subscriber can
+     * be added before.
+     * @return The publisher of all lifecycle-events.
+     */
+    public Flow.Publisher<GuiControllerLifecycleEvent> getLifecycleEventPublisher() {
+        return lifecycleEventPublisher::subscribe;
+    }
+
+    /**
+     * Adds a {@link ThemeManager}, whose registrations get removed automatically, if a {@link GuiController} is
+     * disposed. All registered {@link Parent}, {@link javafx.scene.image.ImageView} and
+     * {@link javafx.scene.shape.Shape} instances, which are part of the node-graph of the disposed
+     * {@link GuiController}, are removed from the {@link ThemeManager}.
+     * @param themeManager The {@link ThemeManager} to add.
+     * @return True if the {@link ThemeManager} wasn't added before.
+     */
+    public boolean addThemeManager(ThemeManager<?> themeManager) {
+        return addThemeManager(themeManager, false);
+    }
+
+    /**
+     * Adds a {@link ThemeManager}, whose registrations get removed automatically, if a {@link GuiController} is
+     * disposed (see {@link #addThemeManager(ThemeManager)}). If enabled, the node-graph of every
+     * {@link GuiController}-instance is registered automatically, after the instance was initialized (see
+     * {@link ThemeManager#registerNodeGraph(Parent)}): The root-node is styled and all marked
+     * {@link javafx.scene.image.ImageView} and {@link javafx.scene.shape.Shape} instances are colorized. The
+     * node-graphs of cached instances, which were initialized before, are registered immediately. Therefore, this
+     * function must be executed on the JavaFX application thread in this case. Non-cached instances, which were
+     * initialized before, aren't registered.
+     * @param themeManager The {@link ThemeManager} to add.
+     * @param registerNodeGraphs True, if the node-graphs of initialized {@link GuiController}-instances should be
+     *                           registered.
+     * @return True if the {@link ThemeManager} wasn't added before.
+     */
+    public boolean addThemeManager(ThemeManager<?> themeManager, boolean registerNodeGraphs) {
+        boolean newThemeManager = themeManagers.addIfAbsent(themeManager);
+
+        if(registerNodeGraphs) {
+            //Instances initialized from now on are registered by notifyGuiControllerInitialized().
+            if(nodeGraphThemeManagers.addIfAbsent(themeManager))
+                registerCachedNodeGraphs(themeManager);
+        }
+        else {
+            nodeGraphThemeManagers.remove(themeManager);
+        }
+
+        return newThemeManager;
+    }
+
+    private void registerCachedNodeGraphs(ThemeManager<?> themeManager) {
+        for(LocaleCache tmpLocaleCache : getLocaleCaches()) {
+            for(GuiController tmpGuiController : tmpLocaleCache.classGuiControllerCacheMap.values()) {
+                if(tmpGuiController.isInitialized())
+                    themeManager.registerNodeGraph(tmpGuiController.getRootNode());
+            }
+        }
+    }
+
+    /**
+     * Removes a {@link ThemeManager}, which was added with {@link #addThemeManager(ThemeManager)}.
+     * @param themeManager The {@link ThemeManager} to remove.
+     * @return True if the {@link ThemeManager} was removed.
+     */
+    public boolean removeThemeManager(ThemeManager<?> themeManager) {
+        nodeGraphThemeManagers.remove(themeManager);
+
+        return themeManagers.remove(themeManager);
+    }
+
+    /**
+     * Disposes a {@link GuiController}-instance. All background-tasks of the instance are cancelled,
+     * {@link GuiController#onDisposed()} is executed, the instance (and its cached {@link Scene}) is removed from
+     * the cache and the node-graph of the instance is removed from all added {@link ThemeManager}-instances. A
+     * disposed {@link GuiController}-instance must not be used anymore. This function must be executed on the JavaFX
+     * application thread.
+     * @param guiController The {@link GuiController}-instance to dispose.
+     * @return True if the instance was disposed, false if the instance was already disposed.
+     * @throws IllegalArgumentException If the instance wasn't created by this {@link GuiControllerManager}.
+     */
+    public boolean dispose(GuiController guiController) {
+        if(guiController.getGuiControllerManager() != this) {
+            throw new IllegalArgumentException("Unable to dispose GUI controller of class \"" +
+                    guiController.getClass().getName() + "\": The instance wasn't created by this GUI controller " +
+                    "manager.");
+        }
+
+        if(!guiController.tryToDispose())
+            return false;
+
+        Class<? extends GuiController> controllerClass = guiController.getClass();
+
+        for(LocaleCache tmpLocaleCache : getLocaleCaches()) {
+            if(tmpLocaleCache.classGuiControllerCacheMap.remove(controllerClass, guiController))
+                tmpLocaleCache.classSceneCacheMap.remove(controllerClass);
+        }
+
+        Parent rootNode = guiController.getRootNode();
+
+        if(rootNode != null)
+            themeManagers.forEach(tmpThemeManager -> tmpThemeManager.removeNodeGraph(rootNode));
+
+        publishLifecycleEvent(GuiControllerLifecycleEvent.Type.DISPOSED, guiController, null);
+
+        return true;
+    }
+
+    /**
+     * Disposes a {@link GuiController}-instance automatically (see {@link #dispose(GuiController)}), if the window
+     * showing the root-node of the instance gets hidden. The root-node may be added to a window later on.
+     * @param guiController The {@link GuiController}-instance to dispose automatically.
+     */
+    public void disposeWhenWindowHidden(GuiController guiController) {
+        addWindowHiddenDisposer(guiController, false);
+    }
+
+    /**
+     * Disposes a shown {@link GuiController}-instance automatically, if the window showing its root-node gets hidden
+     * or the root-node is removed from its window.
+     * @param guiController The {@link GuiController}-instance to dispose automatically.
+     */
+    private void disposeWhenNotShown(GuiController guiController) {
+        addWindowHiddenDisposer(guiController, true);
+    }
+
+    private void addWindowHiddenDisposer(GuiController guiController, boolean disposeWhenDetached) {
+        Parent rootNode = guiController.getRootNode();
+
+        WindowHiddenDisposer windowHiddenDisposer = new WindowHiddenDisposer(() -> dispose(guiController),
+                disposeWhenDetached);
+
+        rootNode.sceneProperty().addListener(windowHiddenDisposer.sceneChangeListener);
+
+        windowHiddenDisposer.updateScene(null, rootNode.getScene());
+
+        guiController.addDisposeAction(() -> {
+            rootNode.sceneProperty().removeListener(windowHiddenDisposer.sceneChangeListener);
+
+            windowHiddenDisposer.updateScene(rootNode.getScene(), null);
+        });
+    }
+
+    /**
+     * Follows the window of a root-node and executes the dispose-action, if the window gets hidden. Optionally, the
+     * dispose-action is also executed, if the root-node is removed from its scene or the scene from its window.
+     */
+    private static final class WindowHiddenDisposer {
+        private final Runnable disposeAction;
+
+        private final boolean disposeWhenDetached;
+
+        private final EventHandler<WindowEvent> windowHiddenHandler;
+
+        private final ChangeListener<Window> windowChangeListener = (observable, oldWindow, newWindow) ->
+                onWindowChanged(oldWindow, newWindow);
+
+        private final ChangeListener<Scene> sceneChangeListener = (observable, oldScene, newScene) ->
+                onSceneChanged(oldScene, newScene);
+
+        private WindowHiddenDisposer(Runnable disposeAction, boolean disposeWhenDetached) {
+            this.disposeAction = disposeAction;
+            this.disposeWhenDetached = disposeWhenDetached;
+            this.windowHiddenHandler = tmpEvent -> disposeAction.run();
+        }
+
+        private void onSceneChanged(Scene oldScene, Scene newScene) {
+            updateScene(oldScene, newScene);
+
+            if(disposeWhenDetached && newScene == null)
+                disposeAction.run();
+        }
+
+        private void onWindowChanged(Window oldWindow, Window newWindow) {
+            updateWindow(oldWindow, newWindow);
+
+            if(disposeWhenDetached && newWindow == null)
+                disposeAction.run();
+        }
+
+        private void updateScene(Scene oldScene, Scene newScene) {
+            if(oldScene != null) {
+                oldScene.windowProperty().removeListener(windowChangeListener);
+
+                updateWindow(oldScene.getWindow(), null);
+            }
+
+            if(newScene != null) {
+                newScene.windowProperty().addListener(windowChangeListener);
+
+                updateWindow(null, newScene.getWindow());
+            }
+        }
+
+        private void updateWindow(Window oldWindow, Window newWindow) {
+            if(oldWindow != null)
+                oldWindow.removeEventHandler(WindowEvent.WINDOW_HIDDEN, windowHiddenHandler);
+
+            if(newWindow != null)
+                newWindow.addEventHandler(WindowEvent.WINDOW_HIDDEN, windowHiddenHandler);
+        }
+    }
+
+    /**
+     * Creates a report containing the approximate memory footprint of all cached {@link GuiController}- and
+     * {@link Scene}-instances (of all locales) and the registrations of all added {@link ThemeManager}-instances. The
+     * node-graph of every cached instance is traversed once. This function must be executed on the JavaFX
+     * application thread.
+     * @return The created {@link MemoryFootprintReport}.
+     */
+    public MemoryFootprintReport createMemoryFootprintReport() {
+        List<ControllerFootprint> controllerFootprints = new ArrayList<>();
+
+        //Images and stylesheets shared by multiple node-graphs (e.g. the data-URL of a theme) are counted only once.
+        //Images are shared per instance, while JavaFX shares stylesheets per URL (e.g. a URL resolved per FXML-load).
+        Set<Image> countedImages = Collections.newSetFromMap(new IdentityHashMap<>());
+        Set<String> countedStylesheets = new HashSet<>();
+
+        for(LocaleCache tmpLocaleCache : getLocaleCaches()) {
+            for(Map.Entry<Class<? extends GuiController>, GuiController> tmpEntry :
+                    tmpLocaleCache.classGuiControllerCacheMap.entrySet()) {
+                Scene tmpCachedScene = tmpLocaleCache.classSceneCacheMap.get(tmpEntry.getKey());
+
+                controllerFootprints.add(createControllerFootprint(tmpEntry.getValue(), tmpLocaleCache.locale,
+                        tmpCachedScene, countedImages, countedStylesheets));
+            }
+        }
+
+        controllerFootprints.sort(Comparator.comparingLong(ControllerFootprint::getEstimatedBytes).reversed());
+
+        List<ThemeRegistrationFootprint> themeRegistrationFootprints = new ArrayList<>();
+
+        for(ThemeManager<?> tmpThemeManager : themeManagers)
+            themeRegistrationFootprints.add(tmpThemeManager.getRegistrationFootprint());
+
+        return new MemoryFootprintReport(controllerFootprints, themeRegistrationFootprints);
+    }
+
+    private static ControllerFootprint createControllerFootprint(GuiController guiController, Locale locale,
+                                                                 Scene cachedScene, Set<Image> countedImages,
+                                                                 Set<String> countedStylesheets) {
+        int[] imageCount = {0};
+        long[] imageBytes = {0};
+        long[] stylesheetBytes = {0};
+
+        int nodeCount = 0;
+
+        Parent rootNode = guiController.getRootNode();
+
+        if(rootNode != null) {
+            nodeCount = NodeGraphWalker.walk(rootNode, tmpNode -> {
+                if(tmpNode instanceof ImageView) {
+                    Image tmpImage = ((ImageView) tmpNode).getImage();
+
+                    if(tmpImage != null && countedImages.add(tmpImage)) {
+                        imageCount[0]++;
+                        imageBytes[0] += (long) tmpImage.getWidth() * (long) tmpImage.getHeight() * 4;
+                    }
+                }
+
+                if(tmpNode instanceof Parent)
+                    stylesheetBytes[0] += getStylesheetBytes(((Parent) tmpNode).getStylesheets(),
+                            countedStylesheets);
+            });
+        }
+
+        if(cachedScene != null)
+            stylesheetBytes[0] += getStylesheetBytes(cachedScene.getStylesheets(), countedStylesheets);
+
+        return new ControllerFootprint(guiController.getClass().getName(), locale, cachedScene != null, nodeCount,
+                imageCount[0], imageBytes[0], stylesheetBytes[0]);
+    }
+
+    private static long getStylesheetBytes(List<String> stylesheets, Set<String> countedStylesheets) {
+        long stylesheetBytes = 0;
+
+        for(String tmpStylesheet : stylesheets) {
+            if(countedStylesheets.add(tmpStylesheet))
+                stylesheetBytes += StringSizeUtil.getStringBytes(tmpStylesheet);
+        }
+
+        return stylesheetBytes;
+    }
+
+    /**
+     * Registers a {@link MemoryFootprintMXBean} of this {@link GuiControllerManager} at the platform MBean-server,
+     * which allows monitoring the memory footprint with JMX-clients (e.g. JConsole or VisualVM).
+     * @return The name of the registered MBean.
+     * @throws JMException If the MBean couldn't be registered (e.g. because it is already registered).
+     */
+    public ObjectName registerMemoryFootprintMXBean() throws JMException {
+        ObjectName objectName = getMemoryFootprintObjectName();
+
+        ManagementFactory.getPlatformMBeanServer().registerMBean(new MemoryFootprintMonitor(this), objectName);
+
+        return objectName;
+    }
+
+    /**
+     * Removes the {@link MemoryFootprintMXBean}, which was registered with
+     * {@link #registerMemoryFootprintMXBean()}.
+     * @return True if the MBean was removed.
+     * @throws JMException If the MBean couldn't be removed.
+     */
+    public boolean unregisterMemoryFootprintMXBean() throws JMException {
+        ObjectName objectName = getMemoryFootprintObjectName();
+
+        MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+
+        if(!mBeanServer.isRegistered(objectName))
+            return false;
+
+        mBeanServer.unregisterMBean(objectName);
+
+        return true;
+    }
+
+    private ObjectName getMemoryFootprintObjectName() throws MalformedObjectNameException {
+        return new ObjectName("eu.dgs_development.code.ejg:type=MemoryFootprint,name=GuiControllerManager-" +
+                Integer.toHexString(System.identityHashCode(this)));
+    }
+
+    /**
+     * Pre-warms the {@link Scene}-instances of all cached {@link GuiController}-instances. See
+     * {@link #prewarmCachedScenes(Collection, Duration, boolean)} for more information.
+     * @param frameTimeBudget The maximum time to spend per frame.
+     * @param snapshotScenes True if a snapshot of each {@link Scene} should be rendered once.
+     * @return A {@link CompletableFuture}, which is completed with the amount of pre-warmed {@link Scene}-instances.
+     */
+    public CompletableFuture<Integer> prewarmCachedScenes(Duration frameTimeBudget, boolean snapshotScenes) {
+        return prewarmCachedScenes(new ArrayList<>(cacheableGuiControllerClasses), frameTimeBudget,
+                snapshotScenes);
+    }
+
+    /**
+     * Pre-warms the cached {@link Scene}-instances of the given cacheable {@link GuiController}-classes, to avoid a
+     * visible hitch when a {@link Scene} is shown for the first time. The work is spread across multiple idle frames:
+     * It starts after the startup settled and skips frames following an overrun frame or waiting for a layout. Each
+     * idle frame pre-warms {@link Scene}-instances until the given time-budget is exhausted. Pre-warming a
+     * {@link Scene} initializes the cached {@link GuiController}, applies the CSS, performs the layout and optionally
+     * renders a snapshot. The budget doesn't bound the time of {@link GuiController#onInitialized()}, because the
+     * budget is only checked between two {@link Scene}-instances. This function must be executed on the JavaFX
+     * application thread.
+     * @param controllerClasses The cacheable {@link GuiController}-classes to pre-warm.
+     * @param frameTimeBudget The maximum time to spend per frame (at least one {@link Scene} is pre-warmed per
+     *                        frame).
+     * @param snapshotScenes True if a snapshot of each {@link Scene} should be rendered once.
+     * @return A {@link CompletableFuture}, which is completed with the amount of pre-warmed {@link Scene}-instances or
+     * completed exceptionally with a {@link ControllerInitializationException}.
+     */
+    public CompletableFuture<Integer> prewarmCachedScenes(Collection<Class<? extends GuiController>> controllerClasses,
+                                                          Duration frameTimeBudget, boolean snapshotScenes) {
+        CachedScenePrewarmer cachedScenePrewarmer = new CachedScenePrewarmer(this, controllerClasses,
+                frameTimeBudget, snapshotScenes);
+
+        cachedScenePrewarmer.start();
+
+        return cachedScenePrewarmer.getCompletionFuture();
+    }
+
     private <T extends GuiController> T createGuiControllerInstance(Class<? extends T> controllerClass,
-                                                                    Map<Class<?>, Object> classInstanceMap) throws ControllerInitializationException {
+                                                                    Map<Class<?>, Object> classInstanceMap,
+                                                                    ResourceBundle resourceBundle) throws ControllerInitializationException {
         //Try to create a GUI controller instance by using the default constructor.
 
         T guiController;
@@ -319,15 +1064,18 @@ public final class GuiControllerManager {
 
         //Load and set the FXML root component.
 
-        FXMLLoader loader = new FXMLLoader(controllerClass.getResource(guiController.getFxmlPath()),
-                guiConfiguration.getResourceBundle());
+        long fxmlLoadStartNanos = System.nanoTime();
+
+        URL fxmlUrl = controllerClass.getResource(guiController.getFxmlPath());
+
+        FXMLLoader loader = new FXMLLoader(fxmlUrl, resourceBundle);
 
         loader.setController(guiController);
 
         Parent rootNode;
 
         try {
-            rootNode = loader.load();
+            rootNode = loader.load(new ByteArrayInputStream(getFxmlTemplate(fxmlUrl)));
         }
         catch (Exception exception) {
             throw new ControllerInitializationException("Unable to load FXML content for GUI controller " +
@@ -341,8 +1089,12 @@ public final class GuiControllerManager {
                     controllerClass.getName() + "\".");
         }
 
+        long fxmlLoadDurationNanos = System.nanoTime() - fxmlLoadStartNanos;
+
         //Get all fields from the controller class, including all parent super classes.
 
+        long injectionStartNanos = System.nanoTime();
+
         Set<Field> availableFields = new HashSet<>();
 
         Class<?> tmpClass = controllerClass;
@@ -384,6 +1136,69 @@ public final class GuiControllerManager {
             }
         }
 
+        GuiControllerCreationListener creationListener = guiConfiguration.getGuiControllerCreationListener();
+
+        if(creationListener != null) {
+            creationListener.onGuiControllerCreated(guiController, Duration.ofNanos(fxmlLoadDurationNanos),
+                    Duration.ofNanos(System.nanoTime() - injectionStartNanos));
+        }
+
+        publishLifecycleEvent(GuiControllerLifecycleEvent.Type.CREATED, guiController, null);
+
         return guiController;
     }
+
+    private byte[] getFxmlTemplate(URL fxmlUrl) throws IOException {
+        if(fxmlUrl == null)
+            throw new IOException("Unable to find FXML resource.");
+
+        //The content is cached, because every locale (and every non-cacheable instance) loads the same FXML-resource.
+
+        String fxmlUrlString = fxmlUrl.toExternalForm();
+
+        byte[] fxmlTemplate = fxmlUrlTemplateMap.get(fxmlUrlString);
+
+        if(fxmlTemplate == null) {
+            try(InputStream inputStream = fxmlUrl.openStream()) {
+                fxmlTemplate = inputStream.readAllBytes();
+            }
+
+            fxmlUrlTemplateMap.put(fxmlUrlString, fxmlTemplate);
+        }
+
+        return fxmlTemplate;
+    }
+
+    void notifyGuiControllerInitialized(GuiController guiController, long initializationDurationNanos) {
+        GuiControllerCreationListener creationListener = guiConfiguration.getGuiControllerCreationListener();
+
+        if(creationListener != null)
+            creationListener.onGuiControllerInitialized(guiController, Duration.ofNanos(initializationDurationNanos));
+
+        if(!nodeGraphThemeManagers.isEmpty())
+            registerNodeGraph(guiController, creationListener);
+
+        publishLifecycleEvent(GuiControllerLifecycleEvent.Type.INITIALIZED, guiController, null);
+    }
+
+    private void publishLifecycleEvent(GuiControllerLifecycleEvent.Type type, GuiController guiController,
+                                       Locale locale) {
+        //Avoid the creation of events nobody receives.
+        if(lifecycleEventPublisher.hasSubscribers())
+            lifecycleEventPublisher.submit(new GuiControllerLifecycleEvent(type, guiController, locale));
+    }
+
+    private void registerNodeGraph(GuiController guiController, GuiControllerCreationListener creationListener) {
+        long registrationStartNanos = System.nanoTime();
+
+        int registeredNodes = 0;
+
+        for(ThemeManager<?> tmpThemeManager : nodeGraphThemeManagers)
+            registeredNodes += tmpThemeManager.registerNodeGraph(guiController.getRootNode());
+
+        if(creationListener != null) {
+            creationListener.onGuiControllerNodeGraphRegistered(guiController,
+                    Duration.ofNanos(System.nanoTime() - registrationStartNanos), registeredNodes);
+        }
+    }
 }
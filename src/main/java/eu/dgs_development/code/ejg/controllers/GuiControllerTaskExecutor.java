@@ -0,0 +1,292 @@
+package eu.dgs_development.code.ejg.controllers;
+
+import javafx.application.Platform;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Executes background-tasks of a single {@link GuiController}. Each task runs on its own virtual thread (if the
+ * running JDK supports virtual threads) or on a daemon platform thread. The results are passed back to the JavaFX
+ * application thread, where all results completed between two pulses are delivered in one coalesced batch.
+ * <br><br>
+ * After {@link #shutdown()} was called, all in-flight tasks are cancelled (interrupted) and no further results are
+ * delivered.
+ */
+public final class GuiControllerTaskExecutor {
+    private static final Logger LOGGER = LoggerFactory.getLogger(GuiControllerTaskExecutor.class);
+
+    private static final Method VIRTUAL_THREAD_EXECUTOR_METHOD = findVirtualThreadExecutorMethod();
+
+    private final ExecutorService executorService;
+
+    private final Set<Future<?>> runningTasks = ConcurrentHashMap.newKeySet();
+
+    private final Queue<Runnable> pendingFxResults = new ConcurrentLinkedQueue<>();
+
+    private final AtomicBoolean fxDeliveryScheduled = new AtomicBoolean(false);
+
+    private final AtomicInteger queueDepth = new AtomicInteger();
+
+    private final AtomicLong completedTaskCount = new AtomicLong();
+
+    private final AtomicLong totalLatencyNanos = new AtomicLong();
+
+    private final AtomicLong maxLatencyNanos = new AtomicLong();
+
+    private volatile boolean shutdown = false;
+
+    /**
+     * Creates a new {@link GuiControllerTaskExecutor}.
+     * @param threadNamePrefix The name-prefix of created platform threads (ignored for virtual threads).
+     */
+    GuiControllerTaskExecutor(String threadNamePrefix) {
+        this.executorService = createExecutorService(threadNamePrefix);
+    }
+
+    private static Method findVirtualThreadExecutorMethod() {
+        //Virtual threads are available since Java 21. We use reflection to stay compatible with older JDKs. The
+        //method exists on Java 19 and 20 as well, but fails without "--enable-preview". Therefore the method is only
+        //used, if a probe-executor could be created once.
+
+        Method virtualThreadExecutorMethod;
+
+        try {
+            virtualThreadExecutorMethod = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        }
+        catch (NoSuchMethodException exception) {
+            return null;
+        }
+
+        try {
+            ((ExecutorService) virtualThreadExecutorMethod.invoke(null)).shutdown();
+        }
+        catch (Exception exception) {
+            Throwable cause = exception.getCause() != null ? exception.getCause() : exception;
+
+            LOGGER.info("Virtual threads are unavailable (" + cause + "). Platform threads are used instead.");
+
+            return null;
+        }
+
+        return virtualThreadExecutorMethod;
+    }
+
+    private static ExecutorService createExecutorService(String threadNamePrefix) {
+        if(VIRTUAL_THREAD_EXECUTOR_METHOD != null) {
+            try {
+                return (ExecutorService) VIRTUAL_THREAD_EXECUTOR_METHOD.invoke(null);
+            }
+            catch (Exception exception) {
+                LOGGER.warn("Unable to create virtual thread executor. Platform threads are used instead.",
+                        exception);
+            }
+        }
+
+        AtomicInteger threadCounter = new AtomicInteger();
+
+        return Executors.newCachedThreadPool(tmpRunnable -> {
+            Thread thread = new Thread(tmpRunnable, threadNamePrefix + "-" + threadCounter.incrementAndGet());
+
+            thread.setDaemon(true);
+
+            return thread;
+        });
+    }
+
+    /**
+     * Returns true if tasks are executed by virtual threads.
+     * @return True if virtual threads are used, false if platform threads are used.
+     */
+    public static boolean isVirtualThreadsSupported() {
+        return VIRTUAL_THREAD_EXECUTOR_METHOD != null;
+    }
+
+    /**
+     * Submits a background-task. The result is passed to the result-consumer on the JavaFX application thread. If
+     * the task fails, the exception is passed to the error-consumer on the JavaFX application thread.
+     * @param backgroundTask The task to execute in the background.
+     * @param resultConsumer The consumer of the result (executed on the JavaFX application thread) or null.
+     * @param errorConsumer The consumer of a thrown exception (executed on the JavaFX application thread) or null to
+     *                      log the exception.
+     * @param <R> The result-type.
+     * @return The {@link Future} of the submitted task, which can be used to cancel the task.
+     * @throws IllegalStateException If the {@link GuiControllerTaskExecutor} was already shut down.
+     */
+    public <R> Future<R> submit(Callable<R> backgroundTask, Consumer<? super R> resultConsumer,
+                                Consumer<Throwable> errorConsumer) {
+        if(shutdown)
+            throw new IllegalStateException("Unable to submit background task: The task executor was shut down.");
+
+        long submitNanos = System.nanoTime();
+
+        FutureTask<R> futureTask = new FutureTask<>(backgroundTask) {
+            @Override
+            protected void done() {
+                runningTasks.remove(this);
+
+                queueDepth.decrementAndGet();
+
+                if(isCancelled() || shutdown)
+                    return;
+
+                try {
+                    R result = get();
+
+                    enqueueFxResult(submitNanos, () -> {
+                        if(resultConsumer != null)
+                            resultConsumer.accept(result);
+                    });
+                }
+                catch (ExecutionException exception) {
+                    Throwable cause = exception.getCause();
+
+                    enqueueFxResult(submitNanos, () -> {
+                        if(errorConsumer != null) {
+                            errorConsumer.accept(cause);
+                        }
+                        else {
+                            LOGGER.warn("Unhandled exception in background task.", cause);
+                        }
+                    });
+                }
+                catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+
+        queueDepth.incrementAndGet();
+
+        runningTasks.add(futureTask);
+
+        try {
+            executorService.execute(futureTask);
+        }
+        catch (RejectedExecutionException exception) {
+            futureTask.cancel(false);
+
+            throw new IllegalStateException("Unable to submit background task: The task executor was shut down.",
+                    exception);
+        }
+
+        return futureTask;
+    }
+
+    private void enqueueFxResult(long submitNanos, Runnable resultRunnable) {
+        pendingFxResults.add(() -> {
+            if(shutdown)
+                return;
+
+            resultRunnable.run();
+
+            long latencyNanos = System.nanoTime() - submitNanos;
+
+            completedTaskCount.incrementAndGet();
+
+            totalLatencyNanos.addAndGet(latencyNanos);
+
+            maxLatencyNanos.accumulateAndGet(latencyNanos, Math::max);
+        });
+
+        //Only schedule one delivery per batch. All results added until the delivery runs are part of the batch.
+
+        if(fxDeliveryScheduled.compareAndSet(false, true))
+            Platform.runLater(this::deliverFxResults);
+    }
+
+    private void deliverFxResults() {
+        fxDeliveryScheduled.set(false);
+
+        Runnable tmpResultRunnable;
+
+        while ((tmpResultRunnable = pendingFxResults.poll()) != null) {
+            try {
+                tmpResultRunnable.run();
+            }
+            catch (Exception exception) {
+                LOGGER.warn("Unable to deliver background task result.", exception);
+            }
+        }
+    }
+
+    /**
+     * Cancels all in-flight tasks and discards all results, which weren't delivered yet. After that, no further
+     * tasks can be submitted.
+     */
+    public void shutdown() {
+        shutdown = true;
+
+        executorService.shutdownNow();
+
+        runningTasks.forEach(tmpFuture -> tmpFuture.cancel(true));
+
+        runningTasks.clear();
+
+        pendingFxResults.clear();
+    }
+
+    /**
+     * Returns true if the {@link GuiControllerTaskExecutor} was shut down.
+     * @return True if no further tasks can be submitted.
+     */
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    /**
+     * Returns the amount of submitted tasks, which weren't completed yet.
+     * @return The amount of queued and running tasks.
+     */
+    public int getQueueDepth() {
+        return queueDepth.get();
+    }
+
+    /**
+     * Returns the amount of results, which wait for the delivery on the JavaFX application thread.
+     * @return The amount of pending results.
+     */
+    public int getPendingResultCount() {
+        return pendingFxResults.size();
+    }
+
+    /**
+     * Returns the amount of tasks, whose result (or exception) was delivered on the JavaFX application thread.
+     * @return The amount of completed tasks.
+     */
+    public long getCompletedTaskCount() {
+        return completedTaskCount.get();
+    }
+
+    /**
+     * Returns the average time between the submission of a task and the delivery of its result on the JavaFX
+     * application thread.
+     * @return The average latency or {@link Duration#ZERO} if no task was completed.
+     */
+    public Duration getAverageLatency() {
+        long completedTasks = completedTaskCount.get();
+
+        if(completedTasks == 0)
+            return Duration.ZERO;
+
+        return Duration.ofNanos(totalLatencyNanos.get() / completedTasks);
+    }
+
+    /**
+     * Returns the maximum time between the submission of a task and the delivery of its result on the JavaFX
+     * application thread.
+     * @return The maximum latency or {@link Duration#ZERO} if no task was completed.
+     */
+    public Duration getMaxLatency() {
+        return Duration.ofNanos(maxLatencyNanos.get());
+    }
+}
@@ -0,0 +1,36 @@
+package eu.dgs_development.code.ejg.controllers;
+
+/**
+ * The base-class of all {@link GuiController}-classes, which display a single item inside a cell of a
+ * {@link javafx.scene.control.ListView}, {@link javafx.scene.control.TableView} or
+ * {@link javafx.scene.control.TreeView}. Instances are created and reused by a {@link GuiControllerCellFactory}: The
+ * FXML-content is only loaded once per instance, while the displayed item gets updated through
+ * {@link #onUpdateItem(Object)}.
+ * @param <T> The type of the displayed items.
+ */
+public abstract class ItemGuiController<T> extends GuiController {
+    /**
+     * Instances are always managed by a {@link GuiControllerCellFactory} and never get cached by the
+     * {@link GuiControllerManager}.
+     * @return Always false.
+     */
+    @Override
+    public final boolean isCacheableGuiController() {
+        return false;
+    }
+
+    /**
+     * Gets executed when the {@link ItemGuiController} should display a new item. This function is called
+     * frequently while scrolling and should only update the existing nodes.
+     * @param item The item to display. A non-empty cell may also display null-items.
+     */
+    public abstract void onUpdateItem(T item);
+
+    /**
+     * Gets executed when the {@link ItemGuiController} doesn't display an item anymore and is returned to the pool of
+     * the {@link GuiControllerCellFactory}. The default implementation does nothing.
+     */
+    public void onReleaseItem() {
+        //Ignore...
+    }
+}
@@ -0,0 +1,62 @@
+package eu.dgs_development.code.ejg.controllers;
+
+/**
+ * JMX-interface to monitor the memory footprint of a {@link GuiControllerManager} in production (see
+ * {@link GuiControllerManager#registerMemoryFootprintMXBean()}). All values are based on a
+ * {@link MemoryFootprintReport}, which is created on the JavaFX application thread at most once per second.
+ */
+public interface MemoryFootprintMXBean {
+    /**
+     * Returns the amount of cached {@link GuiController}-instances (of all locales).
+     * @return The amount of cached {@link GuiController}-instances.
+     */
+    int getCachedControllerCount();
+
+    /**
+     * Returns the amount of cached {@link javafx.scene.Scene}-instances (of all locales).
+     * @return The amount of cached {@link javafx.scene.Scene}-instances.
+     */
+    int getCachedSceneCount();
+
+    /**
+     * Returns the amount of nodes retained by all cached {@link GuiController}-instances.
+     * @return The amount of retained nodes.
+     */
+    long getNodeCount();
+
+    /**
+     * Returns the decoded size of all images shown by cached {@link GuiController}-instances in bytes.
+     * @return The size of all images in bytes.
+     */
+    long getImageBytes();
+
+    /**
+     * Returns the size of all stylesheet-strings in bytes.
+     * @return The size of all stylesheet-strings in bytes.
+     */
+    long getStylesheetBytes();
+
+    /**
+     * Returns the amount of all registered parents, image-views and shapes of all theme-managers.
+     * @return The amount of theme-registrations.
+     */
+    long getThemeRegistrationCount();
+
+    /**
+     * Returns the approximate size of all cached {@link GuiController}-instances and theme-registrations in bytes.
+     * @return The estimated size in bytes.
+     */
+    long getEstimatedBytes();
+
+    /**
+     * Returns the footprint of every cached {@link GuiController}-instance (one line per instance, largest first).
+     * @return The footprints of all cached {@link GuiController}-instances.
+     */
+    String[] getControllerFootprints();
+
+    /**
+     * Creates a new report and returns it as text.
+     * @return The created report as text.
+     */
+    String createReport();
+}
@@ -0,0 +1,114 @@
+package eu.dgs_development.code.ejg.controllers;
+
+import javafx.application.Platform;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * The {@link MemoryFootprintMXBean}-implementation of a {@link GuiControllerManager}. The report is created on the
+ * JavaFX application thread, because the node-graphs must not be traversed while they are modified. A JMX-client
+ * usually reads all attributes at once, which is why a report is reused for one second.
+ */
+final class MemoryFootprintMonitor implements MemoryFootprintMXBean {
+    private static final long REPORT_MAX_AGE_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private static final long REPORT_TIMEOUT_SECONDS = 5;
+
+    private final GuiControllerManager guiControllerManager;
+
+    private MemoryFootprintReport lastReport = null;
+
+    private long lastReportNanos = 0;
+
+    MemoryFootprintMonitor(GuiControllerManager guiControllerManager) {
+        this.guiControllerManager = guiControllerManager;
+    }
+
+    private synchronized MemoryFootprintReport getReport() {
+        if(lastReport == null || System.nanoTime() - lastReportNanos > REPORT_MAX_AGE_NANOS) {
+            lastReport = createReportOnFxThread();
+            lastReportNanos = System.nanoTime();
+        }
+
+        return lastReport;
+    }
+
+    private MemoryFootprintReport createReportOnFxThread() {
+        if(Platform.isFxApplicationThread())
+            return guiControllerManager.createMemoryFootprintReport();
+
+        CompletableFuture<MemoryFootprintReport> reportFuture = new CompletableFuture<>();
+
+        Platform.runLater(() -> {
+            try {
+                reportFuture.complete(guiControllerManager.createMemoryFootprintReport());
+            }
+            catch (RuntimeException exception) {
+                reportFuture.completeExceptionally(exception);
+            }
+        });
+
+        try {
+            return reportFuture.get(REPORT_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        }
+        catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+
+            throw new IllegalStateException("Interrupted while creating the memory footprint report.", exception);
+        }
+        catch (ExecutionException | TimeoutException exception) {
+            throw new IllegalStateException("Unable to create the memory footprint report.", exception);
+        }
+    }
+
+    @Override
+    public int getCachedControllerCount() {
+        return getReport().getCachedControllerCount();
+    }
+
+    @Override
+    public int getCachedSceneCount() {
+        return getReport().getCachedSceneCount();
+    }
+
+    @Override
+    public long getNodeCount() {
+        return getReport().getNodeCount();
+    }
+
+    @Override
+    public long getImageBytes() {
+        return getReport().getImageBytes();
+    }
+
+    @Override
+    public long getStylesheetBytes() {
+        return getReport().getStylesheetBytes();
+    }
+
+    @Override
+    public long getThemeRegistrationCount() {
+        return getReport().getThemeRegistrationCount();
+    }
+
+    @Override
+    public long getEstimatedBytes() {
+        return getReport().getEstimatedBytes();
+    }
+
+    @Override
+    public String[] getControllerFootprints() {
+        return getReport().getControllerFootprints().stream().map(ControllerFootprint::toString)
+                .toArray(String[]::new);
+    }
+
+    @Override
+    public synchronized String createReport() {
+        lastReport = null;
+
+        return getReport().toString();
+    }
+}
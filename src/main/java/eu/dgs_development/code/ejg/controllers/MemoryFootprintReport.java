@@ -0,0 +1,158 @@
+package eu.dgs_development.code.ejg.controllers;
+
+import eu.dgs_development.code.ejg.theme.ThemeRegistrationFootprint;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Data object class containing the approximate memory footprint of all cached {@link GuiController}-instances, their
+ * cached {@link javafx.scene.Scene}-instances and the registrations of all added
+ * {@link eu.dgs_development.code.ejg.theme.ThemeManager}-instances (see
+ * {@link GuiControllerManager#createMemoryFootprintReport()}).
+ */
+public final class MemoryFootprintReport {
+    private final List<ControllerFootprint> controllerFootprints;
+
+    private final List<ThemeRegistrationFootprint> themeRegistrationFootprints;
+
+    MemoryFootprintReport(List<ControllerFootprint> controllerFootprints,
+                          List<ThemeRegistrationFootprint> themeRegistrationFootprints) {
+        this.controllerFootprints = Collections.unmodifiableList(controllerFootprints);
+        this.themeRegistrationFootprints = Collections.unmodifiableList(themeRegistrationFootprints);
+    }
+
+    /**
+     * Returns the footprint of every cached {@link GuiController}-instance, ordered by the estimated size (largest
+     * first).
+     * @return The footprints of all cached {@link GuiController}-instances.
+     */
+    public List<ControllerFootprint> getControllerFootprints() {
+        return controllerFootprints;
+    }
+
+    /**
+     * Returns the footprint of every added {@link eu.dgs_development.code.ejg.theme.ThemeManager}, ordered like the
+     * theme-managers were added.
+     * @return The footprints of all theme-manager registrations.
+     */
+    public List<ThemeRegistrationFootprint> getThemeRegistrationFootprints() {
+        return themeRegistrationFootprints;
+    }
+
+    /**
+     * Returns the amount of cached {@link GuiController}-instances (of all locales).
+     * @return The amount of cached {@link GuiController}-instances.
+     */
+    public int getCachedControllerCount() {
+        return controllerFootprints.size();
+    }
+
+    /**
+     * Returns the amount of cached {@link javafx.scene.Scene}-instances (of all locales).
+     * @return The amount of cached {@link javafx.scene.Scene}-instances.
+     */
+    public int getCachedSceneCount() {
+        int cachedSceneCount = 0;
+
+        for(ControllerFootprint tmpControllerFootprint : controllerFootprints) {
+            if(tmpControllerFootprint.isSceneCached())
+                cachedSceneCount++;
+        }
+
+        return cachedSceneCount;
+    }
+
+    /**
+     * Returns the amount of nodes retained by all cached {@link GuiController}-instances.
+     * @return The amount of retained nodes.
+     */
+    public long getNodeCount() {
+        long nodeCount = 0;
+
+        for(ControllerFootprint tmpControllerFootprint : controllerFootprints)
+            nodeCount += tmpControllerFootprint.getNodeCount();
+
+        return nodeCount;
+    }
+
+    /**
+     * Returns the decoded size of all images shown by cached {@link GuiController}-instances in bytes.
+     * @return The size of all images in bytes.
+     */
+    public long getImageBytes() {
+        long imageBytes = 0;
+
+        for(ControllerFootprint tmpControllerFootprint : controllerFootprints)
+            imageBytes += tmpControllerFootprint.getImageBytes();
+
+        return imageBytes;
+    }
+
+    /**
+     * Returns the size of all stylesheet-strings of the cached {@link GuiController}-instances and all
+     * theme-managers in bytes.
+     * @return The size of all stylesheet-strings in bytes.
+     */
+    public long getStylesheetBytes() {
+        long stylesheetBytes = 0;
+
+        for(ControllerFootprint tmpControllerFootprint : controllerFootprints)
+            stylesheetBytes += tmpControllerFootprint.getStylesheetBytes();
+
+        for(ThemeRegistrationFootprint tmpThemeRegistrationFootprint : themeRegistrationFootprints)
+            stylesheetBytes += tmpThemeRegistrationFootprint.getStylesheetBytes();
+
+        return stylesheetBytes;
+    }
+
+    /**
+     * Returns the amount of all registered parents, image-views and shapes of all theme-managers.
+     * @return The amount of theme-registrations.
+     */
+    public long getThemeRegistrationCount() {
+        long themeRegistrationCount = 0;
+
+        for(ThemeRegistrationFootprint tmpThemeRegistrationFootprint : themeRegistrationFootprints) {
+            themeRegistrationCount += tmpThemeRegistrationFootprint.getParentCount() +
+                    tmpThemeRegistrationFootprint.getImageViewCount() + tmpThemeRegistrationFootprint.getShapeCount();
+        }
+
+        return themeRegistrationCount;
+    }
+
+    /**
+     * Returns the approximate size of all cached {@link GuiController}-instances and theme-registrations in bytes.
+     * @return The estimated size in bytes.
+     */
+    public long getEstimatedBytes() {
+        long estimatedBytes = 0;
+
+        for(ControllerFootprint tmpControllerFootprint : controllerFootprints)
+            estimatedBytes += tmpControllerFootprint.getEstimatedBytes();
+
+        for(ThemeRegistrationFootprint tmpThemeRegistrationFootprint : themeRegistrationFootprints)
+            estimatedBytes += tmpThemeRegistrationFootprint.getEstimatedBytes();
+
+        return estimatedBytes;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder stringBuilder = new StringBuilder();
+
+        stringBuilder.append("Memory footprint: ~").append(getEstimatedBytes()).append(" bytes, ")
+                .append(getCachedControllerCount()).append(" cached controllers, ").append(getCachedSceneCount())
+                .append(" cached scenes, ").append(getNodeCount()).append(" nodes");
+
+        for(ControllerFootprint tmpControllerFootprint : controllerFootprints)
+            stringBuilder.append(System.lineSeparator()).append("  ").append(tmpControllerFootprint);
+
+        for(int i = 0; i < themeRegistrationFootprints.size(); i++) {
+            stringBuilder.append(System.lineSeparator()).append("  ThemeManager #").append(i + 1).append(": ")
+                    .append(themeRegistrationFootprints.get(i));
+        }
+
+        return stringBuilder.toString();
+    }
+}
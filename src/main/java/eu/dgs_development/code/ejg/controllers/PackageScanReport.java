@@ -0,0 +1,124 @@
+package eu.dgs_development.code.ejg.controllers;
+
+import java.time.Duration;
+
+/**
+ * Data object class containing statistics about the package-scan, performed by a {@link GuiControllerManager}. The
+ * statistics can be used to tune the {@link GuiConfiguration} for a faster startup.
+ */
+public final class PackageScanReport {
+    private final int scannedClassCount;
+
+    private final int scannedClasspathElementCount;
+
+    private final int openedJarCount;
+
+    private final int instanceProviderMethodCount;
+
+    private final int guiControllerClassCount;
+
+    private final Duration scanDuration;
+
+    private final Duration instanceProviderDuration;
+
+    private final Duration guiControllerSetupDuration;
+
+    PackageScanReport(int scannedClassCount, int scannedClasspathElementCount, int openedJarCount,
+                      int instanceProviderMethodCount, int guiControllerClassCount, Duration scanDuration,
+                      Duration instanceProviderDuration, Duration guiControllerSetupDuration) {
+        this.scannedClassCount = scannedClassCount;
+        this.scannedClasspathElementCount = scannedClasspathElementCount;
+        this.openedJarCount = openedJarCount;
+        this.instanceProviderMethodCount = instanceProviderMethodCount;
+        this.guiControllerClassCount = guiControllerClassCount;
+        this.scanDuration = scanDuration;
+        this.instanceProviderDuration = instanceProviderDuration;
+        this.guiControllerSetupDuration = guiControllerSetupDuration;
+    }
+
+    /**
+     * Returns the amount of classes found in the accepted packages.
+     * @return The amount of scanned classes.
+     */
+    public int getScannedClassCount() {
+        return scannedClassCount;
+    }
+
+    /**
+     * Returns the amount of classpath-elements (directories and jar-files), which were scanned.
+     * @return The amount of scanned classpath-elements.
+     */
+    public int getScannedClasspathElementCount() {
+        return scannedClasspathElementCount;
+    }
+
+    /**
+     * Returns the amount of jar-files, which were opened during the scan.
+     * @return The amount of opened jar-files.
+     */
+    public int getOpenedJarCount() {
+        return openedJarCount;
+    }
+
+    /**
+     * Returns the amount of found functions using the {@link InstanceProvider}-annotation.
+     * @return The amount of found instance-provider-functions.
+     */
+    public int getInstanceProviderMethodCount() {
+        return instanceProviderMethodCount;
+    }
+
+    /**
+     * Returns the amount of found {@link GuiController}-classes (including abstract classes).
+     * @return The amount of found {@link GuiController}-classes.
+     */
+    public int getGuiControllerClassCount() {
+        return guiControllerClassCount;
+    }
+
+    /**
+     * Returns the time spent to scan the classpath and the module-path.
+     * @return The duration of the scan.
+     */
+    public Duration getScanDuration() {
+        return scanDuration;
+    }
+
+    /**
+     * Returns the time spent to execute all functions using the {@link InstanceProvider}-annotation.
+     * @return The duration of the instance-provider-function-calls.
+     */
+    public Duration getInstanceProviderDuration() {
+        return instanceProviderDuration;
+    }
+
+    /**
+     * Returns the time spent to create the initial {@link GuiController}-instances.
+     * @return The duration of the {@link GuiController}-setup.
+     */
+    public Duration getGuiControllerSetupDuration() {
+        return guiControllerSetupDuration;
+    }
+
+    /**
+     * Returns the total time spent to scan and set up the {@link GuiControllerManager}.
+     * @return The total duration.
+     */
+    public Duration getTotalDuration() {
+        return scanDuration.plus(instanceProviderDuration).plus(guiControllerSetupDuration);
+    }
+
+    @Override
+    public String toString() {
+        return "PackageScanReport{" +
+                "scannedClassCount=" + scannedClassCount +
+                ", scannedClasspathElementCount=" + scannedClasspathElementCount +
+                ", openedJarCount=" + openedJarCount +
+                ", instanceProviderMethodCount=" + instanceProviderMethodCount +
+                ", guiControllerClassCount=" + guiControllerClassCount +
+                ", scanDuration=" + scanDuration.toMillis() + "ms" +
+                ", instanceProviderDuration=" + instanceProviderDuration.toMillis() + "ms" +
+                ", guiControllerSetupDuration=" + guiControllerSetupDuration.toMillis() + "ms" +
+                '}';
+    }
+}
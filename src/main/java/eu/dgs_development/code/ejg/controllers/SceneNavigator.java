@@ -0,0 +1,237 @@
+package eu.dgs_development.code.ejg.controllers;
+
+import javafx.scene.Group;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.stage.Stage;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Shows {@link GuiController}-instances on a {@link Stage} by swapping their root-nodes into a single shared
+ * {@link Scene}. Switching between {@link GuiController}-instances neither allocates new {@link Scene}-instances nor
+ * re-applies the stylesheets of the shared {@link Scene}. Instances are obtained with
+ * {@link GuiControllerManager#getSceneNavigator(Stage)}.
+ * <br><br>
+ * Cacheable {@link GuiController}-instances are taken from the cache of the {@link GuiControllerManager}.
+ * Non-cacheable instances are created just-in-time and are owned by the {@link SceneNavigator}: After navigating away,
+ * up to "keep-alive-count" previously shown instances are kept to be reused. Instances exceeding this count get
+ * disposed (see {@link GuiControllerManager#dispose(GuiController)}). Owned instances created with a previous locale
+ * (see {@link GuiControllerManager#setLocale(Locale)}) are never reused, but disposed. A root-node shown by another
+ * {@link SceneNavigator} is detached from its shared {@link Scene} before it is shown. All functions must be executed
+ * on the JavaFX application thread.
+ */
+public final class SceneNavigator {
+    private final GuiControllerManager guiControllerManager;
+
+    private final Stage stage;
+
+    private final Map<Class<? extends GuiController>, GuiController> keepAliveClassGuiControllerMap =
+            new LinkedHashMap<>(16, 0.75f, true);
+
+    private int keepAliveCount = 0;
+
+    private Locale keepAliveLocale;
+
+    private Scene sharedScene;
+
+    private GuiController currentGuiController;
+
+    private boolean currentGuiControllerOwned = false;
+
+    private Locale currentGuiControllerLocale;
+
+    SceneNavigator(GuiControllerManager guiControllerManager, Stage stage) {
+        this.guiControllerManager = guiControllerManager;
+        this.stage = stage;
+    }
+
+    /**
+     * Shows the {@link GuiController}-instance of the given class. A cached instance is used for cacheable
+     * {@link GuiController}-classes. For non-cacheable classes a kept-alive instance is reused or a new instance is
+     * created. Instances created with a previous locale aren't reused.
+     * @param controllerClass The class of the {@link GuiController} to show.
+     * @param <T> The {@link GuiController}-type.
+     * @return The shown {@link GuiController}-instance.
+     * @throws ControllerInitializationException An unexpected {@link ControllerInitializationException}.
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends GuiController> T navigateTo(Class<? extends T> controllerClass)
+            throws ControllerInitializationException {
+        Optional<T> cachedGuiController = guiControllerManager.getCachedGuiControllerOptional(controllerClass);
+
+        if(cachedGuiController.isPresent()) {
+            showGuiController(cachedGuiController.get(), false);
+
+            return cachedGuiController.get();
+        }
+
+        Locale locale = guiControllerManager.getLocale();
+
+        //Kept-alive instances of a previous locale were created with another resource-bundle.
+        updateKeepAliveLocale(locale);
+
+        if(currentGuiControllerOwned && currentGuiController.getClass() == controllerClass &&
+                !currentGuiController.isDisposed() && locale.equals(currentGuiControllerLocale))
+            return (T) currentGuiController;
+
+        GuiController keptAliveGuiController = keepAliveClassGuiControllerMap.remove(controllerClass);
+
+        T guiController;
+
+        if(keptAliveGuiController != null && !keptAliveGuiController.isDisposed()) {
+            guiController = (T) keptAliveGuiController;
+        }
+        else {
+            guiController = guiControllerManager.createGuiControllerInstance(controllerClass);
+        }
+
+        showGuiController(guiController, true);
+
+        return guiController;
+    }
+
+    /**
+     * Shows an existing {@link GuiController}-instance. The instance isn't owned by the {@link SceneNavigator}, which
+     * means it is neither kept alive nor disposed after navigating away.
+     * @param guiController The {@link GuiController}-instance to show.
+     */
+    public void navigateTo(GuiController guiController) {
+        showGuiController(guiController, false);
+    }
+
+    private void showGuiController(GuiController guiController, boolean owned) {
+        Parent rootNode = guiController.getRootNode();
+
+        //The root-node of the current controller may have been taken over by another navigator in the meantime.
+        if(guiController == currentGuiController && sharedScene.getRoot() == rootNode)
+            return;
+
+        //A root-node can only belong to one scene. We release the cached scene of the controller, if present.
+        guiControllerManager.releaseCachedScene(guiController.getClass(), rootNode);
+
+        Scene owningScene = rootNode.getScene();
+
+        //The root-node may still be shown by another navigator. We detach it by replacing it with a placeholder.
+        if(owningScene != null && owningScene != sharedScene && owningScene.getRoot() == rootNode)
+            owningScene.setRoot(new Group());
+
+        if(sharedScene == null) {
+            sharedScene = new Scene(rootNode);
+        }
+        else {
+            sharedScene.setRoot(rootNode);
+        }
+
+        if(stage.getScene() != sharedScene)
+            stage.setScene(sharedScene);
+
+        GuiController previousGuiController = currentGuiController;
+
+        boolean previousGuiControllerOwned = currentGuiControllerOwned;
+
+        Locale previousGuiControllerLocale = currentGuiControllerLocale;
+
+        Locale locale = guiControllerManager.getLocale();
+
+        currentGuiController = guiController;
+        currentGuiControllerOwned = owned;
+        currentGuiControllerLocale = owned ? locale : null;
+
+        if(previousGuiController == null || !previousGuiControllerOwned || previousGuiController.isDisposed())
+            return;
+
+        //An instance of a previous locale is disposed instead of being kept alive.
+        if(locale.equals(previousGuiControllerLocale)) {
+            keepAlive(previousGuiController, locale);
+        }
+        else {
+            guiControllerManager.dispose(previousGuiController);
+        }
+    }
+
+    private void updateKeepAliveLocale(Locale locale) {
+        if(locale.equals(keepAliveLocale))
+            return;
+
+        keepAliveLocale = locale;
+
+        keepAliveClassGuiControllerMap.values().forEach(guiControllerManager::dispose);
+        keepAliveClassGuiControllerMap.clear();
+    }
+
+    private void keepAlive(GuiController guiController, Locale locale) {
+        updateKeepAliveLocale(locale);
+
+        GuiController replacedGuiController = keepAliveClassGuiControllerMap.put(guiController.getClass(),
+                guiController);
+
+        if(replacedGuiController != null && replacedGuiController != guiController)
+            guiControllerManager.dispose(replacedGuiController);
+
+        evictKeptAliveGuiControllers();
+    }
+
+    private void evictKeptAliveGuiControllers() {
+        Iterator<GuiController> guiControllerIterator = keepAliveClassGuiControllerMap.values().iterator();
+
+        while (keepAliveClassGuiControllerMap.size() > keepAliveCount && guiControllerIterator.hasNext()) {
+            GuiController tmpGuiController = guiControllerIterator.next();
+
+            guiControllerIterator.remove();
+
+            guiControllerManager.dispose(tmpGuiController);
+        }
+    }
+
+    /**
+     * Returns the amount of previously shown non-cacheable {@link GuiController}-instances, which are kept alive.
+     * @return The amount of kept-alive instances.
+     */
+    public int getKeepAliveCount() {
+        return keepAliveCount;
+    }
+
+    /**
+     * Sets the amount of previously shown non-cacheable {@link GuiController}-instances, which are kept alive to be
+     * reused. The least recently shown instances exceeding this amount get disposed. The default is 0.
+     * @param keepAliveCount The amount of kept-alive instances.
+     */
+    public void setKeepAliveCount(int keepAliveCount) {
+        if(keepAliveCount < 0)
+            throw new IllegalArgumentException("The keep-alive count must not be negative.");
+
+        this.keepAliveCount = keepAliveCount;
+
+        evictKeptAliveGuiControllers();
+    }
+
+    /**
+     * Returns the currently shown {@link GuiController}-instance or null, if no instance was shown yet.
+     * @return The currently shown {@link GuiController}-instance or null.
+     */
+    public GuiController getCurrentGuiController() {
+        return currentGuiController;
+    }
+
+    /**
+     * Returns the shared {@link Scene} or null, if no {@link GuiController} was shown yet. Global stylesheets should
+     * be added to this {@link Scene} once.
+     * @return The shared {@link Scene} or null.
+     */
+    public Scene getSharedScene() {
+        return sharedScene;
+    }
+
+    /**
+     * Returns the {@link Stage} showing the shared {@link Scene}.
+     * @return The {@link Stage} of the {@link SceneNavigator}.
+     */
+    public Stage getStage() {
+        return stage;
+    }
+}
@@ -0,0 +1,447 @@
+package eu.dgs_development.code.ejg.theme;
+
+import eu.dgs_development.code.ejg.theme.colors.ThemeColorSource;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.Image;
+import javafx.scene.paint.Color;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+
+/**
+ * A precompiled theme, which can be applied with {@link ThemeManager#applyThemeBundle(ThemeBundle)}. A bundle contains
+ * the palette as packed RGBA-integers, the CSS-template, the pre-rendered stylesheet (data-URL) and an optional
+ * pre-tinted icon-atlas (a PNG-image and a viewport per icon name). Bundles are created at build-time with the
+ * {@link ThemeBundleGenerator} and are opened with {@link #open(Path)}, which maps the file into memory instead of
+ * copying it into the heap. The stylesheets and the icon-atlas are only decoded, if they are requested (the stylesheets
+ * are decoded once and kept afterwards).
+ * <br><br>
+ * File format (big-endian): The magic number "EJGT", the version (short), the flags (byte), the amount of colors
+ * (int), per color the name (unsigned short length and UTF-8 bytes) and the RGBA-value (int), the CSS-template and the
+ * pre-rendered stylesheet (int length and UTF-8 bytes, -1 if missing) and the optional icon-atlas: the amount of icons
+ * (int), per icon the name and the viewport (four floats), followed by the PNG-image (int length and bytes).
+ */
+public final class ThemeBundle {
+    private static final int MAGIC_NUMBER = 0x454A4754;
+
+    private static final short VERSION = 1;
+
+    private static final int FLAG_DARK_THEME_COLORS = 1;
+
+    private static final int FLAG_ICON_ATLAS = 2;
+
+    private static final int MAX_NAME_BYTES = 0xFFFF;
+
+    private final ByteBuffer byteBuffer;
+
+    private final boolean darkThemeColors;
+
+    private final String[] colorNames;
+
+    private final int[] colorIndexRgbaOffsets;
+
+    private final int stylesheetCssOffset;
+
+    private final int renderedStylesheetDataOffset;
+
+    private final Map<String, Rectangle2D> iconNameViewportMap;
+
+    private final int iconAtlasImageOffset;
+
+    private Map<String, String> colorNameHexColorMap = null;
+
+    private ThemeColorSource themeColorSource = null;
+
+    //The stylesheets are decoded once, when they are requested for the first time.
+
+    private boolean stylesheetsDecoded = false;
+
+    private String stylesheetCss = null;
+
+    private String renderedStylesheetData = null;
+
+    private ThemeBundle(ByteBuffer byteBuffer) throws IOException {
+        this.byteBuffer = byteBuffer;
+
+        try {
+            if(byteBuffer.getInt() != MAGIC_NUMBER)
+                throw new IOException("Unable to read theme bundle: Invalid magic number.");
+
+            short version = byteBuffer.getShort();
+
+            if(version != VERSION)
+                throw new IOException("Unable to read theme bundle: Unsupported version " + version + ".");
+
+            byte flags = byteBuffer.get();
+
+            darkThemeColors = (flags & FLAG_DARK_THEME_COLORS) != 0;
+
+            //Read the color names and remember the position of the RGBA-values.
+
+            int colorCount = byteBuffer.getInt();
+
+            colorNames = new String[colorCount];
+            colorIndexRgbaOffsets = new int[colorCount];
+
+            for(int i = 0; i < colorCount; i++) {
+                colorNames[i] = readString(Short.toUnsignedInt(byteBuffer.getShort()));
+                colorIndexRgbaOffsets[i] = byteBuffer.position();
+
+                byteBuffer.position(byteBuffer.position() + Integer.BYTES);
+            }
+
+            stylesheetCssOffset = skipString();
+            renderedStylesheetDataOffset = skipString();
+
+            //Read the viewports of the icon-atlas.
+
+            if((flags & FLAG_ICON_ATLAS) != 0) {
+                int iconCount = byteBuffer.getInt();
+
+                Map<String, Rectangle2D> iconNameViewportMap = new LinkedHashMap<>();
+
+                for(int i = 0; i < iconCount; i++) {
+                    String tmpIconName = readString(Short.toUnsignedInt(byteBuffer.getShort()));
+
+                    iconNameViewportMap.put(tmpIconName, new Rectangle2D(byteBuffer.getFloat(),
+                            byteBuffer.getFloat(), byteBuffer.getFloat(), byteBuffer.getFloat()));
+                }
+
+                this.iconNameViewportMap = Collections.unmodifiableMap(iconNameViewportMap);
+                this.iconAtlasImageOffset = byteBuffer.position();
+            }
+            else {
+                this.iconNameViewportMap = Collections.emptyMap();
+                this.iconAtlasImageOffset = -1;
+            }
+        }
+        catch (RuntimeException exception) {
+            throw new IOException("Unable to read theme bundle: The file is truncated or invalid.", exception);
+        }
+    }
+
+    /**
+     * Opens a theme bundle. The file is mapped into memory (read-only) and isn't copied into the heap.
+     * @param path The path of the bundle.
+     * @return The opened {@link ThemeBundle}.
+     * @throws IOException If the file couldn't be read or isn't a valid bundle.
+     */
+    public static ThemeBundle open(Path path) throws IOException {
+        try(FileChannel fileChannel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return new ThemeBundle(fileChannel.map(FileChannel.MapMode.READ_ONLY, 0, fileChannel.size()));
+        }
+    }
+
+    /**
+     * Reads a theme bundle from a {@link ByteBuffer} (e.g. a resource of the application).
+     * @param byteBuffer The buffer containing the bundle.
+     * @return The read {@link ThemeBundle}.
+     * @throws IOException If the buffer doesn't contain a valid bundle.
+     */
+    public static ThemeBundle read(ByteBuffer byteBuffer) throws IOException {
+        return new ThemeBundle(byteBuffer.duplicate());
+    }
+
+    /**
+     * Writes a theme bundle.
+     * @param path The path of the file to write.
+     * @param colorNameColorMap The palette (color name to {@link Color}).
+     * @param darkThemeColors True if the colors belong to a dark theme.
+     * @param stylesheetCss The CSS-template or null.
+     * @param renderedStylesheetData The pre-rendered stylesheet (data-URL) or null.
+     * @param iconNameViewportMap The viewport per icon name inside the icon-atlas or null.
+     * @param iconAtlasPngBytes The PNG-image of the icon-atlas or null.
+     * @throws IOException An unexpected {@link IOException}.
+     * @throws IllegalArgumentException If a color or icon name is null or longer than 65535 UTF-8 bytes.
+     */
+    public static void write(Path path, Map<String, Color> colorNameColorMap, boolean darkThemeColors,
+                             String stylesheetCss, String renderedStylesheetData,
+                             Map<String, Rectangle2D> iconNameViewportMap, byte[] iconAtlasPngBytes)
+            throws IOException {
+        boolean iconAtlas = iconAtlasPngBytes != null;
+
+        //Check all names first, to avoid writing a truncated file.
+
+        for(String tmpColorName : colorNameColorMap.keySet())
+            checkName(tmpColorName);
+
+        if(iconAtlas && iconNameViewportMap != null) {
+            for(String tmpIconName : iconNameViewportMap.keySet())
+                checkName(tmpIconName);
+        }
+
+        try(DataOutputStream outputStream = new DataOutputStream(new BufferedOutputStream(
+                Files.newOutputStream(path)))) {
+            outputStream.writeInt(MAGIC_NUMBER);
+            outputStream.writeShort(VERSION);
+            outputStream.writeByte((darkThemeColors ? FLAG_DARK_THEME_COLORS : 0) | (iconAtlas ? FLAG_ICON_ATLAS : 0));
+
+            outputStream.writeInt(colorNameColorMap.size());
+
+            for(Map.Entry<String, Color> tmpEntry : new TreeMap<>(colorNameColorMap).entrySet()) {
+                writeString(outputStream, tmpEntry.getKey(), true);
+
+                outputStream.writeInt(toRgba(tmpEntry.getValue()));
+            }
+
+            writeString(outputStream, stylesheetCss, false);
+            writeString(outputStream, renderedStylesheetData, false);
+
+            if(iconAtlas) {
+                Map<String, Rectangle2D> viewports = iconNameViewportMap != null ? iconNameViewportMap :
+                        Collections.emptyMap();
+
+                outputStream.writeInt(viewports.size());
+
+                for(Map.Entry<String, Rectangle2D> tmpEntry : viewports.entrySet()) {
+                    writeString(outputStream, tmpEntry.getKey(), true);
+
+                    outputStream.writeFloat((float) tmpEntry.getValue().getMinX());
+                    outputStream.writeFloat((float) tmpEntry.getValue().getMinY());
+                    outputStream.writeFloat((float) tmpEntry.getValue().getWidth());
+                    outputStream.writeFloat((float) tmpEntry.getValue().getHeight());
+                }
+
+                outputStream.writeInt(iconAtlasPngBytes.length);
+                outputStream.write(iconAtlasPngBytes);
+            }
+        }
+    }
+
+    /**
+     * Returns true if the colors belong to a dark theme.
+     * @return True if the colors belong to a dark theme.
+     */
+    public boolean isDarkThemeColors() {
+        return darkThemeColors;
+    }
+
+    /**
+     * Returns the amount of colors.
+     * @return The amount of colors.
+     */
+    public int getColorCount() {
+        return colorNames.length;
+    }
+
+    /**
+     * Returns the name of a color.
+     * @param colorIndex The index of the color.
+     * @return The name of the color.
+     */
+    public String getColorName(int colorIndex) {
+        return colorNames[colorIndex];
+    }
+
+    /**
+     * Returns the packed RGBA-value of a color (red in the highest byte), read directly from the bundle.
+     * @param colorIndex The index of the color.
+     * @return The packed RGBA-value.
+     */
+    public int getRgba(int colorIndex) {
+        return byteBuffer.getInt(colorIndexRgbaOffsets[colorIndex]);
+    }
+
+    /**
+     * Returns an unmodifiable map of all colors (color name to hex color code).
+     * @return All colors as hex color codes.
+     */
+    public synchronized Map<String, String> getColorNameHexColorMap() {
+        if(colorNameHexColorMap == null) {
+            Map<String, String> hexColorMap = new HashMap<>();
+
+            for(int i = 0; i < colorNames.length; i++)
+                hexColorMap.put(colorNames[i], String.format("#%08X", getRgba(i)));
+
+            colorNameHexColorMap = Collections.unmodifiableMap(hexColorMap);
+        }
+
+        return colorNameHexColorMap;
+    }
+
+    /**
+     * Returns a {@link ThemeColorSource} containing all colors of the bundle.
+     * @return The {@link ThemeColorSource} of the bundle.
+     */
+    public synchronized ThemeColorSource getThemeColorSource() {
+        if(themeColorSource == null) {
+            Map<String, Color> colorNameColorMap = new HashMap<>();
+
+            for(int i = 0; i < colorNames.length; i++) {
+                int tmpRgba = getRgba(i);
+
+                colorNameColorMap.put(colorNames[i], Color.rgb(tmpRgba >>> 24, (tmpRgba >>> 16) & 0xFF,
+                        (tmpRgba >>> 8) & 0xFF, (tmpRgba & 0xFF) / 255.0));
+            }
+
+            themeColorSource = ThemeColorSource.fromThemeColorNameColorMap(colorNameColorMap, darkThemeColors);
+        }
+
+        return themeColorSource;
+    }
+
+    /**
+     * Returns the CSS-template or null, if the bundle doesn't contain a template.
+     * @return The CSS-template or null.
+     */
+    public synchronized String getStylesheetCssOrNull() {
+        decodeStylesheets();
+
+        return stylesheetCss;
+    }
+
+    /**
+     * Returns the pre-rendered stylesheet (data-URL) or null, if the bundle doesn't contain a pre-rendered stylesheet.
+     * @return The pre-rendered stylesheet or null.
+     */
+    public synchronized String getRenderedStylesheetDataOrNull() {
+        decodeStylesheets();
+
+        return renderedStylesheetData;
+    }
+
+    /**
+     * Returns an unmodifiable map of the viewports (icon name to viewport) inside the icon-atlas.
+     * @return The viewports of all icons or an empty map, if the bundle doesn't contain an icon-atlas.
+     */
+    public Map<String, Rectangle2D> getIconNameViewportMap() {
+        return iconNameViewportMap;
+    }
+
+    /**
+     * Loads the image of the icon-atlas, which is read directly from the bundle.
+     * @return The image of the icon-atlas or an empty optional, if the bundle doesn't contain an icon-atlas.
+     */
+    public Optional<Image> loadIconAtlasImage() {
+        if(iconAtlasImageOffset < 0)
+            return Optional.empty();
+
+        ByteBuffer imageBuffer = byteBuffer.duplicate();
+
+        imageBuffer.position(iconAtlasImageOffset);
+
+        int imageLength = imageBuffer.getInt();
+
+        imageBuffer.limit(imageBuffer.position() + imageLength);
+
+        return Optional.of(new Image(new ByteBufferInputStream(imageBuffer.slice())));
+    }
+
+    private void decodeStylesheets() {
+        if(stylesheetsDecoded)
+            return;
+
+        stylesheetCss = readStringAt(stylesheetCssOffset);
+        renderedStylesheetData = readStringAt(renderedStylesheetDataOffset);
+
+        stylesheetsDecoded = true;
+    }
+
+    private String readString(int length) {
+        byte[] stringBytes = new byte[length];
+
+        byteBuffer.get(stringBytes);
+
+        return new String(stringBytes, StandardCharsets.UTF_8);
+    }
+
+    private int skipString() {
+        int offset = byteBuffer.position();
+
+        int length = byteBuffer.getInt();
+
+        if(length > 0)
+            byteBuffer.position(byteBuffer.position() + length);
+
+        return offset;
+    }
+
+    private String readStringAt(int offset) {
+        ByteBuffer stringBuffer = byteBuffer.duplicate();
+
+        stringBuffer.position(offset);
+
+        int length = stringBuffer.getInt();
+
+        if(length < 0)
+            return null;
+
+        stringBuffer.limit(stringBuffer.position() + length);
+
+        return StandardCharsets.UTF_8.decode(stringBuffer).toString();
+    }
+
+    private static void checkName(String name) {
+        //Names are written with an unsigned short length and can't be null.
+
+        if(name == null)
+            throw new IllegalArgumentException("Unable to write theme bundle: A name is null.");
+
+        if(name.getBytes(StandardCharsets.UTF_8).length > MAX_NAME_BYTES) {
+            throw new IllegalArgumentException("Unable to write theme bundle: The name \"" +
+                    name.substring(0, 32) + "...\" exceeds " + MAX_NAME_BYTES + " bytes.");
+        }
+    }
+
+    private static void writeString(DataOutputStream outputStream, String string, boolean shortLength)
+            throws IOException {
+        if(shortLength)
+            checkName(string);
+
+        if(string == null) {
+            outputStream.writeInt(-1);
+
+            return;
+        }
+
+        byte[] stringBytes = string.getBytes(StandardCharsets.UTF_8);
+
+        if(shortLength) {
+            outputStream.writeShort(stringBytes.length);
+        }
+        else {
+            outputStream.writeInt(stringBytes.length);
+        }
+
+        outputStream.write(stringBytes);
+    }
+
+    private static int toRgba(Color color) {
+        return ((int) Math.round(color.getRed() * 255) << 24) | ((int) Math.round(color.getGreen() * 255) << 16) |
+                ((int) Math.round(color.getBlue() * 255) << 8) | (int) Math.round(color.getOpacity() * 255);
+    }
+
+    /**
+     * Streams the bytes of a {@link ByteBuffer} without copying the buffer.
+     */
+    private static final class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer byteBuffer;
+
+        private ByteBufferInputStream(ByteBuffer byteBuffer) {
+            this.byteBuffer = byteBuffer;
+        }
+
+        @Override
+        public int read() {
+            return byteBuffer.hasRemaining() ? byteBuffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if(!byteBuffer.hasRemaining())
+                return -1;
+
+            int readLength = Math.min(length, byteBuffer.remaining());
+
+            byteBuffer.get(bytes, offset, readLength);
+
+            return readLength;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package eu.dgs_development.code.ejg.theme;
+
+import eu.dgs_development.code.ejg.util.ColorToHexStringUtil;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.paint.Color;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * Build-time generator of {@link ThemeBundle}-files. The generator takes the theme-colors (color name to hex color
+ * code) and an optional CSS-template, renders the stylesheet and writes the bundle. The command-line entry point is
+ * part of the (unpublished) tools-module.
+ */
+public final class ThemeBundleGenerator {
+    private ThemeBundleGenerator() {
+        //Ignore...
+    }
+
+    /**
+     * Renders the stylesheet and writes a {@link ThemeBundle}.
+     * @param outputPath The path of the bundle to write.
+     * @param themeColorProperties The theme-colors (color name to hex color code).
+     * @param darkThemeColors True if the colors belong to a dark theme.
+     * @param stylesheetCss The CSS-template or null.
+     * @param iconNameViewportMap The viewport per icon name inside the icon-atlas or null.
+     * @param iconAtlasPngBytes The PNG-image of the icon-atlas or null.
+     * @throws IOException An unexpected {@link IOException}.
+     */
+    public static void generateThemeBundle(Path outputPath, Properties themeColorProperties, boolean darkThemeColors,
+                                           String stylesheetCss, Map<String, Rectangle2D> iconNameViewportMap,
+                                           byte[] iconAtlasPngBytes) throws IOException {
+        Map<String, Color> colorNameColorMap = new HashMap<>();
+        Map<String, String> colorNameHexColorMap = new HashMap<>();
+
+        for(String tmpColorName : themeColorProperties.stringPropertyNames()) {
+            Color tmpColor = Color.web(themeColorProperties.getProperty(tmpColorName));
+
+            colorNameColorMap.put(tmpColorName, tmpColor);
+            colorNameHexColorMap.put(tmpColorName, ColorToHexStringUtil.colorToHexColorString(tmpColor));
+        }
+
+        String renderedStylesheetData = null;
+
+        if(stylesheetCss != null) {
+            renderedStylesheetData = ThemeManager.encodeStylesheetData(ThemeStylesheetTemplate.preprocess(
+                    stylesheetCss).render(colorNameHexColorMap::get));
+        }
+
+        ThemeBundle.write(outputPath, colorNameColorMap, darkThemeColors, stylesheetCss, renderedStylesheetData,
+                iconNameViewportMap, iconAtlasPngBytes);
+    }
+}
@@ -0,0 +1,271 @@
+package eu.dgs_development.code.ejg.theme;
+
+import javafx.animation.AnimationTimer;
+import javafx.scene.paint.Color;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Interpolates theme-colors from an old to a new palette across multiple pulses. The interpolated {@link Color}
+ * instances are precomputed, when a transition is started: every color is quantized to a bounded number of steps
+ * (about one step per frame, at most {@value #MAX_COLOR_STEPS}), whose {@link Color} instances are reused by all
+ * frames. A frame only applies a color, if its step changed, so a frame doesn't allocate any colors, arrays or
+ * collections. Starting a transition allocates {@code (steps + 1)} {@link Color} instances per transitioning color.
+ * The consumers of the colors (e.g. the fill of a {@link javafx.scene.shape.Shape}) are still updated once per
+ * changed step. If the time between two frames exceeds the frame-time-limit, the transition jumps to the new palette
+ * to avoid a stuttering animation.
+ */
+final class ThemeColorTransition extends AnimationTimer {
+    /**
+     * A functional interface to apply an interpolated color to all targets of a color name.
+     */
+    interface ColorConsumer {
+        /**
+         * Gets executed for every color of the transition, whose step changed.
+         * @param colorName The name of the color.
+         * @param color The interpolated (precomputed) color.
+         */
+        void accept(String colorName, Color color);
+    }
+
+    /**
+     * The maximum number of interpolation-steps per color.
+     */
+    static final int MAX_COLOR_STEPS = 60;
+
+    private static final long STEP_NANOS = 16_666_667L;
+
+    private static final int COMPONENTS = 4;
+
+    private final ColorConsumer colorConsumer;
+
+    private final Runnable frameAppliedRunnable;
+
+    private String[] colorNames = new String[0];
+
+    private double[] fromRgba = new double[0];
+
+    private double[] toRgba = new double[0];
+
+    private Color[] stepColors = new Color[0];
+
+    private int colorCount = 0;
+
+    private int colorSteps = 1;
+
+    private int appliedStep = -1;
+
+    private long durationNanos;
+
+    private long frameTimeLimitNanos;
+
+    private long startNanos;
+
+    private long lastFrameNanos;
+
+    private double progress = 0;
+
+    private boolean running = false;
+
+    /**
+     * Creates a new {@link ThemeColorTransition}.
+     * @param colorConsumer The consumer to apply the interpolated colors.
+     * @param frameAppliedRunnable Gets executed after all colors of a changed step were applied.
+     */
+    ThemeColorTransition(ColorConsumer colorConsumer, Runnable frameAppliedRunnable) {
+        this.colorConsumer = colorConsumer;
+        this.frameAppliedRunnable = frameAppliedRunnable;
+    }
+
+    /**
+     * Starts a transition and applies the old colors. If a transition is already running, its current colors are used
+     * as old colors and its remaining colors are included in the new transition.
+     * @param colorNameFromColorMap The old color per color name.
+     * @param colorNameToColorMap The new color per color name.
+     * @param durationNanos The duration of the transition in nanoseconds.
+     * @param frameTimeLimitNanos The maximum time between two frames in nanoseconds.
+     */
+    void startTransition(Map<String, Color> colorNameFromColorMap, Map<String, Color> colorNameToColorMap,
+                         long durationNanos, long frameTimeLimitNanos) {
+        //Keep the colors of a running transition.
+
+        Map<String, double[]> colorNameFromRgbaMap = new HashMap<>();
+        Map<String, double[]> colorNameToRgbaMap = new HashMap<>();
+
+        if(running) {
+            for(int i = 0; i < colorCount; i++) {
+                int tmpOffset = i * COMPONENTS;
+
+                colorNameFromRgbaMap.put(colorNames[i], toRgba(stepColors[i * (colorSteps + 1) +
+                        Math.max(0, appliedStep)]));
+                colorNameToRgbaMap.put(colorNames[i], Arrays.copyOfRange(toRgba, tmpOffset, tmpOffset + COMPONENTS));
+            }
+        }
+
+        colorNameToColorMap.forEach((tmpColorName, tmpToColor) -> {
+            Color tmpFromColor = colorNameFromColorMap.get(tmpColorName);
+
+            if(tmpFromColor != null)
+                colorNameFromRgbaMap.putIfAbsent(tmpColorName, toRgba(tmpFromColor));
+
+            colorNameToRgbaMap.put(tmpColorName, toRgba(tmpToColor));
+        });
+
+        colorNameToRgbaMap.keySet().retainAll(colorNameFromRgbaMap.keySet());
+
+        this.durationNanos = Math.max(1, durationNanos);
+        this.frameTimeLimitNanos = frameTimeLimitNanos;
+        this.startNanos = -1;
+
+        //Roughly one step per frame, but bounded to limit the precomputed colors of long transitions.
+        colorSteps = (int) Math.max(1, Math.min(MAX_COLOR_STEPS, this.durationNanos / STEP_NANOS));
+
+        //Copy the colors into the reused arrays and precompute the colors of all steps.
+
+        ensureCapacity(colorNameToRgbaMap.size());
+
+        colorCount = 0;
+
+        for(Map.Entry<String, double[]> tmpEntry : colorNameToRgbaMap.entrySet()) {
+            int tmpOffset = colorCount * COMPONENTS;
+
+            colorNames[colorCount] = tmpEntry.getKey();
+
+            System.arraycopy(colorNameFromRgbaMap.get(tmpEntry.getKey()), 0, fromRgba, tmpOffset, COMPONENTS);
+            System.arraycopy(tmpEntry.getValue(), 0, toRgba, tmpOffset, COMPONENTS);
+
+            colorCount++;
+        }
+
+        precomputeStepColors();
+
+        appliedStep = -1;
+
+        applyProgress(0);
+
+        if(!running) {
+            running = true;
+
+            start();
+        }
+    }
+
+    /**
+     * Jumps to the new colors and stops the transition, if a transition is running.
+     */
+    void finish() {
+        if(!running)
+            return;
+
+        applyProgress(1);
+
+        frameAppliedRunnable.run();
+
+        stop();
+    }
+
+    @Override
+    public void handle(long now) {
+        if(startNanos < 0) {
+            startNanos = now;
+            lastFrameNanos = now;
+        }
+
+        double progress = Math.min(1, (now - startNanos) / (double) durationNanos);
+
+        //Jump to the new colors, if the frame rate dropped.
+        if(now - lastFrameNanos > frameTimeLimitNanos)
+            progress = 1;
+
+        lastFrameNanos = now;
+
+        //A frame without a changed step doesn't touch any target.
+        if(applyProgress(progress) || progress >= 1)
+            frameAppliedRunnable.run();
+
+        if(progress >= 1)
+            stop();
+    }
+
+    @Override
+    public void stop() {
+        super.stop();
+
+        running = false;
+    }
+
+    /**
+     * Returns true if the colors of the last applied frame are the new colors.
+     * @return True if the transition reached the new colors.
+     */
+    boolean isCompleted() {
+        return progress >= 1;
+    }
+
+    /**
+     * Returns the progress of the last applied frame.
+     * @return The progress (0.0 - 1.0).
+     */
+    double getProgress() {
+        return progress;
+    }
+
+    private boolean applyProgress(double progress) {
+        this.progress = progress;
+
+        int step = (int) Math.round(progress * colorSteps);
+
+        if(step == appliedStep)
+            return false;
+
+        appliedStep = step;
+
+        for(int i = 0; i < colorCount; i++)
+            colorConsumer.accept(colorNames[i], stepColors[i * (colorSteps + 1) + step]);
+
+        return true;
+    }
+
+    private void precomputeStepColors() {
+        int stepColorCount = colorCount * (colorSteps + 1);
+
+        if(stepColors.length < stepColorCount)
+            stepColors = new Color[stepColorCount];
+
+        for(int i = 0; i < colorCount; i++) {
+            int tmpOffset = i * COMPONENTS;
+
+            for(int j = 0; j <= colorSteps; j++) {
+                double tmpProgress = j / (double) colorSteps;
+
+                stepColors[i * (colorSteps + 1) + j] = new Color(
+                        interpolate(tmpOffset, tmpProgress),
+                        interpolate(tmpOffset + 1, tmpProgress),
+                        interpolate(tmpOffset + 2, tmpProgress),
+                        interpolate(tmpOffset + 3, tmpProgress));
+            }
+        }
+    }
+
+    private double interpolate(int componentIndex, double progress) {
+        double component = fromRgba[componentIndex] + (toRgba[componentIndex] - fromRgba[componentIndex]) * progress;
+
+        //Avoid rounding errors outside the valid range of a color component.
+        return Math.max(0, Math.min(1, component));
+    }
+
+    private void ensureCapacity(int colorCapacity) {
+        if(colorNames.length >= colorCapacity)
+            return;
+
+        colorNames = Arrays.copyOf(colorNames, colorCapacity);
+        fromRgba = Arrays.copyOf(fromRgba, colorCapacity * COMPONENTS);
+        toRgba = Arrays.copyOf(toRgba, colorCapacity * COMPONENTS);
+    }
+
+    private static double[] toRgba(Color color) {
+        return new double[] { color.getRed(), color.getGreen(), color.getBlue(), color.getOpacity() };
+    }
+}
@@ -0,0 +1,274 @@
+package eu.dgs_development.code.ejg.theme;
+
+import eu.dgs_development.code.ejg.theme.colors.ThemeColorSource;
+import javafx.application.Platform;
+import javafx.scene.paint.Color;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Watches a theme-color properties-file (see {@link ThemeColorSource#fromThemeColorNameHexColorProperties}) and a
+ * CSS-file and applies all changes to a {@link ThemeManager}, which allows to edit a theme while the application is
+ * running. Bursts of write-events (e.g. caused by an editor saving a file) are debounced. Only the changed file is
+ * parsed again (on the watcher-thread) and the {@link ThemeManager} is only updated on the JavaFX application thread,
+ * if the parsed colors or the CSS-string differ from the current {@link ThemeColorSource} or CSS-string of the
+ * {@link ThemeManager}. The current state of the {@link ThemeManager} is used as reference, because it may have
+ * switched to another source (e.g. another theme or a {@link ThemeBundle}) since the file was loaded.
+ */
+public class ThemeFileWatcher implements AutoCloseable {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ThemeFileWatcher.class);
+
+    private final ThemeManager<?> themeManager;
+
+    private final Path themeColorPropertiesPath;
+
+    private final boolean darkThemeColors;
+
+    private final Path stylesheetPath;
+
+    private final long debounceNanos;
+
+    private WatchService watchService;
+
+    private Thread watchThread;
+
+    /**
+     * Creates a new {@link ThemeFileWatcher}. The watcher must be started with {@link #start()}.
+     * @param themeManager The {@link ThemeManager} to update.
+     * @param themeColorPropertiesPath The properties-file containing the theme-colors (color name to hex color code)
+     *                                 or null.
+     * @param darkThemeColors True if the theme-colors belong to a dark theme.
+     * @param stylesheetPath The CSS-file containing the stylesheet-template or null.
+     * @param debounceDuration The time to wait after the last write-event, before a file is parsed again.
+     * @throws IllegalArgumentException If both paths are null.
+     */
+    public ThemeFileWatcher(ThemeManager<?> themeManager, Path themeColorPropertiesPath, boolean darkThemeColors,
+                            Path stylesheetPath, Duration debounceDuration) {
+        //Without a file, the watcher-thread would wait forever for an event.
+        if(themeColorPropertiesPath == null && stylesheetPath == null) {
+            throw new IllegalArgumentException("Unable to create theme file watcher: Neither a theme-color " +
+                    "properties-file nor a CSS-file was passed.");
+        }
+
+        this.themeManager = themeManager;
+        this.themeColorPropertiesPath = themeColorPropertiesPath == null ? null :
+                themeColorPropertiesPath.toAbsolutePath().normalize();
+        this.darkThemeColors = darkThemeColors;
+        this.stylesheetPath = stylesheetPath == null ? null : stylesheetPath.toAbsolutePath().normalize();
+        this.debounceNanos = debounceDuration.toNanos();
+    }
+
+    /**
+     * Starts watching the files. The files are only applied to the {@link ThemeManager}, if they were written after
+     * the watching was started.
+     * @throws IOException If the watching couldn't be started.
+     */
+    public synchronized void start() throws IOException {
+        if(watchThread != null)
+            throw new IllegalStateException("The theme file watcher was already started.");
+
+        watchService = FileSystems.getDefault().newWatchService();
+
+        Set<Path> watchedDirectories = new HashSet<>();
+
+        for(Path tmpPath : getWatchedPaths()) {
+            Path tmpDirectory = tmpPath.getParent();
+
+            if(watchedDirectories.add(tmpDirectory)) {
+                tmpDirectory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                        StandardWatchEventKinds.ENTRY_MODIFY);
+            }
+        }
+
+        watchThread = new Thread(this::watchFiles, "ejg-theme-file-watcher");
+
+        watchThread.setDaemon(true);
+
+        watchThread.start();
+    }
+
+    /**
+     * Stops watching the files.
+     */
+    @Override
+    public synchronized void close() {
+        if(watchThread == null)
+            return;
+
+        watchThread.interrupt();
+
+        try {
+            watchService.close();
+        }
+        catch (IOException exception) {
+            LOGGER.warn("Unable to close theme file watch service.", exception);
+        }
+
+        watchThread = null;
+    }
+
+    private List<Path> getWatchedPaths() {
+        List<Path> watchedPaths = new ArrayList<>();
+
+        if(themeColorPropertiesPath != null)
+            watchedPaths.add(themeColorPropertiesPath);
+
+        if(stylesheetPath != null)
+            watchedPaths.add(stylesheetPath);
+
+        return watchedPaths;
+    }
+
+    private void watchFiles() {
+        //Maps each changed file to the time, when it should be parsed again.
+        Map<Path, Long> pathDeadlineNanosMap = new HashMap<>();
+
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                WatchKey watchKey;
+
+                if(pathDeadlineNanosMap.isEmpty()) {
+                    watchKey = watchService.take();
+                }
+                else {
+                    long nextDeadlineNanos = Collections.min(pathDeadlineNanosMap.values());
+
+                    watchKey = watchService.poll(Math.max(0, nextDeadlineNanos - System.nanoTime()),
+                            TimeUnit.NANOSECONDS);
+                }
+
+                if(watchKey != null) {
+                    collectChangedPaths(watchKey, pathDeadlineNanosMap);
+
+                    watchKey.reset();
+                }
+
+                long nowNanos = System.nanoTime();
+
+                Iterator<Map.Entry<Path, Long>> entryIterator = pathDeadlineNanosMap.entrySet().iterator();
+
+                while (entryIterator.hasNext()) {
+                    Map.Entry<Path, Long> tmpEntry = entryIterator.next();
+
+                    if(tmpEntry.getValue() - nowNanos <= 0) {
+                        entryIterator.remove();
+
+                        reloadFile(tmpEntry.getKey());
+                    }
+                }
+            }
+        }
+        catch (InterruptedException | ClosedWatchServiceException exception) {
+            //The watcher was closed.
+        }
+    }
+
+    private void collectChangedPaths(WatchKey watchKey, Map<Path, Long> pathDeadlineNanosMap) {
+        Path directory = (Path) watchKey.watchable();
+
+        long deadlineNanos = System.nanoTime() + debounceNanos;
+
+        for(WatchEvent<?> tmpEvent : watchKey.pollEvents()) {
+            if(tmpEvent.kind() == StandardWatchEventKinds.OVERFLOW) {
+                //Events were lost. We check all files.
+                getWatchedPaths().forEach(tmpPath -> pathDeadlineNanosMap.put(tmpPath, deadlineNanos));
+
+                continue;
+            }
+
+            Path changedPath = directory.resolve((Path) tmpEvent.context()).normalize();
+
+            if(changedPath.equals(themeColorPropertiesPath) || changedPath.equals(stylesheetPath))
+                pathDeadlineNanosMap.put(changedPath, deadlineNanos);
+        }
+    }
+
+    private void reloadFile(Path path) {
+        try {
+            if(path.equals(themeColorPropertiesPath))
+                reloadThemeColorSource();
+
+            if(path.equals(stylesheetPath))
+                reloadStylesheet();
+        }
+        catch (Exception exception) {
+            //The file may be invalid while it is edited. We keep the current theme.
+            LOGGER.warn("Unable to reload theme file \"{}\".", path, exception);
+        }
+    }
+
+    private void reloadThemeColorSource() throws IOException {
+        ThemeColorSource themeColorSource = loadThemeColorSource();
+
+        Platform.runLater(() -> applyThemeColorSource(themeColorSource));
+    }
+
+    private void applyThemeColorSource(ThemeColorSource themeColorSource) {
+        //The colors are compared with the current source of the ThemeManager, not with the last loaded file.
+
+        ThemeColorSource currentThemeColorSource = themeManager.getThemeColorSourceOrNull();
+
+        int changedColors = countChangedColors(currentThemeColorSource == null ? null :
+                currentThemeColorSource.getThemeColorNameColorMap(), themeColorSource.getThemeColorNameColorMap());
+
+        boolean darkThemeColorsChanged = currentThemeColorSource == null ||
+                currentThemeColorSource.isDarkThemeColorsSource() != themeColorSource.isDarkThemeColorsSource();
+
+        if(changedColors == 0 && !darkThemeColorsChanged)
+            return;
+
+        LOGGER.debug("Reloaded theme colors from \"{}\" ({} changed colors).", themeColorPropertiesPath,
+                changedColors);
+
+        themeManager.setThemeColorSource(themeColorSource);
+    }
+
+    private void reloadStylesheet() throws IOException {
+        String stylesheetCss = Files.readString(stylesheetPath, StandardCharsets.UTF_8);
+
+        Platform.runLater(() -> {
+            if(stylesheetCss.equals(themeManager.getStylesheetCss()))
+                return;
+
+            LOGGER.debug("Reloaded stylesheet from \"{}\".", stylesheetPath);
+
+            themeManager.setStylesheetCss(stylesheetCss);
+        });
+    }
+
+    private ThemeColorSource loadThemeColorSource() throws IOException {
+        Properties properties = new Properties();
+
+        try(Reader reader = Files.newBufferedReader(themeColorPropertiesPath, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+
+        return ThemeColorSource.fromThemeColorNameHexColorProperties(properties, darkThemeColors);
+    }
+
+    private int countChangedColors(Map<String, Color> oldColorMap, Map<String, Color> newColorMap) {
+        if(oldColorMap == null)
+            return newColorMap.size();
+
+        Set<String> colorNames = new HashSet<>(oldColorMap.keySet());
+
+        colorNames.addAll(newColorMap.keySet());
+
+        int changedColors = 0;
+
+        for(String tmpColorName : colorNames) {
+            if(!Objects.equals(oldColorMap.get(tmpColorName), newColorMap.get(tmpColorName)))
+                changedColors++;
+        }
+
+        return changedColors;
+    }
+}
@@ -0,0 +1,324 @@
+package eu.dgs_development.code.ejg.theme;
+
+import eu.dgs_development.code.ejg.theme.colors.ThemeColor;
+import eu.dgs_development.code.ejg.theme.colors.ThemeColorsProvider;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.*;
+import javafx.scene.paint.Color;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * A sprite-atlas for colorized icons. All icons are packed into pages (one texture per page and theme-color) and the
+ * returned {@link ImageView} instances only show a viewport of a page. Unlike
+ * {@link ThemeManager#addImageViewToColorize(ImageView)}, the icons are tinted once per page on the CPU (the color
+ * replaces the color of every pixel, the alpha-channel is kept), which doesn't require an effect per
+ * {@link ImageView}. If a theme-change changes a color, only the pages of this color are tinted again. The pixels are
+ * replaced in place, which updates all {@link ImageView} instances without touching them.
+ * <br><br>
+ * Icons are never moved after they were added, which means that adding icons doesn't affect existing
+ * {@link ImageView} instances. All functions must be called on the JavaFX application thread.
+ * @param <ColorsProvider> The {@link ThemeColorsProvider} type of the {@link ThemeManager}.
+ */
+public class ThemeIconAtlas<ColorsProvider extends ThemeColorsProvider> {
+    private static final int DEFAULT_PAGE_SIZE = 1024;
+
+    private static final int ICON_PADDING = 1;
+
+    /**
+     * A page of the atlas, containing the untinted pixels and a tinted image per color name.
+     */
+    private static final class AtlasPage {
+        private final int[] sourcePixels;
+
+        private final Map<String, WritableImage> colorNameImageMap = new HashMap<>();
+
+        private int shelfX = 0;
+
+        private int shelfY = 0;
+
+        private int shelfHeight = 0;
+
+        private AtlasPage(int pageSize) {
+            this.sourcePixels = new int[pageSize * pageSize];
+        }
+
+        private int getUsedHeight() {
+            return shelfY + shelfHeight;
+        }
+    }
+
+    /**
+     * The position of an icon inside the atlas.
+     */
+    private static final class AtlasIcon {
+        private final int pageIndex;
+
+        private final Rectangle2D viewport;
+
+        private AtlasIcon(int pageIndex, Rectangle2D viewport) {
+            this.pageIndex = pageIndex;
+            this.viewport = viewport;
+        }
+    }
+
+    private final ThemeManager<ColorsProvider> themeManager;
+
+    private final int pageSize;
+
+    private final List<AtlasPage> pages = new ArrayList<>();
+
+    private final Map<String, AtlasIcon> iconNameAtlasIconMap = new HashMap<>();
+
+    private final Map<String, Function<ColorsProvider, ThemeColor>> colorNameThemeColorFunctionMap = new HashMap<>();
+
+    private final Map<String, Color> colorNameTintColorMap = new HashMap<>();
+
+    private int[] tintedPixels;
+
+    private final ThemeManager.ThemeChangeListener<ColorsProvider> themeChangeListener = colorsProvider -> {
+        //Tint all pages of a changed color again.
+
+        for(Map.Entry<String, Function<ColorsProvider, ThemeColor>> tmpEntry :
+                colorNameThemeColorFunctionMap.entrySet()) {
+            Color tmpColor = getThemeManager().getColor(tmpEntry.getValue());
+
+            if(tmpColor.equals(colorNameTintColorMap.get(tmpEntry.getKey())))
+                continue;
+
+            colorNameTintColorMap.put(tmpEntry.getKey(), tmpColor);
+
+            for(AtlasPage tmpPage : pages) {
+                WritableImage tmpImage = tmpPage.colorNameImageMap.get(tmpEntry.getKey());
+
+                if(tmpImage != null)
+                    tintPage(tmpPage, tmpImage, tmpColor, 0, tmpPage.getUsedHeight());
+            }
+        }
+    };
+
+    /**
+     * Creates a new {@link ThemeIconAtlas} with pages of 1024 x 1024 pixels.
+     * @param themeManager The {@link ThemeManager} providing the colors.
+     */
+    public ThemeIconAtlas(ThemeManager<ColorsProvider> themeManager) {
+        this(themeManager, DEFAULT_PAGE_SIZE);
+    }
+
+    /**
+     * Creates a new {@link ThemeIconAtlas}.
+     * @param themeManager The {@link ThemeManager} providing the colors.
+     * @param pageSize The width and height of a page in pixels.
+     */
+    public ThemeIconAtlas(ThemeManager<ColorsProvider> themeManager, int pageSize) {
+        this.themeManager = themeManager;
+        this.pageSize = pageSize;
+        this.tintedPixels = new int[0];
+
+        themeManager.addThemeChangeListener(themeChangeListener);
+    }
+
+    private ThemeManager<ColorsProvider> getThemeManager() {
+        return themeManager;
+    }
+
+    /**
+     * Adds an icon to the atlas. The image must be completely loaded.
+     * @param iconName The unique name of the icon.
+     * @param image The image of the icon.
+     * @return True if the icon was added. False, if an icon with the same name already exists.
+     */
+    public boolean addIcon(String iconName, Image image) {
+        return addIcon(iconName, image, new Rectangle2D(0, 0, image.getWidth(), image.getHeight()));
+    }
+
+    /**
+     * Adds all icons of a sprite-sheet (e.g. the icon-atlas of a {@link ThemeBundle}) to the atlas. The image must be
+     * completely loaded.
+     * @param spriteSheetImage The image containing all icons.
+     * @param iconNameViewportMap The viewport per icon name inside the image.
+     * @return The amount of added icons.
+     */
+    public int addIcons(Image spriteSheetImage, Map<String, Rectangle2D> iconNameViewportMap) {
+        int addedIcons = 0;
+
+        for(Map.Entry<String, Rectangle2D> tmpEntry : iconNameViewportMap.entrySet()) {
+            if(addIcon(tmpEntry.getKey(), spriteSheetImage, tmpEntry.getValue()))
+                addedIcons++;
+        }
+
+        return addedIcons;
+    }
+
+    private boolean addIcon(String iconName, Image image, Rectangle2D sourceViewport) {
+        if(iconNameAtlasIconMap.containsKey(iconName))
+            return false;
+
+        PixelReader pixelReader = image.getPixelReader();
+
+        if(pixelReader == null)
+            throw new IllegalArgumentException("The image of icon \"" + iconName + "\" isn't loaded.");
+
+        int width = (int) sourceViewport.getWidth();
+        int height = (int) sourceViewport.getHeight();
+
+        if(width + ICON_PADDING > pageSize || height + ICON_PADDING > pageSize) {
+            throw new IllegalArgumentException("The icon \"" + iconName + "\" (" + width + " x " + height + ") is " +
+                    "larger than a page of the atlas.");
+        }
+
+        //Find a free place on the current shelf, a new shelf or a new page.
+
+        AtlasPage page = pages.isEmpty() ? null : pages.get(pages.size() - 1);
+
+        if(page != null && page.shelfX + width + ICON_PADDING > pageSize) {
+            page.shelfX = 0;
+            page.shelfY += page.shelfHeight;
+            page.shelfHeight = 0;
+        }
+
+        if(page == null || page.shelfY + height + ICON_PADDING > pageSize) {
+            page = new AtlasPage(pageSize);
+
+            pages.add(page);
+        }
+
+        int x = page.shelfX;
+        int y = page.shelfY;
+
+        page.shelfX += width + ICON_PADDING;
+        page.shelfHeight = Math.max(page.shelfHeight, height + ICON_PADDING);
+
+        pixelReader.getPixels((int) sourceViewport.getMinX(), (int) sourceViewport.getMinY(), width, height,
+                PixelFormat.getIntArgbInstance(), page.sourcePixels, y * pageSize + x, pageSize);
+
+        //Tint the new icon on all existing images of the page.
+
+        for(Map.Entry<String, WritableImage> tmpEntry : page.colorNameImageMap.entrySet())
+            tintPage(page, tmpEntry.getValue(), colorNameTintColorMap.get(tmpEntry.getKey()), y, height);
+
+        iconNameAtlasIconMap.put(iconName, new AtlasIcon(pages.size() - 1, new Rectangle2D(x, y, width, height)));
+
+        return true;
+    }
+
+    /**
+     * Returns true if the atlas contains an icon with the given name.
+     * @param iconName The name of the icon.
+     * @return True if the icon exists.
+     */
+    public boolean containsIcon(String iconName) {
+        return iconNameAtlasIconMap.containsKey(iconName);
+    }
+
+    /**
+     * Creates an {@link ImageView} showing an icon, colorized with the theme-colorization-color.
+     * @param iconName The name of the icon.
+     * @return The created {@link ImageView}.
+     */
+    public ImageView createImageView(String iconName) {
+        return createImageView(iconName, ColorsProvider::getColorizationColor);
+    }
+
+    /**
+     * Creates an {@link ImageView} showing an icon, colorized with the given {@link ThemeColor}.
+     * @param iconName The name of the icon.
+     * @param colorsProviderThemeColorFunction The function providing the {@link ThemeColorsProvider} to return a
+     *                                         certain {@link ThemeColor}.
+     * @return The created {@link ImageView}.
+     */
+    public ImageView createImageView(String iconName,
+                                     Function<ColorsProvider, ThemeColor> colorsProviderThemeColorFunction) {
+        ImageView imageView = new ImageView();
+
+        updateImageView(imageView, iconName, colorsProviderThemeColorFunction);
+
+        return imageView;
+    }
+
+    /**
+     * Shows an icon inside an existing {@link ImageView} (e.g. a reused cell), colorized with the given
+     * {@link ThemeColor}.
+     * @param imageView The {@link ImageView} to update.
+     * @param iconName The name of the icon.
+     * @param colorsProviderThemeColorFunction The function providing the {@link ThemeColorsProvider} to return a
+     *                                         certain {@link ThemeColor}.
+     */
+    public void updateImageView(ImageView imageView, String iconName,
+                                Function<ColorsProvider, ThemeColor> colorsProviderThemeColorFunction) {
+        AtlasIcon atlasIcon = iconNameAtlasIconMap.get(iconName);
+
+        if(atlasIcon == null)
+            throw new IllegalArgumentException("Unable to find icon \"" + iconName + "\".");
+
+        String colorName = colorsProviderThemeColorFunction.apply(themeManager.getColorsProvider()).getColorTitle();
+
+        colorNameThemeColorFunctionMap.putIfAbsent(colorName, colorsProviderThemeColorFunction);
+
+        Color tintColor = colorNameTintColorMap.computeIfAbsent(colorName,
+                tmpColorName -> themeManager.getColor(colorsProviderThemeColorFunction));
+
+        AtlasPage page = pages.get(atlasIcon.pageIndex);
+
+        WritableImage pageImage = page.colorNameImageMap.computeIfAbsent(colorName, tmpColorName -> {
+            WritableImage tmpImage = new WritableImage(pageSize, pageSize);
+
+            tintPage(page, tmpImage, tintColor, 0, page.getUsedHeight());
+
+            return tmpImage;
+        });
+
+        imageView.setImage(pageImage);
+        imageView.setViewport(atlasIcon.viewport);
+    }
+
+    /**
+     * Returns the amount of textures (pages per color) of the atlas.
+     * @return The amount of textures.
+     */
+    public int getTextureCount() {
+        int textureCount = 0;
+
+        for(AtlasPage tmpPage : pages)
+            textureCount += tmpPage.colorNameImageMap.size();
+
+        return textureCount;
+    }
+
+    /**
+     * Removes the internal listener from the {@link ThemeManager}. Existing {@link ImageView} instances keep their
+     * current colors.
+     */
+    public void dispose() {
+        themeManager.removeThemeChangeListener(themeChangeListener);
+    }
+
+    private void tintPage(AtlasPage page, WritableImage image, Color tintColor, int startY, int height) {
+        if(height <= 0)
+            return;
+
+        int pixelCount = pageSize * height;
+
+        if(tintedPixels.length < pixelCount)
+            tintedPixels = new int[pixelCount];
+
+        int tintRgb = ((int) Math.round(tintColor.getRed() * 255) << 16) |
+                ((int) Math.round(tintColor.getGreen() * 255) << 8) | (int) Math.round(tintColor.getBlue() * 255);
+
+        double tintOpacity = tintColor.getOpacity();
+
+        int sourceOffset = startY * pageSize;
+
+        //Replace the color of every pixel and keep the alpha-channel.
+
+        for(int i = 0; i < pixelCount; i++) {
+            int tmpAlpha = (int) Math.round((page.sourcePixels[sourceOffset + i] >>> 24) * tintOpacity);
+
+            tintedPixels[i] = tmpAlpha == 0 ? 0 : (tmpAlpha << 24) | tintRgb;
+        }
+
+        image.getPixelWriter().setPixels(0, startY, pageSize, height, PixelFormat.getIntArgbInstance(), tintedPixels,
+                0, pageSize);
+    }
+}
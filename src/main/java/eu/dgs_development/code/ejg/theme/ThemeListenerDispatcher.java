@@ -0,0 +1,230 @@
+package eu.dgs_development.code.ejg.theme;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+/**
+ * Dispatches notifications to a set of listeners of a {@link ThemeManager}. Listeners are notified ordered by their
+ * priority (a higher priority is notified first, equal priorities in the order of registration). A listener may be
+ * notified asynchronously by an {@link Executor}. An exception thrown by a listener is logged and doesn't affect
+ * the other listeners. The time of every notification is measured per listener.
+ * @param <Listener> The listener type.
+ */
+final class ThemeListenerDispatcher<Listener> {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ThemeListenerDispatcher.class);
+
+    /**
+     * The registration of a listener including its timing.
+     * @param <Listener> The listener type.
+     */
+    private static final class ListenerRegistration<Listener> {
+        private final Listener listener;
+
+        private final int priority;
+
+        private final long registrationIndex;
+
+        private final Executor executor;
+
+        private long notificationCount = 0;
+
+        private long failureCount = 0;
+
+        private long totalNanos = 0;
+
+        private long maxNanos = 0;
+
+        private ListenerRegistration(Listener listener, int priority, long registrationIndex, Executor executor) {
+            this.listener = listener;
+            this.priority = priority;
+            this.registrationIndex = registrationIndex;
+            this.executor = executor;
+        }
+
+        private synchronized void addNotification(long nanos, boolean failed) {
+            notificationCount++;
+            totalNanos += nanos;
+            maxNanos = Math.max(maxNanos, nanos);
+
+            if(failed)
+                failureCount++;
+        }
+
+        private synchronized ThemeListenerTiming createTiming(String listenerType) {
+            return new ThemeListenerTiming(listenerType, listener.toString(), priority, executor != null,
+                    notificationCount, failureCount, totalNanos, maxNanos);
+        }
+    }
+
+    private static final Comparator<ListenerRegistration<?>> REGISTRATION_COMPARATOR =
+            Comparator.<ListenerRegistration<?>>comparingInt(tmpRegistration -> -tmpRegistration.priority)
+                    .thenComparingLong(tmpRegistration -> tmpRegistration.registrationIndex);
+
+    private final String listenerType;
+
+    private final Map<Listener, ListenerRegistration<Listener>> listenerRegistrationMap = new HashMap<>();
+
+    private List<ListenerRegistration<Listener>> sortedRegistrations = Collections.emptyList();
+
+    private long nextRegistrationIndex = 0;
+
+    private volatile long slowListenerNanos;
+
+    /**
+     * Creates a new {@link ThemeListenerDispatcher}.
+     * @param listenerType The name of the listener type (used for logging).
+     * @param slowListenerNanos The time of a notification in nanoseconds, which results in a warning.
+     */
+    ThemeListenerDispatcher(String listenerType, long slowListenerNanos) {
+        this.listenerType = listenerType;
+        this.slowListenerNanos = slowListenerNanos;
+    }
+
+    /**
+     * Tries to add a listener.
+     * @param listener The listener to add.
+     * @param priority The priority of the listener. A higher priority is notified first.
+     * @param executor The {@link Executor} to notify the listener asynchronously or null to notify the listener
+     *                 synchronously.
+     * @return True if the listener didn't exist.
+     */
+    boolean addListener(Listener listener, int priority, Executor executor) {
+        if(listenerRegistrationMap.containsKey(listener))
+            return false;
+
+        listenerRegistrationMap.put(listener, new ListenerRegistration<>(listener, priority, nextRegistrationIndex++,
+                executor));
+
+        updateSortedRegistrations();
+
+        return true;
+    }
+
+    /**
+     * Tries to remove a listener.
+     * @param listener The listener to remove.
+     * @return True if the listener was removed.
+     */
+    boolean removeListener(Listener listener) {
+        if(listenerRegistrationMap.remove(listener) == null)
+            return false;
+
+        updateSortedRegistrations();
+
+        return true;
+    }
+
+    private void updateSortedRegistrations() {
+        List<ListenerRegistration<Listener>> registrations = new ArrayList<>(listenerRegistrationMap.values());
+
+        registrations.sort(REGISTRATION_COMPARATOR);
+
+        //A new list is used, which allows listeners to add or remove listeners during a notification.
+        sortedRegistrations = Collections.unmodifiableList(registrations);
+    }
+
+    /**
+     * Returns true if no listener was added.
+     * @return True if there are no listeners.
+     */
+    boolean isEmpty() {
+        return listenerRegistrationMap.isEmpty();
+    }
+
+    /**
+     * Notifies all listeners ordered by their priority.
+     * @param notification The notification to execute per listener.
+     */
+    void dispatch(Consumer<Listener> notification) {
+        for(ListenerRegistration<Listener> tmpRegistration : sortedRegistrations)
+            dispatch(tmpRegistration, notification);
+    }
+
+    /**
+     * Notifies all synchronously notified listeners ordered by their priority.
+     * @param notification The notification to execute per listener.
+     */
+    void dispatchSynchronously(Consumer<Listener> notification) {
+        for(ListenerRegistration<Listener> tmpRegistration : sortedRegistrations) {
+            if(tmpRegistration.executor == null)
+                notifyListener(tmpRegistration, notification);
+        }
+    }
+
+    /**
+     * Notifies all asynchronously notified listeners ordered by their priority.
+     * @param notification The notification to execute per listener.
+     */
+    void dispatchAsynchronously(Consumer<Listener> notification) {
+        for(ListenerRegistration<Listener> tmpRegistration : sortedRegistrations) {
+            if(tmpRegistration.executor != null)
+                dispatch(tmpRegistration, notification);
+        }
+    }
+
+    /**
+     * Notifies a single added listener (e.g. about the initial state).
+     * @param listener The listener to notify.
+     * @param notification The notification to execute.
+     */
+    void dispatchTo(Listener listener, Consumer<Listener> notification) {
+        ListenerRegistration<Listener> registration = listenerRegistrationMap.get(listener);
+
+        if(registration != null)
+            dispatch(registration, notification);
+    }
+
+    private void dispatch(ListenerRegistration<Listener> registration, Consumer<Listener> notification) {
+        if(registration.executor == null) {
+            notifyListener(registration, notification);
+        }
+        else {
+            registration.executor.execute(() -> notifyListener(registration, notification));
+        }
+    }
+
+    private void notifyListener(ListenerRegistration<Listener> registration, Consumer<Listener> notification) {
+        boolean failed = false;
+
+        long startNanos = System.nanoTime();
+
+        try {
+            notification.accept(registration.listener);
+        }
+        catch (RuntimeException exception) {
+            failed = true;
+
+            LOGGER.error("The " + listenerType + " \"" + registration.listener + "\" failed.", exception);
+        }
+
+        long nanos = System.nanoTime() - startNanos;
+
+        registration.addNotification(nanos, failed);
+
+        if(nanos > slowListenerNanos) {
+            LOGGER.warn("The " + listenerType + " \"" + registration.listener + "\" took " + (nanos / 1_000_000) +
+                    "ms.");
+        }
+    }
+
+    /**
+     * Sets the time of a notification, which results in a warning.
+     * @param slowListenerNanos The time in nanoseconds.
+     */
+    void setSlowListenerNanos(long slowListenerNanos) {
+        this.slowListenerNanos = slowListenerNanos;
+    }
+
+    /**
+     * Adds the timing of every listener to the given list, ordered by their priority.
+     * @param listenerTimings The list to add the timings to.
+     */
+    void collectListenerTimings(List<ThemeListenerTiming> listenerTimings) {
+        for(ListenerRegistration<Listener> tmpRegistration : sortedRegistrations)
+            listenerTimings.add(tmpRegistration.createTiming(listenerType));
+    }
+}
@@ -0,0 +1,108 @@
+package eu.dgs_development.code.ejg.theme;
+
+import java.time.Duration;
+
+/**
+ * A snapshot of the notification timing of a listener added to a {@link ThemeManager} (see
+ * {@link ThemeManager#getListenerTimings()}).
+ */
+public final class ThemeListenerTiming {
+    private final String listenerType;
+
+    private final String listenerName;
+
+    private final int priority;
+
+    private final boolean asynchronous;
+
+    private final long notificationCount;
+
+    private final long failureCount;
+
+    private final long totalNanos;
+
+    private final long maxNanos;
+
+    ThemeListenerTiming(String listenerType, String listenerName, int priority, boolean asynchronous,
+                        long notificationCount, long failureCount, long totalNanos, long maxNanos) {
+        this.listenerType = listenerType;
+        this.listenerName = listenerName;
+        this.priority = priority;
+        this.asynchronous = asynchronous;
+        this.notificationCount = notificationCount;
+        this.failureCount = failureCount;
+        this.totalNanos = totalNanos;
+        this.maxNanos = maxNanos;
+    }
+
+    /**
+     * Returns the type of the listener (e.g. "ThemeChangeListener").
+     * @return The type of the listener.
+     */
+    public String getListenerType() {
+        return listenerType;
+    }
+
+    /**
+     * Returns the name of the listener (the result of its toString-function).
+     * @return The name of the listener.
+     */
+    public String getListenerName() {
+        return listenerName;
+    }
+
+    /**
+     * Returns the priority of the listener.
+     * @return The priority of the listener.
+     */
+    public int getPriority() {
+        return priority;
+    }
+
+    /**
+     * Returns true if the listener is notified by an executor.
+     * @return True if the listener is notified asynchronously.
+     */
+    public boolean isAsynchronous() {
+        return asynchronous;
+    }
+
+    /**
+     * Returns the amount of notifications.
+     * @return The amount of notifications.
+     */
+    public long getNotificationCount() {
+        return notificationCount;
+    }
+
+    /**
+     * Returns the amount of notifications, which threw an exception.
+     * @return The amount of failed notifications.
+     */
+    public long getFailureCount() {
+        return failureCount;
+    }
+
+    /**
+     * Returns the total time of all notifications.
+     * @return The total time.
+     */
+    public Duration getTotalDuration() {
+        return Duration.ofNanos(totalNanos);
+    }
+
+    /**
+     * Returns the time of the slowest notification.
+     * @return The maximum time.
+     */
+    public Duration getMaxDuration() {
+        return Duration.ofNanos(maxNanos);
+    }
+
+    @Override
+    public String toString() {
+        return listenerType + " \"" + listenerName + "\" (priority " + priority + (asynchronous ? ", async" : "") +
+                "): " + notificationCount + " notifications, " + failureCount + " failures, " +
+                (totalNanos / 1_000) + "us total, " + (maxNanos / 1_000) + "us max";
+    }
+}
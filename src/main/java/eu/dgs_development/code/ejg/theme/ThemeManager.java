@@ -1,13 +1,20 @@
 package eu.dgs_development.code.ejg.theme;
 
 import eu.dgs_development.code.ejg.theme.colors.ThemeColor;
+import eu.dgs_development.code.ejg.theme.colors.ThemeColorKey;
 import eu.dgs_development.code.ejg.theme.colors.ThemeColorSource;
 import eu.dgs_development.code.ejg.theme.colors.ThemeColorsProvider;
 import eu.dgs_development.code.ejg.util.ColorToHexStringUtil;
+import eu.dgs_development.code.ejg.util.ConflatingPublisher;
+import eu.dgs_development.code.ejg.util.NodeGraphWalker;
 import eu.dgs_development.code.ejg.util.SingleStylesheetManager;
+import eu.dgs_development.code.ejg.util.StringSizeUtil;
+import javafx.beans.property.ReadOnlyObjectProperty;
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.css.Selector;
+import javafx.scene.Node;
 import javafx.scene.Parent;
 import javafx.scene.effect.ColorAdjust;
-import javafx.scene.effect.Effect;
 import javafx.scene.effect.Light;
 import javafx.scene.effect.Lighting;
 import javafx.scene.image.ImageView;
@@ -17,8 +24,13 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 public class ThemeManager<ColorsProvider extends ThemeColorsProvider> {
     /**
@@ -45,6 +57,19 @@ public class ThemeManager<ColorsProvider extends ThemeColorsProvider> {
          *                      was removed.
          */
         void onParentChange(boolean addedParent, Parent changedParent);
+
+        /**
+         * Gets executed once when multiple managed {@link Parent} instances were added or removed by a bulk-function
+         * (e.g. {@link #addParents(Collection)}). By default {@link #onParentChange(boolean, Parent)} is executed per
+         * instance.
+         * @param addedParents True, if the {@link Parent} instances were added. False, if the {@link Parent}
+         *                     instances were removed.
+         * @param changedParents The affected {@link Parent} instances.
+         */
+        default void onParentsChange(boolean addedParents, Collection<Parent> changedParents) {
+            for(Parent tmpParent : changedParents)
+                onParentChange(addedParents, tmpParent);
+        }
     }
 
     /**
@@ -58,6 +83,19 @@ public class ThemeManager<ColorsProvider extends ThemeColorsProvider> {
          *                         instance was removed.
          */
         void onImageViewChange(boolean addedImageView, ImageView changedImageView);
+
+        /**
+         * Gets executed once when multiple managed {@link ImageView} instances were added or removed by a
+         * bulk-function (e.g. {@link #addImageViewsToColorize(Collection)}). By default
+         * {@link #onImageViewChange(boolean, ImageView)} is executed per instance.
+         * @param addedImageViews True, if the {@link ImageView} instances were added. False, if the
+         *                        {@link ImageView} instances were removed.
+         * @param changedImageViews The affected {@link ImageView} instances.
+         */
+        default void onImageViewsChange(boolean addedImageViews, Collection<ImageView> changedImageViews) {
+            for(ImageView tmpImageView : changedImageViews)
+                onImageViewChange(addedImageViews, tmpImageView);
+        }
     }
 
     /**
@@ -71,55 +109,451 @@ public class ThemeManager<ColorsProvider extends ThemeColorsProvider> {
          *                     removed.
          */
         void onShapeChange(boolean addedShape, Shape changedShape);
+
+        /**
+         * Gets executed once when multiple managed {@link Shape} instances were added or removed by a bulk-function
+         * (e.g. {@link #addShapesToColorize(Collection)}). By default {@link #onShapeChange(boolean, Shape)} is
+         * executed per instance.
+         * @param addedShapes True, if the {@link Shape} instances were added. False, if the {@link Shape} instances
+         *                    were removed.
+         * @param changedShapes The affected {@link Shape} instances.
+         */
+        default void onShapesChange(boolean addedShapes, Collection<Shape> changedShapes) {
+            for(Shape tmpShape : changedShapes)
+                onShapeChange(addedShapes, tmpShape);
+        }
+    }
+
+    /**
+     * The modes to apply the theme-colors to the CSS-string (see {@link #setStylesheetMode(StylesheetMode)}).
+     */
+    public enum StylesheetMode {
+        /**
+         * All "{{colorName}}" variables are replaced with the hex color codes. The whole stylesheet is rendered and
+         * parsed again, if a referenced color changed.
+         */
+        TEXT_SUBSTITUTION,
+
+        /**
+         * All "{{colorName}}" variables are converted once into JavaFX looked-up colors ("-ejg-colorName"). The colors
+         * are defined by a tiny additional stylesheet, which is the only stylesheet rendered and parsed again, if a
+         * referenced color changed. The variables must only be used as color-values.
+         */
+        LOOKED_UP_COLORS
     }
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ThemeManager.class);
 
+    private static final String LOOKED_UP_COLOR_PREFIX = "-ejg-";
+
+    private static final String LOOKED_UP_COLORS_STYLE_CLASS = "ejg-theme-root";
+
+    private static final int TRANSITION_STYLESHEET_STEPS = 4;
+
+    private static final long DEFAULT_SLOW_LISTENER_NANOS = Duration.ofMillis(16).toNanos();
+
+    /**
+     * The default priority of added listeners.
+     */
+    public static final int DEFAULT_LISTENER_PRIORITY = 0;
+
+    /**
+     * The style-class marking {@link ImageView} and {@link Shape} instances, which are colorized with the
+     * theme-colorization-color by {@link #registerNodeGraph(Parent)}.
+     */
+    public static final String COLORIZE_STYLE_CLASS = "ejg-colorize";
+
+    /**
+     * The key of the node-property (see {@link Node#getProperties()}) containing the theme-color name (e.g.
+     * "textColor"), which is used to colorize an {@link ImageView} or {@link Shape} by
+     * {@link #registerNodeGraph(Parent)}. Inside FXML the property is set with
+     * "&lt;properties ejgThemeColor="textColor"/&gt;".
+     */
+    public static final String THEME_COLOR_NODE_PROPERTY = "ejgThemeColor";
+
     //Variables of the set theme-properties.
 
     private String stylesheetCss;
 
+    private StylesheetMode stylesheetMode = StylesheetMode.TEXT_SUBSTITUTION;
+
+    private Duration transitionDuration = Duration.ZERO;
+
+    private Duration transitionFrameTimeLimit = Duration.ofMillis(50);
+
     private ColorsProvider colorsProvider;
 
     private ThemeColorSource themeColorSource;
 
+    private ThemeBundle appliedThemeBundle;
+
     //Variables containing all managed object-instances.
 
     private final Map<String, String> sourceThemeColorNameHexColorMap = new HashMap<>();
 
-    private final Set<ThemeChangeListener<ColorsProvider>> themeChangeListeners = new HashSet<>();
+    private final Map<String, String> overrideColorNameHexColorMap = new HashMap<>();
 
-    private final Set<ParentChangeListener> parentChangeListeners = new HashSet<>();
+    private final ThemeListenerDispatcher<ThemeChangeListener<ColorsProvider>> themeChangeListeners =
+            new ThemeListenerDispatcher<>("ThemeChangeListener", DEFAULT_SLOW_LISTENER_NANOS);
 
-    private final Set<ImageViewChangeListener> imageViewChangeListeners = new HashSet<>();
+    private final ThemeListenerDispatcher<ParentChangeListener> parentChangeListeners =
+            new ThemeListenerDispatcher<>("ParentChangeListener", DEFAULT_SLOW_LISTENER_NANOS);
 
-    private final Set<ShapeChangeListener> shapeChangeListeners = new HashSet<>();
+    private final ThemeListenerDispatcher<ImageViewChangeListener> imageViewChangeListeners =
+            new ThemeListenerDispatcher<>("ImageViewChangeListener", DEFAULT_SLOW_LISTENER_NANOS);
 
-    //private final Set<ImageView> colorizedImageViews = new HashSet<>();
+    private final ThemeListenerDispatcher<ShapeChangeListener> shapeChangeListeners =
+            new ThemeListenerDispatcher<>("ShapeChangeListener", DEFAULT_SLOW_LISTENER_NANOS);
+
+    //All theme-changes share one conflation-key, so a slow subscriber only receives the latest theme.
+    private final ConflatingPublisher<Boolean, ColorsProvider> themeChangePublisher =
+            new ConflatingPublisher<>(tmpColorsProvider -> Boolean.TRUE);
 
     private final Map<ImageView, ThemeColor> colorizationImageViewThemeColorMap = new HashMap<>();
 
     private final Map<Shape, ThemeColor> colorizationShapeTheneColorMap = new HashMap<>();
 
+    //The topmost ancestor of every registered node at the time of its registration, to remove detached nodes.
+
+    private final Map<Node, Node> registeredNodeGraphRootMap = new HashMap<>();
+
+    private final Map<Node, Set<Node>> graphRootRegisteredNodesMap = new HashMap<>();
+
     private final SingleStylesheetManager sharedBaseSingleStylesheetManager = new SingleStylesheetManager();
 
-    private Effect colorizedImageEffect;
+    private final SingleStylesheetManager lookedUpColorsSingleStylesheetManager = new SingleStylesheetManager();
+
+    //Variables containing the resolved palette and all nodes indexed by their color name.
+
+    private ThemePaletteStore themePaletteStore;
+
+    private Map<String, String> resolvedColorNameHexColorMap = null;
+
+    private ThemePaletteStore.StylesheetKey baseStylesheetKey = null;
+
+    private ThemePaletteStore.StylesheetKey lookedUpColorsStylesheetKey = null;
+
+    private final Map<String, Set<ImageView>> colorNameImageViewsMap = new HashMap<>();
+
+    private final Map<String, Set<Shape>> colorNameShapesMap = new HashMap<>();
+
+    private final Map<String, Lighting> colorNameImageEffectMap = new HashMap<>();
+
+    private final Map<String, ReadOnlyObjectWrapper<Color>> colorNameColorPropertyMap = new HashMap<>();
+
+    private ThemeStylesheetTemplate stylesheetTemplate;
+
+    private Set<String> stylesheetCssVariableNames = Collections.emptySet();
+
+    private String renderedStylesheetCss = null;
+
+    //Variables of the array-indexed color resolution (see ThemeColorKey).
+
+    private Class<?> themeColorKeyColorsProviderClass = null;
+
+    private ThemeColor[] keyIndexThemeColors = null;
+
+    private Color[] keyIndexColors = null;
+
+    private String[] keyIndexHexColors = null;
+
+    //Variables of the animated theme-transition (created on the first transition).
+
+    private ThemeColorTransition themeColorTransition = null;
+
+    private final Map<String, Color> transitionColorNameColorMap = new HashMap<>();
+
+    private boolean stylesheetTransition = false;
+
+    //The interpolated looked-up colors are set as inline style, so a step doesn't replace any stylesheet. Every
+    //inline style forces JavaFX to parse the style and to reapply the CSS of the whole subtree, which is why the
+    //looked-up colors only change a few times per transition.
+
+    private int transitionStylesheetStep = -1;
+
+    private final StringBuilder transitionStyleBuilder = new StringBuilder();
+
+    private final Map<Parent, String> transitionParentStyleMap = new HashMap<>();
+
+    private final Map<Parent, String> transitionParentWrittenStyleMap = new HashMap<>();
 
     /**
      * The internal change listener updates all managed object-instances, if a theme-change occurred and a new
-     * ColorsProvider was set.
+     * ColorsProvider was set. Only object-instances bound to a changed color get updated.
      */
     private final ThemeChangeListener<ColorsProvider> internalThemeChangeListener = colorsProvider -> {
-        //Update all colorization images.
+        //Calculate the new palette (shared with other theme-managers) and the names of all changed colors.
+
+        Map<String, String> colorNameHexColorMap = themePaletteStore.acquirePalette(
+                resolveColorNameHexColorMap(colorsProvider));
 
-        colorizationImageViewThemeColorMap.forEach(this::colorizeImageView);
+        Map<String, String> previousColorNameHexColorMap = resolvedColorNameHexColorMap != null ?
+                resolvedColorNameHexColorMap : Collections.emptyMap();
 
-        //Update all colorization shapes.
+        Set<String> changedColorNames = new HashSet<>();
 
-        colorizationShapeTheneColorMap.forEach(this::colorizeShape);
+        colorNameHexColorMap.forEach((tmpColorName, tmpHexColor) -> {
+            if(!tmpHexColor.equals(previousColorNameHexColorMap.get(tmpColorName)))
+                changedColorNames.add(tmpColorName);
+        });
+
+        previousColorNameHexColorMap.keySet().forEach(tmpColorName -> {
+            if(!colorNameHexColorMap.containsKey(tmpColorName))
+                changedColorNames.add(tmpColorName);
+        });
+
+        if(resolvedColorNameHexColorMap != null)
+            themePaletteStore.releasePalette(resolvedColorNameHexColorMap);
+
+        resolvedColorNameHexColorMap = colorNameHexColorMap;
+
+        if(keyIndexColors != null && !changedColorNames.isEmpty()) {
+            Arrays.fill(keyIndexColors, null);
+            Arrays.fill(keyIndexHexColors, null);
+        }
+
+        //Update all colorization images and shapes of the changed colors. Images share one effect per color.
+
+        boolean transition = !transitionDuration.isZero() && !previousColorNameHexColorMap.isEmpty() &&
+                !changedColorNames.isEmpty();
+
+        if(transition) {
+            startColorTransition(changedColorNames, previousColorNameHexColorMap, colorNameHexColorMap);
+        }
+        else {
+            if(themeColorTransition != null)
+                themeColorTransition.finish();
 
-        //Update all parents and the attached stylesheets.
+            for(String tmpColorName : changedColorNames) {
+                String tmpHexColor = colorNameHexColorMap.get(tmpColorName);
 
+                if(tmpHexColor != null)
+                    applyColor(tmpColorName, Color.web(tmpHexColor));
+            }
+        }
+
+        //Update all parents and the attached stylesheets, if the template or a referenced color changed.
+
+        boolean stylesheetCssChanged = !stylesheetCss.equals(renderedStylesheetCss);
+
+        if(!stylesheetCssChanged && Collections.disjoint(changedColorNames, stylesheetCssVariableNames))
+            return;
+
+        renderedStylesheetCss = stylesheetCss;
+
+        if(stylesheetMode == StylesheetMode.LOOKED_UP_COLORS) {
+            //The compiled stylesheet only changes with the template. A color change only replaces the tiny stylesheet.
+
+            String templateCss = stylesheetCss;
+            ThemeStylesheetTemplate template = stylesheetTemplate;
+
+            if(stylesheetCssChanged) {
+                baseStylesheetKey = updateStoredStylesheet(sharedBaseSingleStylesheetManager, baseStylesheetKey,
+                        new ThemePaletteStore.StylesheetKey(ThemePaletteStore.StylesheetKind.COMPILED, templateCss,
+                                null), () -> encodeStylesheetData(template.render(
+                                        ThemeManager::toLookedUpColorName)));
+            }
+
+            //During a transition the inline style of the parents overrides the new looked-up colors.
+
+            lookedUpColorsStylesheetKey = updateStoredStylesheet(lookedUpColorsSingleStylesheetManager,
+                    lookedUpColorsStylesheetKey, new ThemePaletteStore.StylesheetKey(
+                            ThemePaletteStore.StylesheetKind.LOOKED_UP_COLORS, templateCss, colorNameHexColorMap),
+                    () -> encodeStylesheetData(createLookedUpColorsCss(colorNameHexColorMap)));
+        }
+        else {
+            String templateCss = stylesheetCss;
+            ThemeStylesheetTemplate template = stylesheetTemplate;
+
+            baseStylesheetKey = updateStoredStylesheet(sharedBaseSingleStylesheetManager, baseStylesheetKey,
+                    new ThemePaletteStore.StylesheetKey(ThemePaletteStore.StylesheetKind.RENDERED, templateCss,
+                            colorNameHexColorMap), () -> {
+                        //Use the pre-rendered stylesheet of the applied theme-bundle, if it matches.
+                        String preRenderedStylesheetData = getPreRenderedStylesheetDataOrNull(templateCss,
+                                colorNameHexColorMap);
+
+                        if(preRenderedStylesheetData != null)
+                            return preRenderedStylesheetData;
+
+                        return encodeStylesheetData(template.render(colorNameHexColorMap::get));
+                    });
+        }
+    };
+
+    private String getPreRenderedStylesheetDataOrNull(String templateCss, Map<String, String> colorNameHexColorMap) {
+        if(appliedThemeBundle == null)
+            return null;
+
+        String renderedStylesheetData = appliedThemeBundle.getRenderedStylesheetDataOrNull();
+
+        if(renderedStylesheetData == null || !templateCss.equals(appliedThemeBundle.getStylesheetCssOrNull()))
+            return null;
+
+        Map<String, String> bundleColorNameHexColorMap = appliedThemeBundle.getColorNameHexColorMap();
+
+        for(String tmpColorName : stylesheetCssVariableNames) {
+            String tmpBundleHexColor = bundleColorNameHexColorMap.get(tmpColorName);
+
+            if(tmpBundleHexColor == null || !tmpBundleHexColor.equals(colorNameHexColorMap.get(tmpColorName)))
+                return null;
+        }
+
+        return renderedStylesheetData;
+    }
+
+    private ThemePaletteStore.StylesheetKey updateStoredStylesheet(SingleStylesheetManager singleStylesheetManager,
+                                                                   ThemePaletteStore.StylesheetKey previousKey,
+                                                                   ThemePaletteStore.StylesheetKey stylesheetKey,
+                                                                   Supplier<String> stylesheetDataRenderer) {
+        //Acquire the new stylesheet first, to keep an unchanged stylesheet in the store.
+
+        String encodedStylesheetData = themePaletteStore.acquireStylesheet(stylesheetKey, stylesheetDataRenderer);
+
+        releaseStoredStylesheet(previousKey);
+
+        singleStylesheetManager.updateStylesheet(encodedStylesheetData);
+
+        return stylesheetKey;
+    }
+
+    private void releaseStoredStylesheet(ThemePaletteStore.StylesheetKey stylesheetKey) {
+        if(stylesheetKey != null)
+            themePaletteStore.releaseStylesheet(stylesheetKey);
+    }
+
+    private void applyColor(String colorName, Color color) {
+        Lighting imageEffect = colorNameImageEffectMap.get(colorName);
+
+        if(imageEffect != null)
+            ((Light.Distant) imageEffect.getLight()).setColor(color);
+
+        Set<Shape> shapes = colorNameShapesMap.get(colorName);
+
+        if(shapes != null) {
+            for(Shape tmpShape : shapes)
+                tmpShape.setFill(color);
+        }
+
+        ReadOnlyObjectWrapper<Color> colorProperty = colorNameColorPropertyMap.get(colorName);
+
+        if(colorProperty != null)
+            colorProperty.set(color);
+    }
+
+    private void startColorTransition(Set<String> changedColorNames, Map<String, String> previousColorNameHexColorMap,
+                                      Map<String, String> colorNameHexColorMap) {
+        if(themeColorTransition == null) {
+            themeColorTransition = new ThemeColorTransition(this::applyTransitionColor,
+                    this::onTransitionFrameApplied);
+        }
+
+        Map<String, Color> colorNameFromColorMap = new HashMap<>();
+        Map<String, Color> colorNameToColorMap = new HashMap<>();
+
+        for(String tmpColorName : changedColorNames) {
+            String tmpPreviousHexColor = previousColorNameHexColorMap.get(tmpColorName);
+            String tmpHexColor = colorNameHexColorMap.get(tmpColorName);
+
+            if(tmpHexColor == null)
+                continue;
+
+            //New colors have no previous color to start from.
+            if(tmpPreviousHexColor == null) {
+                applyColor(tmpColorName, Color.web(tmpHexColor));
+
+                continue;
+            }
+
+            colorNameFromColorMap.put(tmpColorName, Color.web(tmpPreviousHexColor));
+            colorNameToColorMap.put(tmpColorName, Color.web(tmpHexColor));
+        }
+
+        //The looked-up colors of the stylesheet get interpolated, if a transitioning color is referenced.
+
+        transitionColorNameColorMap.clear();
+
+        transitionStylesheetStep = -1;
+
+        //A running stylesheet transition keeps its remaining colors.
+        stylesheetTransition = stylesheetTransition || (stylesheetMode == StylesheetMode.LOOKED_UP_COLORS &&
+                !Collections.disjoint(colorNameToColorMap.keySet(), stylesheetCssVariableNames));
+
+        themeColorTransition.startTransition(colorNameFromColorMap, colorNameToColorMap, transitionDuration.toNanos(),
+                transitionFrameTimeLimit.toNanos());
+
+        //Apply the old looked-up colors before the new stylesheet gets rendered.
+        onTransitionFrameApplied();
+    }
+
+    private void applyTransitionColor(String colorName, Color color) {
+        applyColor(colorName, color);
+
+        if(stylesheetTransition && stylesheetCssVariableNames.contains(colorName))
+            transitionColorNameColorMap.put(colorName, color);
+    }
+
+    private void onTransitionFrameApplied() {
+        if(!stylesheetTransition)
+            return;
+
+        //The last frame restores the own inline style of all parents, which reveals the new looked-up colors.
+        if(themeColorTransition.isCompleted() || stylesheetMode != StylesheetMode.LOOKED_UP_COLORS) {
+            stylesheetTransition = false;
+
+            transitionStylesheetStep = -1;
+
+            transitionParentWrittenStyleMap.forEach((tmpParent, tmpWrittenStyle) ->
+                    restoreTransitionParentStyle(tmpParent, tmpWrittenStyle));
+
+            transitionParentStyleMap.clear();
+            transitionParentWrittenStyleMap.clear();
+
+            return;
+        }
+
+        //The looked-up colors are only updated, if the coarse stylesheet-step changed.
+
+        int stylesheetStep = (int) (themeColorTransition.getProgress() * TRANSITION_STYLESHEET_STEPS);
+
+        if(stylesheetStep == transitionStylesheetStep)
+            return;
+
+        transitionStylesheetStep = stylesheetStep;
+
+        transitionStyleBuilder.setLength(0);
+
+        transitionColorNameColorMap.forEach((tmpColorName, tmpColor) -> transitionStyleBuilder
+                .append(toLookedUpColorName(tmpColorName)).append(':')
+                .append(ColorToHexStringUtil.colorToHexColorString(tmpColor)).append(';'));
+
+        String transitionStyle = transitionStyleBuilder.toString();
+
+        for(Parent tmpParent : lookedUpColorsSingleStylesheetManager.getStylesheetParents()) {
+            //Keep a style set by the application during the transition as own inline style.
+
+            String tmpCurrentStyle = Objects.requireNonNullElse(tmpParent.getStyle(), "");
+
+            if(!tmpCurrentStyle.equals(transitionParentWrittenStyleMap.get(tmpParent)))
+                transitionParentStyleMap.put(tmpParent, tmpCurrentStyle);
+
+            String tmpParentStyle = transitionParentStyleMap.get(tmpParent);
+
+            String tmpWrittenStyle = tmpParentStyle.isEmpty() ? transitionStyle : tmpParentStyle + ';' +
+                    transitionStyle;
+
+            tmpParent.setStyle(tmpWrittenStyle);
+
+            transitionParentWrittenStyleMap.put(tmpParent, tmpWrittenStyle);
+        }
+    }
+
+    private void restoreTransitionParentStyle(Parent parent, String writtenStyle) {
+        //A style set by the application after the last step already replaced the interpolated colors.
+        if(writtenStyle.equals(parent.getStyle()))
+            parent.setStyle(transitionParentStyleMap.get(parent));
+    }
+
+    private Map<String, String> resolveColorNameHexColorMap(ColorsProvider colorsProvider) {
         Map<String, String> colorNameHexColorMap = new HashMap<>();
 
         for(ThemeColor themeColor : colorsProvider.getAvailableThemeColors()) {
@@ -131,27 +565,128 @@ public class ThemeManager<ColorsProvider extends ThemeColorsProvider> {
 
         colorNameHexColorMap.putAll(sourceThemeColorNameHexColorMap); //Add colors from color source.
 
-        String newStylesheetString = replaceCssColorVariables(stylesheetCss, colorNameHexColorMap);
+        colorNameHexColorMap.putAll(overrideColorNameHexColorMap); //Add colors overwritten by this theme-manager.
 
-        byte[] cssStringBytes = newStylesheetString.getBytes(StandardCharsets.UTF_8);
+        return colorNameHexColorMap;
+    }
 
-        String encodedStylesheetData = "data:text/css;base64," + Base64.getEncoder().encodeToString(cssStringBytes);
+    private void colorizeImageView(ImageView imageView, ThemeColor themeColor) {
+        Lighting colorizedImageEffect = colorNameImageEffectMap.computeIfAbsent(themeColor.getColorTitle(),
+                tmpColorName -> calculateColorizedImageEffect(getColor(themeColor)));
 
-        sharedBaseSingleStylesheetManager.updateStylesheet(encodedStylesheetData);
-    };
+        imageView.setEffect(colorizedImageEffect);
+    }
 
-    private void colorizeImageView(ImageView imageView, ThemeColor themeColor) {
-        Color tmpColorizationColor = getColor(themeColor);
+    private boolean putImageViewToColorize(ImageView imageView, ThemeColor themeColorToSet) {
+        ThemeColor previousThemeColor = colorizationImageViewThemeColorMap.put(imageView, themeColorToSet);
+
+        boolean newImageView = previousThemeColor == null;
 
-        Effect tmpColorizedImageEffect = calculateColorizedImageEffect(tmpColorizationColor);
+        if(!newImageView && !previousThemeColor.equals(themeColorToSet)) {
+            removeFromColorNameIndex(colorNameImageViewsMap, previousThemeColor, imageView);
 
-        imageView.setEffect(tmpColorizedImageEffect);
+            addToColorNameIndex(colorNameImageViewsMap, themeColorToSet, imageView);
+
+            colorizeImageView(imageView, themeColorToSet);
+        }
+
+        if(newImageView) {
+            trackRegistration(imageView);
+
+            addToColorNameIndex(colorNameImageViewsMap, themeColorToSet, imageView);
+
+            colorizeImageView(imageView, themeColorToSet);
+        }
+
+        return newImageView;
+    }
+
+    private boolean takeImageViewToColorize(ImageView imageView) {
+        ThemeColor themeColor = colorizationImageViewThemeColorMap.remove(imageView);
+
+        if(themeColor == null)
+            return false;
+
+        untrackRegistration(imageView);
+
+        removeFromColorNameIndex(colorNameImageViewsMap, themeColor, imageView);
+
+        imageView.setEffect(null);
+
+        return true;
+    }
+
+    private boolean putShapeToColorize(Shape shape, ThemeColor themeColorToSet, Color colorToSet) {
+        ThemeColor previousThemeColor = colorizationShapeTheneColorMap.put(shape, themeColorToSet);
+
+        boolean newShape = previousThemeColor == null;
+
+        if(!newShape && !previousThemeColor.equals(themeColorToSet)) {
+            removeFromColorNameIndex(colorNameShapesMap, previousThemeColor, shape);
+
+            addToColorNameIndex(colorNameShapesMap, themeColorToSet, shape);
+
+            shape.setFill(colorToSet);
+        }
+
+        if(newShape) {
+            trackRegistration(shape);
+
+            addToColorNameIndex(colorNameShapesMap, themeColorToSet, shape);
+
+            shape.setFill(colorToSet);
+        }
+
+        return newShape;
     }
 
-    private void colorizeShape(Shape shape, ThemeColor themeColor) {
-        Color tmpColorizationColor = getColor(themeColor);
+    private boolean takeShapeToColorize(Shape shape) {
+        ThemeColor themeColor = colorizationShapeTheneColorMap.remove(shape);
+
+        if(themeColor == null)
+            return false;
+
+        untrackRegistration(shape);
 
-        shape.setFill(tmpColorizationColor);
+        removeFromColorNameIndex(colorNameShapesMap, themeColor, shape);
+
+        return true;
+    }
+
+    private void trackRegistration(Node node) {
+        Node graphRoot = node;
+
+        while (graphRoot.getParent() != null)
+            graphRoot = graphRoot.getParent();
+
+        registeredNodeGraphRootMap.put(node, graphRoot);
+
+        graphRootRegisteredNodesMap.computeIfAbsent(graphRoot, tmpGraphRoot -> new HashSet<>()).add(node);
+    }
+
+    private void untrackRegistration(Node node) {
+        Node graphRoot = registeredNodeGraphRootMap.remove(node);
+
+        if(graphRoot == null)
+            return;
+
+        Set<Node> registeredNodes = graphRootRegisteredNodesMap.get(graphRoot);
+
+        if(registeredNodes != null && registeredNodes.remove(node) && registeredNodes.isEmpty())
+            graphRootRegisteredNodesMap.remove(graphRoot);
+    }
+
+    private static <T> void addToColorNameIndex(Map<String, Set<T>> colorNameIndexMap, ThemeColor themeColor,
+                                                T node) {
+        colorNameIndexMap.computeIfAbsent(themeColor.getColorTitle(), tmpColorName -> new HashSet<>()).add(node);
+    }
+
+    private static <T> void removeFromColorNameIndex(Map<String, Set<T>> colorNameIndexMap, ThemeColor themeColor,
+                                                     T node) {
+        Set<T> nodes = colorNameIndexMap.get(themeColor.getColorTitle());
+
+        if(nodes != null && nodes.remove(node) && nodes.isEmpty())
+            colorNameIndexMap.remove(themeColor.getColorTitle());
     }
 
     /**
@@ -163,12 +698,29 @@ public class ThemeManager<ColorsProvider extends ThemeColorsProvider> {
     }
 
     /**
-     * Creates a new {@link ThemeManager} with the given CSS-string and the initial colors-provider.
+     * Creates a new {@link ThemeManager} with the given CSS-string and the initial colors-provider. The
+     * {@link ThemeManager} uses its own {@link ThemePaletteStore}, which is collected together with the
+     * {@link ThemeManager}.
      * @param stylesheetCss The initial CSS-string to set (e.g. the content of a CSS file).
      * @param initialColorsProvider The initial colors-provider to use.
      */
     public ThemeManager(String stylesheetCss, ColorsProvider initialColorsProvider) {
-        this.stylesheetCss = stylesheetCss;
+        this(stylesheetCss, initialColorsProvider, new ThemePaletteStore());
+    }
+
+    /**
+     * Creates a new {@link ThemeManager} with the given CSS-string, the initial colors-provider and the store, which
+     * shares the palettes and stylesheets with other theme-managers. A {@link ThemeManager} using a shared store
+     * should call {@link #releaseStoredPalette()}, if it isn't used anymore.
+     * @param stylesheetCss The initial CSS-string to set (e.g. the content of a CSS file).
+     * @param initialColorsProvider The initial colors-provider to use.
+     * @param themePaletteStore The {@link ThemePaletteStore} to use.
+     */
+    public ThemeManager(String stylesheetCss, ColorsProvider initialColorsProvider,
+                        ThemePaletteStore themePaletteStore) {
+        this.themePaletteStore = themePaletteStore;
+
+        updateStylesheetTemplate(stylesheetCss);
 
         //Set the default colors provider.
         setColorsProvider(initialColorsProvider);
@@ -216,6 +768,23 @@ public class ThemeManager<ColorsProvider extends ThemeColorsProvider> {
         notifyThemeChangeListeners(colorsProvider);
     }
 
+    /**
+     * Applies a precompiled {@link ThemeBundle}: The colors of the bundle are set as {@link ThemeColorSource} and the
+     * CSS-template of the bundle (if available) replaces the set CSS-string. The pre-rendered stylesheet of the bundle
+     * is used instead of rendering the stylesheet, as long as the referenced colors match the bundle.
+     * @param themeBundle The {@link ThemeBundle} to apply.
+     */
+    public void applyThemeBundle(ThemeBundle themeBundle) {
+        this.appliedThemeBundle = themeBundle;
+
+        String bundleStylesheetCss = themeBundle.getStylesheetCssOrNull();
+
+        if(bundleStylesheetCss != null && !bundleStylesheetCss.equals(stylesheetCss))
+            updateStylesheetTemplate(bundleStylesheetCss);
+
+        setThemeColorSource(themeBundle.getThemeColorSource());
+    }
+
     /**
      * Removes the current set {@link ThemeColorSource} and all overwritten theme-colors.
      * @return The removed {@link ThemeColorSource} or null, if no color-source was removed.
@@ -225,6 +794,7 @@ public class ThemeManager<ColorsProvider extends ThemeColorsProvider> {
             ThemeColorSource themeColorSourceToRemove = themeColorSource;
 
             themeColorSource = null;
+            appliedThemeBundle = null;
 
             sourceThemeColorNameHexColorMap.clear();
 
@@ -236,6 +806,187 @@ public class ThemeManager<ColorsProvider extends ThemeColorsProvider> {
         return null;
     }
 
+    /**
+     * Overwrites a theme-color only for this {@link ThemeManager} (e.g. a highlight-color of a single window). The
+     * override is applied on top of the {@link ColorsProvider} and the {@link ThemeColorSource}.
+     * @param colorsProviderThemeColorFunction The function providing the {@link ThemeColorsProvider} to return a
+     *                                         certain {@link ThemeColor}.
+     * @param color The color to use.
+     */
+    public void setColorOverride(Function<ColorsProvider, ThemeColor> colorsProviderThemeColorFunction, Color color) {
+        ThemeColor themeColor = colorsProviderThemeColorFunction.apply(colorsProvider);
+
+        String hexColor = ColorToHexStringUtil.colorToHexColorString(color);
+
+        if(hexColor.equals(overrideColorNameHexColorMap.put(themeColor.getColorTitle(), hexColor)))
+            return;
+
+        notifyThemeChangeListeners(colorsProvider);
+    }
+
+    /**
+     * Tries to remove an overwritten theme-color of this {@link ThemeManager}.
+     * @param colorsProviderThemeColorFunction The function providing the {@link ThemeColorsProvider} to return a
+     *                                         certain {@link ThemeColor}.
+     * @return True if the override was removed.
+     */
+    public boolean removeColorOverride(Function<ColorsProvider, ThemeColor> colorsProviderThemeColorFunction) {
+        ThemeColor themeColor = colorsProviderThemeColorFunction.apply(colorsProvider);
+
+        boolean removedOverride = overrideColorNameHexColorMap.remove(themeColor.getColorTitle()) != null;
+
+        if(removedOverride)
+            notifyThemeChangeListeners(colorsProvider);
+
+        return removedOverride;
+    }
+
+    /**
+     * Releases the palette and the stylesheets, which this {@link ThemeManager} holds in its
+     * {@link ThemePaletteStore}. Managed {@link Parent} instances keep their current stylesheet. This function should
+     * be called, if the {@link ThemeManager} isn't used anymore. A subsequent theme-change acquires them again.
+     */
+    public void releaseStoredPalette() {
+        if(themeColorTransition != null)
+            themeColorTransition.finish();
+
+        if(resolvedColorNameHexColorMap != null)
+            themePaletteStore.releasePalette(resolvedColorNameHexColorMap);
+
+        releaseStoredStylesheet(baseStylesheetKey);
+        releaseStoredStylesheet(lookedUpColorsStylesheetKey);
+
+        resolvedColorNameHexColorMap = null;
+        baseStylesheetKey = null;
+        lookedUpColorsStylesheetKey = null;
+        renderedStylesheetCss = null;
+    }
+
+    /**
+     * Returns the {@link ThemePaletteStore}, which shares the palettes and stylesheets with other theme-managers.
+     * @return The used {@link ThemePaletteStore}.
+     */
+    public ThemePaletteStore getThemePaletteStore() {
+        return themePaletteStore;
+    }
+
+    /**
+     * Replaces the CSS-string (e.g. the content of a CSS file) and updates the stylesheet of all managed
+     * {@link Parent} instances. The CSS-string is minified once: Comments are removed, duplicated rules are merged
+     * and declarations with unknown CSS-variables are dropped.
+     * @param stylesheetCss The new CSS-string to set.
+     */
+    public void setStylesheetCss(String stylesheetCss) {
+        if(stylesheetCss.equals(this.stylesheetCss))
+            return;
+
+        updateStylesheetTemplate(stylesheetCss);
+
+        notifyThemeChangeListeners(colorsProvider);
+    }
+
+    private void updateStylesheetTemplate(String stylesheetCss) {
+        //The template is parsed and minified once. Every theme-change only substitutes the variables.
+
+        this.stylesheetCss = stylesheetCss;
+        this.stylesheetTemplate = ThemeStylesheetTemplate.preprocess(stylesheetCss);
+        this.stylesheetCssVariableNames = stylesheetTemplate.getVariableNames();
+    }
+
+    /**
+     * Returns the set CSS-string.
+     * @return The set CSS-string.
+     */
+    public String getStylesheetCss() {
+        return stylesheetCss;
+    }
+
+    /**
+     * Sets the mode to apply the theme-colors to the CSS-string and updates the stylesheet of all managed
+     * {@link Parent} instances. The default mode is {@link StylesheetMode#TEXT_SUBSTITUTION}. In the mode
+     * {@link StylesheetMode#LOOKED_UP_COLORS} all managed {@link Parent} instances get the style class
+     * "ejg-theme-root", which defines the looked-up colors.
+     * @param stylesheetMode The {@link StylesheetMode} to set.
+     */
+    public void setStylesheetMode(StylesheetMode stylesheetMode) {
+        if(stylesheetMode == this.stylesheetMode)
+            return;
+
+        this.stylesheetMode = stylesheetMode;
+
+        boolean lookedUpColorsMode = stylesheetMode == StylesheetMode.LOOKED_UP_COLORS;
+
+        for(Parent tmpParent : sharedBaseSingleStylesheetManager.getStylesheetParents()) {
+            if(lookedUpColorsMode) {
+                addLookedUpColorsParent(tmpParent);
+            }
+            else {
+                removeLookedUpColorsParent(tmpParent);
+            }
+        }
+
+        if(!lookedUpColorsMode) {
+            releaseStoredStylesheet(lookedUpColorsStylesheetKey);
+
+            lookedUpColorsStylesheetKey = null;
+        }
+
+        //Render the stylesheet again.
+        renderedStylesheetCss = null;
+
+        notifyThemeChangeListeners(colorsProvider);
+    }
+
+    /**
+     * Sets the duration of the animated transition between the old and the new colors of a theme-change. The colors of
+     * all managed {@link Shape} and {@link ImageView} instances, all color-properties (see
+     * {@link #colorProperty(Function)}) and the looked-up colors of the stylesheet (see
+     * {@link StylesheetMode#LOOKED_UP_COLORS}) get interpolated. Replaced stylesheets of the mode
+     * {@link StylesheetMode#TEXT_SUBSTITUTION} are applied instantly. During a transition the interpolated looked-up
+     * colors are set as inline style of the managed {@link Parent} instances, whose own inline style is restored
+     * afterwards (if the application didn't replace the inline style in the meantime). Because every inline style
+     * causes JavaFX to reapply the CSS of the whole subtree, the looked-up colors only change in a few
+     * coarse steps, while the other colors change about once per frame. A duration of zero (the default) disables the
+     * transition.
+     * @param transitionDuration The duration of the transition.
+     */
+    public void setTransitionDuration(Duration transitionDuration) {
+        this.transitionDuration = transitionDuration;
+    }
+
+    /**
+     * Returns the duration of the animated transition of a theme-change.
+     * @return The duration of the transition.
+     */
+    public Duration getTransitionDuration() {
+        return transitionDuration;
+    }
+
+    /**
+     * Sets the maximum time between two frames of an animated transition (default 50 milliseconds). If the frame rate
+     * drops below this limit, the transition jumps to the new colors.
+     * @param transitionFrameTimeLimit The maximum time between two frames.
+     */
+    public void setTransitionFrameTimeLimit(Duration transitionFrameTimeLimit) {
+        this.transitionFrameTimeLimit = transitionFrameTimeLimit;
+    }
+
+    /**
+     * Returns the maximum time between two frames of an animated transition.
+     * @return The maximum time between two frames.
+     */
+    public Duration getTransitionFrameTimeLimit() {
+        return transitionFrameTimeLimit;
+    }
+
+    /**
+     * Returns the set {@link StylesheetMode}.
+     * @return The set {@link StylesheetMode}.
+     */
+    public StylesheetMode getStylesheetMode() {
+        return stylesheetMode;
+    }
+
     /**
      * Returns the set {@link ColorsProvider}.
      * @return The set colors provider.
@@ -272,11 +1023,28 @@ public class ThemeManager<ColorsProvider extends ThemeColorsProvider> {
      * @return True if the listener didn't exist in the internal set.
      */
     public boolean addThemeChangeListener(ThemeChangeListener<ColorsProvider> themeChangeListener) {
-        boolean newListener = themeChangeListeners.add(themeChangeListener);
+        return addThemeChangeListener(themeChangeListener, DEFAULT_LISTENER_PRIORITY, null);
+    }
+
+    /**
+     * Tries to add a {@link ThemeChangeListener} to notify, if the theme changes. Listeners with a higher priority are
+     * notified first. A listener, which doesn't access nodes, may be notified asynchronously by an {@link Executor}.
+     * @param themeChangeListener The listener to add.
+     * @param priority The priority of the listener (default {@link #DEFAULT_LISTENER_PRIORITY}).
+     * @param executor The {@link Executor} to notify the listener or null to notify it on the calling thread.
+     * @return True if the listener didn't exist in the internal set.
+     */
+    public boolean addThemeChangeListener(ThemeChangeListener<ColorsProvider> themeChangeListener, int priority,
+                                          Executor executor) {
+        boolean newListener = themeChangeListeners.addListener(themeChangeListener, priority, executor);
 
         //Notify the listener about the initial theme.
-        if(newListener)
-            themeChangeListener.onThemeChange(colorsProvider);
+        if(newListener) {
+            ColorsProvider currentColorsProvider = colorsProvider;
+
+            themeChangeListeners.dispatchTo(themeChangeListener,
+                    tmpListener -> tmpListener.onThemeChange(currentColorsProvider));
+        }
 
         return newListener;
     }
@@ -287,7 +1055,7 @@ public class ThemeManager<ColorsProvider extends ThemeColorsProvider> {
      * @return True if the listener was removed from the internal set.
      */
     public boolean removeThemeChangeListener(ThemeChangeListener<ColorsProvider> themeChangeListener) {
-        return themeChangeListeners.remove(themeChangeListener);
+        return themeChangeListeners.removeListener(themeChangeListener);
     }
 
     /**
@@ -296,7 +1064,19 @@ public class ThemeManager<ColorsProvider extends ThemeColorsProvider> {
      * @return True if the listener didn't exist in the internal set.
      */
     public boolean addImageViewChangeListener(ImageViewChangeListener imageViewChangeListener) {
-        return imageViewChangeListeners.add(imageViewChangeListener);
+        return addImageViewChangeListener(imageViewChangeListener, DEFAULT_LISTENER_PRIORITY, null);
+    }
+
+    /**
+     * Tries to add a {@link ImageViewChangeListener} to notify if a {@link ImageView} is added or removed.
+     * @param imageViewChangeListener The listener to add.
+     * @param priority The priority of the listener (default {@link #DEFAULT_LISTENER_PRIORITY}).
+     * @param executor The {@link Executor} to notify the listener or null to notify it on the calling thread.
+     * @return True if the listener didn't exist in the internal set.
+     */
+    public boolean addImageViewChangeListener(ImageViewChangeListener imageViewChangeListener, int priority,
+                                              Executor executor) {
+        return imageViewChangeListeners.addListener(imageViewChangeListener, priority, executor);
     }
 
     /**
@@ -304,17 +1084,28 @@ public class ThemeManager<ColorsProvider extends ThemeColorsProvider> {
      * @param imageViewChangeListener The listener to remove.
      * @return True if the listener was removed from the internal set.
      */
-    public boolean removeImageViewChangeListener(ImageViewChangeListener imageViewChangeListener) {
-        return imageViewChangeListeners.remove(imageViewChangeListener);
+    public boolean removeImageViewChangeListener(ImageViewChangeListener imageViewChangeListener) {
+        return imageViewChangeListeners.removeListener(imageViewChangeListener);
+    }
+
+    /**
+     * Tries to add a {@link ShapeChangeListener} to notify if a {@link Shape} is added or removed.
+     * @param shapeChangeListener The listener to add.
+     * @return True if the listener didn't exist in the internal set.
+     */
+    public boolean addShapeChangeListener(ShapeChangeListener shapeChangeListener) {
+        return addShapeChangeListener(shapeChangeListener, DEFAULT_LISTENER_PRIORITY, null);
     }
 
     /**
      * Tries to add a {@link ShapeChangeListener} to notify if a {@link Shape} is added or removed.
      * @param shapeChangeListener The listener to add.
+     * @param priority The priority of the listener (default {@link #DEFAULT_LISTENER_PRIORITY}).
+     * @param executor The {@link Executor} to notify the listener or null to notify it on the calling thread.
      * @return True if the listener didn't exist in the internal set.
      */
-    public boolean addShapeChangeListener(ShapeChangeListener shapeChangeListener) {
-        return shapeChangeListeners.add(shapeChangeListener);
+    public boolean addShapeChangeListener(ShapeChangeListener shapeChangeListener, int priority, Executor executor) {
+        return shapeChangeListeners.addListener(shapeChangeListener, priority, executor);
     }
 
     /**
@@ -323,7 +1114,7 @@ public class ThemeManager<ColorsProvider extends ThemeColorsProvider> {
      * @return True if the listener was removed from the internal set.
      */
     public boolean removeShapeChangeListener(ShapeChangeListener shapeChangeListener) {
-        return shapeChangeListeners.remove(shapeChangeListener);
+        return shapeChangeListeners.removeListener(shapeChangeListener);
     }
 
     /**
@@ -332,7 +1123,22 @@ public class ThemeManager<ColorsProvider extends ThemeColorsProvider> {
      * @return True if the listener didn't exist in the internal set.
      */
     public boolean addParentChangeListener(ParentChangeListener parentChangeListener) {
-        return parentChangeListeners.add(parentChangeListener);
+        return addParentChangeListener(parentChangeListener, DEFAULT_LISTENER_PRIORITY, null);
+    }
+
+    /**
+     * Tries to add a {@link ParentChangeListener} to notify if a {@link Parent} is added or removed. Synchronously
+     * notified listeners are notified before the stylesheet is added to the {@link Parent}, which allows them to add
+     * their own stylesheets first. An asynchronously notified listener is dispatched to its {@link Executor} after the
+     * stylesheet was added (even if the {@link Executor} runs the listener directly).
+     * @param parentChangeListener The listener to add.
+     * @param priority The priority of the listener (default {@link #DEFAULT_LISTENER_PRIORITY}).
+     * @param executor The {@link Executor} to notify the listener or null to notify it on the calling thread.
+     * @return True if the listener didn't exist in the internal set.
+     */
+    public boolean addParentChangeListener(ParentChangeListener parentChangeListener, int priority,
+                                           Executor executor) {
+        return parentChangeListeners.addListener(parentChangeListener, priority, executor);
     }
 
     /**
@@ -341,7 +1147,63 @@ public class ThemeManager<ColorsProvider extends ThemeColorsProvider> {
      * @return True if the listener was removed from the internal set.
      */
     public boolean removeParentChangeListener(ParentChangeListener parentChangeListener) {
-        return parentChangeListeners.remove(parentChangeListener);
+        return parentChangeListeners.removeListener(parentChangeListener);
+    }
+
+    /**
+     * Returns a backpressure-aware {@link Flow.Publisher} of all theme-changes. Every subscriber receives the current
+     * {@link ColorsProvider} instance first. In contrast to a {@link ThemeChangeListener}, subscribers are notified
+     * by the common fork-join-pool and never block the JavaFX application thread: If a subscriber didn't request more
+     * items, bursty theme-changes (e.g. during a theme-transition) are conflated to the latest instance.
+     * @return The publisher of all theme-changes.
+     */
+    public Flow.Publisher<ColorsProvider> getThemeChangePublisher() {
+        return tmpSubscriber -> themeChangePublisher.subscribe(tmpSubscriber, colorsProvider);
+    }
+
+    /**
+     * Sets the time of a single listener-notification, which results in a logged warning (default 16ms). Exceptions
+     * thrown by listeners are always logged and don't affect the other listeners.
+     * @param slowListenerWarningThreshold The time of a slow notification.
+     */
+    public void setSlowListenerWarningThreshold(Duration slowListenerWarningThreshold) {
+        long slowListenerNanos = slowListenerWarningThreshold.toNanos();
+
+        themeChangeListeners.setSlowListenerNanos(slowListenerNanos);
+        parentChangeListeners.setSlowListenerNanos(slowListenerNanos);
+        imageViewChangeListeners.setSlowListenerNanos(slowListenerNanos);
+        shapeChangeListeners.setSlowListenerNanos(slowListenerNanos);
+    }
+
+    /**
+     * Returns the notification timing of all added listeners, grouped by their type and ordered by their priority.
+     * @return The timing of all listeners.
+     */
+    public List<ThemeListenerTiming> getListenerTimings() {
+        List<ThemeListenerTiming> listenerTimings = new ArrayList<>();
+
+        themeChangeListeners.collectListenerTimings(listenerTimings);
+        parentChangeListeners.collectListenerTimings(listenerTimings);
+        imageViewChangeListeners.collectListenerTimings(listenerTimings);
+        shapeChangeListeners.collectListenerTimings(listenerTimings);
+
+        return listenerTimings;
+    }
+
+    /**
+     * Returns the approximate memory footprint of all registrations (e.g. for monitoring). Stylesheets shared with other
+     * {@link ThemeManager} instances (see {@link ThemePaletteStore}) are included in the footprint of every instance.
+     * @return The footprint of all registrations.
+     */
+    public ThemeRegistrationFootprint getRegistrationFootprint() {
+        long stylesheetBytes = StringSizeUtil.getStringBytes(stylesheetCss) +
+                StringSizeUtil.getStringBytes(renderedStylesheetCss) +
+                StringSizeUtil.getStringBytes(sharedBaseSingleStylesheetManager.getStylesheetString()) +
+                StringSizeUtil.getStringBytes(lookedUpColorsSingleStylesheetManager.getStylesheetString());
+
+        return new ThemeRegistrationFootprint(sharedBaseSingleStylesheetManager.getStylesheetParents().size(),
+                colorizationImageViewThemeColorMap.size(), colorizationShapeTheneColorMap.size(),
+                colorNameImageEffectMap.size(), colorNameColorPropertyMap.size(), stylesheetBytes);
     }
 
     /**
@@ -352,13 +1214,27 @@ public class ThemeManager<ColorsProvider extends ThemeColorsProvider> {
      * @return The found {@link Color} instance.
      */
     public Color getColor(Function<ColorsProvider, ThemeColor> colorsProviderThemeColorFunction) {
+        int keyIndex = getThemeColorKeyIndex(colorsProviderThemeColorFunction);
+
+        if(keyIndex >= 0) {
+            Color color = keyIndexColors[keyIndex];
+
+            if(color == null) {
+                color = getColor(keyIndexThemeColors[keyIndex]);
+
+                keyIndexColors[keyIndex] = color;
+            }
+
+            return color;
+        }
+
         ThemeColor themeColor = colorsProviderThemeColorFunction.apply(getColorsProvider());
 
         return getColor(themeColor);
     }
 
     private Color getColor(ThemeColor themeColor) {
-        String hexColor = sourceThemeColorNameHexColorMap.get(themeColor.getColorTitle());
+        String hexColor = getOverwrittenHexColor(themeColor);
 
         if(hexColor != null) {
             return Color.web(hexColor);
@@ -368,6 +1244,35 @@ public class ThemeManager<ColorsProvider extends ThemeColorsProvider> {
         }
     }
 
+    private String getOverwrittenHexColor(ThemeColor themeColor) {
+        String hexColor = overrideColorNameHexColorMap.get(themeColor.getColorTitle());
+
+        if(hexColor == null)
+            hexColor = sourceThemeColorNameHexColorMap.get(themeColor.getColorTitle());
+
+        return hexColor;
+    }
+
+    /**
+     * Returns a read-only property containing the {@link Color} instance for a certain {@link ThemeColor}. The
+     * property is updated once per theme-change, if the color changed. It can be bound directly to node-properties
+     * (e.g. "shape.fillProperty().bind(...)"), which updates only the dependent bindings instead of notifying every
+     * {@link ThemeChangeListener}. There is only one property per theme-color name.
+     * @param colorsProviderThemeColorFunction The function providing the {@link ThemeColorsProvider} to return a
+     *                                         certain {@link ThemeColor}.
+     * @return The property containing the current {@link Color} instance.
+     */
+    public ReadOnlyObjectProperty<Color> colorProperty(
+            Function<ColorsProvider, ThemeColor> colorsProviderThemeColorFunction) {
+        ThemeColor themeColor = colorsProviderThemeColorFunction.apply(colorsProvider);
+
+        ReadOnlyObjectWrapper<Color> colorProperty = colorNameColorPropertyMap.computeIfAbsent(
+                themeColor.getColorTitle(), tmpColorName -> new ReadOnlyObjectWrapper<>(this, tmpColorName,
+                        getColor(themeColor)));
+
+        return colorProperty.getReadOnlyProperty();
+    }
+
     /**
      * Returns the hex color for a certain {@link ThemeColor}. If there is no overwrite the default color is returned.
      * @param colorsProviderThemeColorFunction The function providing the {@link ThemeColorsProvider} to return a
@@ -375,13 +1280,62 @@ public class ThemeManager<ColorsProvider extends ThemeColorsProvider> {
      * @return The found hex color.
      */
     public String getHexColor(Function<ColorsProvider, ThemeColor> colorsProviderThemeColorFunction) {
+        int keyIndex = getThemeColorKeyIndex(colorsProviderThemeColorFunction);
+
+        if(keyIndex >= 0) {
+            String hexColor = keyIndexHexColors[keyIndex];
+
+            if(hexColor == null) {
+                hexColor = getHexColor(keyIndexThemeColors[keyIndex]);
+
+                keyIndexHexColors[keyIndex] = hexColor;
+            }
+
+            return hexColor;
+        }
+
         ThemeColor themeColor = colorsProviderThemeColorFunction.apply(colorsProvider);
 
         return getHexColor(themeColor);
     }
 
+    /**
+     * Returns the index of a {@link ThemeColorKey} and prepares the arrays of the array-indexed color resolution.
+     * @param colorsProviderThemeColorFunction The function, which may be a {@link ThemeColorKey}.
+     * @return The index of the key or -1, if the function isn't a key of the set {@link ColorsProvider}.
+     */
+    private int getThemeColorKeyIndex(Function<ColorsProvider, ThemeColor> colorsProviderThemeColorFunction) {
+        if(!(colorsProviderThemeColorFunction instanceof ThemeColorKey))
+            return -1;
+
+        ThemeColorKey<?> themeColorKey = (ThemeColorKey<?>) colorsProviderThemeColorFunction;
+
+        if(keyIndexThemeColors == null) {
+            if(!themeColorKey.getColorsProviderClass().isInstance(colorsProvider))
+                return -1;
+
+            themeColorKeyColorsProviderClass = themeColorKey.getColorsProviderClass();
+
+            keyIndexThemeColors = new ThemeColor[themeColorKey.getKeyCount()];
+            keyIndexColors = new Color[themeColorKey.getKeyCount()];
+            keyIndexHexColors = new String[themeColorKey.getKeyCount()];
+        }
+        else if(themeColorKey.getColorsProviderClass() != themeColorKeyColorsProviderClass) {
+            //Keys of different classes have overlapping indexes.
+            return -1;
+        }
+
+        int keyIndex = themeColorKey.getIndex();
+
+        //The colors-provider can't be replaced, which means that the theme-color of a key never changes.
+        if(keyIndexThemeColors[keyIndex] == null)
+            keyIndexThemeColors[keyIndex] = colorsProviderThemeColorFunction.apply(colorsProvider);
+
+        return keyIndex;
+    }
+
     private String getHexColor(ThemeColor themeColor) {
-        String hexColor = sourceThemeColorNameHexColorMap.get(themeColor.getColorTitle());
+        String hexColor = getOverwrittenHexColor(themeColor);
 
         if(hexColor == null)
             hexColor = ColorToHexStringUtil.colorToHexColorString(themeColor.getDefaultColor());
@@ -407,20 +1361,76 @@ public class ThemeManager<ColorsProvider extends ThemeColorsProvider> {
      */
     public boolean addImageViewToColorize(ImageView imageView,
                                           Function<ColorsProvider, ThemeColor> colorsProviderThemeColorFunction) {
+        boolean newImageView = putImageViewToColorize(imageView,
+                colorsProviderThemeColorFunction.apply(colorsProvider));
+
+        if(newImageView)
+            imageViewChangeListeners.dispatch(tmpListener -> tmpListener.onImageViewChange(true, imageView));
+
+        return newImageView;
+    }
+
+    /**
+     * Adds multiple {@link ImageView} instances to colorize according to the theme-colorization-color. The listeners
+     * are notified once about all added instances.
+     * @param imageViews The {@link ImageView} instances to colorize.
+     * @return The amount of added {@link ImageView} instances.
+     */
+    public int addImageViewsToColorize(Collection<? extends ImageView> imageViews) {
+        return addImageViewsToColorize(imageViews, ColorsProvider::getColorizationColor);
+    }
+
+    /**
+     * Adds multiple {@link ImageView} instances to colorize according to the given {@link ThemeColor}. The listeners
+     * are notified once about all added instances.
+     * @param imageViews The {@link ImageView} instances to colorize.
+     * @param colorsProviderThemeColorFunction The function providing the {@link ThemeColorsProvider} to return a
+     *                                         certain {@link ThemeColor}.
+     * @return The amount of added {@link ImageView} instances.
+     */
+    public int addImageViewsToColorize(Collection<? extends ImageView> imageViews,
+                                       Function<ColorsProvider, ThemeColor> colorsProviderThemeColorFunction) {
         ThemeColor themeColorToSet = colorsProviderThemeColorFunction.apply(colorsProvider);
 
-        ThemeColor previousThemeColor = colorizationImageViewThemeColorMap.put(imageView, themeColorToSet);
+        List<ImageView> addedImageViews = new ArrayList<>();
 
-        boolean newImageView = previousThemeColor == null;
+        for(ImageView tmpImageView : imageViews) {
+            if(putImageViewToColorize(tmpImageView, themeColorToSet))
+                addedImageViews.add(tmpImageView);
+        }
 
-        if(newImageView) {
-            colorizeImageView(imageView, themeColorToSet);
+        notifyImageViewsChange(true, addedImageViews);
+
+        return addedImageViews.size();
+    }
+
+    /**
+     * Tries to remove multiple colorized {@link ImageView} instances. The listeners are notified once about all
+     * removed instances.
+     * @param imageViews The {@link ImageView} instances to remove.
+     * @return The amount of removed {@link ImageView} instances.
+     */
+    public int removeImageViewsToColorize(Collection<? extends ImageView> imageViews) {
+        List<ImageView> removedImageViews = new ArrayList<>();
 
-            imageViewChangeListeners.forEach(tmpListener ->
-                    tmpListener.onImageViewChange(true, imageView));
+        for(ImageView tmpImageView : imageViews) {
+            if(takeImageViewToColorize(tmpImageView))
+                removedImageViews.add(tmpImageView);
         }
 
-        return newImageView;
+        notifyImageViewsChange(false, removedImageViews);
+
+        return removedImageViews.size();
+    }
+
+    private void notifyImageViewsChange(boolean addedImageViews, List<ImageView> changedImageViews) {
+        if(changedImageViews.isEmpty())
+            return;
+
+        List<ImageView> unmodifiableImageViews = Collections.unmodifiableList(changedImageViews);
+
+        imageViewChangeListeners.dispatch(tmpListener ->
+                tmpListener.onImageViewsChange(addedImageViews, unmodifiableImageViews));
     }
 
     /**
@@ -429,16 +1439,10 @@ public class ThemeManager<ColorsProvider extends ThemeColorsProvider> {
      * @return True if the {@link ImageView} was removed.
      */
     public boolean removeImageViewToColorize(ImageView imageView) {
-        ThemeColor themeColor = colorizationImageViewThemeColorMap.remove(imageView);
+        boolean removedImageView = takeImageViewToColorize(imageView);
 
-        boolean removedImageView = themeColor != null;
-
-        if(removedImageView) {
-            imageView.setEffect(null);
-
-            imageViewChangeListeners.forEach(tmpListener ->
-                    tmpListener.onImageViewChange(false, imageView));
-        }
+        if(removedImageView)
+            imageViewChangeListeners.dispatch(tmpListener -> tmpListener.onImageViewChange(false, imageView));
 
         return removedImageView;
     }
@@ -463,17 +1467,76 @@ public class ThemeManager<ColorsProvider extends ThemeColorsProvider> {
                                       Function<ColorsProvider, ThemeColor> colorsProviderThemeColorFunction) {
         ThemeColor themeColorToSet = colorsProviderThemeColorFunction.apply(colorsProvider);
 
-        ThemeColor previousThemeColor = colorizationShapeTheneColorMap.put(shape, themeColorToSet);
+        boolean newShape = putShapeToColorize(shape, themeColorToSet, getColor(themeColorToSet));
 
-        boolean newShape = previousThemeColor == null;
+        if(newShape)
+            shapeChangeListeners.dispatch(tmpListener -> tmpListener.onShapeChange(true, shape));
 
-        if(newShape) {
-            colorizeShape(shape, themeColorToSet);
+        return newShape;
+    }
 
-            shapeChangeListeners.forEach(tmpListener -> tmpListener.onShapeChange(true, shape));
+    /**
+     * Adds multiple {@link Shape} instances to colorize, according to the theme-colorization-color. The listeners are
+     * notified once about all added instances.
+     * @param shapes The {@link Shape} instances to colorize.
+     * @return The amount of added {@link Shape} instances.
+     */
+    public int addShapesToColorize(Collection<? extends Shape> shapes) {
+        return addShapesToColorize(shapes, ColorsProvider::getColorizationColor);
+    }
+
+    /**
+     * Adds multiple {@link Shape} instances to colorize, according to the given {@link ThemeColor}. The color is
+     * resolved once and the listeners are notified once about all added instances.
+     * @param shapes The {@link Shape} instances to colorize.
+     * @param colorsProviderThemeColorFunction The function providing the {@link ThemeColorsProvider} to return a
+     *                                         certain {@link ThemeColor}.
+     * @return The amount of added {@link Shape} instances.
+     */
+    public int addShapesToColorize(Collection<? extends Shape> shapes,
+                                   Function<ColorsProvider, ThemeColor> colorsProviderThemeColorFunction) {
+        ThemeColor themeColorToSet = colorsProviderThemeColorFunction.apply(colorsProvider);
+
+        Color colorToSet = getColor(themeColorToSet);
+
+        List<Shape> addedShapes = new ArrayList<>();
+
+        for(Shape tmpShape : shapes) {
+            if(putShapeToColorize(tmpShape, themeColorToSet, colorToSet))
+                addedShapes.add(tmpShape);
         }
 
-        return newShape;
+        notifyShapesChange(true, addedShapes);
+
+        return addedShapes.size();
+    }
+
+    /**
+     * Tries to remove multiple colorized {@link Shape} instances. The listeners are notified once about all removed
+     * instances.
+     * @param shapes The {@link Shape} instances to remove.
+     * @return The amount of removed {@link Shape} instances.
+     */
+    public int removeShapesToColorize(Collection<? extends Shape> shapes) {
+        List<Shape> removedShapes = new ArrayList<>();
+
+        for(Shape tmpShape : shapes) {
+            if(takeShapeToColorize(tmpShape))
+                removedShapes.add(tmpShape);
+        }
+
+        notifyShapesChange(false, removedShapes);
+
+        return removedShapes.size();
+    }
+
+    private void notifyShapesChange(boolean addedShapes, List<Shape> changedShapes) {
+        if(changedShapes.isEmpty())
+            return;
+
+        List<Shape> unmodifiableShapes = Collections.unmodifiableList(changedShapes);
+
+        shapeChangeListeners.dispatch(tmpListener -> tmpListener.onShapesChange(addedShapes, unmodifiableShapes));
     }
 
     /**
@@ -482,12 +1545,10 @@ public class ThemeManager<ColorsProvider extends ThemeColorsProvider> {
      * @return True if the {@link Shape} was removed.
      */
     public boolean removeShapeToColorize(Shape shape) {
-        ThemeColor themeColor = colorizationShapeTheneColorMap.remove(shape);
-
-        boolean removedShape = themeColor != null;
+        boolean removedShape = takeShapeToColorize(shape);
 
         if(removedShape)
-            shapeChangeListeners.forEach(tmpListener -> tmpListener.onShapeChange(false, shape));
+            shapeChangeListeners.dispatch(tmpListener -> tmpListener.onShapeChange(false, shape));
 
         return removedShape;
     }
@@ -502,14 +1563,82 @@ public class ThemeManager<ColorsProvider extends ThemeColorsProvider> {
             return false;
 
         //Add all foreign properties to the parent first (this may happen if a listener modifies the parent).
-        parentChangeListeners.forEach(tmpListener -> tmpListener.onParentChange(true, parent));
+        parentChangeListeners.dispatchSynchronously(tmpListener -> tmpListener.onParentChange(true, parent));
 
         //Add the most important style at the end.
         sharedBaseSingleStylesheetManager.addStylesheetParent(parent);
 
+        trackRegistration(parent);
+
+        if(stylesheetMode == StylesheetMode.LOOKED_UP_COLORS)
+            addLookedUpColorsParent(parent);
+
+        //Asynchronous listeners can't modify the parent in time. They are notified after the stylesheet was added.
+        parentChangeListeners.dispatchAsynchronously(tmpListener -> tmpListener.onParentChange(true, parent));
+
         return true;
     }
 
+    /**
+     * Adds multiple {@link Parent} instances to style with a stylesheet, based on the current theme. The listeners are
+     * notified once about all added instances.
+     * @param parents The {@link Parent} instances to style.
+     * @return The amount of added {@link Parent} instances.
+     */
+    public int addParents(Collection<? extends Parent> parents) {
+        Set<Parent> addedParents = new LinkedHashSet<>();
+
+        for(Parent tmpParent : parents) {
+            if(!sharedBaseSingleStylesheetManager.containsStylesheetParent(tmpParent))
+                addedParents.add(tmpParent);
+        }
+
+        if(addedParents.isEmpty())
+            return 0;
+
+        List<Parent> unmodifiableParents = Collections.unmodifiableList(new ArrayList<>(addedParents));
+
+        //Add all foreign properties to the parents first (this may happen if a listener modifies the parents).
+        parentChangeListeners.dispatchSynchronously(tmpListener -> tmpListener.onParentsChange(true,
+                unmodifiableParents));
+
+        //Add the most important style at the end.
+        for(Parent tmpParent : addedParents) {
+            sharedBaseSingleStylesheetManager.addStylesheetParent(tmpParent);
+
+            trackRegistration(tmpParent);
+
+            if(stylesheetMode == StylesheetMode.LOOKED_UP_COLORS)
+                addLookedUpColorsParent(tmpParent);
+        }
+
+        parentChangeListeners.dispatchAsynchronously(tmpListener -> tmpListener.onParentsChange(true,
+                unmodifiableParents));
+
+        return addedParents.size();
+    }
+
+    private void addLookedUpColorsParent(Parent parent) {
+        if(!parent.getStyleClass().contains(LOOKED_UP_COLORS_STYLE_CLASS))
+            parent.getStyleClass().add(LOOKED_UP_COLORS_STYLE_CLASS);
+
+        lookedUpColorsSingleStylesheetManager.addStylesheetParent(parent);
+    }
+
+    private void removeLookedUpColorsParent(Parent parent) {
+        if(lookedUpColorsSingleStylesheetManager.removeStylesheetParent(parent))
+            parent.getStyleClass().remove(LOOKED_UP_COLORS_STYLE_CLASS);
+
+        //Restore the own inline style of a parent removed during a transition.
+
+        String writtenStyle = transitionParentWrittenStyleMap.remove(parent);
+
+        if(writtenStyle != null)
+            restoreTransitionParentStyle(parent, writtenStyle);
+
+        transitionParentStyleMap.remove(parent);
+    }
+
     /**
      * Tries to remove a stylesheet styled {@link Parent}.
      * @param parent The parent styled with a stylesheet based on the current theme.
@@ -518,21 +1647,223 @@ public class ThemeManager<ColorsProvider extends ThemeColorsProvider> {
     public boolean removeParent(Parent parent) {
         boolean removedParent = sharedBaseSingleStylesheetManager.removeStylesheetParent(parent);
 
+        removeLookedUpColorsParent(parent);
+
+        untrackRegistration(parent);
+
         if(removedParent)
-            parentChangeListeners.forEach(tmpListener -> tmpListener.onParentChange(false, parent));
+            parentChangeListeners.dispatch(tmpListener -> tmpListener.onParentChange(false, parent));
 
         return removedParent;
     }
 
+    /**
+     * Tries to remove multiple stylesheet styled {@link Parent} instances. The listeners are notified once about all
+     * removed instances.
+     * @param parents The {@link Parent} instances to remove.
+     * @return The amount of removed {@link Parent} instances.
+     */
+    public int removeParents(Collection<? extends Parent> parents) {
+        List<Parent> removedParents = new ArrayList<>();
+
+        for(Parent tmpParent : parents) {
+            if(sharedBaseSingleStylesheetManager.removeStylesheetParent(tmpParent))
+                removedParents.add(tmpParent);
+
+            removeLookedUpColorsParent(tmpParent);
+
+            untrackRegistration(tmpParent);
+        }
+
+        if(!removedParents.isEmpty()) {
+            List<Parent> unmodifiableParents = Collections.unmodifiableList(removedParents);
+
+            parentChangeListeners.dispatch(tmpListener -> tmpListener.onParentsChange(false, unmodifiableParents));
+        }
+
+        return removedParents.size();
+    }
+
+    /**
+     * Adds all {@link ImageView} and {@link Shape} instances matching a CSS-selector (e.g. ".theme-icon"), which are
+     * the given root-node or one of its descendants, to colorize according to the theme-colorization-color. The
+     * node-graph is traversed once (including the graphics and contents of controls without a skin, see
+     * {@link NodeGraphWalker}) and the listeners are notified once per type.
+     * @param rootNode The root-node of the node-graph to search.
+     * @param selector The CSS-selector of the nodes to colorize.
+     * @return The amount of added instances.
+     */
+    public int addNodesToColorize(Parent rootNode, String selector) {
+        return addNodesToColorize(rootNode, selector, ColorsProvider::getColorizationColor);
+    }
+
+    /**
+     * Adds all {@link ImageView} and {@link Shape} instances matching a CSS-selector (e.g. ".theme-icon"), which are
+     * the given root-node or one of its descendants, to colorize according to the given {@link ThemeColor}. The
+     * node-graph is traversed once (including the graphics and contents of controls without a skin, see
+     * {@link NodeGraphWalker}) and the listeners are notified once per type.
+     * @param rootNode The root-node of the node-graph to search.
+     * @param selector The CSS-selector of the nodes to colorize.
+     * @param colorsProviderThemeColorFunction The function providing the {@link ThemeColorsProvider} to return a
+     *                                         certain {@link ThemeColor}.
+     * @return The amount of added instances.
+     */
+    public int addNodesToColorize(Parent rootNode, String selector,
+                                  Function<ColorsProvider, ThemeColor> colorsProviderThemeColorFunction) {
+        Selector cssSelector = Selector.createSelector(selector);
+
+        if(cssSelector == null)
+            return 0;
+
+        List<ImageView> imageViews = new ArrayList<>();
+        List<Shape> shapes = new ArrayList<>();
+
+        //Node.lookupAll() misses the graphics and contents of controls, which weren't skinned yet.
+        NodeGraphWalker.walk(rootNode, tmpNode -> {
+            if(tmpNode instanceof ImageView) {
+                if(cssSelector.applies(tmpNode))
+                    imageViews.add((ImageView) tmpNode);
+            }
+            else if(tmpNode instanceof Shape) {
+                if(cssSelector.applies(tmpNode))
+                    shapes.add((Shape) tmpNode);
+            }
+        });
+
+        return addImageViewsToColorize(imageViews, colorsProviderThemeColorFunction) +
+                addShapesToColorize(shapes, colorsProviderThemeColorFunction);
+    }
+
+    /**
+     * Removes all managed {@link Parent}, {@link ImageView} and {@link Shape} instances, which are the given root-node
+     * or one of its descendants. Instances, which were registered while the given root-node was their topmost
+     * ancestor, are removed as well, even if they were detached from the node-graph in the meantime. This releases
+     * all references to a node-graph, which isn't used anymore.
+     * @param rootNode The root-node of the node-graph to remove.
+     * @return The amount of removed instances.
+     */
+    public int removeNodeGraph(Parent rootNode) {
+        Set<ImageView> imageViews = new LinkedHashSet<>();
+        Set<Shape> shapes = new LinkedHashSet<>();
+        Set<Parent> parents = new LinkedHashSet<>();
+
+        Consumer<Node> registeredNodeCollector = tmpNode -> {
+            if(tmpNode instanceof ImageView && colorizationImageViewThemeColorMap.containsKey(tmpNode)) {
+                imageViews.add((ImageView) tmpNode);
+            }
+            else if(tmpNode instanceof Shape && colorizationShapeTheneColorMap.containsKey(tmpNode)) {
+                shapes.add((Shape) tmpNode);
+            }
+            else if(tmpNode instanceof Parent &&
+                    sharedBaseSingleStylesheetManager.containsStylesheetParent((Parent) tmpNode)) {
+                parents.add((Parent) tmpNode);
+            }
+        };
+
+        NodeGraphWalker.walk(rootNode, registeredNodeCollector);
+
+        //Collect the nodes, which were registered below the root-node, but were detached afterwards.
+
+        Set<Node> graphRootRegisteredNodes = graphRootRegisteredNodesMap.get(rootNode);
+
+        if(graphRootRegisteredNodes != null)
+            graphRootRegisteredNodes.forEach(registeredNodeCollector);
+
+        return removeImageViewsToColorize(imageViews) + removeShapesToColorize(shapes) + removeParents(parents);
+    }
+
+    /**
+     * Registers a node-graph (e.g. directly after it was loaded from FXML) in one traversal: The root-node is added
+     * as {@link Parent} to style (see {@link #addParent(Parent)}) and all descendant {@link ImageView} and
+     * {@link Shape} instances are added to colorize, if they have the style-class {@link #COLORIZE_STYLE_CLASS}
+     * (theme-colorization-color) or the node-property {@link #THEME_COLOR_NODE_PROPERTY} (theme-color name). The
+     * nodes are added in bulk per theme-color (see {@link #addImageViewsToColorize(Collection, Function)}).
+     * @param rootNode The root-node of the node-graph to register.
+     * @return The amount of added instances.
+     */
+    public int registerNodeGraph(Parent rootNode) {
+        long startNanos = System.nanoTime();
+
+        Map<String, List<ImageView>> colorNameImageViewsMap = new HashMap<>();
+        Map<String, List<Shape>> colorNameShapesMap = new HashMap<>();
+
+        String colorizationColorName = colorsProvider.getColorizationColor().getColorTitle();
+
+        int visitedNodes = NodeGraphWalker.walk(rootNode, tmpNode -> {
+            if(!(tmpNode instanceof ImageView) && !(tmpNode instanceof Shape))
+                return;
+
+            Object tmpColorName = tmpNode.hasProperties() ? tmpNode.getProperties().get(THEME_COLOR_NODE_PROPERTY) :
+                    null;
+
+            if(tmpColorName == null && tmpNode.getStyleClass().contains(COLORIZE_STYLE_CLASS))
+                tmpColorName = colorizationColorName;
+
+            if(tmpColorName == null)
+                return;
+
+            if(tmpNode instanceof ImageView) {
+                colorNameImageViewsMap.computeIfAbsent(tmpColorName.toString(), tmpKey -> new ArrayList<>())
+                        .add((ImageView) tmpNode);
+            }
+            else {
+                colorNameShapesMap.computeIfAbsent(tmpColorName.toString(), tmpKey -> new ArrayList<>())
+                        .add((Shape) tmpNode);
+            }
+        });
+
+        int addedNodes = addParent(rootNode) ? 1 : 0;
+
+        if(!colorNameImageViewsMap.isEmpty() || !colorNameShapesMap.isEmpty()) {
+            Map<String, ThemeColor> colorNameThemeColorMap = new HashMap<>();
+
+            for(ThemeColor tmpThemeColor : colorsProvider.getAvailableThemeColors())
+                colorNameThemeColorMap.put(tmpThemeColor.getColorTitle(), tmpThemeColor);
+
+            for(Map.Entry<String, List<ImageView>> tmpEntry : colorNameImageViewsMap.entrySet()) {
+                ThemeColor tmpThemeColor = findNodeGraphThemeColor(colorNameThemeColorMap, tmpEntry.getKey());
+
+                if(tmpThemeColor != null)
+                    addedNodes += addImageViewsToColorize(tmpEntry.getValue(), tmpColorsProvider -> tmpThemeColor);
+            }
+
+            for(Map.Entry<String, List<Shape>> tmpEntry : colorNameShapesMap.entrySet()) {
+                ThemeColor tmpThemeColor = findNodeGraphThemeColor(colorNameThemeColorMap, tmpEntry.getKey());
+
+                if(tmpThemeColor != null)
+                    addedNodes += addShapesToColorize(tmpEntry.getValue(), tmpColorsProvider -> tmpThemeColor);
+            }
+        }
+
+        if(LOGGER.isDebugEnabled()) {
+            LOGGER.debug("Registered " + addedNodes + " of " + visitedNodes + " nodes in " +
+                    ((System.nanoTime() - startNanos) / 1_000) + "us.");
+        }
+
+        return addedNodes;
+    }
+
+    private ThemeColor findNodeGraphThemeColor(Map<String, ThemeColor> colorNameThemeColorMap, String colorName) {
+        ThemeColor themeColor = colorNameThemeColorMap.get(colorName);
+
+        if(themeColor == null)
+            LOGGER.warn("Unable to colorize nodes with unknown theme-color \"" + colorName + "\".");
+
+        return themeColor;
+    }
+
     private void notifyThemeChangeListeners(ColorsProvider newColorsProvider) {
         //Notify internal listener first.
         internalThemeChangeListener.onThemeChange(newColorsProvider);
 
         //Notify foreign listeners.
-        themeChangeListeners.forEach(tmpThemeChangeListener -> tmpThemeChangeListener.onThemeChange(newColorsProvider));
+        themeChangeListeners.dispatch(tmpThemeChangeListener -> tmpThemeChangeListener.onThemeChange(newColorsProvider));
+
+        //Publish to subscribers, which are delivered asynchronously.
+        themeChangePublisher.submit(newColorsProvider);
     }
 
-    private Effect calculateColorizedImageEffect(Color colorizationColor) {
+    private Lighting calculateColorizedImageEffect(Color colorizationColor) {
         Lighting lighting = new Lighting(new Light.Distant(45, 90, colorizationColor));
 
         ColorAdjust colorAdjust = new ColorAdjust(0, 1, 1, 1);
@@ -544,12 +1875,35 @@ public class ThemeManager<ColorsProvider extends ThemeColorsProvider> {
         return lighting;
     }
 
-    private String replaceCssColorVariables(String cssTemplateString, Map<String, String> colorNameValueMap) {
-        final String[] finalString = { cssTemplateString };
+    private String createLookedUpColorsCss(Map<String, String> colorNameHexColorMap) {
+        //Only the colors referenced by the template are defined. Unknown variables stay undefined.
+
+        StringBuilder stringBuilder = new StringBuilder("." + LOOKED_UP_COLORS_STYLE_CLASS + " {");
+
+        for(String tmpColorName : stylesheetCssVariableNames) {
+            String tmpHexColor = colorNameHexColorMap.get(tmpColorName);
+
+            if(tmpHexColor != null) {
+                stringBuilder.append(toLookedUpColorName(tmpColorName)).append(':').append(tmpHexColor)
+                        .append(';');
+            }
+        }
+
+        return stringBuilder.append('}').toString();
+    }
+
+    private static String toLookedUpColorName(String colorName) {
+        return LOOKED_UP_COLOR_PREFIX + colorName.trim().replaceAll("[^A-Za-z0-9_-]", "_");
+    }
 
-        colorNameValueMap.forEach((tmpKey, tmpValue) ->
-                finalString[0] = finalString[0].replaceAll("\\{\\{" + tmpKey + "}}", tmpValue));
+    /**
+     * Encodes a CSS-string as data-URL, which can be added to the stylesheets of a {@link Parent}.
+     * @param cssString The CSS-string to encode.
+     * @return The data-URL.
+     */
+    static String encodeStylesheetData(String cssString) {
+        byte[] cssStringBytes = cssString.getBytes(StandardCharsets.UTF_8);
 
-        return finalString[0];
+        return "data:text/css;base64," + Base64.getEncoder().encodeToString(cssStringBytes);
     }
 }
@@ -0,0 +1,189 @@
+package eu.dgs_development.code.ejg.theme;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * A reference-counted store of resolved palettes (color name to hex color) and rendered stylesheets, which is shared
+ * by multiple {@link ThemeManager} instances (e.g. one per window). Identical palettes are stored once and a
+ * stylesheet is only rendered once per CSS-template and palette. The entries are removed, when the last
+ * {@link ThemeManager} released them. A store is only shared, if it is passed to the constructor of the
+ * {@link ThemeManager} instances (e.g. the store returned by {@link #getDefault()}). Otherwise every
+ * {@link ThemeManager} uses its own store.
+ */
+public final class ThemePaletteStore {
+    /**
+     * The kinds of stored stylesheets.
+     */
+    enum StylesheetKind {
+        /**
+         * A CSS-template with replaced color variables.
+         */
+        RENDERED,
+
+        /**
+         * A CSS-template with color variables converted into looked-up colors.
+         */
+        COMPILED,
+
+        /**
+         * The definition of the looked-up colors.
+         */
+        LOOKED_UP_COLORS
+    }
+
+    /**
+     * The key of a stored stylesheet.
+     */
+    static final class StylesheetKey {
+        private final StylesheetKind stylesheetKind;
+
+        private final String stylesheetCss;
+
+        private final Map<String, String> colorNameHexColorMap;
+
+        private final int hashCode;
+
+        /**
+         * Creates a new {@link StylesheetKey}.
+         * @param stylesheetKind The kind of the stylesheet.
+         * @param stylesheetCss The CSS-template.
+         * @param colorNameHexColorMap The palette (acquired from the store) or null, if the stylesheet doesn't
+         *                             depend on the palette.
+         */
+        StylesheetKey(StylesheetKind stylesheetKind, String stylesheetCss, Map<String, String> colorNameHexColorMap) {
+            this.stylesheetKind = stylesheetKind;
+            this.stylesheetCss = stylesheetCss;
+            this.colorNameHexColorMap = colorNameHexColorMap;
+            this.hashCode = Objects.hash(stylesheetKind, stylesheetCss, colorNameHexColorMap);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            StylesheetKey that = (StylesheetKey) o;
+            return hashCode == that.hashCode && stylesheetKind == that.stylesheetKind &&
+                    Objects.equals(colorNameHexColorMap, that.colorNameHexColorMap) &&
+                    Objects.equals(stylesheetCss, that.stylesheetCss);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+    private static final class StoreEntry<T> {
+        private final T value;
+
+        private int referenceCount = 0;
+
+        private StoreEntry(T value) {
+            this.value = value;
+        }
+    }
+
+    private static final ThemePaletteStore DEFAULT_STORE = new ThemePaletteStore();
+
+    private final Map<Map<String, String>, StoreEntry<Map<String, String>>> paletteEntryMap = new HashMap<>();
+
+    private final Map<StylesheetKey, StoreEntry<String>> stylesheetEntryMap = new HashMap<>();
+
+    /**
+     * Creates a new empty {@link ThemePaletteStore}.
+     */
+    public ThemePaletteStore() {
+        //Ignore...
+    }
+
+    /**
+     * Returns the process-wide store, which can be passed to all {@link ThemeManager} instances sharing their palettes
+     * and stylesheets. These instances should call {@link ThemeManager#releaseStoredPalette()}, if they aren't used
+     * anymore.
+     * @return The default {@link ThemePaletteStore}.
+     */
+    public static ThemePaletteStore getDefault() {
+        return DEFAULT_STORE;
+    }
+
+    /**
+     * Returns the stored instance of a palette and increments its reference count. The palette is added, if no equal
+     * palette is stored.
+     * @param colorNameHexColorMap The palette to acquire.
+     * @return The unmodifiable stored palette, which is equal to the given palette.
+     */
+    synchronized Map<String, String> acquirePalette(Map<String, String> colorNameHexColorMap) {
+        StoreEntry<Map<String, String>> storeEntry = paletteEntryMap.get(colorNameHexColorMap);
+
+        if(storeEntry == null) {
+            Map<String, String> storedColorNameHexColorMap = Collections.unmodifiableMap(
+                    new HashMap<>(colorNameHexColorMap));
+
+            storeEntry = new StoreEntry<>(storedColorNameHexColorMap);
+
+            paletteEntryMap.put(storedColorNameHexColorMap, storeEntry);
+        }
+
+        storeEntry.referenceCount++;
+
+        return storeEntry.value;
+    }
+
+    /**
+     * Decrements the reference count of a palette and removes it, if it isn't referenced anymore.
+     * @param colorNameHexColorMap The acquired palette to release.
+     */
+    synchronized void releasePalette(Map<String, String> colorNameHexColorMap) {
+        releaseEntry(paletteEntryMap, colorNameHexColorMap);
+    }
+
+    /**
+     * Returns a stored stylesheet and increments its reference count. The stylesheet is rendered, if it isn't stored.
+     * @param stylesheetKey The key of the stylesheet.
+     * @param stylesheetRenderer Renders the stylesheet (e.g. as data-URL).
+     * @return The stored stylesheet.
+     */
+    synchronized String acquireStylesheet(StylesheetKey stylesheetKey, Supplier<String> stylesheetRenderer) {
+        StoreEntry<String> storeEntry = stylesheetEntryMap.computeIfAbsent(stylesheetKey,
+                tmpStylesheetKey -> new StoreEntry<>(stylesheetRenderer.get()));
+
+        storeEntry.referenceCount++;
+
+        return storeEntry.value;
+    }
+
+    /**
+     * Decrements the reference count of a stylesheet and removes it, if it isn't referenced anymore.
+     * @param stylesheetKey The key of the acquired stylesheet to release.
+     */
+    synchronized void releaseStylesheet(StylesheetKey stylesheetKey) {
+        releaseEntry(stylesheetEntryMap, stylesheetKey);
+    }
+
+    /**
+     * Returns the amount of stored palettes.
+     * @return The amount of stored palettes.
+     */
+    public synchronized int getPaletteCount() {
+        return paletteEntryMap.size();
+    }
+
+    /**
+     * Returns the amount of stored stylesheets.
+     * @return The amount of stored stylesheets.
+     */
+    public synchronized int getStylesheetCount() {
+        return stylesheetEntryMap.size();
+    }
+
+    private static <K, V> void releaseEntry(Map<K, StoreEntry<V>> entryMap, K key) {
+        StoreEntry<V> storeEntry = entryMap.get(key);
+
+        if(storeEntry != null && --storeEntry.referenceCount <= 0)
+            entryMap.remove(key);
+    }
+}
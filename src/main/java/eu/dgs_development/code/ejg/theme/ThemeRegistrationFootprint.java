@@ -0,0 +1,100 @@
+package eu.dgs_development.code.ejg.theme;
+
+/**
+ * Data object class containing the approximate memory footprint of all registrations of a {@link ThemeManager} (see
+ * {@link ThemeManager#getRegistrationFootprint()}). The byte-values are estimations and don't include the registered
+ * nodes themselves, which are part of the node-graphs of their owners.
+ */
+public final class ThemeRegistrationFootprint {
+    //Approximate size of a map-entry including the key-, value- and index-references.
+    private static final long REGISTRATION_BYTES = 96;
+
+    //Approximate size of a lighting-effect including its light and color-adjust.
+    private static final long IMAGE_EFFECT_BYTES = 512;
+
+    private final int parentCount;
+
+    private final int imageViewCount;
+
+    private final int shapeCount;
+
+    private final int imageEffectCount;
+
+    private final int colorPropertyCount;
+
+    private final long stylesheetBytes;
+
+    ThemeRegistrationFootprint(int parentCount, int imageViewCount, int shapeCount, int imageEffectCount,
+                               int colorPropertyCount, long stylesheetBytes) {
+        this.parentCount = parentCount;
+        this.imageViewCount = imageViewCount;
+        this.shapeCount = shapeCount;
+        this.imageEffectCount = imageEffectCount;
+        this.colorPropertyCount = colorPropertyCount;
+        this.stylesheetBytes = stylesheetBytes;
+    }
+
+    /**
+     * Returns the amount of registered {@link javafx.scene.Parent}-instances.
+     * @return The amount of registered parents.
+     */
+    public int getParentCount() {
+        return parentCount;
+    }
+
+    /**
+     * Returns the amount of registered {@link javafx.scene.image.ImageView}-instances.
+     * @return The amount of registered image-views.
+     */
+    public int getImageViewCount() {
+        return imageViewCount;
+    }
+
+    /**
+     * Returns the amount of registered {@link javafx.scene.shape.Shape}-instances.
+     * @return The amount of registered shapes.
+     */
+    public int getShapeCount() {
+        return shapeCount;
+    }
+
+    /**
+     * Returns the amount of shared image-effects (one per colorization-color).
+     * @return The amount of image-effects.
+     */
+    public int getImageEffectCount() {
+        return imageEffectCount;
+    }
+
+    /**
+     * Returns the amount of color-properties (see {@link ThemeManager#colorProperty(java.util.function.Function)}).
+     * @return The amount of color-properties.
+     */
+    public int getColorPropertyCount() {
+        return colorPropertyCount;
+    }
+
+    /**
+     * Returns the size of the CSS-template and all rendered stylesheets in bytes.
+     * @return The size of all stylesheets in bytes.
+     */
+    public long getStylesheetBytes() {
+        return stylesheetBytes;
+    }
+
+    /**
+     * Returns the approximate size of all registrations, effects and stylesheets in bytes.
+     * @return The estimated size in bytes.
+     */
+    public long getEstimatedBytes() {
+        return (parentCount + imageViewCount + shapeCount + colorPropertyCount) * REGISTRATION_BYTES +
+                imageEffectCount * IMAGE_EFFECT_BYTES + stylesheetBytes;
+    }
+
+    @Override
+    public String toString() {
+        return parentCount + " parents, " + imageViewCount + " image-views, " + shapeCount + " shapes, " +
+                imageEffectCount + " image-effects, " + colorPropertyCount + " color-properties, " +
+                stylesheetBytes + " stylesheet-bytes (~" + getEstimatedBytes() + " bytes)";
+    }
+}
@@ -0,0 +1,512 @@
+package eu.dgs_development.code.ejg.theme;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A preprocessed CSS-template of a {@link ThemeManager}. The template is parsed once: Comments and unnecessary
+ * whitespace are removed and rules with the same selector are merged, as long as no rule in between declares one of
+ * the merged properties. Every rendering only substitutes the CSS-variables ("{{colorName}}"). Declarations
+ * containing a variable without a value are dropped (instead of passing invalid CSS to JavaFX), as well as rules
+ * without any remaining declaration. At-rules (e.g. "@font-face") are only minified.
+ */
+final class ThemeStylesheetTemplate {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ThemeStylesheetTemplate.class);
+
+    private static final Pattern CSS_COLOR_VARIABLE_PATTERN = Pattern.compile("\\{\\{([^{}]+)}}");
+
+    private static final Pattern IMPORTANT_PATTERN = Pattern.compile("!\\s*important$", Pattern.CASE_INSENSITIVE);
+
+    /**
+     * A text containing CSS-variables, split into the literals between the variables.
+     */
+    private static final class TemplateText {
+        private final String[] literals;
+
+        private final String[] variableNames;
+
+        private TemplateText(String[] literals, String[] variableNames) {
+            this.literals = literals;
+            this.variableNames = variableNames;
+        }
+
+        private static TemplateText parse(String text, Set<String> collectedVariableNames) {
+            List<String> literals = new ArrayList<>();
+            List<String> variableNames = new ArrayList<>();
+
+            Matcher variableMatcher = CSS_COLOR_VARIABLE_PATTERN.matcher(text);
+
+            int literalStart = 0;
+
+            while (variableMatcher.find()) {
+                literals.add(text.substring(literalStart, variableMatcher.start()));
+                variableNames.add(variableMatcher.group(1));
+
+                literalStart = variableMatcher.end();
+            }
+
+            literals.add(text.substring(literalStart));
+
+            collectedVariableNames.addAll(variableNames);
+
+            return new TemplateText(literals.toArray(new String[0]), variableNames.toArray(new String[0]));
+        }
+
+        /**
+         * Appends the text with substituted variables. Nothing is appended, if a variable has no value.
+         * @param stringBuilder The {@link StringBuilder} to append the text to.
+         * @param variableValueFunction Returns the value of a variable or null.
+         * @return True if the text was appended, false if a variable has no value.
+         */
+        private boolean appendTo(StringBuilder stringBuilder, Function<String, String> variableValueFunction) {
+            int textStart = stringBuilder.length();
+
+            stringBuilder.append(literals[0]);
+
+            for(int tmpIndex = 0; tmpIndex < variableNames.length; tmpIndex++) {
+                String tmpValue = variableValueFunction.apply(variableNames[tmpIndex]);
+
+                if(tmpValue == null) {
+                    stringBuilder.setLength(textStart);
+
+                    return false;
+                }
+
+                stringBuilder.append(tmpValue).append(literals[tmpIndex + 1]);
+            }
+
+            return true;
+        }
+    }
+
+    private static final class Declaration {
+        private final String property;
+
+        private final boolean important;
+
+        private final TemplateText text;
+
+        private Declaration(String property, boolean important, TemplateText text) {
+            this.property = property;
+            this.important = important;
+            this.text = text;
+        }
+
+        private boolean conflictsWith(Declaration declaration) {
+            //Shorthand-properties (e.g. "-fx-font") conflict with their longhand-properties (e.g. "-fx-font-size").
+            return property.equals(declaration.property) || property.startsWith(declaration.property + "-") ||
+                    declaration.property.startsWith(property + "-");
+        }
+    }
+
+    /**
+     * A style-rule or an at-rule, whose text is kept as a whole.
+     */
+    private static final class Rule {
+        private final TemplateText selector;
+
+        private final TemplateText atRuleText;
+
+        private final List<Declaration> declarations = new ArrayList<>();
+
+        private Rule(TemplateText selector, TemplateText atRuleText) {
+            this.selector = selector;
+            this.atRuleText = atRuleText;
+        }
+
+        private void addDeclarations(List<Declaration> addedDeclarations) {
+            //A later declaration overrides an earlier one of the same property (unless only the earlier is important).
+
+            for(Declaration tmpDeclaration : addedDeclarations) {
+                declarations.removeIf(tmpExistingDeclaration -> tmpExistingDeclaration.property.equals(
+                        tmpDeclaration.property) && (!tmpExistingDeclaration.important || tmpDeclaration.important));
+
+                declarations.add(tmpDeclaration);
+            }
+        }
+    }
+
+    private final List<Rule> rules;
+
+    private final Set<String> variableNames;
+
+    private ThemeStylesheetTemplate(List<Rule> rules, Set<String> variableNames) {
+        this.rules = rules;
+        this.variableNames = Collections.unmodifiableSet(variableNames);
+    }
+
+    /**
+     * Parses and minifies a CSS-template.
+     * @param cssTemplateString The CSS-template.
+     * @return The preprocessed template.
+     */
+    static ThemeStylesheetTemplate preprocess(String cssTemplateString) {
+        long preprocessStartNanos = System.nanoTime();
+
+        String css = removeComments(cssTemplateString);
+
+        List<Rule> rules = new ArrayList<>();
+        Set<String> variableNames = new HashSet<>();
+
+        Map<String, Integer> selectorRuleIndexMap = new HashMap<>();
+
+        int mergedRuleCount = 0;
+
+        int index = 0;
+
+        while (index < css.length()) {
+            if(Character.isWhitespace(css.charAt(index))) {
+                index++;
+
+                continue;
+            }
+
+            if(css.charAt(index) == '@') {
+                int atRuleEnd = indexOfUnnested(css, index, css.length(), ";{");
+
+                if(atRuleEnd < css.length() && css.charAt(atRuleEnd) == '{')
+                    atRuleEnd = indexOfUnnested(css, atRuleEnd + 1, css.length(), "}");
+
+                atRuleEnd = Math.min(atRuleEnd + 1, css.length());
+
+                rules.add(new Rule(null, TemplateText.parse(minify(css.substring(index, atRuleEnd), "{};,"),
+                        variableNames)));
+
+                //Rules must not be merged across at-rules.
+                selectorRuleIndexMap.clear();
+
+                index = atRuleEnd;
+
+                continue;
+            }
+
+            int blockStart = indexOfUnnested(css, index, css.length(), "{");
+
+            if(blockStart == css.length()) {
+                LOGGER.warn("Ignored incomplete CSS-rule \"" + css.substring(index).trim() + "\".");
+
+                break;
+            }
+
+            int blockEnd = indexOfUnnested(css, blockStart + 1, css.length(), "}");
+
+            String selector = minify(css.substring(index, blockStart), ",>");
+
+            List<Declaration> declarations = parseDeclarations(css.substring(blockStart + 1, blockEnd),
+                    variableNames);
+
+            index = blockEnd + 1;
+
+            Integer ruleIndex = selectorRuleIndexMap.get(selector);
+
+            if(ruleIndex != null && !conflictsWithFollowingRules(rules, ruleIndex, declarations)) {
+                rules.get(ruleIndex).addDeclarations(declarations);
+
+                mergedRuleCount++;
+            }
+            else {
+                Rule rule = new Rule(TemplateText.parse(selector, variableNames), null);
+
+                rule.addDeclarations(declarations);
+
+                selectorRuleIndexMap.put(selector, rules.size());
+
+                rules.add(rule);
+            }
+        }
+
+        ThemeStylesheetTemplate stylesheetTemplate = new ThemeStylesheetTemplate(rules, variableNames);
+
+        if(LOGGER.isDebugEnabled()) {
+            int minifiedLength = stylesheetTemplate.render(tmpVariableName -> "{{" + tmpVariableName + "}}").length();
+
+            LOGGER.debug("Preprocessed CSS-template in {}us: {} -> {} characters, {} duplicated rules merged.",
+                    (System.nanoTime() - preprocessStartNanos) / 1_000, cssTemplateString.length(), minifiedLength,
+                    mergedRuleCount);
+        }
+
+        return stylesheetTemplate;
+    }
+
+    /**
+     * Returns the names of all CSS-variables of the template.
+     * @return The names of all variables.
+     */
+    Set<String> getVariableNames() {
+        return variableNames;
+    }
+
+    /**
+     * Renders the minified stylesheet. Declarations containing a variable without a value are dropped.
+     * @param variableValueFunction Returns the value of a variable or null.
+     * @return The rendered CSS-string.
+     */
+    String render(Function<String, String> variableValueFunction) {
+        long renderStartNanos = System.nanoTime();
+
+        StringBuilder stringBuilder = new StringBuilder();
+
+        int droppedDeclarationCount = 0;
+
+        for(Rule tmpRule : rules) {
+            if(tmpRule.atRuleText != null) {
+                if(!tmpRule.atRuleText.appendTo(stringBuilder, variableValueFunction))
+                    droppedDeclarationCount++;
+
+                continue;
+            }
+
+            int ruleStart = stringBuilder.length();
+
+            if(!tmpRule.selector.appendTo(stringBuilder, variableValueFunction)) {
+                droppedDeclarationCount += tmpRule.declarations.size();
+
+                continue;
+            }
+
+            stringBuilder.append('{');
+
+            boolean emptyRule = true;
+
+            for(Declaration tmpDeclaration : tmpRule.declarations) {
+                int declarationStart = stringBuilder.length();
+
+                if(!emptyRule)
+                    stringBuilder.append(';');
+
+                if(tmpDeclaration.text.appendTo(stringBuilder, variableValueFunction)) {
+                    emptyRule = false;
+                }
+                else {
+                    stringBuilder.setLength(declarationStart);
+
+                    droppedDeclarationCount++;
+                }
+            }
+
+            if(emptyRule) {
+                stringBuilder.setLength(ruleStart);
+            }
+            else {
+                stringBuilder.append('}');
+            }
+        }
+
+        if(droppedDeclarationCount > 0) {
+            LOGGER.debug("Rendered stylesheet in {}us: {} characters, {} declarations with unresolved variables " +
+                    "dropped.", (System.nanoTime() - renderStartNanos) / 1_000, stringBuilder.length(),
+                    droppedDeclarationCount);
+        }
+        else {
+            LOGGER.debug("Rendered stylesheet in {}us: {} characters.", (System.nanoTime() - renderStartNanos) / 1_000,
+                    stringBuilder.length());
+        }
+
+        return stringBuilder.toString();
+    }
+
+    private static List<Declaration> parseDeclarations(String blockCss, Set<String> variableNames) {
+        List<Declaration> declarations = new ArrayList<>();
+
+        int index = 0;
+
+        while (index < blockCss.length()) {
+            int declarationEnd = indexOfUnnested(blockCss, index, blockCss.length(), ";");
+
+            String declarationCss = blockCss.substring(index, declarationEnd);
+
+            index = declarationEnd + 1;
+
+            int separatorIndex = indexOfUnnested(declarationCss, 0, declarationCss.length(), ":");
+
+            String property = minify(declarationCss.substring(0, separatorIndex), "").toLowerCase(Locale.ROOT);
+
+            if(property.isEmpty())
+                continue;
+
+            String text = property;
+
+            if(separatorIndex < declarationCss.length())
+                text += ":" + minify(declarationCss.substring(separatorIndex + 1), ",");
+
+            declarations.add(new Declaration(property, IMPORTANT_PATTERN.matcher(text).find(),
+                    TemplateText.parse(text, variableNames)));
+        }
+
+        return declarations;
+    }
+
+    private static boolean conflictsWithFollowingRules(List<Rule> rules, int ruleIndex,
+                                                       List<Declaration> declarations) {
+        //Moving declarations in front of a following rule is only safe, if the rule doesn't declare the same property.
+
+        for(int tmpIndex = ruleIndex + 1; tmpIndex < rules.size(); tmpIndex++) {
+            for(Declaration tmpFollowingDeclaration : rules.get(tmpIndex).declarations) {
+                for(Declaration tmpDeclaration : declarations) {
+                    if(tmpDeclaration.conflictsWith(tmpFollowingDeclaration))
+                        return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    private static String removeComments(String css) {
+        StringBuilder stringBuilder = new StringBuilder(css.length());
+
+        int index = 0;
+
+        while (index < css.length()) {
+            int atomEnd = skipAtom(css, index);
+
+            if(atomEnd != index) {
+                stringBuilder.append(css, index, atomEnd);
+
+                index = atomEnd;
+            }
+            else if(css.startsWith("/*", index)) {
+                int commentEnd = css.indexOf("*/", index + 2);
+
+                //The comment is replaced by whitespace, to keep the surrounding tokens separated.
+                stringBuilder.append(' ');
+
+                index = commentEnd < 0 ? css.length() : commentEnd + 2;
+            }
+            else {
+                stringBuilder.append(css.charAt(index));
+
+                index++;
+            }
+        }
+
+        return stringBuilder.toString();
+    }
+
+    /**
+     * Collapses all whitespace outside of strings and variables. Whitespace next to a separator-character is removed.
+     * @param css The CSS-string to minify.
+     * @param separators The separator-characters.
+     * @return The minified CSS-string.
+     */
+    private static String minify(String css, String separators) {
+        StringBuilder stringBuilder = new StringBuilder(css.length());
+
+        boolean pendingWhitespace = false;
+        boolean previousSeparator = false;
+
+        int index = 0;
+
+        while (index < css.length()) {
+            int atomEnd = skipAtom(css, index);
+
+            char character = css.charAt(index);
+
+            if(atomEnd == index && Character.isWhitespace(character)) {
+                pendingWhitespace = true;
+
+                index++;
+
+                continue;
+            }
+
+            boolean separator = atomEnd == index && separators.indexOf(character) >= 0;
+
+            if(pendingWhitespace && !separator && !previousSeparator && stringBuilder.length() > 0)
+                stringBuilder.append(' ');
+
+            pendingWhitespace = false;
+            previousSeparator = separator;
+
+            if(atomEnd != index) {
+                stringBuilder.append(css, index, atomEnd);
+
+                index = atomEnd;
+            }
+            else {
+                stringBuilder.append(character);
+
+                index++;
+            }
+        }
+
+        return stringBuilder.toString();
+    }
+
+    /**
+     * Returns the index of the first stop-character outside of strings, variables and nested brackets.
+     * @param css The CSS-string to search.
+     * @param startIndex The index to start at.
+     * @param endIndex The index to stop at.
+     * @param stopCharacters The characters to find.
+     * @return The index of the found character or the end-index.
+     */
+    private static int indexOfUnnested(String css, int startIndex, int endIndex, String stopCharacters) {
+        int depth = 0;
+
+        int index = startIndex;
+
+        while (index < endIndex) {
+            int atomEnd = skipAtom(css, index);
+
+            if(atomEnd != index) {
+                index = atomEnd;
+
+                continue;
+            }
+
+            char character = css.charAt(index);
+
+            if(depth == 0 && stopCharacters.indexOf(character) >= 0)
+                return index;
+
+            if(character == '(' || character == '{') {
+                depth++;
+            }
+            else if((character == ')' || character == '}') && depth > 0) {
+                depth--;
+            }
+
+            index++;
+        }
+
+        return endIndex;
+    }
+
+    /**
+     * Returns the end-index of a string or variable starting at the given index.
+     * @param css The CSS-string.
+     * @param index The index of the possible string or variable.
+     * @return The end-index or the given index, if there is no string or variable.
+     */
+    private static int skipAtom(String css, int index) {
+        char character = css.charAt(index);
+
+        if(character == '"' || character == '\'') {
+            int stringEnd = index + 1;
+
+            while (stringEnd < css.length() && css.charAt(stringEnd) != character) {
+                if(css.charAt(stringEnd) == '\\')
+                    stringEnd++;
+
+                stringEnd++;
+            }
+
+            return Math.min(stringEnd + 1, css.length());
+        }
+
+        if(character == '{' && css.startsWith("{{", index)) {
+            Matcher variableMatcher = CSS_COLOR_VARIABLE_PATTERN.matcher(css).region(index, css.length());
+
+            if(variableMatcher.lookingAt())
+                return variableMatcher.end();
+        }
+
+        return index;
+    }
+}
@@ -0,0 +1,18 @@
+package eu.dgs_development.code.ejg.theme.colors;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Annotation-class to mark {@link ThemeColorsProvider}-subclasses, for which a class containing a {@link ThemeColorKey}
+ * per {@link ThemeColor}-getter is generated at compile-time (e.g. "CustomColorsProviderColorKeys" for the class
+ * "CustomColorsProvider"). The keys allow the {@link eu.dgs_development.code.ejg.theme.ThemeManager} to resolve colors
+ * by an array-index instead of the color name.
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface GenerateThemeColorKeys {
+
+}
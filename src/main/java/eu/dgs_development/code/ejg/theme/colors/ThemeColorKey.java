@@ -0,0 +1,89 @@
+package eu.dgs_development.code.ejg.theme.colors;
+
+import java.util.function.Function;
+
+/**
+ * A typed key for a {@link ThemeColor}-getter of a {@link ThemeColorsProvider}-subclass. All keys of a subclass have a
+ * dense index (from 0 to the amount of keys), which allows to store resolved colors in arrays. The keys are generated
+ * for subclasses marked with {@link GenerateThemeColorKeys}. A key can be used everywhere a function returning a
+ * {@link ThemeColor} is expected.
+ * @param <ColorsProvider> The {@link ThemeColorsProvider}-subclass.
+ */
+public final class ThemeColorKey<ColorsProvider extends ThemeColorsProvider>
+        implements Function<ColorsProvider, ThemeColor> {
+    private final Class<ColorsProvider> colorsProviderClass;
+
+    private final int index;
+
+    private final int keyCount;
+
+    private final String name;
+
+    private final Function<ColorsProvider, ThemeColor> colorsProviderThemeColorFunction;
+
+    /**
+     * Creates a new {@link ThemeColorKey}.
+     * @param colorsProviderClass The {@link ThemeColorsProvider}-subclass.
+     * @param index The index of the key (from 0 to the amount of keys).
+     * @param keyCount The amount of keys of the {@link ThemeColorsProvider}-subclass.
+     * @param name The name of the key.
+     * @param colorsProviderThemeColorFunction The function calling the {@link ThemeColor}-getter.
+     */
+    public ThemeColorKey(Class<ColorsProvider> colorsProviderClass, int index, int keyCount, String name,
+                         Function<ColorsProvider, ThemeColor> colorsProviderThemeColorFunction) {
+        if(index < 0 || index >= keyCount)
+            throw new IllegalArgumentException("The index " + index + " is out of range (" + keyCount + " keys).");
+
+        this.colorsProviderClass = colorsProviderClass;
+        this.index = index;
+        this.keyCount = keyCount;
+        this.name = name;
+        this.colorsProviderThemeColorFunction = colorsProviderThemeColorFunction;
+    }
+
+    @Override
+    public ThemeColor apply(ColorsProvider colorsProvider) {
+        return colorsProviderThemeColorFunction.apply(colorsProvider);
+    }
+
+    /**
+     * Returns the {@link ThemeColorsProvider}-subclass of the key.
+     * @return The {@link ThemeColorsProvider}-subclass.
+     */
+    public Class<ColorsProvider> getColorsProviderClass() {
+        return colorsProviderClass;
+    }
+
+    /**
+     * Returns the dense index of the key.
+     * @return The index of the key.
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Returns the amount of keys of the {@link ThemeColorsProvider}-subclass.
+     * @return The amount of keys.
+     */
+    public int getKeyCount() {
+        return keyCount;
+    }
+
+    /**
+     * Returns the name of the key (the name of the {@link ThemeColor}-getter).
+     * @return The name of the key.
+     */
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String toString() {
+        return "ThemeColorKey{" +
+                "colorsProviderClass=" + colorsProviderClass.getName() +
+                ", index=" + index +
+                ", name='" + name + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,216 @@
+package eu.dgs_development.code.ejg.theme.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.*;
+
+/**
+ * Annotation-processor generating a class with a {@link eu.dgs_development.code.ejg.theme.colors.ThemeColorKey} per
+ * {@link eu.dgs_development.code.ejg.theme.colors.ThemeColor}-getter (public, no parameters) for every
+ * {@link eu.dgs_development.code.ejg.theme.colors.ThemeColorsProvider}-subclass marked with
+ * {@link eu.dgs_development.code.ejg.theme.colors.GenerateThemeColorKeys}. The getters are sorted by name, which
+ * results in a stable index per key. The generated class is placed into the package of the subclass and is named
+ * after the subclass with the suffix "ColorKeys".
+ */
+@SupportedAnnotationTypes("eu.dgs_development.code.ejg.theme.colors.GenerateThemeColorKeys")
+public class ThemeColorKeysProcessor extends AbstractProcessor {
+    private static final String GENERATED_CLASS_SUFFIX = "ColorKeys";
+
+    //The class-names are used instead of class-literals, because the theme-classes require JavaFX, which must not be
+    //loaded by the compiler running the processor.
+
+    private static final String GENERATE_ANNOTATION_CLASS_NAME =
+            "eu.dgs_development.code.ejg.theme.colors.GenerateThemeColorKeys";
+
+    private static final String THEME_COLORS_PROVIDER_CLASS_NAME =
+            "eu.dgs_development.code.ejg.theme.colors.ThemeColorsProvider";
+
+    private static final String THEME_COLOR_CLASS_NAME = "eu.dgs_development.code.ejg.theme.colors.ThemeColor";
+
+    private static final String THEME_COLOR_KEY_CLASS_NAME = "eu.dgs_development.code.ejg.theme.colors.ThemeColorKey";
+
+    /**
+     * Creates a new {@link ThemeColorKeysProcessor}.
+     */
+    public ThemeColorKeysProcessor() {
+        //Ignore...
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnvironment) {
+        TypeElement annotationElement = processingEnv.getElementUtils().getTypeElement(GENERATE_ANNOTATION_CLASS_NAME);
+
+        for(Element tmpElement : roundEnvironment.getElementsAnnotatedWith(annotationElement)) {
+            if(tmpElement.getKind() != ElementKind.CLASS) {
+                printError(tmpElement, "Only classes can be annotated with @GenerateThemeColorKeys.");
+
+                continue;
+            }
+
+            TypeElement tmpTypeElement = (TypeElement) tmpElement;
+
+            if(!isThemeColorsProvider(tmpTypeElement)) {
+                printError(tmpElement, "The class must extend " + THEME_COLORS_PROVIDER_CLASS_NAME + ".");
+
+                continue;
+            }
+
+            if(!tmpTypeElement.getTypeParameters().isEmpty()) {
+                printError(tmpElement, "Generic classes are not supported.");
+
+                continue;
+            }
+
+            try {
+                generateColorKeysClass(tmpTypeElement);
+            }
+            catch (IOException exception) {
+                printError(tmpElement, "Unable to generate color keys: " + exception);
+            }
+        }
+
+        return true;
+    }
+
+    private boolean isThemeColorsProvider(TypeElement typeElement) {
+        TypeMirror themeColorsProviderType = processingEnv.getElementUtils()
+                .getTypeElement(THEME_COLORS_PROVIDER_CLASS_NAME).asType();
+
+        return processingEnv.getTypeUtils().isAssignable(typeElement.asType(), themeColorsProviderType);
+    }
+
+    private List<String> findThemeColorGetterNames(TypeElement typeElement) {
+        TypeMirror themeColorType = processingEnv.getElementUtils().getTypeElement(THEME_COLOR_CLASS_NAME).asType();
+
+        Set<String> getterNames = new TreeSet<>();
+
+        List<? extends Element> members = processingEnv.getElementUtils().getAllMembers(typeElement);
+
+        for(ExecutableElement tmpMethod : ElementFilter.methodsIn(members)) {
+            boolean isPublic = tmpMethod.getModifiers().contains(Modifier.PUBLIC);
+            boolean isStatic = tmpMethod.getModifiers().contains(Modifier.STATIC);
+            boolean isGetterFunction = tmpMethod.getParameters().isEmpty();
+            boolean isThemeColorProvider = processingEnv.getTypeUtils().isSameType(tmpMethod.getReturnType(),
+                    themeColorType);
+
+            if(isPublic && !isStatic && isGetterFunction && isThemeColorProvider)
+                getterNames.add(tmpMethod.getSimpleName().toString());
+        }
+
+        return new ArrayList<>(getterNames);
+    }
+
+    private void generateColorKeysClass(TypeElement typeElement) throws IOException {
+        String packageName = processingEnv.getElementUtils().getPackageOf(typeElement).getQualifiedName().toString();
+
+        String providerClassName = typeElement.getQualifiedName().toString();
+
+        //Nested classes are named after all enclosing classes (e.g. "Outer_InnerColorKeys").
+        String providerSimpleName = packageName.isEmpty() ? providerClassName :
+                providerClassName.substring(packageName.length() + 1);
+
+        String generatedSimpleName = providerSimpleName.replace('.', '_') + GENERATED_CLASS_SUFFIX;
+
+        String generatedClassName = packageName.isEmpty() ? generatedSimpleName : packageName + "." +
+                generatedSimpleName;
+
+        List<String> getterNames = findThemeColorGetterNames(typeElement);
+
+        String keyType = THEME_COLOR_KEY_CLASS_NAME + "<" + providerClassName + ">";
+
+        JavaFileObject sourceFile = processingEnv.getFiler().createSourceFile(generatedClassName, typeElement);
+
+        try(Writer writer = sourceFile.openWriter(); PrintWriter printWriter = new PrintWriter(writer)) {
+            if(!packageName.isEmpty()) {
+                printWriter.println("package " + packageName + ";");
+                printWriter.println();
+            }
+
+            printWriter.println("/**");
+            printWriter.println(" * Generated color keys of {@link " + providerClassName + "}.");
+            printWriter.println(" */");
+            printWriter.println("public final class " + generatedSimpleName + " {");
+            printWriter.println("    /**");
+            printWriter.println("     * The amount of color keys.");
+            printWriter.println("     */");
+            printWriter.println("    public static final int COUNT = " + getterNames.size() + ";");
+
+            for(int i = 0; i < getterNames.size(); i++) {
+                String tmpGetterName = getterNames.get(i);
+
+                printWriter.println();
+                printWriter.println("    /**");
+                printWriter.println("     * The key of {@link " + providerClassName + "#" + tmpGetterName + "()}.");
+                printWriter.println("     */");
+                printWriter.println("    public static final " + keyType + " " + toConstantName(tmpGetterName) +
+                        " = new " + THEME_COLOR_KEY_CLASS_NAME + "<>(" + providerClassName + ".class, " + i +
+                        ", COUNT, \"" + tmpGetterName + "\", " + providerClassName + "::" + tmpGetterName + ");");
+            }
+
+            printWriter.println();
+            printWriter.println("    /**");
+            printWriter.println("     * All color keys, ordered by their index.");
+            printWriter.println("     */");
+            printWriter.println("    public static final java.util.List<" + keyType + "> KEYS = java.util.List.of(");
+
+            for(int i = 0; i < getterNames.size(); i++) {
+                printWriter.println("            " + toConstantName(getterNames.get(i)) +
+                        (i < getterNames.size() - 1 ? "," : ""));
+            }
+
+            printWriter.println("    );");
+            printWriter.println();
+            printWriter.println("    private " + generatedSimpleName + "() {");
+            printWriter.println("        //Ignore...");
+            printWriter.println("    }");
+            printWriter.println("}");
+        }
+    }
+
+    /**
+     * Converts the name of a getter into the name of its constant (e.g. "getAccentURLColor" to "ACCENT_URL_COLOR").
+     * @param getterName The name of the getter.
+     * @return The name of the constant.
+     */
+    static String toConstantName(String getterName) {
+        String name = getterName.startsWith("get") && getterName.length() > 3 ? getterName.substring(3) : getterName;
+
+        StringBuilder stringBuilder = new StringBuilder();
+
+        for(int i = 0; i < name.length(); i++) {
+            char tmpCharacter = name.charAt(i);
+
+            //Split at each word (e.g. "AccentURLColor" results in "ACCENT_URL_COLOR").
+            if(i > 0 && Character.isUpperCase(tmpCharacter)) {
+                boolean previousUpperCase = Character.isUpperCase(name.charAt(i - 1));
+                boolean nextLowerCase = i + 1 < name.length() && Character.isLowerCase(name.charAt(i + 1));
+
+                if(!previousUpperCase || nextLowerCase)
+                    stringBuilder.append('_');
+            }
+
+            stringBuilder.append(Character.toUpperCase(tmpCharacter));
+        }
+
+        return stringBuilder.toString();
+    }
+
+    private void printError(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+}
@@ -0,0 +1,297 @@
+package eu.dgs_development.code.ejg.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
+
+/**
+ * A backpressure-aware {@link Flow.Publisher}, which conflates bursty items: Every subscriber has its own buffer,
+ * which contains at most one pending item per conflation-key. If an item is submitted while an item with the same key
+ * is still pending (because the subscriber didn't request more items yet), the pending item is replaced by the newer
+ * item at its original position. This bounds every buffer to the amount of distinct keys, without blocking the
+ * submitting thread (e.g. the JavaFX application thread).
+ * <br><br>
+ * All signals of a subscriber are delivered serially by the given {@link Executor}.
+ * @param <K> The type of the conflation-keys.
+ * @param <T> The type of the published items.
+ */
+public final class ConflatingPublisher<K, T> implements Flow.Publisher<T>, AutoCloseable {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ConflatingPublisher.class);
+
+    private final Function<? super T, ? extends K> conflationKeyFunction;
+
+    private final Executor executor;
+
+    private final CopyOnWriteArrayList<ConflatingSubscription> subscriptions = new CopyOnWriteArrayList<>();
+
+    private volatile boolean closed = false;
+
+    /**
+     * Creates a new {@link ConflatingPublisher}, which delivers all items with {@link ForkJoinPool#commonPool()}.
+     * @param conflationKeyFunction Returns the conflation-key of an item.
+     */
+    public ConflatingPublisher(Function<? super T, ? extends K> conflationKeyFunction) {
+        this(conflationKeyFunction, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a new {@link ConflatingPublisher}.
+     * @param conflationKeyFunction Returns the conflation-key of an item.
+     * @param executor The {@link Executor} to deliver the items.
+     */
+    public ConflatingPublisher(Function<? super T, ? extends K> conflationKeyFunction, Executor executor) {
+        this.conflationKeyFunction = Objects.requireNonNull(conflationKeyFunction);
+        this.executor = Objects.requireNonNull(executor);
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+        subscribe(subscriber, null);
+    }
+
+    /**
+     * Adds a subscriber, which receives the given item before all subsequently submitted items (e.g. the current
+     * state). The initial item is conflated with later items of the same key.
+     * @param subscriber The subscriber to add.
+     * @param initialItem The item to deliver first or null.
+     */
+    public void subscribe(Flow.Subscriber<? super T> subscriber, T initialItem) {
+        ConflatingSubscription subscription = new ConflatingSubscription(Objects.requireNonNull(subscriber));
+
+        if(initialItem != null)
+            subscription.offer(conflationKeyFunction.apply(initialItem), initialItem);
+
+        subscriptions.add(subscription);
+
+        //The subscriber may be completed immediately, if the publisher was closed concurrently.
+        if(closed)
+            subscription.complete();
+
+        subscription.scheduleDrain();
+    }
+
+    /**
+     * Offers an item to all current subscribers. This function never blocks.
+     * @param item The item to publish.
+     * @throws IllegalStateException If the publisher was closed.
+     */
+    public void submit(T item) {
+        if(closed)
+            throw new IllegalStateException("Unable to submit item: The publisher is closed.");
+
+        Objects.requireNonNull(item);
+
+        K conflationKey = conflationKeyFunction.apply(item);
+
+        for(ConflatingSubscription tmpSubscription : subscriptions)
+            tmpSubscription.offer(conflationKey, item);
+    }
+
+    /**
+     * Returns true if there is at least one subscriber. This allows to skip the creation of items nobody receives.
+     * @return True if there are subscribers.
+     */
+    public boolean hasSubscribers() {
+        return !subscriptions.isEmpty();
+    }
+
+    /**
+     * Returns the amount of current subscribers.
+     * @return The amount of subscribers.
+     */
+    public int getSubscriberCount() {
+        return subscriptions.size();
+    }
+
+    /**
+     * Closes the publisher. All subscribers receive their pending items (according to their demand) and get
+     * completed afterwards.
+     */
+    @Override
+    public void close() {
+        closed = true;
+
+        for(ConflatingSubscription tmpSubscription : subscriptions)
+            tmpSubscription.complete();
+    }
+
+    /**
+     * The subscription of a single subscriber, containing its conflating buffer.
+     */
+    private final class ConflatingSubscription implements Flow.Subscription {
+        private final Flow.Subscriber<? super T> subscriber;
+
+        private final LinkedHashMap<K, T> keyPendingItemMap = new LinkedHashMap<>();
+
+        private long demand = 0;
+
+        private boolean subscribed = false;
+
+        private boolean drainScheduled = false;
+
+        private boolean completionRequested = false;
+
+        private boolean terminated = false;
+
+        private Throwable pendingError = null;
+
+        private ConflatingSubscription(Flow.Subscriber<? super T> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        private synchronized void offer(K conflationKey, T item) {
+            if(terminated)
+                return;
+
+            //Replacing an existing key keeps its original position.
+            keyPendingItemMap.put(conflationKey, item);
+
+            scheduleDrain();
+        }
+
+        private synchronized void complete() {
+            completionRequested = true;
+
+            scheduleDrain();
+        }
+
+        @Override
+        public synchronized void request(long n) {
+            if(terminated)
+                return;
+
+            if(n <= 0) {
+                pendingError = new IllegalArgumentException("The amount of requested items must be positive.");
+            }
+            else {
+                demand = demand + n < 0 ? Long.MAX_VALUE : demand + n;
+            }
+
+            scheduleDrain();
+        }
+
+        @Override
+        public void cancel() {
+            synchronized (this) {
+                terminated = true;
+
+                keyPendingItemMap.clear();
+            }
+
+            subscriptions.remove(this);
+        }
+
+        private synchronized void scheduleDrain() {
+            if(drainScheduled || (terminated && subscribed))
+                return;
+
+            drainScheduled = true;
+
+            try {
+                executor.execute(this::drain);
+            }
+            catch (RejectedExecutionException exception) {
+                drainScheduled = false;
+
+                LOGGER.error("Unable to deliver items to subscriber \"" + subscriber + "\".", exception);
+            }
+        }
+
+        private void drain() {
+            boolean subscribeSignal;
+
+            synchronized (this) {
+                subscribeSignal = !subscribed;
+
+                subscribed = true;
+            }
+
+            if(subscribeSignal && !deliver(() -> subscriber.onSubscribe(this)))
+                return;
+
+            while (true) {
+                T item = null;
+                Throwable error = null;
+                boolean completeSignal = false;
+
+                synchronized (this) {
+                    if(terminated) {
+                        drainScheduled = false;
+
+                        return;
+                    }
+
+                    if(pendingError != null) {
+                        error = pendingError;
+                        terminated = true;
+                    }
+                    else if(demand > 0 && !keyPendingItemMap.isEmpty()) {
+                        Iterator<T> pendingItemIterator = keyPendingItemMap.values().iterator();
+
+                        item = pendingItemIterator.next();
+
+                        pendingItemIterator.remove();
+
+                        if(demand != Long.MAX_VALUE)
+                            demand--;
+                    }
+                    else if(completionRequested && keyPendingItemMap.isEmpty()) {
+                        completeSignal = true;
+                        terminated = true;
+                    }
+                    else {
+                        drainScheduled = false;
+
+                        return;
+                    }
+                }
+
+                if(error != null) {
+                    Throwable tmpError = error;
+
+                    subscriptions.remove(this);
+
+                    deliver(() -> subscriber.onError(tmpError));
+                }
+                else if(completeSignal) {
+                    subscriptions.remove(this);
+
+                    deliver(subscriber::onComplete);
+                }
+                else {
+                    T tmpItem = item;
+
+                    if(!deliver(() -> subscriber.onNext(tmpItem)))
+                        return;
+                }
+            }
+        }
+
+        private boolean deliver(Runnable signal) {
+            try {
+                signal.run();
+
+                return true;
+            }
+            catch (RuntimeException exception) {
+                //A failing subscriber is cancelled, because its state is unknown.
+                LOGGER.error("The subscriber \"" + subscriber + "\" failed and gets cancelled.", exception);
+
+                cancel();
+
+                synchronized (this) {
+                    drainScheduled = false;
+                }
+
+                return false;
+            }
+        }
+    }
+}
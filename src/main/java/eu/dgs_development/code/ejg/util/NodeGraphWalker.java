@@ -0,0 +1,91 @@
+package eu.dgs_development.code.ejg.util;
+
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.control.*;
+
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * Walks a node-graph iteratively and visits every node once. Besides the children of a {@link Parent}, the walker
+ * visits the nodes of controls, which are only added as children by the skin (e.g. the graphic of a {@link Labeled}
+ * or the content of a {@link ScrollPane}). This allows walking a node-graph directly after it was loaded from FXML,
+ * before any skin was created. The cost is linear to the amount of nodes.
+ */
+public final class NodeGraphWalker {
+    private NodeGraphWalker() {
+        //Ignore...
+    }
+
+    /**
+     * Visits the root-node and all of its descendants.
+     * @param rootNode The root-node of the node-graph.
+     * @param nodeVisitor The visitor executed once per node.
+     * @return The amount of visited nodes.
+     */
+    public static int walk(Node rootNode, Consumer<Node> nodeVisitor) {
+        Set<Node> visitedNodes = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        Deque<Node> pendingNodes = new ArrayDeque<>();
+
+        pendingNodes.push(rootNode);
+
+        while (!pendingNodes.isEmpty()) {
+            Node tmpNode = pendingNodes.pop();
+
+            //A node may be reachable twice (e.g. as child and as content of a control with a skin).
+            if(!visitedNodes.add(tmpNode))
+                continue;
+
+            nodeVisitor.accept(tmpNode);
+
+            if(tmpNode instanceof Parent)
+                pushAll(pendingNodes, ((Parent) tmpNode).getChildrenUnmodifiable());
+
+            pushSkinNodes(pendingNodes, tmpNode);
+        }
+
+        return visitedNodes.size();
+    }
+
+    private static void pushSkinNodes(Deque<Node> pendingNodes, Node node) {
+        if(node instanceof Labeled)
+            pushIfPresent(pendingNodes, ((Labeled) node).getGraphic());
+
+        if(node instanceof TitledPane) {
+            pushIfPresent(pendingNodes, ((TitledPane) node).getContent());
+        }
+        else if(node instanceof ScrollPane) {
+            pushIfPresent(pendingNodes, ((ScrollPane) node).getContent());
+        }
+        else if(node instanceof SplitPane) {
+            pushAll(pendingNodes, ((SplitPane) node).getItems());
+        }
+        else if(node instanceof ToolBar) {
+            pushAll(pendingNodes, ((ToolBar) node).getItems());
+        }
+        else if(node instanceof Accordion) {
+            pushAll(pendingNodes, ((Accordion) node).getPanes());
+        }
+        else if(node instanceof ButtonBar) {
+            pushAll(pendingNodes, ((ButtonBar) node).getButtons());
+        }
+        else if(node instanceof TabPane) {
+            for(Tab tmpTab : ((TabPane) node).getTabs()) {
+                pushIfPresent(pendingNodes, tmpTab.getGraphic());
+                pushIfPresent(pendingNodes, tmpTab.getContent());
+            }
+        }
+    }
+
+    private static void pushAll(Deque<Node> pendingNodes, Collection<? extends Node> nodes) {
+        for(Node tmpNode : nodes)
+            pushIfPresent(pendingNodes, tmpNode);
+    }
+
+    private static void pushIfPresent(Deque<Node> pendingNodes, Node node) {
+        if(node != null)
+            pendingNodes.push(node);
+    }
+}
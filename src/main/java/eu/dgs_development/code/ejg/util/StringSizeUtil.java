@@ -0,0 +1,26 @@
+package eu.dgs_development.code.ejg.util;
+
+/**
+ * Helper class to estimate the memory footprint of strings (e.g. stylesheet data-URLs).
+ */
+public class StringSizeUtil {
+    private static final int LATIN1_MAX_CHAR = 0xFF;
+
+    /**
+     * Returns the size of the characters of a string in bytes. Strings containing only Latin-1 characters are stored
+     * with one byte per character (compact strings), all other strings with two bytes per character.
+     * @param string The string to measure or null.
+     * @return The size of the characters in bytes or 0, if the string is null.
+     */
+    public static long getStringBytes(String string) {
+        if(string == null)
+            return 0;
+
+        for(int tmpIndex = 0; tmpIndex < string.length(); tmpIndex++) {
+            if(string.charAt(tmpIndex) > LATIN1_MAX_CHAR)
+                return (long) string.length() * Character.BYTES;
+        }
+
+        return string.length();
+    }
+}
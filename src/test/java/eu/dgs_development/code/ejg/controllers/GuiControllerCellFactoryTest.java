@@ -0,0 +1,104 @@
+package eu.dgs_development.code.ejg.controllers;
+
+import eu.dgs_development.code.ejg.controllers.fixtures.TestItemGuiController;
+import eu.dgs_development.code.ejg.testutil.FxTestSupport;
+import javafx.collections.FXCollections;
+import javafx.scene.Scene;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+import javafx.scene.layout.StackPane;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifies that cells of a {@link GuiControllerCellFactory} borrow and return their {@link ItemGuiController}s. The
+ * cells are updated directly, like the virtual flow of a {@link ListView} does.
+ */
+class GuiControllerCellFactoryTest {
+    private GuiControllerCellFactory<String, TestItemGuiController> cellFactory;
+
+    private ListView<String> listView;
+
+    private StackPane rootNode;
+
+    @BeforeAll
+    static void startToolkit() {
+        FxTestSupport.startToolkit();
+    }
+
+    @BeforeEach
+    void setUp() throws Exception {
+        GuiControllerManager guiControllerManager = GuiControllerManagerConcurrencyTest.createGuiControllerManager();
+
+        FxTestSupport.runOnFxThread(() -> {
+            cellFactory = new GuiControllerCellFactory<>(guiControllerManager, TestItemGuiController.class);
+
+            listView = new ListView<>(FXCollections.observableArrayList("first", null, "third"));
+
+            rootNode = new StackPane();
+
+            new Scene(rootNode);
+        });
+    }
+
+    @Test
+    void displaysNullItems() throws Exception {
+        FxTestSupport.runOnFxThread(() -> {
+            ListCell<String> cell = createCell(1);
+
+            assertEquals(1, countBorrowedGuiControllers());
+            assertNotNull(cell.getGraphic());
+        });
+    }
+
+    @Test
+    void returnsInstancesOfDiscardedCells() throws Exception {
+        FxTestSupport.runOnFxThread(() -> {
+            ListCell<String> cell = createCell(0);
+
+            assertEquals(1, countBorrowedGuiControllers());
+
+            //The virtual flow discards a cell by removing it, without updating its item.
+            rootNode.getChildren().remove(cell);
+
+            assertEquals(0, countBorrowedGuiControllers());
+            assertNull(cell.getGraphic());
+
+            //A cell, which is added again, borrows another instance.
+            rootNode.getChildren().add(cell);
+
+            assertEquals(1, countBorrowedGuiControllers());
+            assertNotNull(cell.getGraphic());
+        });
+    }
+
+    @Test
+    void returnsInstancesOfEmptyCells() throws Exception {
+        FxTestSupport.runOnFxThread(() -> {
+            ListCell<String> cell = createCell(2);
+
+            cell.updateIndex(-1);
+
+            assertEquals(0, countBorrowedGuiControllers());
+            assertEquals(1, cellFactory.getPoolSize());
+        });
+    }
+
+    private ListCell<String> createCell(int index) {
+        ListCell<String> cell = cellFactory.forListView().call(listView);
+
+        rootNode.getChildren().add(cell);
+
+        cell.updateListView(listView);
+        cell.updateIndex(index);
+
+        return cell;
+    }
+
+    private int countBorrowedGuiControllers() {
+        return cellFactory.getCreatedGuiControllerCount() - cellFactory.getPoolSize();
+    }
+}
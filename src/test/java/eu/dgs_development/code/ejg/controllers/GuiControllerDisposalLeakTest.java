@@ -0,0 +1,138 @@
+package eu.dgs_development.code.ejg.controllers;
+
+import eu.dgs_development.code.ejg.controllers.fixtures.TestGuiController;
+import eu.dgs_development.code.ejg.testutil.FxTestSupport;
+import eu.dgs_development.code.ejg.theme.ThemeManager;
+import eu.dgs_development.code.ejg.theme.ThemeRegistrationFootprint;
+import eu.dgs_development.code.ejg.theme.colors.DefaultThemeColorsProvider;
+import javafx.scene.layout.StackPane;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.ref.WeakReference;
+import java.util.List;
+import java.util.concurrent.Flow;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifies that disposed {@link GuiController}-instances and their node-graphs become collectable.
+ */
+class GuiControllerDisposalLeakTest {
+    private static final int GC_ATTEMPTS = 50;
+
+    private GuiControllerManager guiControllerManager;
+
+    private ThemeManager<DefaultThemeColorsProvider> themeManager;
+
+    @BeforeAll
+    static void startToolkit() {
+        FxTestSupport.startToolkit();
+    }
+
+    @BeforeEach
+    void setUp() throws Exception {
+        guiControllerManager = GuiControllerManagerConcurrencyTest.createGuiControllerManager();
+
+        themeManager = FxTestSupport.callOnFxThread(() -> new ThemeManager<>(new DefaultThemeColorsProvider()));
+
+        guiControllerManager.addThemeManager(themeManager, true);
+    }
+
+    @Test
+    void disposedControllerBecomesCollectable() throws Exception {
+        List<WeakReference<Object>> references = FxTestSupport.callOnFxThread(() -> {
+            TestGuiController guiController = guiControllerManager.createGuiControllerInstance(
+                    TestGuiController.class);
+
+            //The root-node, the rectangle and the image-view are registered automatically.
+            assertEquals(3, countRegistrations(themeManager.getRegistrationFootprint()));
+
+            assertTrue(guiControllerManager.dispose(guiController));
+
+            return List.of(new WeakReference<>(guiController), new WeakReference<>(guiController.getRootNode()));
+        });
+
+        assertEquals(0, countRegistrations(themeManager.getRegistrationFootprint()));
+
+        for(WeakReference<Object> tmpReference : references)
+            assertTrue(awaitCollection(tmpReference), "The disposed instance wasn't collected.");
+    }
+
+    @Test
+    void detachedNodesAreRemovedOnDispose() throws Exception {
+        List<WeakReference<Object>> references = FxTestSupport.callOnFxThread(() -> {
+            TestGuiController guiController = guiControllerManager.createGuiControllerInstance(
+                    TestGuiController.class);
+
+            //The controller detaches a registered shape before it gets disposed.
+            ((StackPane) guiController.getRootNode()).getChildren().remove(guiController.getRectangle());
+
+            assertTrue(guiControllerManager.dispose(guiController));
+
+            return List.of(new WeakReference<>(guiController), new WeakReference<>(guiController.getRectangle()));
+        });
+
+        assertEquals(0, countRegistrations(themeManager.getRegistrationFootprint()));
+
+        for(WeakReference<Object> tmpReference : references)
+            assertTrue(awaitCollection(tmpReference), "The detached node wasn't collected.");
+    }
+
+    @Test
+    void pendingLifecycleEventsDoNotRetainDisposedControllers() throws Exception {
+        //The subscriber never requests events, so all events stay pending.
+        guiControllerManager.getLifecycleEventPublisher().subscribe(new Flow.Subscriber<>() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                //Ignore...
+            }
+
+            @Override
+            public void onNext(GuiControllerLifecycleEvent item) {
+                //Ignore...
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                //Ignore...
+            }
+
+            @Override
+            public void onComplete() {
+                //Ignore...
+            }
+        });
+
+        WeakReference<Object> reference = FxTestSupport.callOnFxThread(() -> {
+            TestGuiController guiController = guiControllerManager.createGuiControllerInstance(
+                    TestGuiController.class);
+
+            assertTrue(guiControllerManager.dispose(guiController));
+
+            //The pending events of the first instance are replaced by the events of the second instance.
+            assertTrue(guiControllerManager.dispose(guiControllerManager.createGuiControllerInstance(
+                    TestGuiController.class)));
+
+            return new WeakReference<>(guiController);
+        });
+
+        assertTrue(awaitCollection(reference), "The disposed instance was retained by a pending event.");
+    }
+
+    private static int countRegistrations(ThemeRegistrationFootprint registrationFootprint) {
+        return registrationFootprint.getParentCount() + registrationFootprint.getImageViewCount() +
+                registrationFootprint.getShapeCount();
+    }
+
+    private static boolean awaitCollection(WeakReference<?> reference) throws InterruptedException {
+        for(int tmpAttempt = 0; tmpAttempt < GC_ATTEMPTS && reference.get() != null; tmpAttempt++) {
+            System.gc();
+
+            Thread.sleep(20);
+        }
+
+        return reference.get() == null;
+    }
+}
@@ -0,0 +1,242 @@
+package eu.dgs_development.code.ejg.controllers;
+
+import eu.dgs_development.code.ejg.controllers.fixtures.CachedTestGuiController;
+import eu.dgs_development.code.ejg.controllers.fixtures.TestGuiController;
+import eu.dgs_development.code.ejg.testutil.FxTestSupport;
+import javafx.scene.layout.StackPane;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Stress-tests the creation of {@link GuiController}-instances from many threads.
+ */
+class GuiControllerManagerConcurrencyTest {
+    private static final int THREAD_COUNT = 16;
+
+    private static final int CREATIONS_PER_THREAD = 25;
+
+    private static final long TIMEOUT_SECONDS = 60;
+
+    @BeforeAll
+    static void startToolkit() {
+        FxTestSupport.startToolkit();
+    }
+
+    static GuiControllerManager createGuiControllerManager() throws Exception {
+        GuiConfiguration guiConfiguration = new GuiConfiguration(null);
+
+        guiConfiguration.setPackageScanPath(TestGuiController.class.getPackageName());
+        guiConfiguration.setModuleScanningEnabled(false);
+
+        return new GuiControllerManager(guiConfiguration);
+    }
+
+    @Test
+    void createsControllersConcurrently() throws Exception {
+        GuiControllerManager guiControllerManager = createGuiControllerManager();
+
+        ExecutorService callerExecutor = Executors.newFixedThreadPool(THREAD_COUNT);
+        ExecutorService loaderExecutor = Executors.newFixedThreadPool(THREAD_COUNT);
+
+        Queue<CompletableFuture<TestGuiController>> creationFutures = new ConcurrentLinkedQueue<>();
+
+        CountDownLatch startLatch = new CountDownLatch(1);
+
+        try {
+            List<Future<?>> callerFutures = new ArrayList<>();
+
+            for(int tmpThread = 0; tmpThread < THREAD_COUNT; tmpThread++) {
+                callerFutures.add(callerExecutor.submit(() -> {
+                    startLatch.await();
+
+                    for(int tmpCreation = 0; tmpCreation < CREATIONS_PER_THREAD; tmpCreation++) {
+                        creationFutures.add(guiControllerManager.createGuiControllerInstanceAsync(
+                                TestGuiController.class, loaderExecutor));
+                    }
+
+                    return null;
+                }));
+            }
+
+            //Release all threads at once.
+            startLatch.countDown();
+
+            for(Future<?> tmpCallerFuture : callerFutures)
+                tmpCallerFuture.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+            CompletableFuture.allOf(creationFutures.toArray(new CompletableFuture[0]))
+                    .get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        }
+        finally {
+            callerExecutor.shutdownNow();
+            loaderExecutor.shutdownNow();
+        }
+
+        Set<TestGuiController> createdGuiControllers = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        for(CompletableFuture<TestGuiController> tmpCreationFuture : creationFutures) {
+            TestGuiController tmpGuiController = tmpCreationFuture.join();
+
+            assertTrue(tmpGuiController.isInitialized());
+            assertTrue(tmpGuiController.isInitializedOnFxThread());
+            assertEquals(1, tmpGuiController.getInitializationCount());
+            assertNotNull(tmpGuiController.getRootNode());
+            assertNotNull(tmpGuiController.getRectangle());
+            assertSame(guiControllerManager, tmpGuiController.getGuiControllerManager());
+
+            createdGuiControllers.add(tmpGuiController);
+        }
+
+        assertEquals(THREAD_COUNT * CREATIONS_PER_THREAD, createdGuiControllers.size());
+    }
+
+    @Test
+    void initializesCachedControllerOnceWhileCreatingConcurrently() throws Exception {
+        GuiControllerManager guiControllerManager = createGuiControllerManager();
+
+        int initialCount = CachedTestGuiController.getInitializationCount();
+
+        ExecutorService callerExecutor = Executors.newFixedThreadPool(THREAD_COUNT);
+        ExecutorService loaderExecutor = Executors.newFixedThreadPool(THREAD_COUNT);
+
+        CountDownLatch startLatch = new CountDownLatch(1);
+
+        Set<CachedTestGuiController> cachedGuiControllers = Collections.newSetFromMap(new ConcurrentHashMap<>());
+
+        try {
+            List<CompletableFuture<TestGuiController>> creationFutures = new ArrayList<>();
+
+            for(int tmpCreation = 0; tmpCreation < THREAD_COUNT * CREATIONS_PER_THREAD; tmpCreation++) {
+                creationFutures.add(guiControllerManager.createGuiControllerInstanceAsync(TestGuiController.class,
+                        loaderExecutor));
+            }
+
+            //The cached instance is requested by all threads at the same time, while the background-threads load.
+
+            List<Future<?>> callerFutures = new ArrayList<>();
+
+            for(int tmpThread = 0; tmpThread < THREAD_COUNT; tmpThread++) {
+                callerFutures.add(callerExecutor.submit(() -> {
+                    startLatch.await();
+
+                    for(int tmpRequest = 0; tmpRequest < CREATIONS_PER_THREAD; tmpRequest++) {
+                        CachedTestGuiController tmpGuiController = guiControllerManager
+                                .<CachedTestGuiController>getCachedGuiControllerOptional(
+                                        CachedTestGuiController.class).orElseThrow();
+
+                        //The instance is returned after its initialization was completed.
+                        assertTrue(tmpGuiController.isInitialized());
+
+                        cachedGuiControllers.add(tmpGuiController);
+                    }
+
+                    return null;
+                }));
+            }
+
+            //Release all threads at once.
+            startLatch.countDown();
+
+            for(Future<?> tmpCallerFuture : callerFutures)
+                tmpCallerFuture.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+            CompletableFuture.allOf(creationFutures.toArray(new CompletableFuture[0]))
+                    .get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+            assertEquals(1, cachedGuiControllers.size());
+            assertEquals(initialCount + 1, CachedTestGuiController.getInitializationCount());
+        }
+        finally {
+            callerExecutor.shutdownNow();
+            loaderExecutor.shutdownNow();
+        }
+    }
+
+    @Test
+    void publishesInitializedStateAfterOnInitialized() throws Exception {
+        for(int tmpRun = 0; tmpRun < 20; tmpRun++) {
+            SlowGuiController guiController = new SlowGuiController();
+
+            guiController.tryToSetRootNode(new StackPane());
+            guiController.initialize();
+
+            ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+
+            CountDownLatch startLatch = new CountDownLatch(1);
+
+            try {
+                List<Future<Boolean>> resultFutures = new ArrayList<>();
+
+                //Half of the threads initialize the instance, the other half polls the initialized-flag.
+
+                for(int tmpThread = 0; tmpThread < THREAD_COUNT; tmpThread++) {
+                    boolean initializer = tmpThread % 2 == 0;
+
+                    resultFutures.add(executor.submit(() -> {
+                        startLatch.await();
+
+                        if(initializer)
+                            return guiController.initializeAfterDependencies() && guiController.isStateComplete();
+
+                        while (!guiController.isInitialized())
+                            Thread.onSpinWait();
+
+                        return guiController.isStateComplete();
+                    }));
+                }
+
+                startLatch.countDown();
+
+                for(Future<Boolean> tmpResultFuture : resultFutures)
+                    assertTrue(tmpResultFuture.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+            }
+            finally {
+                executor.shutdownNow();
+            }
+
+            assertEquals(1, guiController.initializationCount);
+        }
+    }
+
+    /**
+     * A {@link GuiController}, whose initialization takes some time.
+     */
+    private static final class SlowGuiController extends GuiController {
+        private int initializationCount = 0;
+
+        private boolean stateComplete = false;
+
+        @Override
+        public void onInitialized() {
+            initializationCount++;
+
+            try {
+                Thread.sleep(5);
+            }
+            catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+
+            stateComplete = true;
+        }
+
+        private boolean isStateComplete() {
+            return stateComplete;
+        }
+
+        @Override
+        public boolean isCacheableGuiController() {
+            return false;
+        }
+
+        @Override
+        public String getFxmlPath() {
+            return "test-gui-controller.fxml";
+        }
+    }
+}
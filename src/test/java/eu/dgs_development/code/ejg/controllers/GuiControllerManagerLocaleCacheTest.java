@@ -0,0 +1,145 @@
+package eu.dgs_development.code.ejg.controllers;
+
+import eu.dgs_development.code.ejg.controllers.fixtures.CachedTestGuiController;
+import eu.dgs_development.code.ejg.controllers.fixtures.TestGuiController;
+import eu.dgs_development.code.ejg.testutil.FxTestSupport;
+import javafx.scene.Scene;
+import javafx.stage.Stage;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifies the reuse and the least-recently-used eviction of the cached {@link GuiController}-instances per locale.
+ */
+class GuiControllerManagerLocaleCacheTest {
+    private static final long TIMEOUT_SECONDS = 30;
+
+    @BeforeAll
+    static void startToolkit() {
+        FxTestSupport.startToolkit();
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedLocale() throws Exception {
+        GuiControllerManager guiControllerManager = createLocalizedGuiControllerManager(2);
+
+        List<GuiControllerLifecycleEvent> evictedEvents = new CopyOnWriteArrayList<>();
+
+        CountDownLatch evictedLatch = new CountDownLatch(2);
+
+        guiControllerManager.getLifecycleEventPublisher().subscribe(new Flow.Subscriber<>() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(GuiControllerLifecycleEvent lifecycleEvent) {
+                if(lifecycleEvent.getType() == GuiControllerLifecycleEvent.Type.EVICTED &&
+                        lifecycleEvent.getGuiController() instanceof CachedTestGuiController) {
+                    evictedEvents.add(lifecycleEvent);
+
+                    evictedLatch.countDown();
+                }
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                //Ignore...
+            }
+
+            @Override
+            public void onComplete() {
+                //Ignore...
+            }
+        });
+
+        List<CachedTestGuiController> evictedGuiControllers = FxTestSupport.callOnFxThread(() -> {
+            CachedTestGuiController englishGuiController = guiControllerManager.getCachedGuiControllerOrNull(
+                    CachedTestGuiController.class);
+
+            guiControllerManager.setLocale(Locale.GERMAN);
+
+            CachedTestGuiController germanGuiController = guiControllerManager.getCachedGuiControllerOrNull(
+                    CachedTestGuiController.class);
+
+            assertNotSame(englishGuiController, germanGuiController);
+            assertEquals(List.of(Locale.ENGLISH, Locale.GERMAN), guiControllerManager.getCachedLocales());
+
+            //The instances of an already cached locale are reused.
+
+            guiControllerManager.setLocale(Locale.ENGLISH);
+
+            assertSame(englishGuiController, guiControllerManager.getCachedGuiControllerOrNull(
+                    CachedTestGuiController.class));
+            assertEquals(List.of(Locale.GERMAN, Locale.ENGLISH), guiControllerManager.getCachedLocales());
+
+            //The least recently used locale is evicted. Its shown instance is disposed, after it was hidden.
+
+            Stage stage = new Stage();
+
+            stage.setScene(new Scene(germanGuiController.getRootNode()));
+            stage.show();
+
+            try {
+                guiControllerManager.setLocale(Locale.FRENCH);
+
+                assertEquals(List.of(Locale.ENGLISH, Locale.FRENCH), guiControllerManager.getCachedLocales());
+                assertFalse(germanGuiController.isDisposed());
+                assertFalse(englishGuiController.isDisposed());
+            }
+            finally {
+                stage.hide();
+            }
+
+            assertTrue(germanGuiController.isDisposed());
+
+            //An evicted instance, which isn't shown, is disposed immediately.
+
+            guiControllerManager.setLocale(Locale.GERMAN);
+
+            assertEquals(List.of(Locale.FRENCH, Locale.GERMAN), guiControllerManager.getCachedLocales());
+            assertTrue(englishGuiController.isDisposed());
+
+            CachedTestGuiController recreatedGermanGuiController = guiControllerManager.getCachedGuiControllerOrNull(
+                    CachedTestGuiController.class);
+
+            assertNotSame(germanGuiController, recreatedGermanGuiController);
+            assertFalse(recreatedGermanGuiController.isDisposed());
+
+            return List.of(germanGuiController, englishGuiController);
+        });
+
+        assertTrue(evictedLatch.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+
+        assertEquals(Locale.GERMAN, evictedEvents.get(0).getLocale());
+        assertSame(evictedGuiControllers.get(0), evictedEvents.get(0).getGuiController());
+        assertEquals(Locale.ENGLISH, evictedEvents.get(1).getLocale());
+        assertSame(evictedGuiControllers.get(1), evictedEvents.get(1).getGuiController());
+    }
+
+    private static GuiControllerManager createLocalizedGuiControllerManager(int maxCachedLocales) throws Exception {
+        GuiConfiguration guiConfiguration = new GuiConfiguration(null);
+
+        guiConfiguration.setPackageScanPath(TestGuiController.class.getPackageName());
+        guiConfiguration.setModuleScanningEnabled(false);
+        guiConfiguration.setLocale(Locale.ENGLISH);
+        guiConfiguration.setMaxCachedLocales(maxCachedLocales);
+        guiConfiguration.setResourceBundleProvider(tmpLocale -> new ListResourceBundle() {
+            @Override
+            protected Object[][] getContents() {
+                return new Object[0][];
+            }
+        });
+
+        return new GuiControllerManager(guiConfiguration);
+    }
+}
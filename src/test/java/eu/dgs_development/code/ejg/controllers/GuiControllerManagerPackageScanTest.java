@@ -0,0 +1,78 @@
+package eu.dgs_development.code.ejg.controllers;
+
+import eu.dgs_development.code.ejg.controllers.fixtures.TestGuiController;
+import eu.dgs_development.code.ejg.controllers.scan.ScanTestGuiController;
+import eu.dgs_development.code.ejg.controllers.scan.rejected.RejectedScanTestGuiController;
+import eu.dgs_development.code.ejg.testutil.FxTestSupport;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifies the accepted and rejected packages of the package-scan and the resulting {@link PackageScanReport}.
+ */
+class GuiControllerManagerPackageScanTest {
+    //The three controllers of the fixtures package, one controller of the scan package and the abstract
+    //ItemGuiController-superclass.
+    private static final int ACCEPTED_GUI_CONTROLLER_COUNT = 5;
+
+    @BeforeAll
+    static void startToolkit() {
+        FxTestSupport.startToolkit();
+    }
+
+    @Test
+    void scansAcceptedAndSkipsRejectedPackages() throws Exception {
+        //The constructor of the rejected controller throws, if its package is scanned.
+        GuiControllerManager guiControllerManager = new GuiControllerManager(createGuiConfiguration(true));
+
+        PackageScanReport packageScanReport = guiControllerManager.getPackageScanReport();
+
+        assertEquals(ACCEPTED_GUI_CONTROLLER_COUNT, packageScanReport.getGuiControllerClassCount());
+        assertEquals(1, packageScanReport.getInstanceProviderMethodCount());
+        assertTrue(packageScanReport.getScannedClassCount() >= ACCEPTED_GUI_CONTROLLER_COUNT);
+        assertTrue(packageScanReport.getScannedClasspathElementCount() >= 1);
+        assertTrue(packageScanReport.getOpenedJarCount() <= packageScanReport.getScannedClasspathElementCount());
+
+        assertDurations(packageScanReport);
+    }
+
+    @Test
+    void skipsInstanceProvidersIfDisabled() throws Exception {
+        GuiControllerManager guiControllerManager = new GuiControllerManager(createGuiConfiguration(false));
+
+        PackageScanReport packageScanReport = guiControllerManager.getPackageScanReport();
+
+        assertEquals(ACCEPTED_GUI_CONTROLLER_COUNT, packageScanReport.getGuiControllerClassCount());
+        assertEquals(0, packageScanReport.getInstanceProviderMethodCount());
+
+        assertDurations(packageScanReport);
+    }
+
+    private static GuiConfiguration createGuiConfiguration(boolean instanceProviderScanEnabled) {
+        GuiConfiguration guiConfiguration = new GuiConfiguration(null);
+
+        guiConfiguration.setPackageScanPath(TestGuiController.class.getPackageName());
+        guiConfiguration.addPackageScanPaths(ScanTestGuiController.class.getPackageName());
+        guiConfiguration.addRejectedPackageScanPaths(RejectedScanTestGuiController.class.getPackageName());
+        guiConfiguration.setModuleScanningEnabled(false);
+        guiConfiguration.setInstanceProviderScanEnabled(instanceProviderScanEnabled);
+
+        return guiConfiguration;
+    }
+
+    private static void assertDurations(PackageScanReport packageScanReport) {
+        assertFalse(packageScanReport.getScanDuration().isNegative());
+        assertFalse(packageScanReport.getInstanceProviderDuration().isNegative());
+        assertFalse(packageScanReport.getGuiControllerSetupDuration().isNegative());
+
+        Duration totalDuration = packageScanReport.getScanDuration()
+                .plus(packageScanReport.getInstanceProviderDuration())
+                .plus(packageScanReport.getGuiControllerSetupDuration());
+
+        assertEquals(totalDuration, packageScanReport.getTotalDuration());
+    }
+}
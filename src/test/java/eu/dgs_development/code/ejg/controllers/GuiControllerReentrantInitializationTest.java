@@ -0,0 +1,65 @@
+package eu.dgs_development.code.ejg.controllers;
+
+import eu.dgs_development.code.ejg.controllers.reentrant.CycleFirstGuiController;
+import eu.dgs_development.code.ejg.controllers.reentrant.CycleSecondGuiController;
+import eu.dgs_development.code.ejg.controllers.reentrant.SelfLookupGuiController;
+import eu.dgs_development.code.ejg.testutil.FxTestSupport;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifies lookups of cached {@link GuiController}-instances from inside {@link GuiController#onInitialized()}.
+ */
+class GuiControllerReentrantInitializationTest {
+    @BeforeAll
+    static void startToolkit() {
+        FxTestSupport.startToolkit();
+    }
+
+    private static GuiControllerManager createGuiControllerManager() throws Exception {
+        GuiConfiguration guiConfiguration = new GuiConfiguration(null);
+
+        guiConfiguration.setPackageScanPath(SelfLookupGuiController.class.getPackageName());
+        guiConfiguration.setModuleScanningEnabled(false);
+
+        return new GuiControllerManager(guiConfiguration);
+    }
+
+    @Test
+    void cachedControllerLooksUpItselfFromOnInitialized() throws Exception {
+        GuiControllerManager guiControllerManager = createGuiControllerManager();
+
+        FxTestSupport.runOnFxThread(() -> {
+            SelfLookupGuiController guiController = guiControllerManager.getCachedGuiControllerOrNull(
+                    SelfLookupGuiController.class);
+
+            assertNull(guiController.getLookupException());
+            assertSame(guiController, guiController.getLookedUpGuiController());
+            assertTrue(guiController.isInitialized());
+        });
+    }
+
+    @Test
+    void cachedControllersResolveDependencyCycle() throws Exception {
+        GuiControllerManager guiControllerManager = createGuiControllerManager();
+
+        FxTestSupport.runOnFxThread(() -> {
+            CycleFirstGuiController firstGuiController = guiControllerManager.getCachedGuiControllerOrNull(
+                    CycleFirstGuiController.class);
+
+            CycleSecondGuiController secondGuiController = guiControllerManager.getCachedGuiControllerOrNull(
+                    CycleSecondGuiController.class);
+
+            assertNull(firstGuiController.getLookupException());
+            assertNull(secondGuiController.getLookupException());
+
+            assertSame(secondGuiController, firstGuiController.getLookedUpGuiController());
+            assertSame(firstGuiController, secondGuiController.getLookedUpGuiController());
+
+            assertTrue(firstGuiController.isInitialized());
+            assertTrue(secondGuiController.isInitialized());
+        });
+    }
+}
@@ -0,0 +1,155 @@
+package eu.dgs_development.code.ejg.controllers;
+
+import eu.dgs_development.code.ejg.controllers.fixtures.TestGuiController;
+import eu.dgs_development.code.ejg.testutil.FxTestSupport;
+import javafx.application.Platform;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifies the cancellation, the coalesced delivery and the metrics of the {@link GuiControllerTaskExecutor}.
+ */
+class GuiControllerTaskExecutorTest {
+    private static final long TIMEOUT_SECONDS = 30;
+
+    @BeforeAll
+    static void startToolkit() {
+        FxTestSupport.startToolkit();
+    }
+
+    @Test
+    void disposeCancelsRunningTask() throws Exception {
+        GuiControllerManager guiControllerManager = GuiControllerManagerConcurrencyTest.createGuiControllerManager();
+
+        TestGuiController guiController = FxTestSupport.callOnFxThread(() -> guiControllerManager
+                .createGuiControllerInstance(TestGuiController.class));
+
+        GuiControllerTaskExecutor taskExecutor = guiController.getTaskExecutor();
+
+        CountDownLatch startedLatch = new CountDownLatch(1);
+        CountDownLatch interruptedLatch = new CountDownLatch(1);
+
+        AtomicInteger callbackCount = new AtomicInteger();
+
+        Future<String> future = taskExecutor.submit(() -> {
+            startedLatch.countDown();
+
+            try {
+                //The task blocks until it gets cancelled.
+                new CountDownLatch(1).await();
+            }
+            catch (InterruptedException exception) {
+                interruptedLatch.countDown();
+            }
+
+            return "result";
+        }, tmpResult -> callbackCount.incrementAndGet(), tmpError -> callbackCount.incrementAndGet());
+
+        assertTrue(startedLatch.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertEquals(1, taskExecutor.getQueueDepth());
+
+        FxTestSupport.runOnFxThread(() -> assertTrue(guiControllerManager.dispose(guiController)));
+
+        assertTrue(interruptedLatch.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertTrue(future.isCancelled());
+        assertTrue(taskExecutor.isShutdown());
+        assertEquals(0, taskExecutor.getQueueDepth());
+
+        //Flush the JavaFX application thread twice, to execute a possibly scheduled delivery.
+
+        FxTestSupport.runOnFxThread(() -> {
+            //Ignore...
+        });
+        FxTestSupport.runOnFxThread(() -> {
+            //Ignore...
+        });
+
+        assertEquals(0, callbackCount.get());
+        assertEquals(0, taskExecutor.getCompletedTaskCount());
+
+        assertThrows(IllegalStateException.class, () -> taskExecutor.submit(() -> "result", null, null));
+    }
+
+    @Test
+    void deliversBurstResultsInOneBatch() throws Exception {
+        int taskCount = 50;
+
+        GuiControllerTaskExecutor taskExecutor = new GuiControllerTaskExecutor("test");
+
+        try {
+            List<Integer> pendingResultCounts = new CopyOnWriteArrayList<>();
+            List<Integer> results = new CopyOnWriteArrayList<>();
+
+            AtomicBoolean deliveredOnFxThread = new AtomicBoolean(true);
+
+            CountDownLatch deliveredLatch = new CountDownLatch(taskCount);
+
+            //The JavaFX application thread is blocked, until all tasks completed.
+
+            FxTestSupport.runOnFxThread(() -> {
+                for(int i = 0; i < taskCount; i++) {
+                    int tmpValue = i;
+
+                    taskExecutor.submit(() -> tmpValue, tmpResult -> {
+                        deliveredOnFxThread.compareAndSet(true, Platform.isFxApplicationThread());
+
+                        results.add(tmpResult);
+
+                        pendingResultCounts.add(taskExecutor.getPendingResultCount());
+
+                        deliveredLatch.countDown();
+                    }, null);
+                }
+
+                long deadlineNanos = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+
+                while (taskExecutor.getPendingResultCount() < taskCount) {
+                    if(System.nanoTime() > deadlineNanos)
+                        fail("The tasks weren't completed in time.");
+
+                    Thread.sleep(1);
+                }
+
+                assertEquals(0, taskExecutor.getQueueDepth());
+            });
+
+            assertTrue(deliveredLatch.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+
+            //Wait until the metrics of the last result were updated.
+            FxTestSupport.runOnFxThread(() -> {
+                //Ignore...
+            });
+
+            assertTrue(deliveredOnFxThread.get());
+            assertEquals(taskCount, results.size());
+
+            //A single delivery drained all results: Every callback saw the remaining results of the same batch.
+
+            List<Integer> expectedPendingResultCounts = new ArrayList<>();
+
+            for(int i = taskCount - 1; i >= 0; i--)
+                expectedPendingResultCounts.add(i);
+
+            assertEquals(expectedPendingResultCounts, pendingResultCounts);
+
+            assertEquals(taskCount, taskExecutor.getCompletedTaskCount());
+            assertFalse(taskExecutor.getMaxLatency().isNegative());
+            assertTrue(taskExecutor.getMaxLatency().compareTo(taskExecutor.getAverageLatency()) >= 0);
+            assertTrue(taskExecutor.getMaxLatency().toNanos() > 0);
+        }
+        finally {
+            taskExecutor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package eu.dgs_development.code.ejg.controllers;
+
+import eu.dgs_development.code.ejg.controllers.fixtures.CachedTestGuiController;
+import eu.dgs_development.code.ejg.testutil.FxTestSupport;
+import eu.dgs_development.code.ejg.theme.ThemeManager;
+import eu.dgs_development.code.ejg.theme.ThemeRegistrationFootprint;
+import eu.dgs_development.code.ejg.theme.colors.DefaultThemeColorsProvider;
+import eu.dgs_development.code.ejg.util.StringSizeUtil;
+import javafx.scene.Scene;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifies the automatic registration of node-graphs at a {@link ThemeManager}.
+ */
+class GuiControllerThemeManagerTest {
+    @BeforeAll
+    static void startToolkit() {
+        FxTestSupport.startToolkit();
+    }
+
+    @Test
+    void registersCachedControllersInitializedBefore() throws Exception {
+        GuiControllerManager guiControllerManager = GuiControllerManagerConcurrencyTest.createGuiControllerManager();
+
+        FxTestSupport.runOnFxThread(() -> {
+            CachedTestGuiController guiController = guiControllerManager.getCachedGuiControllerOrNull(
+                    CachedTestGuiController.class);
+
+            assertTrue(guiController.isInitialized());
+
+            ThemeManager<DefaultThemeColorsProvider> themeManager = new ThemeManager<>(
+                    new DefaultThemeColorsProvider());
+
+            guiControllerManager.addThemeManager(themeManager, true);
+
+            //The root-node, the rectangle and the image-view of the cached instance are registered.
+
+            ThemeRegistrationFootprint registrationFootprint = themeManager.getRegistrationFootprint();
+
+            assertEquals(1, registrationFootprint.getParentCount());
+            assertEquals(1, registrationFootprint.getShapeCount());
+            assertEquals(1, registrationFootprint.getImageViewCount());
+        });
+    }
+
+    @Test
+    void countsSharedStylesheetsOnce() throws Exception {
+        GuiControllerManager guiControllerManager = GuiControllerManagerConcurrencyTest.createGuiControllerManager();
+
+        FxTestSupport.runOnFxThread(() -> {
+            ThemeManager<DefaultThemeColorsProvider> themeManager = new ThemeManager<>(
+                    new DefaultThemeColorsProvider());
+
+            guiControllerManager.addThemeManager(themeManager, true);
+
+            CachedTestGuiController guiController = guiControllerManager.getCachedGuiControllerOrNull(
+                    CachedTestGuiController.class);
+
+            List<String> stylesheets = guiController.getRootNode().getStylesheets();
+
+            assertFalse(stylesheets.isEmpty());
+
+            //The cached scene shares the stylesheet-strings of the theme with the root-node.
+            Scene cachedScene = guiControllerManager.getCachedSceneOrNull(CachedTestGuiController.class);
+
+            cachedScene.getStylesheets().setAll(stylesheets);
+
+            long expectedStylesheetBytes = 0;
+
+            for(String tmpStylesheet : stylesheets)
+                expectedStylesheetBytes += StringSizeUtil.getStringBytes(tmpStylesheet);
+
+            assertEquals(expectedStylesheetBytes, guiControllerManager.createMemoryFootprintReport()
+                    .getControllerFootprints().get(0).getStylesheetBytes());
+        });
+    }
+
+    @Test
+    void countsEqualStylesheetsOnce() throws Exception {
+        GuiControllerManager guiControllerManager = GuiControllerManagerConcurrencyTest.createGuiControllerManager();
+
+        FxTestSupport.runOnFxThread(() -> {
+            ThemeManager<DefaultThemeColorsProvider> themeManager = new ThemeManager<>(
+                    new DefaultThemeColorsProvider());
+
+            guiControllerManager.addThemeManager(themeManager, true);
+
+            CachedTestGuiController guiController = guiControllerManager.getCachedGuiControllerOrNull(
+                    CachedTestGuiController.class);
+
+            List<String> stylesheets = guiController.getRootNode().getStylesheets();
+
+            assertFalse(stylesheets.isEmpty());
+
+            //The cached scene contains equal, but not identical stylesheet-strings (e.g. resolved per FXML-load).
+
+            List<String> copiedStylesheets = new ArrayList<>();
+
+            for(String tmpStylesheet : stylesheets)
+                copiedStylesheets.add(new String(tmpStylesheet.toCharArray()));
+
+            Scene cachedScene = guiControllerManager.getCachedSceneOrNull(CachedTestGuiController.class);
+
+            cachedScene.getStylesheets().setAll(copiedStylesheets);
+
+            long expectedStylesheetBytes = 0;
+
+            for(String tmpStylesheet : stylesheets)
+                expectedStylesheetBytes += StringSizeUtil.getStringBytes(tmpStylesheet);
+
+            assertEquals(expectedStylesheetBytes, guiControllerManager.createMemoryFootprintReport()
+                    .getControllerFootprints().get(0).getStylesheetBytes());
+        });
+    }
+}
@@ -0,0 +1,169 @@
+package eu.dgs_development.code.ejg.controllers;
+
+import eu.dgs_development.code.ejg.controllers.fixtures.CachedTestGuiController;
+import eu.dgs_development.code.ejg.controllers.fixtures.TestGuiController;
+import eu.dgs_development.code.ejg.testutil.FxTestSupport;
+import javafx.scene.Scene;
+import javafx.stage.Stage;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.ref.WeakReference;
+import java.util.ListResourceBundle;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifies the ownership of root-nodes shown by {@link SceneNavigator}-instances.
+ */
+class SceneNavigatorTest {
+    private static final int GC_ATTEMPTS = 50;
+
+    private GuiControllerManager guiControllerManager;
+
+    @BeforeAll
+    static void startToolkit() {
+        FxTestSupport.startToolkit();
+    }
+
+    @BeforeEach
+    void setUp() throws Exception {
+        guiControllerManager = GuiControllerManagerConcurrencyTest.createGuiControllerManager();
+    }
+
+    @Test
+    void refusesCachedSceneOfShownRootNode() throws Exception {
+        FxTestSupport.runOnFxThread(() -> {
+            SceneNavigator sceneNavigator = guiControllerManager.getSceneNavigator(new Stage());
+
+            CachedTestGuiController guiController = sceneNavigator.navigateTo(CachedTestGuiController.class);
+
+            assertThrows(IllegalStateException.class, () -> guiControllerManager.getCachedSceneOptional(
+                    CachedTestGuiController.class));
+
+            //After navigating away, the root-node can be used by a cached scene again.
+            sceneNavigator.navigateTo(TestGuiController.class);
+
+            Scene cachedScene = guiControllerManager.getCachedSceneOrNull(CachedTestGuiController.class);
+
+            assertSame(guiController.getRootNode(), cachedScene.getRoot());
+        });
+    }
+
+    @Test
+    void detachesRootNodeShownByAnotherNavigator() throws Exception {
+        FxTestSupport.runOnFxThread(() -> {
+            SceneNavigator firstSceneNavigator = guiControllerManager.getSceneNavigator(new Stage());
+            SceneNavigator secondSceneNavigator = guiControllerManager.getSceneNavigator(new Stage());
+
+            CachedTestGuiController guiController = firstSceneNavigator.navigateTo(CachedTestGuiController.class);
+
+            assertSame(guiController, secondSceneNavigator.navigateTo(CachedTestGuiController.class));
+            assertSame(guiController.getRootNode(), secondSceneNavigator.getSharedScene().getRoot());
+            assertNotSame(guiController.getRootNode(), firstSceneNavigator.getSharedScene().getRoot());
+
+            //The first navigator takes the root-node back, although the controller is still its current one.
+            firstSceneNavigator.navigateTo(CachedTestGuiController.class);
+
+            assertSame(guiController.getRootNode(), firstSceneNavigator.getSharedScene().getRoot());
+        });
+    }
+
+    @Test
+    void doesNotReuseOwnedInstancesOfPreviousLocale() throws Exception {
+        GuiControllerManager localizedGuiControllerManager = createLocalizedGuiControllerManager(2);
+
+        FxTestSupport.runOnFxThread(() -> {
+            SceneNavigator sceneNavigator = localizedGuiControllerManager.getSceneNavigator(new Stage());
+
+            sceneNavigator.setKeepAliveCount(1);
+
+            TestGuiController keptAliveGuiController = sceneNavigator.navigateTo(TestGuiController.class);
+
+            sceneNavigator.navigateTo(CachedTestGuiController.class);
+
+            localizedGuiControllerManager.setLocale(Locale.GERMAN);
+
+            TestGuiController currentGuiController = sceneNavigator.navigateTo(TestGuiController.class);
+
+            assertNotSame(keptAliveGuiController, currentGuiController);
+            assertTrue(keptAliveGuiController.isDisposed());
+
+            //The current instance is replaced and disposed instead of being kept alive.
+            localizedGuiControllerManager.setLocale(Locale.FRENCH);
+
+            assertNotSame(currentGuiController, sceneNavigator.navigateTo(TestGuiController.class));
+            assertTrue(currentGuiController.isDisposed());
+        });
+    }
+
+    @Test
+    void disposesEvictedShownControllerAfterNavigatingAway() throws Exception {
+        GuiControllerManager localizedGuiControllerManager = createLocalizedGuiControllerManager(1);
+
+        FxTestSupport.runOnFxThread(() -> {
+            Stage stage = new Stage();
+
+            SceneNavigator sceneNavigator = localizedGuiControllerManager.getSceneNavigator(stage);
+
+            CachedTestGuiController guiController = sceneNavigator.navigateTo(CachedTestGuiController.class);
+
+            stage.show();
+
+            try {
+                localizedGuiControllerManager.setLocale(Locale.GERMAN);
+
+                //The evicted instance is still shown.
+                assertFalse(guiController.isDisposed());
+
+                assertNotSame(guiController, sceneNavigator.navigateTo(CachedTestGuiController.class));
+                assertTrue(guiController.isDisposed());
+            }
+            finally {
+                stage.hide();
+            }
+        });
+    }
+
+    @Test
+    void doesNotRetainStages() throws Exception {
+        WeakReference<Stage> stageReference = FxTestSupport.callOnFxThread(() -> {
+            Stage stage = new Stage();
+
+            SceneNavigator sceneNavigator = guiControllerManager.getSceneNavigator(stage);
+
+            assertSame(sceneNavigator, guiControllerManager.getSceneNavigator(stage));
+
+            sceneNavigator.navigateTo(TestGuiController.class);
+
+            return new WeakReference<>(stage);
+        });
+
+        for(int tmpAttempt = 0; tmpAttempt < GC_ATTEMPTS && stageReference.get() != null; tmpAttempt++) {
+            System.gc();
+
+            Thread.sleep(20);
+        }
+
+        assertNull(stageReference.get(), "The stage was retained by the GuiControllerManager.");
+    }
+
+    private static GuiControllerManager createLocalizedGuiControllerManager(int maxCachedLocales) throws Exception {
+        GuiConfiguration guiConfiguration = new GuiConfiguration(null);
+
+        guiConfiguration.setPackageScanPath(TestGuiController.class.getPackageName());
+        guiConfiguration.setModuleScanningEnabled(false);
+        guiConfiguration.setLocale(Locale.ENGLISH);
+        guiConfiguration.setMaxCachedLocales(maxCachedLocales);
+        guiConfiguration.setResourceBundleProvider(tmpLocale -> new ListResourceBundle() {
+            @Override
+            protected Object[][] getContents() {
+                return new Object[0][];
+            }
+        });
+
+        return new GuiControllerManager(guiConfiguration);
+    }
+}
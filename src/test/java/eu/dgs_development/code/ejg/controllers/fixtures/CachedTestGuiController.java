@@ -0,0 +1,31 @@
+package eu.dgs_development.code.ejg.controllers.fixtures;
+
+import eu.dgs_development.code.ejg.controllers.GuiController;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A cacheable {@link GuiController}, which counts the initializations of all instances.
+ */
+public class CachedTestGuiController extends GuiController {
+    private static final AtomicInteger INITIALIZATION_COUNT = new AtomicInteger();
+
+    @Override
+    public void onInitialized() {
+        INITIALIZATION_COUNT.incrementAndGet();
+    }
+
+    @Override
+    public boolean isCacheableGuiController() {
+        return true;
+    }
+
+    @Override
+    public String getFxmlPath() {
+        return "test-gui-controller.fxml";
+    }
+
+    public static int getInitializationCount() {
+        return INITIALIZATION_COUNT.get();
+    }
+}
@@ -0,0 +1,49 @@
+package eu.dgs_development.code.ejg.controllers.fixtures;
+
+import eu.dgs_development.code.ejg.controllers.GuiController;
+import javafx.application.Platform;
+import javafx.fxml.FXML;
+import javafx.scene.shape.Rectangle;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A non-cacheable {@link GuiController}, which counts its initializations.
+ */
+public class TestGuiController extends GuiController {
+    @FXML
+    private Rectangle rectangle;
+
+    private final AtomicInteger initializationCount = new AtomicInteger();
+
+    private volatile boolean initializedOnFxThread = false;
+
+    @Override
+    public void onInitialized() {
+        initializationCount.incrementAndGet();
+
+        initializedOnFxThread = Platform.isFxApplicationThread();
+    }
+
+    @Override
+    public boolean isCacheableGuiController() {
+        return false;
+    }
+
+    @Override
+    public String getFxmlPath() {
+        return "test-gui-controller.fxml";
+    }
+
+    public Rectangle getRectangle() {
+        return rectangle;
+    }
+
+    public int getInitializationCount() {
+        return initializationCount.get();
+    }
+
+    public boolean isInitializedOnFxThread() {
+        return initializedOnFxThread;
+    }
+}
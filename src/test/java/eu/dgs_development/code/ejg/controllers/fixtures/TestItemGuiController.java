@@ -0,0 +1,34 @@
+package eu.dgs_development.code.ejg.controllers.fixtures;
+
+import eu.dgs_development.code.ejg.controllers.ItemGuiController;
+
+/**
+ * An {@link ItemGuiController}, which remembers the displayed item.
+ */
+public class TestItemGuiController extends ItemGuiController<String> {
+    private String item;
+
+    @Override
+    public void onInitialized() {
+        //Ignore...
+    }
+
+    @Override
+    public void onUpdateItem(String item) {
+        this.item = item;
+    }
+
+    @Override
+    public void onReleaseItem() {
+        item = null;
+    }
+
+    @Override
+    public String getFxmlPath() {
+        return "test-gui-controller.fxml";
+    }
+
+    public String getItem() {
+        return item;
+    }
+}
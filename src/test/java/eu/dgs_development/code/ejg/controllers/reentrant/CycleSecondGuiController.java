@@ -0,0 +1,43 @@
+package eu.dgs_development.code.ejg.controllers.reentrant;
+
+import eu.dgs_development.code.ejg.controllers.ControllerInitializationException;
+import eu.dgs_development.code.ejg.controllers.GuiController;
+
+/**
+ * A cacheable {@link GuiController}, which requests the cached {@link CycleFirstGuiController} inside
+ * {@link #onInitialized()}, which requests this {@link GuiController} again.
+ */
+public class CycleSecondGuiController extends GuiController {
+    private GuiController lookedUpGuiController;
+
+    private ControllerInitializationException lookupException;
+
+    @Override
+    public void onInitialized() {
+        try {
+            lookedUpGuiController = getGuiControllerManager().getCachedGuiControllerOrNull(
+                    CycleFirstGuiController.class);
+        }
+        catch (ControllerInitializationException exception) {
+            lookupException = exception;
+        }
+    }
+
+    @Override
+    public boolean isCacheableGuiController() {
+        return true;
+    }
+
+    @Override
+    public String getFxmlPath() {
+        return "/eu/dgs_development/code/ejg/controllers/fixtures/test-gui-controller.fxml";
+    }
+
+    public GuiController getLookedUpGuiController() {
+        return lookedUpGuiController;
+    }
+
+    public ControllerInitializationException getLookupException() {
+        return lookupException;
+    }
+}
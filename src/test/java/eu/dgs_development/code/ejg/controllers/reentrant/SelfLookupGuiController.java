@@ -0,0 +1,42 @@
+package eu.dgs_development.code.ejg.controllers.reentrant;
+
+import eu.dgs_development.code.ejg.controllers.ControllerInitializationException;
+import eu.dgs_development.code.ejg.controllers.GuiController;
+
+/**
+ * A cacheable {@link GuiController}, which requests its own cached instance inside {@link #onInitialized()}.
+ */
+public class SelfLookupGuiController extends GuiController {
+    private GuiController lookedUpGuiController;
+
+    private ControllerInitializationException lookupException;
+
+    @Override
+    public void onInitialized() {
+        try {
+            lookedUpGuiController = getGuiControllerManager().getCachedGuiControllerOrNull(
+                    SelfLookupGuiController.class);
+        }
+        catch (ControllerInitializationException exception) {
+            lookupException = exception;
+        }
+    }
+
+    @Override
+    public boolean isCacheableGuiController() {
+        return true;
+    }
+
+    @Override
+    public String getFxmlPath() {
+        return "/eu/dgs_development/code/ejg/controllers/fixtures/test-gui-controller.fxml";
+    }
+
+    public GuiController getLookedUpGuiController() {
+        return lookedUpGuiController;
+    }
+
+    public ControllerInitializationException getLookupException() {
+        return lookupException;
+    }
+}
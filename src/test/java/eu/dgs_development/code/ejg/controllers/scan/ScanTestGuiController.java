@@ -0,0 +1,23 @@
+package eu.dgs_development.code.ejg.controllers.scan;
+
+import eu.dgs_development.code.ejg.controllers.GuiController;
+
+/**
+ * A non-cacheable {@link GuiController} inside a second accepted package of the package-scan.
+ */
+public class ScanTestGuiController extends GuiController {
+    @Override
+    public void onInitialized() {
+        //Ignore...
+    }
+
+    @Override
+    public boolean isCacheableGuiController() {
+        return false;
+    }
+
+    @Override
+    public String getFxmlPath() {
+        return "scan-test-gui-controller.fxml";
+    }
+}
@@ -0,0 +1,24 @@
+package eu.dgs_development.code.ejg.controllers.scan;
+
+import eu.dgs_development.code.ejg.controllers.InstanceProvider;
+
+/**
+ * Provides a dependency-injection-instance, which is only found if the scan of instance-provider-functions is enabled.
+ */
+public final class ScanTestInstanceProvider {
+    /**
+     * The provided dependency-injection-instance.
+     */
+    public static final class ScanTestDependency {
+
+    }
+
+    private ScanTestInstanceProvider() {
+
+    }
+
+    @InstanceProvider
+    public static ScanTestDependency createScanTestDependency() {
+        return new ScanTestDependency();
+    }
+}
@@ -0,0 +1,27 @@
+package eu.dgs_development.code.ejg.controllers.scan.rejected;
+
+import eu.dgs_development.code.ejg.controllers.GuiController;
+
+/**
+ * A {@link GuiController} inside a rejected package, which must never be instantiated by the package-scan.
+ */
+public class RejectedScanTestGuiController extends GuiController {
+    public RejectedScanTestGuiController() {
+        throw new IllegalStateException("The rejected package was scanned.");
+    }
+
+    @Override
+    public void onInitialized() {
+        //Ignore...
+    }
+
+    @Override
+    public boolean isCacheableGuiController() {
+        return false;
+    }
+
+    @Override
+    public String getFxmlPath() {
+        return "rejected-scan-test-gui-controller.fxml";
+    }
+}
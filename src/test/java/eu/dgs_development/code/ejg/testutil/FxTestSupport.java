@@ -0,0 +1,117 @@
+package eu.dgs_development.code.ejg.testutil;
+
+import javafx.application.Platform;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Helper class to run tests on the (headless) JavaFX application thread.
+ */
+public final class FxTestSupport {
+    private static final long TIMEOUT_SECONDS = 30;
+
+    private static boolean toolkitStarted = false;
+
+    private FxTestSupport() {
+        //Ignore...
+    }
+
+    /**
+     * Starts the JavaFX-toolkit, if it wasn't started yet.
+     */
+    public static synchronized void startToolkit() {
+        if(toolkitStarted)
+            return;
+
+        CountDownLatch startupLatch = new CountDownLatch(1);
+
+        try {
+            Platform.startup(startupLatch::countDown);
+        }
+        catch (IllegalStateException exception) {
+            //The toolkit was already started by another test-support.
+            startupLatch.countDown();
+        }
+
+        Platform.setImplicitExit(false);
+
+        try {
+            if(!startupLatch.await(TIMEOUT_SECONDS, TimeUnit.SECONDS))
+                throw new IllegalStateException("Unable to start the JavaFX-toolkit.");
+        }
+        catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+
+            throw new IllegalStateException("Interrupted while starting the JavaFX-toolkit.", exception);
+        }
+
+        toolkitStarted = true;
+    }
+
+    /**
+     * Executes a task on the JavaFX application thread and waits for its result.
+     * @param task The task to execute.
+     * @param <T> The result-type.
+     * @return The result of the task.
+     * @throws Exception The exception thrown by the task.
+     */
+    public static <T> T callOnFxThread(Callable<T> task) throws Exception {
+        if(Platform.isFxApplicationThread())
+            return task.call();
+
+        CompletableFuture<T> resultFuture = new CompletableFuture<>();
+
+        Platform.runLater(() -> {
+            try {
+                resultFuture.complete(task.call());
+            }
+            catch (Throwable throwable) {
+                resultFuture.completeExceptionally(throwable);
+            }
+        });
+
+        try {
+            return resultFuture.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        }
+        catch (ExecutionException exception) {
+            if(exception.getCause() instanceof Exception)
+                throw (Exception) exception.getCause();
+
+            throw exception;
+        }
+        catch (TimeoutException exception) {
+            throw new IllegalStateException("The JavaFX application thread didn't execute the task in time.",
+                    exception);
+        }
+    }
+
+    /**
+     * Executes an action on the JavaFX application thread and waits until it was executed.
+     * @param action The action to execute.
+     * @throws Exception The exception thrown by the action.
+     */
+    public static void runOnFxThread(FxAction action) throws Exception {
+        callOnFxThread(() -> {
+            action.run();
+
+            return null;
+        });
+    }
+
+    /**
+     * An action, which may throw an exception.
+     */
+    @FunctionalInterface
+    public interface FxAction {
+        /**
+         * Executes the action.
+         * @throws Exception An unexpected exception.
+         */
+        void run() throws Exception;
+    }
+}
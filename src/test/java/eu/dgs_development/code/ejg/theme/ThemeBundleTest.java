@@ -0,0 +1,195 @@
+package eu.dgs_development.code.ejg.theme;
+
+import eu.dgs_development.code.ejg.testutil.FxTestSupport;
+import eu.dgs_development.code.ejg.theme.colors.DefaultThemeColorsProvider;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.Image;
+import javafx.scene.layout.StackPane;
+import javafx.scene.paint.Color;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifies writing, reading and applying {@link ThemeBundle}-files.
+ */
+class ThemeBundleTest {
+    private static final String STYLESHEET_CSS = ".label { -fx-text-fill: {{textColor}}; }";
+
+    @TempDir
+    Path tempDirectory;
+
+    @BeforeAll
+    static void startToolkit() {
+        FxTestSupport.startToolkit();
+    }
+
+    @Test
+    void readsWrittenBundle() throws Exception {
+        Map<String, Rectangle2D> iconNameViewportMap = new LinkedHashMap<>();
+
+        iconNameViewportMap.put("close", new Rectangle2D(0, 0, 2, 2));
+        iconNameViewportMap.put("open", new Rectangle2D(2, 0, 2, 2));
+
+        String renderedStylesheetData = ThemeManager.encodeStylesheetData(".label{-fx-text-fill:#12345680}");
+
+        Path bundlePath = tempDirectory.resolve("bundle.ejgt");
+
+        ThemeBundle.write(bundlePath, Map.of("textColor", Color.rgb(0x12, 0x34, 0x56, 0.5), "backgroundColor",
+                Color.RED), true, STYLESHEET_CSS, renderedStylesheetData, iconNameViewportMap, createPngBytes(4, 2));
+
+        //A mapped file and a buffer contain the same bundle.
+
+        for(ThemeBundle tmpThemeBundle : new ThemeBundle[] { ThemeBundle.open(bundlePath),
+                ThemeBundle.read(ByteBuffer.wrap(Files.readAllBytes(bundlePath))) }) {
+            assertTrue(tmpThemeBundle.isDarkThemeColors());
+
+            //The colors are sorted by name.
+
+            assertEquals(2, tmpThemeBundle.getColorCount());
+            assertEquals("backgroundColor", tmpThemeBundle.getColorName(0));
+            assertEquals(0xFF0000FF, tmpThemeBundle.getRgba(0));
+            assertEquals("textColor", tmpThemeBundle.getColorName(1));
+            assertEquals(0x12345680, tmpThemeBundle.getRgba(1));
+
+            assertEquals(Map.of("backgroundColor", "#FF0000FF", "textColor", "#12345680"),
+                    tmpThemeBundle.getColorNameHexColorMap());
+            assertTrue(tmpThemeBundle.getThemeColorSource().isDarkThemeColorsSource());
+
+            assertEquals(STYLESHEET_CSS, tmpThemeBundle.getStylesheetCssOrNull());
+            assertEquals(renderedStylesheetData, tmpThemeBundle.getRenderedStylesheetDataOrNull());
+
+            assertEquals(iconNameViewportMap, tmpThemeBundle.getIconNameViewportMap());
+
+            Image iconAtlasImage = tmpThemeBundle.loadIconAtlasImage().orElseThrow();
+
+            assertFalse(iconAtlasImage.isError());
+            assertEquals(4, iconAtlasImage.getWidth());
+            assertEquals(2, iconAtlasImage.getHeight());
+        }
+    }
+
+    @Test
+    void readsBundleWithoutOptionalContent() throws Exception {
+        Path bundlePath = tempDirectory.resolve("minimal.ejgt");
+
+        ThemeBundle.write(bundlePath, Map.of("textColor", Color.BLACK), false, null, null, null, null);
+
+        ThemeBundle themeBundle = ThemeBundle.open(bundlePath);
+
+        assertFalse(themeBundle.isDarkThemeColors());
+        assertNull(themeBundle.getStylesheetCssOrNull());
+        assertNull(themeBundle.getRenderedStylesheetDataOrNull());
+        assertTrue(themeBundle.getIconNameViewportMap().isEmpty());
+        assertTrue(themeBundle.loadIconAtlasImage().isEmpty());
+    }
+
+    @Test
+    void rejectsTruncatedBundle() throws Exception {
+        Path bundlePath = tempDirectory.resolve("complete.ejgt");
+
+        ThemeBundle.write(bundlePath, Map.of("textColor", Color.BLACK, "backgroundColor", Color.WHITE), false,
+                STYLESHEET_CSS, ThemeManager.encodeStylesheetData(".label{-fx-text-fill:#000000FF}"), null, null);
+
+        byte[] bundleBytes = Files.readAllBytes(bundlePath);
+
+        for(int i = 0; i < bundleBytes.length; i++) {
+            ByteBuffer tmpTruncatedBuffer = ByteBuffer.wrap(Arrays.copyOf(bundleBytes, i));
+
+            assertThrows(IOException.class, () -> ThemeBundle.read(tmpTruncatedBuffer), "Length " + i);
+        }
+    }
+
+    @Test
+    void appliesPreRenderedStylesheet() throws Exception {
+        //The pre-rendered stylesheet differs from a stylesheet rendered by the theme-manager.
+        String renderedStylesheetData = ThemeManager.encodeStylesheetData(
+                "/* Pre-rendered */ .label{-fx-text-fill:#123456FF}");
+
+        Path bundlePath = tempDirectory.resolve("pre-rendered.ejgt");
+
+        ThemeBundle.write(bundlePath, Map.of("textColor", Color.web("#123456")), false, STYLESHEET_CSS,
+                renderedStylesheetData, null, null);
+
+        ThemeBundle themeBundle = ThemeBundle.open(bundlePath);
+
+        FxTestSupport.runOnFxThread(() -> {
+            ThemeManager<DefaultThemeColorsProvider> themeManager = new ThemeManager<>(
+                    new DefaultThemeColorsProvider());
+
+            StackPane parent = new StackPane();
+
+            themeManager.addParent(parent);
+            themeManager.applyThemeBundle(themeBundle);
+
+            assertEquals(STYLESHEET_CSS, themeManager.getStylesheetCss());
+            assertTrue(parent.getStylesheets().contains(renderedStylesheetData));
+
+            //A referenced color, which differs from the bundle, renders the stylesheet again.
+
+            themeManager.setColorOverride(DefaultThemeColorsProvider::getTextColor, Color.web("#654321"));
+
+            assertFalse(parent.getStylesheets().contains(renderedStylesheetData));
+
+            themeManager.removeColorOverride(DefaultThemeColorsProvider::getTextColor);
+
+            assertTrue(parent.getStylesheets().contains(renderedStylesheetData));
+        });
+    }
+
+    @Test
+    void readsNamesLongerThanSignedShortLength() throws Exception {
+        String colorName = "c".repeat(40000);
+
+        Path bundlePath = tempDirectory.resolve("long-name.ejgt");
+
+        ThemeBundle.write(bundlePath, Map.of(colorName, Color.RED), false, null, null, null, null);
+
+        ThemeBundle themeBundle = ThemeBundle.open(bundlePath);
+
+        assertEquals(1, themeBundle.getColorCount());
+        assertEquals(colorName, themeBundle.getColorName(0));
+        assertEquals(0xFF0000FF, themeBundle.getRgba(0));
+    }
+
+    @Test
+    void rejectsNamesLongerThanUnsignedShortLength() {
+        Path bundlePath = tempDirectory.resolve("too-long-name.ejgt");
+
+        assertThrows(IllegalArgumentException.class, () -> ThemeBundle.write(bundlePath,
+                Map.of("c".repeat(0x10000), Color.RED), false, null, null, null, null));
+        assertFalse(Files.exists(bundlePath));
+    }
+
+    @Test
+    void rejectsNullIconNames() {
+        Map<String, Rectangle2D> iconNameViewportMap = new HashMap<>();
+
+        iconNameViewportMap.put(null, new Rectangle2D(0, 0, 16, 16));
+
+        assertThrows(IllegalArgumentException.class, () -> ThemeBundle.write(tempDirectory.resolve("null-name.ejgt"),
+                Map.of("backgroundColor", Color.RED), false, null, null, iconNameViewportMap, new byte[0]));
+    }
+
+    private static byte[] createPngBytes(int width, int height) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB), "png", outputStream);
+
+        return outputStream.toByteArray();
+    }
+}
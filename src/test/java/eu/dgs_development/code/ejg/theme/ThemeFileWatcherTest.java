@@ -0,0 +1,154 @@
+package eu.dgs_development.code.ejg.theme;
+
+import eu.dgs_development.code.ejg.testutil.FxTestSupport;
+import eu.dgs_development.code.ejg.theme.colors.DefaultThemeColorsProvider;
+import eu.dgs_development.code.ejg.theme.colors.ThemeColorSource;
+import javafx.scene.paint.Color;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifies the debouncing and the change-detection of the {@link ThemeFileWatcher}.
+ */
+class ThemeFileWatcherTest {
+    private static final Duration DEBOUNCE_DURATION = Duration.ofMillis(300);
+
+    private static final long TIMEOUT_SECONDS = 30;
+
+    @TempDir
+    Path tempDirectory;
+
+    @BeforeAll
+    static void startToolkit() {
+        FxTestSupport.startToolkit();
+    }
+
+    @Test
+    void appliesBurstOfWritesOnce() throws Exception {
+        Path themeColorPropertiesPath = tempDirectory.resolve("theme.properties");
+
+        writeTextColor(themeColorPropertiesPath, "#000000");
+
+        ThemeManager<DefaultThemeColorsProvider> themeManager = FxTestSupport.callOnFxThread(() ->
+                new ThemeManager<>(new DefaultThemeColorsProvider()));
+
+        AtomicInteger themeChangeCount = new AtomicInteger();
+
+        FxTestSupport.runOnFxThread(() -> themeManager.addThemeChangeListener(tmpColorsProvider ->
+                themeChangeCount.incrementAndGet()));
+
+        //Ignore the notification about the initial theme.
+        themeChangeCount.set(0);
+
+        try(ThemeFileWatcher themeFileWatcher = new ThemeFileWatcher(themeManager, themeColorPropertiesPath, false,
+                null, DEBOUNCE_DURATION)) {
+            themeFileWatcher.start();
+
+            //All writes happen within the debounce-window. Only the last content is applied.
+
+            for(int i = 1; i <= 5; i++) {
+                writeTextColor(themeColorPropertiesPath, "#00000" + i);
+
+                Thread.sleep(20);
+            }
+
+            awaitThemeChangeCount(themeChangeCount, 1);
+            awaitQuietPeriod();
+
+            assertEquals(1, themeChangeCount.get());
+            assertEquals(Color.web("#000005"), FxTestSupport.callOnFxThread(() ->
+                    themeManager.getColor(DefaultThemeColorsProvider::getTextColor)));
+
+            //Writing the same content again doesn't update the theme-manager.
+
+            writeTextColor(themeColorPropertiesPath, "#000005");
+
+            awaitQuietPeriod();
+
+            assertEquals(1, themeChangeCount.get());
+        }
+    }
+
+    @Test
+    void comparesWithCurrentSourceOfThemeManager() throws Exception {
+        Path themeColorPropertiesPath = tempDirectory.resolve("theme.properties");
+
+        writeTextColor(themeColorPropertiesPath, "#000000");
+
+        ThemeManager<DefaultThemeColorsProvider> themeManager = FxTestSupport.callOnFxThread(() ->
+                new ThemeManager<>(new DefaultThemeColorsProvider()));
+
+        AtomicInteger themeChangeCount = new AtomicInteger();
+
+        FxTestSupport.runOnFxThread(() -> themeManager.addThemeChangeListener(tmpColorsProvider ->
+                themeChangeCount.incrementAndGet()));
+
+        //Ignore the notification about the initial theme.
+        themeChangeCount.set(0);
+
+        try(ThemeFileWatcher themeFileWatcher = new ThemeFileWatcher(themeManager, themeColorPropertiesPath, false,
+                null, DEBOUNCE_DURATION)) {
+            themeFileWatcher.start();
+
+            writeTextColor(themeColorPropertiesPath, "#123456");
+
+            awaitThemeChangeCount(themeChangeCount, 1);
+
+            //The theme-manager switches to another source. The unchanged file differs from the current source.
+
+            FxTestSupport.runOnFxThread(() -> themeManager.setThemeColorSource(
+                    ThemeColorSource.fromThemeColorNameColorMap(Map.of("textColor", Color.web("#654321")), false)));
+
+            writeTextColor(themeColorPropertiesPath, "#123456");
+
+            awaitThemeChangeCount(themeChangeCount, 3);
+            awaitQuietPeriod();
+
+            assertEquals(3, themeChangeCount.get());
+            assertEquals(Color.web("#123456"), FxTestSupport.callOnFxThread(() ->
+                    themeManager.getColor(DefaultThemeColorsProvider::getTextColor)));
+        }
+    }
+
+    @Test
+    void rejectsMissingPaths() {
+        assertThrows(IllegalArgumentException.class, () -> new ThemeFileWatcher(FxTestSupport.callOnFxThread(() ->
+                new ThemeManager<>(new DefaultThemeColorsProvider())), null, false, null, DEBOUNCE_DURATION));
+    }
+
+    private static void writeTextColor(Path themeColorPropertiesPath, String hexColor) throws Exception {
+        Files.writeString(themeColorPropertiesPath, "textColor=" + hexColor + "\n", StandardCharsets.UTF_8);
+    }
+
+    private static void awaitThemeChangeCount(AtomicInteger themeChangeCount, int expectedCount) throws Exception {
+        long deadlineNanos = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+
+        while (themeChangeCount.get() < expectedCount) {
+            if(System.nanoTime() > deadlineNanos)
+                fail("The theme-manager wasn't updated in time.");
+
+            Thread.sleep(10);
+        }
+    }
+
+    private static void awaitQuietPeriod() throws Exception {
+        //Wait longer than the debounce-window and flush the JavaFX application thread.
+
+        Thread.sleep(DEBOUNCE_DURATION.toMillis() * 3);
+
+        FxTestSupport.runOnFxThread(() -> {
+            //Ignore...
+        });
+    }
+}
@@ -0,0 +1,183 @@
+package eu.dgs_development.code.ejg.theme;
+
+import eu.dgs_development.code.ejg.testutil.FxTestSupport;
+import eu.dgs_development.code.ejg.theme.colors.DefaultThemeColorsProvider;
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.Color;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifies the packing of the {@link ThemeIconAtlas} and the tinting of its pages.
+ */
+class ThemeIconAtlasTest {
+    //Two icons of 7 x 7 pixels (plus padding) per shelf and two shelves per page.
+    private static final int PAGE_SIZE = 16;
+
+    private static final int ICON_SIZE = 7;
+
+    private static final String STYLESHEET_CSS = ".label { -fx-text-fill: {{textColor}}; }";
+
+    @BeforeAll
+    static void startToolkit() {
+        FxTestSupport.startToolkit();
+    }
+
+    @Test
+    void packsIconsOnShelvesAndPages() throws Exception {
+        FxTestSupport.runOnFxThread(() -> {
+            ThemeIconAtlas<DefaultThemeColorsProvider> themeIconAtlas = new ThemeIconAtlas<>(createThemeManager(),
+                    PAGE_SIZE);
+
+            for(int i = 0; i < 5; i++)
+                assertTrue(themeIconAtlas.addIcon("icon" + i, createIconImage()));
+
+            assertFalse(themeIconAtlas.addIcon("icon0", createIconImage()));
+            assertThrows(IllegalArgumentException.class, () -> themeIconAtlas.addIcon("large",
+                    new WritableImage(PAGE_SIZE, PAGE_SIZE)));
+
+            assertEquals(0, themeIconAtlas.getTextureCount());
+
+            ImageView[] imageViews = new ImageView[5];
+
+            for(int i = 0; i < imageViews.length; i++) {
+                imageViews[i] = themeIconAtlas.createImageView("icon" + i, DefaultThemeColorsProvider::getInfoColor);
+
+                assertEquals(ICON_SIZE, imageViews[i].getViewport().getWidth());
+                assertEquals(ICON_SIZE, imageViews[i].getViewport().getHeight());
+            }
+
+            //The first four icons share the shelves of the first page. The fifth icon starts a new page.
+
+            assertEquals(0, imageViews[0].getViewport().getMinX());
+            assertEquals(0, imageViews[0].getViewport().getMinY());
+            assertEquals(ICON_SIZE + 1, imageViews[1].getViewport().getMinX());
+            assertEquals(0, imageViews[1].getViewport().getMinY());
+            assertEquals(0, imageViews[2].getViewport().getMinX());
+            assertEquals(ICON_SIZE + 1, imageViews[2].getViewport().getMinY());
+            assertEquals(ICON_SIZE + 1, imageViews[3].getViewport().getMinX());
+            assertEquals(ICON_SIZE + 1, imageViews[3].getViewport().getMinY());
+            assertEquals(0, imageViews[4].getViewport().getMinX());
+            assertEquals(0, imageViews[4].getViewport().getMinY());
+
+            for(int i = 1; i < 4; i++)
+                assertSame(imageViews[0].getImage(), imageViews[i].getImage());
+
+            assertNotSame(imageViews[0].getImage(), imageViews[4].getImage());
+
+            //One texture per page and color.
+
+            assertEquals(2, themeIconAtlas.getTextureCount());
+
+            themeIconAtlas.createImageView("icon0", DefaultThemeColorsProvider::getDangerColor);
+
+            assertEquals(3, themeIconAtlas.getTextureCount());
+
+            themeIconAtlas.createImageView("icon1", DefaultThemeColorsProvider::getDangerColor);
+
+            assertEquals(3, themeIconAtlas.getTextureCount());
+        });
+    }
+
+    @Test
+    void tintsOnlyPagesOfChangedColor() throws Exception {
+        FxTestSupport.runOnFxThread(() -> {
+            ThemeManager<DefaultThemeColorsProvider> themeManager = createThemeManager();
+
+            ThemeIconAtlas<DefaultThemeColorsProvider> themeIconAtlas = new ThemeIconAtlas<>(themeManager, PAGE_SIZE);
+
+            themeIconAtlas.addIcon("icon", createIconImage());
+
+            ImageView infoImageView = themeIconAtlas.createImageView("icon",
+                    DefaultThemeColorsProvider::getInfoColor);
+            ImageView dangerImageView = themeIconAtlas.createImageView("icon",
+                    DefaultThemeColorsProvider::getDangerColor);
+
+            Image infoImage = infoImageView.getImage();
+            Image dangerImage = dangerImageView.getImage();
+
+            assertEquals(toArgb(themeManager.getColor(DefaultThemeColorsProvider::getInfoColor)),
+                    infoImage.getPixelReader().getArgb(0, 0));
+            assertEquals(toArgb(themeManager.getColor(DefaultThemeColorsProvider::getDangerColor)),
+                    dangerImage.getPixelReader().getArgb(0, 0));
+
+            //A marker inside the transparent padding would be cleared by tinting the page again.
+            ((WritableImage) dangerImage).getPixelWriter().setArgb(ICON_SIZE, 0, 0xFFFF00FF);
+
+            Color infoColor = Color.web("#123456");
+
+            themeManager.setColorOverride(DefaultThemeColorsProvider::getInfoColor, infoColor);
+
+            assertSame(infoImage, infoImageView.getImage());
+            assertEquals(toArgb(infoColor), infoImage.getPixelReader().getArgb(0, 0));
+            assertEquals(0, infoImage.getPixelReader().getArgb(ICON_SIZE, 0));
+
+            assertEquals(0xFFFF00FF, dangerImage.getPixelReader().getArgb(ICON_SIZE, 0));
+
+            Color dangerColor = Color.web("#654321");
+
+            themeManager.setColorOverride(DefaultThemeColorsProvider::getDangerColor, dangerColor);
+
+            assertEquals(toArgb(dangerColor), dangerImage.getPixelReader().getArgb(0, 0));
+            assertEquals(0, dangerImage.getPixelReader().getArgb(ICON_SIZE, 0));
+            assertEquals(2, themeIconAtlas.getTextureCount());
+        });
+    }
+
+    @Test
+    void tintsIconAddedToExistingPageImage() throws Exception {
+        FxTestSupport.runOnFxThread(() -> {
+            ThemeManager<DefaultThemeColorsProvider> themeManager = createThemeManager();
+
+            ThemeIconAtlas<DefaultThemeColorsProvider> themeIconAtlas = new ThemeIconAtlas<>(themeManager, PAGE_SIZE);
+
+            themeIconAtlas.addIcon("first", createIconImage());
+
+            Image pageImage = themeIconAtlas.createImageView("first", DefaultThemeColorsProvider::getInfoColor)
+                    .getImage();
+
+            int infoArgb = toArgb(themeManager.getColor(DefaultThemeColorsProvider::getInfoColor));
+
+            //The second icon is placed next to the first icon, the third icon on a new shelf.
+
+            themeIconAtlas.addIcon("second", createIconImage());
+            themeIconAtlas.addIcon("third", createIconImage());
+
+            assertEquals(infoArgb, pageImage.getPixelReader().getArgb(ICON_SIZE + 1, 0));
+            assertEquals(infoArgb, pageImage.getPixelReader().getArgb(ICON_SIZE * 2, ICON_SIZE - 1));
+            assertEquals(infoArgb, pageImage.getPixelReader().getArgb(0, ICON_SIZE + 1));
+
+            ImageView thirdImageView = themeIconAtlas.createImageView("third",
+                    DefaultThemeColorsProvider::getInfoColor);
+
+            assertSame(pageImage, thirdImageView.getImage());
+            assertEquals(new Rectangle2D(0, ICON_SIZE + 1, ICON_SIZE, ICON_SIZE), thirdImageView.getViewport());
+            assertEquals(1, themeIconAtlas.getTextureCount());
+        });
+    }
+
+    private static ThemeManager<DefaultThemeColorsProvider> createThemeManager() {
+        return new ThemeManager<>(STYLESHEET_CSS, new DefaultThemeColorsProvider());
+    }
+
+    private static Image createIconImage() {
+        WritableImage image = new WritableImage(ICON_SIZE, ICON_SIZE);
+
+        for(int x = 0; x < ICON_SIZE; x++) {
+            for(int y = 0; y < ICON_SIZE; y++)
+                image.getPixelWriter().setArgb(x, y, 0xFFFFFFFF);
+        }
+
+        return image;
+    }
+
+    private static int toArgb(Color color) {
+        return ((int) Math.round(color.getOpacity() * 255) << 24) | ((int) Math.round(color.getRed() * 255) << 16) |
+                ((int) Math.round(color.getGreen() * 255) << 8) | (int) Math.round(color.getBlue() * 255);
+    }
+}
@@ -0,0 +1,49 @@
+package eu.dgs_development.code.ejg.theme;
+
+import eu.dgs_development.code.ejg.testutil.FxTestSupport;
+import eu.dgs_development.code.ejg.theme.colors.DefaultThemeColorsProvider;
+import javafx.scene.control.Label;
+import javafx.scene.control.ScrollPane;
+import javafx.scene.image.ImageView;
+import javafx.scene.layout.StackPane;
+import javafx.scene.shape.Rectangle;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifies the colorization of nodes matching a CSS-selector.
+ */
+class ThemeManagerColorizeTest {
+    @BeforeAll
+    static void startToolkit() {
+        FxTestSupport.startToolkit();
+    }
+
+    @Test
+    void colorizesNodesOfControlsWithoutSkin() throws Exception {
+        FxTestSupport.runOnFxThread(() -> {
+            ThemeManager<DefaultThemeColorsProvider> themeManager = new ThemeManager<>(
+                    new DefaultThemeColorsProvider());
+
+            Rectangle graphicRectangle = new Rectangle(16, 16);
+            ImageView contentImageView = new ImageView();
+            Rectangle ignoredRectangle = new Rectangle(16, 16);
+
+            graphicRectangle.getStyleClass().add("theme-icon");
+            contentImageView.getStyleClass().add("theme-icon");
+
+            //Neither the label nor the scroll-pane was skinned, so their nodes aren't children yet.
+            StackPane rootNode = new StackPane(new Label("Label", graphicRectangle),
+                    new ScrollPane(contentImageView), ignoredRectangle);
+
+            assertEquals(2, themeManager.addNodesToColorize(rootNode, ".theme-icon"));
+
+            ThemeRegistrationFootprint registrationFootprint = themeManager.getRegistrationFootprint();
+
+            assertEquals(1, registrationFootprint.getShapeCount());
+            assertEquals(1, registrationFootprint.getImageViewCount());
+        });
+    }
+}
@@ -0,0 +1,50 @@
+package eu.dgs_development.code.ejg.theme;
+
+import eu.dgs_development.code.ejg.testutil.FxTestSupport;
+import eu.dgs_development.code.ejg.theme.colors.DefaultThemeColorsProvider;
+import javafx.scene.Parent;
+import javafx.scene.layout.StackPane;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifies the order of the notifications about added {@link Parent} instances.
+ */
+class ThemeManagerParentListenerTest {
+    private static final String STYLESHEET_CSS = ".label { -fx-text-fill: {{textColor}}; }";
+
+    @BeforeAll
+    static void startToolkit() {
+        FxTestSupport.startToolkit();
+    }
+
+    @Test
+    void notifiesAsynchronousListenersAfterTheStylesheetWasAdded() throws Exception {
+        FxTestSupport.runOnFxThread(() -> {
+            ThemeManager<DefaultThemeColorsProvider> themeManager = new ThemeManager<>(STYLESHEET_CSS,
+                    new DefaultThemeColorsProvider());
+
+            List<Integer> synchronousStylesheetCounts = new ArrayList<>();
+            List<Integer> asynchronousStylesheetCounts = new ArrayList<>();
+
+            themeManager.addParentChangeListener((tmpAddedParent, tmpParent) ->
+                    synchronousStylesheetCounts.add(tmpParent.getStylesheets().size()));
+
+            //The executor runs the listener directly on the calling thread.
+            themeManager.addParentChangeListener((tmpAddedParent, tmpParent) ->
+                    asynchronousStylesheetCounts.add(tmpParent.getStylesheets().size()),
+                    ThemeManager.DEFAULT_LISTENER_PRIORITY, Runnable::run);
+
+            themeManager.addParent(new StackPane());
+            themeManager.addParents(List.of(new StackPane(), new StackPane()));
+
+            assertEquals(List.of(0, 0, 0), synchronousStylesheetCounts);
+            assertEquals(List.of(1, 1, 1), asynchronousStylesheetCounts);
+        });
+    }
+}
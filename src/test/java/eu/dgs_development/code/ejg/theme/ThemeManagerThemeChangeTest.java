@@ -0,0 +1,93 @@
+package eu.dgs_development.code.ejg.theme;
+
+import eu.dgs_development.code.ejg.testutil.FxTestSupport;
+import eu.dgs_development.code.ejg.theme.colors.DefaultThemeColorsProvider;
+import javafx.collections.ListChangeListener;
+import javafx.scene.effect.Effect;
+import javafx.scene.effect.Light;
+import javafx.scene.effect.Lighting;
+import javafx.scene.image.ImageView;
+import javafx.scene.layout.StackPane;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Rectangle;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifies that a theme-change only updates the object-instances bound to a changed color.
+ */
+class ThemeManagerThemeChangeTest {
+    private static final String STYLESHEET_CSS = ".label { -fx-text-fill: {{textColor}}; }";
+
+    @BeforeAll
+    static void startToolkit() {
+        FxTestSupport.startToolkit();
+    }
+
+    @Test
+    void updatesOnlyInstancesOfChangedColor() throws Exception {
+        FxTestSupport.runOnFxThread(() -> {
+            ThemeManager<DefaultThemeColorsProvider> themeManager = new ThemeManager<>(STYLESHEET_CSS,
+                    new DefaultThemeColorsProvider());
+
+            StackPane parent = new StackPane();
+
+            themeManager.addParent(parent);
+
+            Rectangle infoRectangle = new Rectangle(16, 16);
+            Rectangle dangerRectangle = new Rectangle(16, 16);
+
+            ImageView infoImageView = new ImageView();
+            ImageView dangerImageView = new ImageView();
+
+            themeManager.addShapeToColorize(infoRectangle, DefaultThemeColorsProvider::getInfoColor);
+            themeManager.addShapeToColorize(dangerRectangle, DefaultThemeColorsProvider::getDangerColor);
+            themeManager.addImageViewToColorize(infoImageView, DefaultThemeColorsProvider::getInfoColor);
+            themeManager.addImageViewToColorize(dangerImageView, DefaultThemeColorsProvider::getDangerColor);
+
+            //A shape of an unchanged color keeps a fill, which was set afterwards.
+            dangerRectangle.setFill(Color.PINK);
+
+            Color dangerLightColor = getLightColor(dangerImageView.getEffect());
+
+            List<String> stylesheets = new ArrayList<>(parent.getStylesheets());
+
+            AtomicInteger stylesheetChangeCount = new AtomicInteger();
+
+            parent.getStylesheets().addListener((ListChangeListener<String>) tmpChange ->
+                    stylesheetChangeCount.incrementAndGet());
+
+            //The stylesheet only references the text-color. The info-color is unreferenced.
+
+            Color infoColor = Color.web("#123456");
+
+            themeManager.setColorOverride(DefaultThemeColorsProvider::getInfoColor, infoColor);
+
+            assertEquals(infoColor, infoRectangle.getFill());
+            assertEquals(infoColor, getLightColor(infoImageView.getEffect()));
+
+            assertEquals(Color.PINK, dangerRectangle.getFill());
+            assertEquals(dangerLightColor, getLightColor(dangerImageView.getEffect()));
+
+            assertEquals(0, stylesheetChangeCount.get());
+            assertEquals(stylesheets, parent.getStylesheets());
+
+            //A referenced color replaces the stylesheet.
+
+            themeManager.setColorOverride(DefaultThemeColorsProvider::getTextColor, Color.web("#654321"));
+
+            assertNotEquals(stylesheets, parent.getStylesheets());
+            assertEquals(Color.PINK, dangerRectangle.getFill());
+        });
+    }
+
+    private static Color getLightColor(Effect effect) {
+        return ((Light.Distant) ((Lighting) effect).getLight()).getColor();
+    }
+}
@@ -0,0 +1,117 @@
+package eu.dgs_development.code.ejg.theme;
+
+import eu.dgs_development.code.ejg.testutil.FxTestSupport;
+import eu.dgs_development.code.ejg.theme.colors.DefaultDarkThemeColorSourceProvider;
+import eu.dgs_development.code.ejg.theme.colors.DefaultThemeColorsProvider;
+import javafx.scene.layout.StackPane;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifies the animated transition of looked-up colors.
+ */
+class ThemeManagerTransitionTest {
+    private static final String STYLESHEET_CSS = ".label { -fx-text-fill: {{textColor}}; }";
+
+    private static final String PARENT_STYLE = "-fx-padding: 1;";
+
+    @BeforeAll
+    static void startToolkit() {
+        FxTestSupport.startToolkit();
+    }
+
+    @Test
+    void interpolatesLookedUpColorsWithInlineStyle() throws Exception {
+        FxTestSupport.runOnFxThread(() -> {
+            ThemeManager<DefaultThemeColorsProvider> themeManager = new ThemeManager<>(STYLESHEET_CSS,
+                    new DefaultThemeColorsProvider(), new ThemePaletteStore());
+
+            themeManager.setStylesheetMode(ThemeManager.StylesheetMode.LOOKED_UP_COLORS);
+            themeManager.setTransitionDuration(Duration.ofHours(1));
+
+            StackPane parent = new StackPane();
+
+            parent.setStyle(PARENT_STYLE);
+
+            themeManager.addParent(parent);
+
+            themeManager.setThemeColorSource(DefaultDarkThemeColorSourceProvider.getThemeColorSource());
+
+            //The stylesheets are replaced once, while the interpolated colors are set as inline style.
+
+            List<String> stylesheets = new ArrayList<>(parent.getStylesheets());
+
+            assertTrue(parent.getStyle().startsWith(PARENT_STYLE));
+            assertTrue(parent.getStyle().contains("-ejg-textColor:"));
+
+            //A theme-change without transition finishes the running transition.
+
+            themeManager.setTransitionDuration(Duration.ZERO);
+            themeManager.removeCurrentThemeColorSource();
+
+            assertEquals(PARENT_STYLE, parent.getStyle());
+            assertNotEquals(stylesheets, parent.getStylesheets());
+        });
+    }
+
+    @Test
+    void restoresInlineStyleOfRemovedParents() throws Exception {
+        FxTestSupport.runOnFxThread(() -> {
+            ThemeManager<DefaultThemeColorsProvider> themeManager = new ThemeManager<>(STYLESHEET_CSS,
+                    new DefaultThemeColorsProvider(), new ThemePaletteStore());
+
+            themeManager.setStylesheetMode(ThemeManager.StylesheetMode.LOOKED_UP_COLORS);
+            themeManager.setTransitionDuration(Duration.ofHours(1));
+
+            StackPane parent = new StackPane();
+
+            themeManager.addParent(parent);
+
+            themeManager.setThemeColorSource(DefaultDarkThemeColorSourceProvider.getThemeColorSource());
+
+            assertFalse(parent.getStyle().isEmpty());
+
+            themeManager.removeParent(parent);
+
+            assertEquals("", parent.getStyle());
+        });
+    }
+
+    @Test
+    void keepsInlineStyleSetDuringTransition() throws Exception {
+        FxTestSupport.runOnFxThread(() -> {
+            ThemeManager<DefaultThemeColorsProvider> themeManager = new ThemeManager<>(STYLESHEET_CSS,
+                    new DefaultThemeColorsProvider(), new ThemePaletteStore());
+
+            themeManager.setStylesheetMode(ThemeManager.StylesheetMode.LOOKED_UP_COLORS);
+            themeManager.setTransitionDuration(Duration.ofHours(1));
+
+            StackPane parent = new StackPane();
+
+            parent.setStyle(PARENT_STYLE);
+
+            themeManager.addParent(parent);
+
+            themeManager.setThemeColorSource(DefaultDarkThemeColorSourceProvider.getThemeColorSource());
+
+            assertTrue(parent.getStyle().contains("-ejg-textColor:"));
+
+            //The application replaces the inline style, while the transition is running.
+
+            String applicationStyle = "-fx-padding: 2;";
+
+            parent.setStyle(applicationStyle);
+
+            themeManager.setTransitionDuration(Duration.ZERO);
+            themeManager.removeCurrentThemeColorSource();
+
+            assertEquals(applicationStyle, parent.getStyle());
+        });
+    }
+}
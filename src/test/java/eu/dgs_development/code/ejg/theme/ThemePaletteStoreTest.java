@@ -0,0 +1,99 @@
+package eu.dgs_development.code.ejg.theme;
+
+import eu.dgs_development.code.ejg.testutil.FxTestSupport;
+import eu.dgs_development.code.ejg.theme.colors.DefaultThemeColorsProvider;
+import javafx.scene.layout.StackPane;
+import javafx.scene.paint.Color;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifies the sharing of {@link ThemePaletteStore}-instances and their stored palettes and stylesheets.
+ */
+class ThemePaletteStoreTest {
+    private static final String STYLESHEET_CSS = ".label { -fx-text-fill: {{textColor}}; }";
+
+    @BeforeAll
+    static void startToolkit() {
+        FxTestSupport.startToolkit();
+    }
+
+    @Test
+    void usesOwnStoreByDefault() throws Exception {
+        FxTestSupport.runOnFxThread(() -> {
+            ThemeManager<DefaultThemeColorsProvider> firstThemeManager = new ThemeManager<>(
+                    new DefaultThemeColorsProvider());
+            ThemeManager<DefaultThemeColorsProvider> secondThemeManager = new ThemeManager<>(
+                    new DefaultThemeColorsProvider());
+
+            assertNotSame(ThemePaletteStore.getDefault(), firstThemeManager.getThemePaletteStore());
+            assertNotSame(firstThemeManager.getThemePaletteStore(), secondThemeManager.getThemePaletteStore());
+        });
+    }
+
+    @Test
+    void sharesPassedStore() throws Exception {
+        FxTestSupport.runOnFxThread(() -> {
+            ThemePaletteStore themePaletteStore = new ThemePaletteStore();
+
+            ThemeManager<DefaultThemeColorsProvider> firstThemeManager = new ThemeManager<>("",
+                    new DefaultThemeColorsProvider(), themePaletteStore);
+            ThemeManager<DefaultThemeColorsProvider> secondThemeManager = new ThemeManager<>("",
+                    new DefaultThemeColorsProvider(), themePaletteStore);
+
+            assertSame(themePaletteStore, firstThemeManager.getThemePaletteStore());
+            assertSame(themePaletteStore, secondThemeManager.getThemePaletteStore());
+        });
+    }
+
+    @Test
+    void storesEqualPalettesAndStylesheetsOnce() throws Exception {
+        FxTestSupport.runOnFxThread(() -> {
+            ThemePaletteStore themePaletteStore = new ThemePaletteStore();
+
+            ThemeManager<DefaultThemeColorsProvider> firstThemeManager = new ThemeManager<>(STYLESHEET_CSS,
+                    new DefaultThemeColorsProvider(), themePaletteStore);
+            ThemeManager<DefaultThemeColorsProvider> secondThemeManager = new ThemeManager<>(STYLESHEET_CSS,
+                    new DefaultThemeColorsProvider(), themePaletteStore);
+
+            StackPane firstParent = new StackPane();
+            StackPane secondParent = new StackPane();
+
+            firstThemeManager.addParent(firstParent);
+            secondThemeManager.addParent(secondParent);
+
+            assertEquals(1, themePaletteStore.getPaletteCount());
+            assertEquals(1, themePaletteStore.getStylesheetCount());
+            assertEquals(1, firstParent.getStylesheets().size());
+            assertEquals(firstParent.getStylesheets(), secondParent.getStylesheets());
+
+            //An override only adds the palette and the stylesheet of the second theme-manager.
+
+            secondThemeManager.setColorOverride(DefaultThemeColorsProvider::getTextColor, Color.web("#123456"));
+
+            assertEquals(2, themePaletteStore.getPaletteCount());
+            assertEquals(2, themePaletteStore.getStylesheetCount());
+            assertNotEquals(firstParent.getStylesheets(), secondParent.getStylesheets());
+
+            assertTrue(secondThemeManager.removeColorOverride(DefaultThemeColorsProvider::getTextColor));
+
+            assertEquals(1, themePaletteStore.getPaletteCount());
+            assertEquals(1, themePaletteStore.getStylesheetCount());
+            assertEquals(firstParent.getStylesheets(), secondParent.getStylesheets());
+
+            //The entries are removed, when the last theme-manager released them.
+
+            firstThemeManager.releaseStoredPalette();
+
+            assertEquals(1, themePaletteStore.getPaletteCount());
+            assertEquals(1, themePaletteStore.getStylesheetCount());
+
+            secondThemeManager.releaseStoredPalette();
+
+            assertEquals(0, themePaletteStore.getPaletteCount());
+            assertEquals(0, themePaletteStore.getStylesheetCount());
+        });
+    }
+}
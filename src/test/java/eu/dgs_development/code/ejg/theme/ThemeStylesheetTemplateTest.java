@@ -0,0 +1,114 @@
+package eu.dgs_development.code.ejg.theme;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifies the minification and the rule-merging of the {@link ThemeStylesheetTemplate}.
+ */
+class ThemeStylesheetTemplateTest {
+    private static final Map<String, String> COLOR_NAME_HEX_COLOR_MAP = Map.of("textColor", "#ffffff",
+            "backgroundColor", "#000000");
+
+    private static String render(String cssTemplateString) {
+        return ThemeStylesheetTemplate.preprocess(cssTemplateString).render(COLOR_NAME_HEX_COLOR_MAP::get);
+    }
+
+    @Test
+    void removesCommentsAndWhitespace() {
+        String css = "/* Header */\n" +
+                ".root   .label >  .text ,\n.button {\n" +
+                "    -fx-text-fill : {{textColor}} ; /* Inline */\n" +
+                "    -fx-background-insets: 0 ,  1 2;\n" +
+                "}\n";
+
+        assertEquals(".root .label>.text,.button{-fx-text-fill:#ffffff;-fx-background-insets:0,1 2}", render(css));
+    }
+
+    @Test
+    void keepsQuotedStrings() {
+        String css = ".label { -fx-font-family: \"Open   Sans /* Regular */\"; -fx-text-fill: {{textColor}}; }";
+
+        assertEquals(".label{-fx-font-family:\"Open   Sans /* Regular */\";-fx-text-fill:#ffffff}", render(css));
+    }
+
+    @Test
+    void mergesRulesWithSameSelector() {
+        String css = ".a { -fx-padding: 1; } .b { -fx-opacity: 0.5; } .a { -fx-text-fill: {{textColor}}; }";
+
+        assertEquals(".a{-fx-padding:1;-fx-text-fill:#ffffff}.b{-fx-opacity:0.5}", render(css));
+    }
+
+    @Test
+    void overridesPropertiesOfMergedRules() {
+        String css = ".a { -fx-opacity: 1; -fx-padding: 1; } .a { -fx-opacity: 0.5; }";
+
+        assertEquals(".a{-fx-padding:1;-fx-opacity:0.5}", render(css));
+    }
+
+    @Test
+    void doesNotMergeAcrossConflictingRule() {
+        String css = ".a { -fx-text-fill: red; } .b { -fx-text-fill: blue; } .a { -fx-text-fill: green; }";
+
+        assertEquals(".a{-fx-text-fill:red}.b{-fx-text-fill:blue}.a{-fx-text-fill:green}", render(css));
+    }
+
+    @Test
+    void doesNotMergeAcrossShorthandProperty() {
+        String longhandCss = ".a { -fx-font-size: 12px; } .b { -fx-font: 14px Arial; } .a { -fx-font-weight: bold; }";
+
+        assertEquals(".a{-fx-font-size:12px}.b{-fx-font:14px Arial}.a{-fx-font-weight:bold}", render(longhandCss));
+
+        String shorthandCss = ".a { -fx-padding: 1; } .b { -fx-font-size: 12px; } .a { -fx-font: 14px Arial; }";
+
+        assertEquals(".a{-fx-padding:1}.b{-fx-font-size:12px}.a{-fx-font:14px Arial}", render(shorthandCss));
+
+        //A property, which only shares a prefix, doesn't conflict.
+
+        String prefixCss = ".a { -fx-font-size: 12px; } .b { -fx-fonts: x; } .a { -fx-text-fill: red; }";
+
+        assertEquals(".a{-fx-font-size:12px;-fx-text-fill:red}.b{-fx-fonts:x}", render(prefixCss));
+    }
+
+    @Test
+    void keepsImportantDeclarations() {
+        String css = ".a { -fx-opacity: 1 !important; } .a { -fx-opacity: 0.5; }";
+
+        assertEquals(".a{-fx-opacity:1 !important;-fx-opacity:0.5}", render(css));
+
+        String importantCss = ".a { -fx-opacity: 1 !important; } .a { -fx-opacity: 0.5 ! IMPORTANT; }";
+
+        assertEquals(".a{-fx-opacity:0.5 ! IMPORTANT}", render(importantCss));
+    }
+
+    @Test
+    void doesNotMergeAcrossAtRules() {
+        String css = ".a { -fx-padding: 1; }\n" +
+                "@font-face { font-family: \"My Font\"; src: url(\"my-font.ttf\"); }\n" +
+                ".a { -fx-opacity: 0.5; }\n" +
+                "@import \"other.css\";\n" +
+                ".a { -fx-text-fill: {{textColor}}; }";
+
+        assertEquals(".a{-fx-padding:1}@font-face{font-family: \"My Font\";src: url(\"my-font.ttf\");}" +
+                ".a{-fx-opacity:0.5}@import \"other.css\";.a{-fx-text-fill:#ffffff}", render(css));
+    }
+
+    @Test
+    void dropsUnresolvedDeclarationsAndEmptyRules() {
+        String css = ".a { -fx-text-fill: {{missingColor}}; -fx-background-color: {{backgroundColor}}; }\n" +
+                ".b { -fx-fill: {{missingColor}}; }\n" +
+                ".c { }\n" +
+                ".d { -fx-padding: 1; }";
+
+        ThemeStylesheetTemplate stylesheetTemplate = ThemeStylesheetTemplate.preprocess(css);
+
+        assertEquals(Set.of("missingColor", "backgroundColor"), stylesheetTemplate.getVariableNames());
+
+        assertEquals(".a{-fx-background-color:#000000}.d{-fx-padding:1}",
+                stylesheetTemplate.render(COLOR_NAME_HEX_COLOR_MAP::get));
+    }
+}
@@ -0,0 +1,149 @@
+package eu.dgs_development.code.ejg.theme.processor;
+
+import eu.dgs_development.code.ejg.testutil.FxTestSupport;
+import eu.dgs_development.code.ejg.theme.ThemeManager;
+import eu.dgs_development.code.ejg.theme.colors.ThemeColor;
+import eu.dgs_development.code.ejg.theme.colors.ThemeColorKey;
+import eu.dgs_development.code.ejg.theme.colors.ThemeColorsProvider;
+import javafx.scene.paint.Color;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.*;
+import java.io.File;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compiles a sample {@link ThemeColorsProvider}-subclass with the {@link ThemeColorKeysProcessor} and verifies the
+ * generated color keys.
+ */
+class ThemeColorKeysProcessorTest {
+    private static final String SAMPLE_CLASS_NAME = "sample.SampleColorsProvider";
+
+    private static final String SAMPLE_SOURCE = "package sample;\n" +
+            "\n" +
+            "import eu.dgs_development.code.ejg.theme.colors.DefaultThemeColorsProvider;\n" +
+            "import eu.dgs_development.code.ejg.theme.colors.GenerateThemeColorKeys;\n" +
+            "import eu.dgs_development.code.ejg.theme.colors.ThemeColor;\n" +
+            "import javafx.scene.paint.Color;\n" +
+            "\n" +
+            "@GenerateThemeColorKeys\n" +
+            "public class SampleColorsProvider extends DefaultThemeColorsProvider {\n" +
+            "    public ThemeColor getAccentURLColor() {\n" +
+            "        return new ThemeColor(\"accentURLColor\", Color.web(\"#123456\"));\n" +
+            "    }\n" +
+            "\n" +
+            "    public ThemeColor getDerivedColor(int index) {\n" +
+            "        return getTextColor();\n" +
+            "    }\n" +
+            "}\n";
+
+    @BeforeAll
+    static void startToolkit() {
+        FxTestSupport.startToolkit();
+    }
+
+    @Test
+    void convertsGetterNamesToConstantNames() {
+        assertEquals("TEXT_COLOR", ThemeColorKeysProcessor.toConstantName("getTextColor"));
+        assertEquals("ACCENT_URL_COLOR", ThemeColorKeysProcessor.toConstantName("getAccentURLColor"));
+        assertEquals("URL", ThemeColorKeysProcessor.toConstantName("getURL"));
+        assertEquals("TEXT_COLOR", ThemeColorKeysProcessor.toConstantName("textColor"));
+        assertEquals("GET", ThemeColorKeysProcessor.toConstantName("get"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void generatesColorKeys(@TempDir Path tempDirectory) throws Exception {
+        Class<?> colorKeysClass = compileSample(tempDirectory).loadClass(SAMPLE_CLASS_NAME + "ColorKeys");
+
+        //All public getters without parameters are sorted by name (including the inherited getters).
+
+        List<String> expectedGetterNames = new ArrayList<>(List.of("getAccentURLColor", "getBackgroundColor",
+                "getBackgroundDarkAccentColor", "getBackgroundBrightAccentColor", "getTextColor",
+                "getColorizationColor", "getInfoColor", "getSuccessColor", "getDangerColor", "getWarningColor"));
+
+        Collections.sort(expectedGetterNames);
+
+        assertEquals(expectedGetterNames.size(), colorKeysClass.getField("COUNT").getInt(null));
+
+        List<ThemeColorKey<?>> keys = (List<ThemeColorKey<?>>) colorKeysClass.getField("KEYS").get(null);
+
+        assertEquals(expectedGetterNames.size(), keys.size());
+
+        for(int i = 0; i < keys.size(); i++) {
+            ThemeColorKey<?> tmpKey = keys.get(i);
+
+            assertEquals(i, tmpKey.getIndex());
+            assertEquals(expectedGetterNames.get(i), tmpKey.getName());
+            assertEquals(keys.size(), tmpKey.getKeyCount());
+            assertEquals(SAMPLE_CLASS_NAME, tmpKey.getColorsProviderClass().getName());
+
+            assertSame(tmpKey, colorKeysClass.getField(ThemeColorKeysProcessor.toConstantName(
+                    tmpKey.getName())).get(null));
+        }
+
+        //The keys are resolved by the array-indexed color resolution of the ThemeManager.
+
+        ThemeColorsProvider colorsProvider = (ThemeColorsProvider) keys.get(0).getColorsProviderClass()
+                .getConstructor().newInstance();
+
+        Function<ThemeColorsProvider, ThemeColor> accentKey = (Function<ThemeColorsProvider, ThemeColor>)
+                colorKeysClass.getField("ACCENT_URL_COLOR").get(null);
+
+        Function<ThemeColorsProvider, ThemeColor> textKey = (Function<ThemeColorsProvider, ThemeColor>)
+                colorKeysClass.getField("TEXT_COLOR").get(null);
+
+        FxTestSupport.runOnFxThread(() -> {
+            ThemeManager<ThemeColorsProvider> themeManager = new ThemeManager<>(colorsProvider);
+
+            assertEquals(Color.web("#123456"), themeManager.getColor(accentKey));
+            assertEquals(themeManager.getColor(ThemeColorsProvider::getTextColor), themeManager.getColor(textKey));
+        });
+    }
+
+    private static ClassLoader compileSample(Path tempDirectory) throws Exception {
+        Path sourceDirectory = Files.createDirectories(tempDirectory.resolve("src/sample"));
+        Path classesDirectory = Files.createDirectories(tempDirectory.resolve("classes"));
+
+        Path sourceFile = Files.writeString(sourceDirectory.resolve("SampleColorsProvider.java"), SAMPLE_SOURCE);
+
+        //The library-classes are located by their code-source, because surefire may use a manifest-only classpath.
+        String libraryClasspath = new File(ThemeColorKey.class.getProtectionDomain().getCodeSource().getLocation()
+                .toURI()).getPath();
+
+        //JavaFX is only added if it's loaded from a jar-file instead of the modules of the JDK.
+        URL javaFxLocation = Color.class.getProtectionDomain().getCodeSource() == null ? null :
+                Color.class.getProtectionDomain().getCodeSource().getLocation();
+
+        if(javaFxLocation != null && "file".equals(javaFxLocation.getProtocol()))
+            libraryClasspath += File.pathSeparator + new File(javaFxLocation.toURI()).getPath();
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+
+        try(StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, null)) {
+            JavaCompiler.CompilationTask compilationTask = compiler.getTask(null, fileManager, diagnostics,
+                    List.of("-classpath", libraryClasspath, "-d", classesDirectory.toString(), "-s",
+                            classesDirectory.toString()), null,
+                    fileManager.getJavaFileObjects(sourceFile.toFile()));
+
+            compilationTask.setProcessors(List.of(new ThemeColorKeysProcessor()));
+
+            assertTrue(compilationTask.call(), () -> "Unable to compile the sample: " +
+                    diagnostics.getDiagnostics());
+        }
+
+        return new URLClassLoader(new URL[] { classesDirectory.toUri().toURL() },
+                ThemeColorKeysProcessorTest.class.getClassLoader());
+    }
+}
@@ -0,0 +1,427 @@
+package eu.dgs_development.code.ejg.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifies the signals, the demand-accounting and the conflation of the {@link ConflatingPublisher}.
+ */
+class ConflatingPublisherTest {
+    private static final long TIMEOUT_SECONDS = 30;
+
+    private static final Executor SYNCHRONOUS_EXECUTOR = Runnable::run;
+
+    /**
+     * Creates a {@link ConflatingPublisher}, whose items ("key:value") are conflated by their key.
+     * @param executor The {@link Executor} to deliver the items.
+     * @return The created {@link ConflatingPublisher}.
+     */
+    private static ConflatingPublisher<String, String> createPublisher(Executor executor) {
+        return new ConflatingPublisher<>(tmpItem -> tmpItem.substring(0, tmpItem.indexOf(':')), executor);
+    }
+
+    @Test
+    void deliversOnlyRequestedItems() {
+        ConflatingPublisher<String, String> publisher = createPublisher(SYNCHRONOUS_EXECUTOR);
+
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+
+        publisher.subscribe(subscriber);
+
+        publisher.submit("a:1");
+        publisher.submit("b:1");
+        publisher.submit("c:1");
+
+        assertTrue(subscriber.items.isEmpty());
+
+        subscriber.subscription.request(2);
+
+        assertEquals(List.of("a:1", "b:1"), subscriber.items);
+
+        subscriber.subscription.request(1);
+
+        assertEquals(List.of("a:1", "b:1", "c:1"), subscriber.items);
+
+        //The demand is used up.
+
+        publisher.submit("d:1");
+
+        assertEquals(3, subscriber.items.size());
+    }
+
+    @Test
+    void conflatesPendingItemsAtOriginalPosition() {
+        ConflatingPublisher<String, String> publisher = createPublisher(SYNCHRONOUS_EXECUTOR);
+
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+
+        publisher.subscribe(subscriber);
+
+        publisher.submit("a:1");
+        publisher.submit("b:1");
+        publisher.submit("a:2");
+        publisher.submit("c:1");
+        publisher.submit("a:3");
+
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        assertEquals(List.of("a:3", "b:1", "c:1"), subscriber.items);
+
+        //Unbounded demand delivers all subsequent items without conflation.
+
+        publisher.submit("a:4");
+        publisher.submit("a:5");
+
+        assertEquals(List.of("a:3", "b:1", "c:1", "a:4", "a:5"), subscriber.items);
+    }
+
+    @Test
+    void signalsErrorForNonPositiveRequest() {
+        ConflatingPublisher<String, String> publisher = createPublisher(SYNCHRONOUS_EXECUTOR);
+
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+
+        publisher.subscribe(subscriber);
+
+        publisher.submit("a:1");
+
+        subscriber.subscription.request(0);
+
+        assertTrue(subscriber.items.isEmpty());
+        assertTrue(subscriber.error instanceof IllegalArgumentException);
+        assertFalse(publisher.hasSubscribers());
+
+        //A terminated subscription doesn't receive any further signals.
+
+        subscriber.subscription.request(1);
+        publisher.submit("b:1");
+
+        assertTrue(subscriber.items.isEmpty());
+        assertEquals(0, subscriber.completeCount);
+    }
+
+    @Test
+    void cancelsFromOnNext() {
+        ConflatingPublisher<String, String> publisher = createPublisher(SYNCHRONOUS_EXECUTOR);
+
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+
+        subscriber.itemConsumer = tmpItem -> subscriber.subscription.cancel();
+
+        publisher.subscribe(subscriber);
+
+        publisher.submit("a:1");
+        publisher.submit("b:1");
+
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        assertEquals(List.of("a:1"), subscriber.items);
+        assertFalse(publisher.hasSubscribers());
+
+        publisher.submit("c:1");
+        publisher.close();
+
+        assertEquals(List.of("a:1"), subscriber.items);
+        assertEquals(0, subscriber.completeCount);
+    }
+
+    @Test
+    void completesAfterPendingItems() {
+        ConflatingPublisher<String, String> publisher = createPublisher(SYNCHRONOUS_EXECUTOR);
+
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+
+        publisher.subscribe(subscriber);
+
+        publisher.submit("a:1");
+        publisher.submit("b:1");
+
+        publisher.close();
+
+        assertThrows(IllegalStateException.class, () -> publisher.submit("c:1"));
+
+        //The pending items are delivered according to the demand, before the subscriber gets completed.
+
+        assertEquals(0, subscriber.completeCount);
+
+        subscriber.subscription.request(1);
+
+        assertEquals(List.of("a:1"), subscriber.items);
+        assertEquals(0, subscriber.completeCount);
+
+        subscriber.subscription.request(1);
+
+        assertEquals(List.of("a:1", "b:1"), subscriber.items);
+        assertEquals(1, subscriber.completeCount);
+        assertFalse(publisher.hasSubscribers());
+
+        //A subscriber of a closed publisher gets completed immediately.
+
+        RecordingSubscriber lateSubscriber = new RecordingSubscriber();
+
+        publisher.subscribe(lateSubscriber);
+
+        assertNotNull(lateSubscriber.subscription);
+        assertEquals(1, lateSubscriber.completeCount);
+    }
+
+    @Test
+    void deliversInitialItemFirst() {
+        ConflatingPublisher<String, String> publisher = createPublisher(SYNCHRONOUS_EXECUTOR);
+
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+
+        publisher.subscribe(subscriber, "a:0");
+
+        publisher.submit("b:1");
+
+        subscriber.subscription.request(Long.MAX_VALUE);
+
+        assertEquals(List.of("a:0", "b:1"), subscriber.items);
+
+        //The initial item is conflated with a later item of the same key.
+
+        RecordingSubscriber conflatedSubscriber = new RecordingSubscriber();
+
+        publisher.subscribe(conflatedSubscriber, "a:0");
+
+        publisher.submit("b:2");
+        publisher.submit("a:1");
+
+        conflatedSubscriber.subscription.request(Long.MAX_VALUE);
+
+        assertEquals(List.of("a:1", "b:2"), conflatedSubscriber.items);
+    }
+
+    @Test
+    void conflatesItemsForSlowSubscriber() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try {
+            ConflatingPublisher<String, String> publisher = createPublisher(executor);
+
+            CountDownLatch blockedLatch = new CountDownLatch(1);
+            CountDownLatch releaseLatch = new CountDownLatch(1);
+
+            RecordingSubscriber subscriber = new RecordingSubscriber();
+
+            subscriber.initialRequest = 1;
+
+            subscriber.itemConsumer = tmpItem -> {
+                //The first item blocks the subscriber, while the publisher receives a burst of items.
+                if(tmpItem.equals("a:0")) {
+                    blockedLatch.countDown();
+
+                    awaitLatch(releaseLatch);
+                }
+
+                subscriber.subscription.request(1);
+            };
+
+            publisher.subscribe(subscriber);
+
+            publisher.submit("a:0");
+
+            assertTrue(blockedLatch.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+
+            for(int i = 1; i <= 100; i++) {
+                publisher.submit("a:" + i);
+                publisher.submit("b:" + i);
+            }
+
+            releaseLatch.countDown();
+
+            publisher.close();
+
+            assertTrue(subscriber.completedLatch.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+
+            assertEquals(List.of("a:0", "a:100", "b:100"), subscriber.items);
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void deliversSignalsSeriallyWhileSubmittingConcurrently() throws Exception {
+        int threadCount = 8;
+        int itemsPerThread = 10_000;
+        int subscriberCount = 4;
+
+        ExecutorService deliveryExecutor = Executors.newFixedThreadPool(threadCount);
+        ExecutorService submitExecutor = Executors.newFixedThreadPool(threadCount);
+
+        try {
+            ConflatingPublisher<String, String> publisher = createPublisher(deliveryExecutor);
+
+            List<StressSubscriber> subscribers = new ArrayList<>();
+
+            for(int i = 0; i < subscriberCount; i++) {
+                StressSubscriber tmpSubscriber = new StressSubscriber();
+
+                subscribers.add(tmpSubscriber);
+
+                publisher.subscribe(tmpSubscriber);
+            }
+
+            CountDownLatch startLatch = new CountDownLatch(1);
+
+            List<Future<?>> submitFutures = new ArrayList<>();
+
+            //Every thread submits increasing values of its own key.
+
+            for(int i = 0; i < threadCount; i++) {
+                String tmpKey = "thread" + i;
+
+                submitFutures.add(submitExecutor.submit(() -> {
+                    startLatch.await();
+
+                    for(int j = 0; j < itemsPerThread; j++)
+                        publisher.submit(tmpKey + ":" + j);
+
+                    return null;
+                }));
+            }
+
+            startLatch.countDown();
+
+            for(Future<?> tmpSubmitFuture : submitFutures)
+                tmpSubmitFuture.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+            publisher.close();
+
+            for(StressSubscriber tmpSubscriber : subscribers) {
+                assertTrue(tmpSubscriber.completedLatch.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+
+                assertNull(tmpSubscriber.failure, tmpSubscriber.failure);
+
+                //The last item of every key is never conflated away.
+
+                assertEquals(threadCount, tmpSubscriber.keyLastValueMap.size());
+
+                for(int tmpLastValue : tmpSubscriber.keyLastValueMap.values())
+                    assertEquals(itemsPerThread - 1, tmpLastValue);
+            }
+
+            assertFalse(publisher.hasSubscribers());
+        }
+        finally {
+            deliveryExecutor.shutdownNow();
+            submitExecutor.shutdownNow();
+        }
+    }
+
+    private static void awaitLatch(CountDownLatch latch) {
+        try {
+            if(!latch.await(TIMEOUT_SECONDS, TimeUnit.SECONDS))
+                throw new IllegalStateException("The latch wasn't released in time.");
+        }
+        catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    /**
+     * A subscriber, which records all signals.
+     */
+    private static final class RecordingSubscriber implements Flow.Subscriber<String> {
+        private final List<String> items = new CopyOnWriteArrayList<>();
+
+        private final CountDownLatch completedLatch = new CountDownLatch(1);
+
+        private volatile Flow.Subscription subscription;
+
+        private volatile Consumer<String> itemConsumer = tmpItem -> {
+            //Ignore...
+        };
+
+        private volatile long initialRequest = 0;
+
+        private volatile Throwable error;
+
+        private volatile int completeCount = 0;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+
+            if(initialRequest > 0)
+                subscription.request(initialRequest);
+        }
+
+        @Override
+        public void onNext(String item) {
+            items.add(item);
+
+            itemConsumer.accept(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            completeCount++;
+
+            completedLatch.countDown();
+        }
+    }
+
+    /**
+     * A subscriber with unbounded demand, which verifies that signals are serial and values of a key are increasing.
+     */
+    private static final class StressSubscriber implements Flow.Subscriber<String> {
+        private final Map<String, Integer> keyLastValueMap = new HashMap<>();
+
+        private final AtomicInteger activeSignals = new AtomicInteger();
+
+        private final CountDownLatch completedLatch = new CountDownLatch(1);
+
+        private volatile String failure;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(String item) {
+            if(activeSignals.incrementAndGet() != 1)
+                failure = "Concurrent signals were delivered.";
+
+            int separatorIndex = item.indexOf(':');
+
+            String key = item.substring(0, separatorIndex);
+            int value = Integer.parseInt(item.substring(separatorIndex + 1));
+
+            Integer lastValue = keyLastValueMap.put(key, value);
+
+            if(lastValue != null && lastValue >= value)
+                failure = "The item \"" + item + "\" was delivered after the value " + lastValue + ".";
+
+            activeSignals.decrementAndGet();
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            failure = "Unexpected error: " + throwable;
+
+            completedLatch.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            completedLatch.countDown();
+        }
+    }
+}
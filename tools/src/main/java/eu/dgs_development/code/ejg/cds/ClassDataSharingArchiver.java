@@ -0,0 +1,135 @@
+package eu.dgs_development.code.ejg.cds;
+
+import eu.dgs_development.code.ejg.profiler.StartupProfiler;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Helper class to create and use an AppCDS-archive (Application Class Data Sharing), which contains the classes of
+ * JavaFX, ClassGraph, this library and all {@link eu.dgs_development.code.ejg.controllers.GuiController}-classes
+ * (including all classes referenced by their FXML-files). Using the archive reduces the class-loading costs of a cold
+ * start. The archive requires a Java 13 JDK (or newer) and must be created with the same JDK and classpath, which is
+ * used to launch the application.
+ * <br><br>
+ * The archive is created by a training-run: A child-JVM executes the {@link StartupProfiler}, which boots a
+ * {@link eu.dgs_development.code.ejg.controllers.GuiControllerManager} and creates every
+ * {@link eu.dgs_development.code.ejg.controllers.GuiController}-class once. All loaded classes are dumped into the
+ * archive, when the child-JVM exits.
+ */
+public final class ClassDataSharingArchiver {
+    //Monocle is loaded from the classpath and accesses internals of the JavaFX-modules.
+    private static final List<String> MONOCLE_JVM_OPTIONS = List.of(
+            "--add-exports", "javafx.graphics/com.sun.glass.ui=ALL-UNNAMED",
+            "--add-exports", "javafx.graphics/com.sun.glass.events=ALL-UNNAMED",
+            "--add-exports", "javafx.graphics/com.sun.javafx.util=ALL-UNNAMED",
+            "--add-exports", "javafx.base/com.sun.javafx.logging=ALL-UNNAMED");
+
+    private ClassDataSharingArchiver() {
+        //Ignore...
+    }
+
+    /**
+     * Returns the JVM-options to launch an application with an existing archive. If the archive can't be used (e.g.
+     * because the JDK or the classpath changed), the JVM starts without the archive.
+     * @param archivePath The path of the archive.
+     * @return The JVM-options to add to the launch-command of the application.
+     */
+    public static List<String> getLaunchJvmOptions(Path archivePath) {
+        return List.of("-XX:SharedArchiveFile=" + archivePath.toAbsolutePath(), "-Xshare:auto");
+    }
+
+    /**
+     * Returns the command of the training-run, which creates the archive for the classpath of the running JVM.
+     * @param archivePath The path of the archive to create.
+     * @param scanPaths The packages to scan or an empty list to scan all packages.
+     * @param headless True if the Monocle headless platform should be used.
+     * @return The command of the training-run.
+     */
+    public static List<String> getTrainingCommand(Path archivePath, List<String> scanPaths, boolean headless) {
+        List<String> command = new ArrayList<>();
+
+        command.add(getJavaExecutable());
+        command.add("-XX:ArchiveClassesAtExit=" + archivePath.toAbsolutePath());
+
+        command.addAll(getProfilerArguments(scanPaths, headless));
+
+        return command;
+    }
+
+    /**
+     * Performs the training-run in a child-JVM and creates the archive.
+     * @param archivePath The path of the archive to create.
+     * @param scanPaths The packages to scan or an empty list to scan all packages.
+     * @param headless True if the Monocle headless platform should be used.
+     * @throws IOException If the child-JVM couldn't be started or the training-run failed.
+     * @throws InterruptedException If the current thread was interrupted while waiting for the child-JVM.
+     */
+    public static void createArchive(Path archivePath, List<String> scanPaths, boolean headless)
+            throws IOException, InterruptedException {
+        Process process = new ProcessBuilder(getTrainingCommand(archivePath, scanPaths, headless))
+                .inheritIO()
+                .start();
+
+        int exitCode = process.waitFor();
+
+        if(exitCode != 0) {
+            throw new IOException("Unable to create class data sharing archive \"" + archivePath + "\": The " +
+                    "training run exited with code " + exitCode + ".");
+        }
+    }
+
+    /**
+     * Returns the path of the Java-executable of the running JVM.
+     * @return The path of the Java-executable.
+     */
+    static String getJavaExecutable() {
+        return Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+    }
+
+    /**
+     * Returns the classpath and the arguments to execute the {@link StartupProfiler} in a child-JVM. The headless
+     * platform additionally requires the exports of the internal JavaFX-packages used by Monocle.
+     * @param scanPaths The packages to scan or an empty list to scan all packages.
+     * @param headless True if the Monocle headless platform should be used.
+     * @return The required JVM-options, the classpath, the main-class and the arguments.
+     */
+    static List<String> getProfilerArguments(List<String> scanPaths, boolean headless) {
+        List<String> arguments = new ArrayList<>();
+
+        if(headless)
+            arguments.addAll(MONOCLE_JVM_OPTIONS);
+
+        arguments.add("-cp");
+        arguments.add(System.getProperty("java.class.path"));
+        arguments.add(StartupProfiler.class.getName());
+
+        for(String tmpScanPath : scanPaths) {
+            arguments.add("--scan-path");
+            arguments.add(tmpScanPath);
+        }
+
+        if(headless)
+            arguments.add("--headless");
+
+        return arguments;
+    }
+
+    /**
+     * Creates an archive. Supported arguments: "--archive &lt;file&gt;" (required), "--scan-path &lt;package&gt;"
+     * (may be repeated) and "--headless".
+     * @param args The command-line arguments.
+     * @throws Exception An unexpected exception.
+     */
+    public static void main(String[] args) throws Exception {
+        ClassDataSharingArguments arguments = ClassDataSharingArguments.parse(args);
+
+        createArchive(arguments.getArchivePath(), arguments.getScanPaths(), arguments.isHeadless());
+
+        System.out.println("Created class data sharing archive \"" + arguments.getArchivePath() + "\". Launch the " +
+                "application with the JVM options " + getLaunchJvmOptions(arguments.getArchivePath()) + ".");
+    }
+}
@@ -0,0 +1,67 @@
+package eu.dgs_development.code.ejg.cds;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Command-line arguments of the {@link ClassDataSharingArchiver} and the {@link ClassDataSharingBenchmark}.
+ */
+final class ClassDataSharingArguments {
+    private Path archivePath = null;
+
+    private final List<String> scanPaths = new ArrayList<>();
+
+    private boolean headless = false;
+
+    private int runs = 5;
+
+    private ClassDataSharingArguments() {
+        //Ignore...
+    }
+
+    static ClassDataSharingArguments parse(String[] args) {
+        ClassDataSharingArguments arguments = new ClassDataSharingArguments();
+
+        for(int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--archive":
+                    arguments.archivePath = Paths.get(args[++i]);
+                    break;
+                case "--scan-path":
+                    arguments.scanPaths.add(args[++i]);
+                    break;
+                case "--headless":
+                    arguments.headless = true;
+                    break;
+                case "--runs":
+                    arguments.runs = Integer.parseInt(args[++i]);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown argument \"" + args[i] + "\".");
+            }
+        }
+
+        if(arguments.archivePath == null)
+            throw new IllegalArgumentException("Missing argument \"--archive <file>\".");
+
+        return arguments;
+    }
+
+    Path getArchivePath() {
+        return archivePath;
+    }
+
+    List<String> getScanPaths() {
+        return scanPaths;
+    }
+
+    boolean isHeadless() {
+        return headless;
+    }
+
+    int getRuns() {
+        return runs;
+    }
+}
@@ -0,0 +1,107 @@
+package eu.dgs_development.code.ejg.cds;
+
+import eu.dgs_development.code.ejg.profiler.StartupProfile;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Compares the startup with and without an AppCDS-archive (see {@link ClassDataSharingArchiver}). Both variants are
+ * launched alternately in child-JVMs, which execute the {@link eu.dgs_development.code.ejg.profiler.StartupProfiler}.
+ * The benchmark reports the wall-clock time of the child-JVMs and the setup-time of the
+ * {@link eu.dgs_development.code.ejg.controllers.GuiControllerManager}.
+ * <br><br>
+ * Supported arguments: "--archive &lt;file&gt;" (required, created if missing), "--scan-path &lt;package&gt;"
+ * (may be repeated), "--headless" and "--runs &lt;count&gt;" (default 5).
+ */
+public final class ClassDataSharingBenchmark {
+    private ClassDataSharingBenchmark() {
+        //Ignore...
+    }
+
+    /**
+     * Runs the {@link ClassDataSharingBenchmark}.
+     * @param args The command-line arguments.
+     * @throws Exception An unexpected exception.
+     */
+    public static void main(String[] args) throws Exception {
+        ClassDataSharingArguments arguments = ClassDataSharingArguments.parse(args);
+
+        if(!Files.exists(arguments.getArchivePath())) {
+            ClassDataSharingArchiver.createArchive(arguments.getArchivePath(), arguments.getScanPaths(),
+                    arguments.isHeadless());
+        }
+
+        List<double[]> withoutArchiveResults = new ArrayList<>();
+        List<double[]> withArchiveResults = new ArrayList<>();
+
+        for(int i = 0; i < arguments.getRuns(); i++) {
+            withoutArchiveResults.add(runStartup(arguments, List.of("-Xshare:auto")));
+
+            withArchiveResults.add(runStartup(arguments,
+                    ClassDataSharingArchiver.getLaunchJvmOptions(arguments.getArchivePath())));
+        }
+
+        printResults("Without archive", withoutArchiveResults);
+        printResults("With archive", withArchiveResults);
+    }
+
+    private static double[] runStartup(ClassDataSharingArguments arguments, List<String> jvmOptions)
+            throws IOException, InterruptedException {
+        Path csvPath = Files.createTempFile("ejg-startup-profile", ".csv");
+
+        try {
+            List<String> command = new ArrayList<>();
+
+            command.add(ClassDataSharingArchiver.getJavaExecutable());
+            command.addAll(jvmOptions);
+            command.addAll(ClassDataSharingArchiver.getProfilerArguments(arguments.getScanPaths(),
+                    arguments.isHeadless()));
+            command.add("--csv");
+            command.add(csvPath.toString());
+
+            long startNanos = System.nanoTime();
+
+            Process process = new ProcessBuilder(command)
+                    .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                    .redirectError(ProcessBuilder.Redirect.INHERIT)
+                    .start();
+
+            int exitCode = process.waitFor();
+
+            double wallClockMillis = (System.nanoTime() - startNanos) / 1_000_000.0;
+
+            if(exitCode != 0) {
+                throw new IOException("Unable to run startup benchmark: The child JVM exited with code " +
+                        exitCode + ".");
+            }
+
+            Double setupMillis = StartupProfile.readCsv(csvPath).getMetrics().get("total.durationMillis");
+
+            return new double[] { wallClockMillis, setupMillis == null ? Double.NaN : setupMillis };
+        }
+        finally {
+            Files.deleteIfExists(csvPath);
+        }
+    }
+
+    private static void printResults(String title, List<double[]> results) {
+        double wallClockSum = 0;
+        double wallClockMin = Double.MAX_VALUE;
+        double setupSum = 0;
+
+        for(double[] tmpResult : results) {
+            wallClockSum += tmpResult[0];
+            wallClockMin = Math.min(wallClockMin, tmpResult[0]);
+            setupSum += tmpResult[1];
+        }
+
+        System.out.println(String.format(Locale.ROOT, "%s: wall-clock avg %.1f ms, min %.1f ms, manager setup avg " +
+                "%.1f ms (%d runs)", title, wallClockSum / results.size(), wallClockMin, setupSum / results.size(),
+                results.size()));
+    }
+}
@@ -0,0 +1,196 @@
+package eu.dgs_development.code.ejg.profiler;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * Data object class containing all metrics measured by the {@link StartupProfiler}. Each metric has a unique name
+ * (e.g. "scan.durationMillis" or "controller.com.example.MainGuiController.fxmlLoadMillis"). Metrics with names
+ * ending with "Millis" contain durations in milliseconds, metrics ending with "Bytes" contain heap-sizes in bytes.
+ */
+public final class StartupProfile {
+    private static final String CSV_HEADER = "metric,value";
+
+    private static final String DURATION_METRIC_SUFFIX = "Millis";
+
+    private static final String HEAP_METRIC_SUFFIX = "Bytes";
+
+    private final Map<String, Double> metricNameValueMap = new LinkedHashMap<>();
+
+    /**
+     * Creates a new empty {@link StartupProfile}.
+     */
+    public StartupProfile() {
+        //Ignore...
+    }
+
+    /**
+     * Sets the value of a metric.
+     * @param metricName The unique name of the metric.
+     * @param value The value of the metric.
+     */
+    public void putMetric(String metricName, double value) {
+        metricNameValueMap.put(metricName, value);
+    }
+
+    /**
+     * Returns an unmodifiable map of all metrics (metric name to value), in the order of insertion.
+     * @return All metrics.
+     */
+    public Map<String, Double> getMetrics() {
+        return Collections.unmodifiableMap(metricNameValueMap);
+    }
+
+    /**
+     * Writes all metrics as CSV-file (columns "metric" and "value").
+     * @param path The path of the file to write.
+     * @throws IOException An unexpected {@link IOException}.
+     */
+    public void writeCsv(Path path) throws IOException {
+        try(BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            writer.write(CSV_HEADER);
+            writer.newLine();
+
+            for(Map.Entry<String, Double> tmpEntry : metricNameValueMap.entrySet()) {
+                writer.write(tmpEntry.getKey() + "," + formatValue(tmpEntry.getValue()));
+                writer.newLine();
+            }
+        }
+    }
+
+    /**
+     * Writes all metrics as JSON-file (an object with the field "metrics", containing all metric names and values).
+     * NaN and infinite values are written as null.
+     * @param path The path of the file to write.
+     * @throws IOException An unexpected {@link IOException}.
+     */
+    public void writeJson(Path path) throws IOException {
+        try(Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            writer.write("{\n  \"metrics\": {");
+
+            boolean firstMetric = true;
+
+            for(Map.Entry<String, Double> tmpEntry : metricNameValueMap.entrySet()) {
+                writer.write(firstMetric ? "\n" : ",\n");
+
+                firstMetric = false;
+
+                writer.write("    \"" + escapeJsonString(tmpEntry.getKey()) + "\": " +
+                        formatJsonValue(tmpEntry.getValue()));
+            }
+
+            writer.write("\n  }\n}\n");
+        }
+    }
+
+    /**
+     * Reads a {@link StartupProfile} from a CSV-file, which was written with {@link #writeCsv(Path)}.
+     * @param path The path of the file to read.
+     * @return The read {@link StartupProfile}.
+     * @throws IOException An unexpected {@link IOException} or an invalid line.
+     */
+    public static StartupProfile readCsv(Path path) throws IOException {
+        StartupProfile startupProfile = new StartupProfile();
+
+        try(BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            String tmpLine;
+
+            while ((tmpLine = reader.readLine()) != null) {
+                if(tmpLine.isBlank() || tmpLine.equals(CSV_HEADER))
+                    continue;
+
+                int separatorIndex = tmpLine.lastIndexOf(',');
+
+                if(separatorIndex < 0)
+                    throw new IOException("Unable to read startup profile: Invalid line \"" + tmpLine + "\".");
+
+                try {
+                    startupProfile.putMetric(tmpLine.substring(0, separatorIndex),
+                            Double.parseDouble(tmpLine.substring(separatorIndex + 1)));
+                }
+                catch (NumberFormatException exception) {
+                    throw new IOException("Unable to read startup profile: Invalid value in line \"" + tmpLine +
+                            "\".", exception);
+                }
+            }
+        }
+
+        return startupProfile;
+    }
+
+    /**
+     * Compares all duration- and heap-metrics with a baseline. A metric is a regression, if its value exceeds the
+     * baseline-value by more than the relative tolerance and by more than the absolute tolerance of the metric-type.
+     * Metrics which are missing in the baseline are ignored.
+     * @param baselineProfile The baseline to compare with.
+     * @param relativeTolerance The allowed relative increase (e.g. 0.25 for 25%).
+     * @param durationToleranceMillis The allowed absolute increase of duration-metrics in milliseconds.
+     * @param heapToleranceBytes The allowed absolute increase of heap-metrics in bytes.
+     * @return A description of every regression or an empty list, if no regression was found.
+     */
+    public List<String> findRegressions(StartupProfile baselineProfile, double relativeTolerance,
+                                        double durationToleranceMillis, double heapToleranceBytes) {
+        List<String> regressions = new ArrayList<>();
+
+        for(Map.Entry<String, Double> tmpEntry : metricNameValueMap.entrySet()) {
+            String tmpMetricName = tmpEntry.getKey();
+
+            double absoluteTolerance;
+
+            if(tmpMetricName.endsWith(DURATION_METRIC_SUFFIX)) {
+                absoluteTolerance = durationToleranceMillis;
+            }
+            else if(tmpMetricName.endsWith(HEAP_METRIC_SUFFIX)) {
+                absoluteTolerance = heapToleranceBytes;
+            }
+            else {
+                continue;
+            }
+
+            Double baselineValue = baselineProfile.metricNameValueMap.get(tmpMetricName);
+
+            if(baselineValue == null)
+                continue;
+
+            double value = tmpEntry.getValue();
+
+            double increase = value - baselineValue;
+
+            if(increase > absoluteTolerance && value > baselineValue * (1 + relativeTolerance)) {
+                regressions.add(tmpMetricName + ": " + formatValue(value) + " (baseline " +
+                        formatValue(baselineValue) + ")");
+            }
+        }
+
+        return regressions;
+    }
+
+    private static String formatValue(double value) {
+        //NaN and infinite values can't be converted into a long-value.
+        if(!Double.isFinite(value))
+            return Double.toString(value);
+
+        if(value == Math.rint(value))
+            return Long.toString((long) value);
+
+        return String.format(Locale.ROOT, "%.3f", value);
+    }
+
+    private static String formatJsonValue(double value) {
+        //JSON doesn't support NaN and infinite numbers.
+        if(!Double.isFinite(value))
+            return "null";
+
+        return formatValue(value);
+    }
+
+    private static String escapeJsonString(String string) {
+        return string.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+}
@@ -0,0 +1,272 @@
+package eu.dgs_development.code.ejg.profiler;
+
+import eu.dgs_development.code.ejg.controllers.*;
+import javafx.application.Platform;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Runnable entry point, which boots a {@link GuiControllerManager} for the given package-scan-paths and reports the
+ * startup-costs: The package-scan, the instance-provider-calls, the {@link GuiController}-setup and (per
+ * {@link GuiController}-class) the FXML-loading, the dependency-injection, the initialization and the approximate
+ * retained heap. The report can be compared with a stored baseline. The process exits with code 1, if a regression
+ * was found, which allows to fail a CI-build.
+ * <br><br>
+ * The profile "startup-profile" of the tools-module runs the profiler headless during "mvn verify" (including the
+ * required JVM-flags of Monocle) and profiles the sample {@link GuiController}-classes of the package
+ * "eu.dgs_development.code.ejg.profiler.samples". The CI-build compares its report with the committed
+ * "tools/startup-baseline.csv" and fails, if the baseline is missing. A new baseline is created from the reports
+ * "tools/target/startup-profile.csv" of multiple runs (the maximum value per metric), to absorb the measurement noise.
+ * <br><br>
+ * Supported arguments:
+ * <ul>
+ *     <li>"--scan-path &lt;package&gt;" A package to scan (may be repeated).</li>
+ *     <li>"--headless" Uses the Monocle headless platform (the Monocle library must be on the classpath and the
+ *     internal JavaFX-packages used by Monocle must be exported).</li>
+ *     <li>"--csv &lt;file&gt;" Writes the report as CSV-file.</li>
+ *     <li>"--json &lt;file&gt;" Writes the report as JSON-file.</li>
+ *     <li>"--baseline &lt;file&gt;" A CSV-report to compare with.</li>
+ *     <li>"--tolerance &lt;factor&gt;" The allowed relative increase compared with the baseline (default 0.25).</li>
+ *     <li>"--duration-tolerance &lt;millis&gt;" The allowed absolute increase of durations (default 5).</li>
+ *     <li>"--heap-tolerance &lt;bytes&gt;" The allowed absolute increase of heap-sizes (default 65536).</li>
+ * </ul>
+ */
+public final class StartupProfiler {
+    private static final int EXIT_CODE_REGRESSION = 1;
+
+    private static final int EXIT_CODE_ERROR = 2;
+
+    private StartupProfiler() {
+        //Ignore...
+    }
+
+    /**
+     * Runs the {@link StartupProfiler}.
+     * @param args The command-line arguments.
+     */
+    public static void main(String[] args) {
+        List<String> scanPaths = new ArrayList<>();
+
+        boolean headless = false;
+
+        Path csvPath = null;
+        Path jsonPath = null;
+        Path baselinePath = null;
+
+        double relativeTolerance = 0.25;
+        double durationToleranceMillis = 5;
+        double heapToleranceBytes = 65536;
+
+        try {
+            for(int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--scan-path":
+                        scanPaths.add(args[++i]);
+                        break;
+                    case "--headless":
+                        headless = true;
+                        break;
+                    case "--csv":
+                        csvPath = Paths.get(args[++i]);
+                        break;
+                    case "--json":
+                        jsonPath = Paths.get(args[++i]);
+                        break;
+                    case "--baseline":
+                        baselinePath = Paths.get(args[++i]);
+                        break;
+                    case "--tolerance":
+                        relativeTolerance = Double.parseDouble(args[++i]);
+                        break;
+                    case "--duration-tolerance":
+                        durationToleranceMillis = Double.parseDouble(args[++i]);
+                        break;
+                    case "--heap-tolerance":
+                        heapToleranceBytes = Double.parseDouble(args[++i]);
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Unknown argument \"" + args[i] + "\".");
+                }
+            }
+        }
+        catch (RuntimeException exception) {
+            System.err.println("Invalid arguments: " + exception.getMessage());
+
+            System.exit(EXIT_CODE_ERROR);
+        }
+
+        try {
+            StartupProfile startupProfile = profile(scanPaths, headless);
+
+            startupProfile.getMetrics().forEach((tmpName, tmpValue) -> System.out.println(tmpName + " = " + tmpValue));
+
+            if(csvPath != null)
+                startupProfile.writeCsv(csvPath);
+
+            if(jsonPath != null)
+                startupProfile.writeJson(jsonPath);
+
+            if(baselinePath != null) {
+                List<String> regressions = startupProfile.findRegressions(StartupProfile.readCsv(baselinePath),
+                        relativeTolerance, durationToleranceMillis, heapToleranceBytes);
+
+                if(!regressions.isEmpty()) {
+                    System.err.println("Found " + regressions.size() + " startup regression(s):");
+
+                    regressions.forEach(tmpRegression -> System.err.println("  " + tmpRegression));
+
+                    System.exit(EXIT_CODE_REGRESSION);
+                }
+            }
+        }
+        catch (Exception exception) {
+            System.err.println("Unable to profile startup: " + exception);
+
+            exception.printStackTrace();
+
+            System.exit(EXIT_CODE_ERROR);
+        }
+
+        System.exit(0);
+    }
+
+    /**
+     * Boots the JavaFX platform and a {@link GuiControllerManager} and measures all startup-costs.
+     * @param scanPaths The packages to scan or an empty list to scan all packages.
+     * @param headless True if the Monocle headless platform should be used.
+     * @return The measured {@link StartupProfile}.
+     * @throws Exception An unexpected exception thrown while profiling.
+     */
+    public static StartupProfile profile(List<String> scanPaths, boolean headless) throws Exception {
+        startPlatform(headless);
+
+        CompletableFuture<StartupProfile> profileFuture = new CompletableFuture<>();
+
+        Platform.runLater(() -> {
+            try {
+                profileFuture.complete(profileOnFxThread(scanPaths));
+            }
+            catch (Throwable throwable) {
+                profileFuture.completeExceptionally(throwable);
+            }
+        });
+
+        try {
+            return profileFuture.get();
+        }
+        finally {
+            Platform.exit();
+        }
+    }
+
+    /**
+     * Boots the JavaFX platform.
+     * @param headless True if the Monocle headless platform should be used.
+     */
+    static void startPlatform(boolean headless) {
+        if(headless) {
+            System.setProperty("glass.platform", "Monocle");
+            System.setProperty("monocle.platform", "Headless");
+            System.setProperty("prism.order", "sw");
+            System.setProperty("java.awt.headless", "true");
+        }
+
+        Platform.startup(() -> {
+            //Ignore...
+        });
+    }
+
+    private static StartupProfile profileOnFxThread(List<String> scanPaths) throws Exception {
+        Map<Class<? extends GuiController>, double[]> classCostsMap = new LinkedHashMap<>();
+
+        //Record the costs of the first creation and initialization per class (fxml, injection, initialization).
+
+        GuiConfiguration guiConfiguration = new GuiConfiguration(null);
+
+        scanPaths.forEach(guiConfiguration::addPackageScanPaths);
+
+        guiConfiguration.setGuiControllerCreationListener(new GuiControllerCreationListener() {
+            @Override
+            public void onGuiControllerCreated(GuiController guiController, Duration fxmlLoadDuration,
+                                               Duration injectionDuration) {
+                classCostsMap.computeIfAbsent(guiController.getClass(), tmpClass ->
+                        new double[] { toMillis(fxmlLoadDuration), toMillis(injectionDuration), Double.NaN });
+            }
+
+            @Override
+            public void onGuiControllerInitialized(GuiController guiController, Duration initializationDuration) {
+                double[] costs = classCostsMap.get(guiController.getClass());
+
+                if(costs != null && Double.isNaN(costs[2]))
+                    costs[2] = toMillis(initializationDuration);
+            }
+        });
+
+        GuiControllerManager guiControllerManager = new GuiControllerManager(guiConfiguration);
+
+        PackageScanReport packageScanReport = guiControllerManager.getPackageScanReport();
+
+        StartupProfile startupProfile = new StartupProfile();
+
+        startupProfile.putMetric("scan.classCount", packageScanReport.getScannedClassCount());
+        startupProfile.putMetric("scan.jarCount", packageScanReport.getOpenedJarCount());
+        startupProfile.putMetric("scan.durationMillis", toMillis(packageScanReport.getScanDuration()));
+        startupProfile.putMetric("instanceProviders.durationMillis",
+                toMillis(packageScanReport.getInstanceProviderDuration()));
+        startupProfile.putMetric("controllers.setupDurationMillis",
+                toMillis(packageScanReport.getGuiControllerSetupDuration()));
+        startupProfile.putMetric("total.durationMillis", toMillis(packageScanReport.getTotalDuration()));
+
+        //Initialize all cached controllers (non-cached controllers get initialized during the heap measurement).
+
+        for(Class<? extends GuiController> tmpControllerClass : new ArrayList<>(classCostsMap.keySet()))
+            guiControllerManager.getCachedGuiControllerOptional(tmpControllerClass);
+
+        for(Map.Entry<Class<? extends GuiController>, double[]> tmpEntry : classCostsMap.entrySet()) {
+            long retainedHeapBytes = measureRetainedHeap(guiControllerManager, tmpEntry.getKey());
+
+            double[] costs = tmpEntry.getValue();
+
+            String metricPrefix = "controller." + tmpEntry.getKey().getName() + ".";
+
+            startupProfile.putMetric(metricPrefix + "fxmlLoadMillis", costs[0]);
+            startupProfile.putMetric(metricPrefix + "injectionMillis", costs[1]);
+            startupProfile.putMetric(metricPrefix + "initializationMillis", Double.isNaN(costs[2]) ? 0 : costs[2]);
+            startupProfile.putMetric(metricPrefix + "retainedHeapBytes", retainedHeapBytes);
+        }
+
+        return startupProfile;
+    }
+
+    private static long measureRetainedHeap(GuiControllerManager guiControllerManager,
+                                            Class<? extends GuiController> controllerClass)
+            throws ControllerInitializationException {
+        long usedHeapBefore = getUsedHeapAfterGc();
+
+        GuiController guiController = guiControllerManager.createGuiControllerInstance(controllerClass);
+
+        long usedHeapAfter = getUsedHeapAfterGc();
+
+        //Keep the instance reachable until the measurement is completed.
+        guiControllerManager.dispose(guiController);
+
+        return Math.max(0, usedHeapAfter - usedHeapBefore);
+    }
+
+    private static long getUsedHeapAfterGc() {
+        Runtime runtime = Runtime.getRuntime();
+
+        for(int i = 0; i < 3; i++)
+            System.gc();
+
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static double toMillis(Duration duration) {
+        return duration.toNanos() / 1_000_000.0;
+    }
+}
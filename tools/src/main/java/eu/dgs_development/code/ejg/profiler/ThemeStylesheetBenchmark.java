@@ -0,0 +1,179 @@
+package eu.dgs_development.code.ejg.profiler;
+
+import eu.dgs_development.code.ejg.theme.ThemeManager;
+import eu.dgs_development.code.ejg.theme.colors.DefaultDarkThemeColorSourceProvider;
+import eu.dgs_development.code.ejg.theme.colors.DefaultThemeColorsProvider;
+import javafx.application.Platform;
+import javafx.scene.Scene;
+import javafx.scene.control.Label;
+import javafx.scene.layout.VBox;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Compares the theme-switches of all {@link ThemeManager.StylesheetMode}s. Per mode a {@link ThemeManager} styles a
+ * scene with many nodes and switches alternately between the bright and the dark default theme. The benchmark reports
+ * the time of a theme-switch (including the CSS-processing of the scene) and the amount of CSS-bytes, which had to be
+ * parsed again.
+ * <br><br>
+ * Supported arguments: "--css &lt;file&gt;" (a CSS-template to use instead of a generated template), "--rules
+ * &lt;count&gt;" (rules of the generated template, default 2000), "--nodes &lt;count&gt;" (default 500),
+ * "--switches &lt;count&gt;" (default 50) and "--headless".
+ */
+public final class ThemeStylesheetBenchmark {
+    private static final String STYLESHEET_DATA_PREFIX = "data:text/css;base64,";
+
+    private ThemeStylesheetBenchmark() {
+        //Ignore...
+    }
+
+    /**
+     * Runs the {@link ThemeStylesheetBenchmark}.
+     * @param args The command-line arguments.
+     * @throws Exception An unexpected exception.
+     */
+    public static void main(String[] args) throws Exception {
+        String stylesheetCss = null;
+
+        int rules = 2000;
+        int nodes = 500;
+        int switches = 50;
+
+        boolean headless = false;
+
+        for(int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--css":
+                    stylesheetCss = Files.readString(Paths.get(args[++i]), StandardCharsets.UTF_8);
+                    break;
+                case "--rules":
+                    rules = Integer.parseInt(args[++i]);
+                    break;
+                case "--nodes":
+                    nodes = Integer.parseInt(args[++i]);
+                    break;
+                case "--switches":
+                    switches = Integer.parseInt(args[++i]);
+                    break;
+                case "--headless":
+                    headless = true;
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown argument \"" + args[i] + "\".");
+            }
+        }
+
+        String benchmarkStylesheetCss = stylesheetCss != null ? stylesheetCss : createStylesheetCss(rules);
+
+        int benchmarkRules = rules;
+        int benchmarkNodes = nodes;
+        int benchmarkSwitches = switches;
+
+        StartupProfiler.startPlatform(headless);
+
+        try {
+            for(ThemeManager.StylesheetMode tmpStylesheetMode : ThemeManager.StylesheetMode.values()) {
+                CompletableFuture<String> resultFuture = new CompletableFuture<>();
+
+                Platform.runLater(() -> {
+                    try {
+                        resultFuture.complete(runBenchmark(tmpStylesheetMode, benchmarkStylesheetCss,
+                                benchmarkRules, benchmarkNodes, benchmarkSwitches));
+                    }
+                    catch (Throwable throwable) {
+                        resultFuture.completeExceptionally(throwable);
+                    }
+                });
+
+                System.out.println(resultFuture.get());
+            }
+        }
+        finally {
+            Platform.exit();
+        }
+    }
+
+    private static String runBenchmark(ThemeManager.StylesheetMode stylesheetMode, String stylesheetCss, int rules,
+                                       int nodes, int switches) {
+        ThemeManager<DefaultThemeColorsProvider> themeManager = new ThemeManager<>(stylesheetCss,
+                new DefaultThemeColorsProvider());
+
+        themeManager.setStylesheetMode(stylesheetMode);
+
+        VBox rootNode = new VBox();
+
+        for(int i = 0; i < nodes; i++) {
+            Label tmpLabel = new Label("Label " + i);
+
+            tmpLabel.getStyleClass().add("ejg-benchmark-" + (i % Math.max(1, rules)));
+
+            rootNode.getChildren().add(tmpLabel);
+        }
+
+        new Scene(rootNode);
+
+        themeManager.addParent(rootNode);
+
+        rootNode.applyCss();
+
+        long totalNanos = 0;
+        long maxNanos = 0;
+        long parsedCssBytes = 0;
+
+        for(int i = 0; i < switches; i++) {
+            Set<String> previousStylesheets = new HashSet<>(rootNode.getStylesheets());
+
+            long tmpStartNanos = System.nanoTime();
+
+            if(i % 2 == 0) {
+                themeManager.setThemeColorSource(DefaultDarkThemeColorSourceProvider.getThemeColorSource());
+            }
+            else {
+                themeManager.removeCurrentThemeColorSource();
+            }
+
+            rootNode.applyCss();
+
+            long tmpNanos = System.nanoTime() - tmpStartNanos;
+
+            totalNanos += tmpNanos;
+            maxNanos = Math.max(maxNanos, tmpNanos);
+
+            for(String tmpStylesheet : rootNode.getStylesheets()) {
+                if(!previousStylesheets.contains(tmpStylesheet))
+                    parsedCssBytes += getStylesheetByteCount(tmpStylesheet);
+            }
+        }
+
+        themeManager.removeParent(rootNode);
+
+        return String.format(Locale.ROOT, "%s: switch avg %.3f ms, max %.3f ms, parsed CSS avg %d bytes " +
+                "(%d switches)", stylesheetMode, totalNanos / 1_000_000.0 / switches, maxNanos / 1_000_000.0,
+                parsedCssBytes / switches, switches);
+    }
+
+    private static String createStylesheetCss(int rules) {
+        StringBuilder stringBuilder = new StringBuilder();
+
+        for(int i = 0; i < rules; i++) {
+            stringBuilder.append(".ejg-benchmark-").append(i).append(" {\n")
+                    .append("    -fx-background-color: {{backgroundColor}};\n")
+                    .append("    -fx-border-color: {{backgroundDarkAccentColor}};\n")
+                    .append("    -fx-text-fill: {{textColor}};\n")
+                    .append("}\n");
+        }
+
+        return stringBuilder.toString();
+    }
+
+    private static int getStylesheetByteCount(String stylesheet) {
+        if(!stylesheet.startsWith(STYLESHEET_DATA_PREFIX))
+            return 0;
+
+        return Base64.getDecoder().decode(stylesheet.substring(STYLESHEET_DATA_PREFIX.length())).length;
+    }
+}
@@ -0,0 +1,33 @@
+package eu.dgs_development.code.ejg.profiler.samples;
+
+import eu.dgs_development.code.ejg.controllers.GuiController;
+import eu.dgs_development.code.ejg.controllers.InstanceConsumer;
+import javafx.fxml.FXML;
+import javafx.scene.control.Label;
+
+/**
+ * Non-cacheable sample {@link GuiController} of the {@link eu.dgs_development.code.ejg.profiler.StartupProfiler}, as
+ * used for list-cells or dialogs.
+ */
+public class SampleItemGuiController extends GuiController {
+    @InstanceConsumer
+    private SampleRepository sampleRepository;
+
+    @FXML
+    private Label lblName;
+
+    @Override
+    public void onInitialized() {
+        lblName.setText(sampleRepository.getItemNames().get(0));
+    }
+
+    @Override
+    public boolean isCacheableGuiController() {
+        return false;
+    }
+
+    @Override
+    public String getFxmlPath() {
+        return "sample-item.fxml";
+    }
+}
@@ -0,0 +1,39 @@
+package eu.dgs_development.code.ejg.profiler.samples;
+
+import eu.dgs_development.code.ejg.controllers.GuiController;
+import eu.dgs_development.code.ejg.controllers.InstanceConsumer;
+import javafx.fxml.FXML;
+import javafx.scene.control.Label;
+import javafx.scene.control.ListView;
+
+/**
+ * Cached sample {@link GuiController} of the {@link eu.dgs_development.code.ejg.profiler.StartupProfiler}, with a
+ * toolbar, an injected dependency and a list filled during the initialization.
+ */
+public class SampleMainGuiController extends GuiController {
+    @InstanceConsumer
+    private SampleRepository sampleRepository;
+
+    @FXML
+    private ListView<String> lstItems;
+
+    @FXML
+    private Label lblStatus;
+
+    @Override
+    public void onInitialized() {
+        lstItems.getItems().setAll(sampleRepository.getItemNames());
+
+        lblStatus.setText(lstItems.getItems().size() + " items");
+    }
+
+    @Override
+    public boolean isCacheableGuiController() {
+        return true;
+    }
+
+    @Override
+    public String getFxmlPath() {
+        return "sample-main.fxml";
+    }
+}
@@ -0,0 +1,43 @@
+package eu.dgs_development.code.ejg.profiler.samples;
+
+import eu.dgs_development.code.ejg.controllers.InstanceProvider;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Sample dependency of the sample {@link eu.dgs_development.code.ejg.controllers.GuiController}-classes, which
+ * provides a fixed list of item names.
+ */
+public final class SampleRepository {
+    private static final int ITEM_COUNT = 200;
+
+    private final List<String> itemNames;
+
+    SampleRepository() {
+        List<String> tmpItemNames = new ArrayList<>(ITEM_COUNT);
+
+        for(int i = 0; i < ITEM_COUNT; i++)
+            tmpItemNames.add("Item " + (i + 1));
+
+        itemNames = Collections.unmodifiableList(tmpItemNames);
+    }
+
+    /**
+     * Returns all item names.
+     * @return An unmodifiable list of all item names.
+     */
+    public List<String> getItemNames() {
+        return itemNames;
+    }
+
+    /**
+     * Provides the {@link SampleRepository} for the dependency-injection.
+     * @return The created {@link SampleRepository}.
+     */
+    @InstanceProvider
+    public static SampleRepository createSampleRepository() {
+        return new SampleRepository();
+    }
+}
@@ -0,0 +1,30 @@
+package eu.dgs_development.code.ejg.profiler.samples;
+
+import eu.dgs_development.code.ejg.controllers.GuiController;
+import javafx.fxml.FXML;
+import javafx.scene.control.ComboBox;
+
+/**
+ * Cached sample {@link GuiController} of the {@link eu.dgs_development.code.ejg.profiler.StartupProfiler}, with a
+ * form of multiple controls.
+ */
+public class SampleSettingsGuiController extends GuiController {
+    @FXML
+    private ComboBox<String> cmbLanguage;
+
+    @Override
+    public void onInitialized() {
+        cmbLanguage.getItems().setAll("English", "German", "French", "Spanish");
+        cmbLanguage.getSelectionModel().selectFirst();
+    }
+
+    @Override
+    public boolean isCacheableGuiController() {
+        return true;
+    }
+
+    @Override
+    public String getFxmlPath() {
+        return "sample-settings.fxml";
+    }
+}
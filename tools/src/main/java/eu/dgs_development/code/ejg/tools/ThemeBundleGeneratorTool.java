@@ -0,0 +1,110 @@
+package eu.dgs_development.code.ejg.tools;
+
+import eu.dgs_development.code.ejg.theme.ThemeBundle;
+import eu.dgs_development.code.ejg.theme.ThemeBundleGenerator;
+import javafx.geometry.Rectangle2D;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+
+/**
+ * Command-line entry point of the {@link ThemeBundleGenerator}. The tool parses a theme-color properties-file (color
+ * name to hex color code) and an optional CSS-template and writes the {@link ThemeBundle}.
+ * <br><br>
+ * Supported arguments: "--properties &lt;file&gt;" (required), "--output &lt;file&gt;" (required), "--dark", "--css
+ * &lt;file&gt;", "--icon-atlas &lt;png-file&gt;" and "--icon-viewports &lt;file&gt;" (a properties-file containing
+ * "iconName=x,y,width,height" per icon of the atlas).
+ */
+public final class ThemeBundleGeneratorTool {
+    private ThemeBundleGeneratorTool() {
+        //Ignore...
+    }
+
+    /**
+     * Runs the {@link ThemeBundleGenerator}.
+     * @param args The command-line arguments.
+     * @throws Exception An unexpected exception.
+     */
+    public static void main(String[] args) throws Exception {
+        Path propertiesPath = null;
+        Path outputPath = null;
+        Path cssPath = null;
+        Path iconAtlasPath = null;
+        Path iconViewportsPath = null;
+
+        boolean darkThemeColors = false;
+
+        for(int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--properties":
+                    propertiesPath = Paths.get(args[++i]);
+                    break;
+                case "--output":
+                    outputPath = Paths.get(args[++i]);
+                    break;
+                case "--css":
+                    cssPath = Paths.get(args[++i]);
+                    break;
+                case "--icon-atlas":
+                    iconAtlasPath = Paths.get(args[++i]);
+                    break;
+                case "--icon-viewports":
+                    iconViewportsPath = Paths.get(args[++i]);
+                    break;
+                case "--dark":
+                    darkThemeColors = true;
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown argument \"" + args[i] + "\".");
+            }
+        }
+
+        if(propertiesPath == null || outputPath == null)
+            throw new IllegalArgumentException("The arguments \"--properties\" and \"--output\" are required.");
+
+        ThemeBundleGenerator.generateThemeBundle(outputPath, loadProperties(propertiesPath), darkThemeColors,
+                cssPath == null ? null : Files.readString(cssPath, StandardCharsets.UTF_8),
+                iconViewportsPath == null ? null : loadIconViewports(iconViewportsPath),
+                iconAtlasPath == null ? null : Files.readAllBytes(iconAtlasPath));
+
+        System.out.println("Created theme bundle \"" + outputPath + "\" (" + Files.size(outputPath) + " bytes).");
+    }
+
+    private static Properties loadProperties(Path path) throws IOException {
+        Properties properties = new Properties();
+
+        try(Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+
+        return properties;
+    }
+
+    private static Map<String, Rectangle2D> loadIconViewports(Path path) throws IOException {
+        Properties properties = loadProperties(path);
+
+        Map<String, Rectangle2D> iconNameViewportMap = new TreeMap<>();
+
+        for(String tmpIconName : properties.stringPropertyNames()) {
+            String[] tmpValues = properties.getProperty(tmpIconName).split(",");
+
+            if(tmpValues.length != 4) {
+                throw new IOException("Invalid viewport of icon \"" + tmpIconName + "\": Expected " +
+                        "\"x,y,width,height\".");
+            }
+
+            iconNameViewportMap.put(tmpIconName, new Rectangle2D(Double.parseDouble(tmpValues[0].trim()),
+                    Double.parseDouble(tmpValues[1].trim()), Double.parseDouble(tmpValues[2].trim()),
+                    Double.parseDouble(tmpValues[3].trim())));
+        }
+
+        return iconNameViewportMap;
+    }
+}